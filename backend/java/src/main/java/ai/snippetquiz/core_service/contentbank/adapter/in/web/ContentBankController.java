@@ -3,24 +3,25 @@ package ai.snippetquiz.core_service.contentbank.adapter.in.web;
 import ai.snippetquiz.core_service.contentbank.adapter.in.web.request.CreateContentBankRequest;
 import ai.snippetquiz.core_service.contentbank.adapter.in.web.request.DuplicateContentBankRequest;
 import ai.snippetquiz.core_service.contentbank.adapter.in.web.request.UpdateContentBankRequest;
-import ai.snippetquiz.core_service.contentbank.application.ContentBankItemResponse;
 import ai.snippetquiz.core_service.contentbank.application.ContentBankResponse;
 import ai.snippetquiz.core_service.contentbank.application.contentbank.create.CreateContentBankCommand;
 import ai.snippetquiz.core_service.contentbank.application.contentbank.delete.DeleteContentBankCommand;
 import ai.snippetquiz.core_service.contentbank.application.contentbank.duplicate.DuplicateContentBankCommand;
 import ai.snippetquiz.core_service.contentbank.application.contentbank.find.FindContentBankQuery;
+import ai.snippetquiz.core_service.contentbank.application.contentbank.findall.FindAllContentBankAfterQuery;
 import ai.snippetquiz.core_service.contentbank.application.contentbank.findall.FindAllContentBankQuery;
 import ai.snippetquiz.core_service.shared.domain.DomainError;
 import ai.snippetquiz.core_service.shared.domain.bus.command.CommandBus;
 import ai.snippetquiz.core_service.shared.domain.bus.command.CommandHandlerExecutionError;
+import ai.snippetquiz.core_service.shared.domain.bus.query.KeysetCursor;
 import ai.snippetquiz.core_service.shared.domain.bus.query.QueryBus;
+import ai.snippetquiz.core_service.shared.domain.bus.query.Response;
 import ai.snippetquiz.core_service.shared.spring.ApiController;
 import ai.snippetquiz.core_service.shared.util.Constants;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.web.PageableDefault;
-import org.springframework.data.web.PagedModel;
 import org.springframework.data.web.SortDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.validation.annotation.Validated;
@@ -63,10 +64,19 @@ public class ContentBankController extends ApiController {
     }
 
     @GetMapping
-    public PagedModel<ContentBankItemResponse> findAll(
+    public Response findAll(
             @RequestHeader(Constants.USER_ID_HEADER) String userId,
             @RequestParam(required = false) String name,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "true") boolean count,
             @PageableDefault(size = Constants.DEFAULT_LIMIT) @SortDefault(sort = "createdAt", direction = Direction.DESC) Pageable pageable) {
+        if (cursor != null || !count) {
+            return ask(new FindAllContentBankAfterQuery(
+                    UUID.fromString(userId),
+                    name,
+                    cursor != null ? KeysetCursor.decode(cursor) : null,
+                    pageable.getPageSize()));
+        }
         return ask(new FindAllContentBankQuery(UUID.fromString(userId), name, pageable));
     }
 
@@ -6,7 +6,6 @@ import java.util.UUID;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.web.PageableDefault;
-import org.springframework.data.web.PagedModel;
 import org.springframework.data.web.SortDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.validation.annotation.Validated;
@@ -24,7 +23,9 @@ import org.springframework.web.bind.annotation.RestController;
 import ai.snippetquiz.core_service.shared.domain.DomainError;
 import ai.snippetquiz.core_service.shared.domain.bus.command.CommandBus;
 import ai.snippetquiz.core_service.shared.domain.bus.command.CommandHandlerExecutionError;
+import ai.snippetquiz.core_service.shared.domain.bus.query.KeysetCursor;
 import ai.snippetquiz.core_service.shared.domain.bus.query.QueryBus;
+import ai.snippetquiz.core_service.shared.domain.bus.query.Response;
 import ai.snippetquiz.core_service.shared.spring.ApiController;
 import ai.snippetquiz.core_service.shared.util.Constants;
 import ai.snippetquiz.core_service.contentbank.adapter.in.web.request.CreateContentEntryRequest;
@@ -33,6 +34,7 @@ import ai.snippetquiz.core_service.contentbank.application.contententry.clone.Cl
 import ai.snippetquiz.core_service.contentbank.application.contententry.create.CreateContentEntryCommand;
 import ai.snippetquiz.core_service.contentbank.application.contententry.delete.DeleteContentEntryCommand;
 import ai.snippetquiz.core_service.contentbank.application.contententry.find.FindContentEntryQuery;
+import ai.snippetquiz.core_service.contentbank.application.contententry.findall.FindAllContentEntriesAfterQuery;
 import ai.snippetquiz.core_service.contentbank.application.contententry.findall.FindAllContentEntriesQuery;
 import jakarta.validation.Valid;
 
@@ -76,12 +78,22 @@ public class ContentEntryController extends ApiController {
     }
 
     @GetMapping("/bank/{bankId}")
-    public PagedModel<ContentEntryDTOResponse> findAll(
+    public Response findAll(
             @RequestHeader(Constants.USER_ID_HEADER) String userId,
             @PathVariable String bankId,
             @RequestParam(required = false) String name,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "true") boolean count,
             @PageableDefault(size = Constants.DEFAULT_LIMIT) @SortDefault(sort = "createdAt", direction = Direction.DESC) Pageable pageable) {
 
+        if (cursor != null || !count) {
+            return ask(new FindAllContentEntriesAfterQuery(
+                    UUID.fromString(userId),
+                    UUID.fromString(bankId),
+                    cursor != null ? KeysetCursor.decode(cursor) : null,
+                    pageable.getPageSize()));
+        }
+
         return ask(new FindAllContentEntriesQuery(
                 UUID.fromString(userId),
                 UUID.fromString(bankId),
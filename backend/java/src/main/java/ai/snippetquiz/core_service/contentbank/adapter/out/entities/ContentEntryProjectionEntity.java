@@ -1,5 +1,6 @@
 package ai.snippetquiz.core_service.contentbank.adapter.out.entities;
 
+import ai.snippetquiz.core_service.contentbank.domain.valueobject.ContentEntryStatus;
 import ai.snippetquiz.core_service.shared.domain.ContentType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -10,8 +11,11 @@ import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @Entity
@@ -33,7 +37,7 @@ public class ContentEntryProjectionEntity {
     @Column(name = "source_url", columnDefinition = "TEXT")
     private String sourceUrl;
 
-    @Column(name = "page_title")
+    @Column(name = "page_title", columnDefinition = "TEXT")
     private String pageTitle;
 
     @Column(name = "created_at", nullable = false)
@@ -43,7 +47,12 @@ public class ContentEntryProjectionEntity {
     private Boolean questionsGenerated = false;
 
     @Column(name = "topics", columnDefinition = "JSONB")
-    private String topics;
+    @JdbcTypeCode(SqlTypes.JSON)
+    private List<String> topics;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private ContentEntryStatus status;
 
     @Column(name = "user_id", nullable = false)
     private UUID userId;
@@ -5,6 +5,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -20,7 +21,8 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class YoutubeChannelEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "youtube_channels_id_seq")
+    @SequenceGenerator(name = "youtube_channels_id_seq", sequenceName = "youtube_channels_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "channel_id", nullable = false, unique = true)
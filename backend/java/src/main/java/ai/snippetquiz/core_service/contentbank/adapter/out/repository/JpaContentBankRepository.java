@@ -1,6 +1,7 @@
 package ai.snippetquiz.core_service.contentbank.adapter.out.repository;
 
 import ai.snippetquiz.core_service.contentbank.adapter.out.entities.ContentBankEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,6 +9,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -26,6 +29,25 @@ public interface JpaContentBankRepository extends JpaRepository<ContentBankEntit
             @Param("userId") UUID userId,
             @Param("name") String name,
             Pageable pageable);
+
+    @Query("SELECT cb FROM ContentBankEntity cb WHERE cb.userId = :userId " +
+            "AND (LOWER(cb.name) LIKE LOWER(CONCAT('%', :name, '%')) OR :name IS NULL) " +
+            "ORDER BY cb.createdAt DESC, cb.id DESC")
+    List<ContentBankEntity> findByUserIdAndNameContainingIgnoreCaseOrderByCreatedAtDescIdDesc(
+            @Param("userId") UUID userId,
+            @Param("name") String name,
+            Limit limit);
+
+    @Query("SELECT cb FROM ContentBankEntity cb WHERE cb.userId = :userId " +
+            "AND (LOWER(cb.name) LIKE LOWER(CONCAT('%', :name, '%')) OR :name IS NULL) " +
+            "AND cb.createdAt <= :createdAt AND (cb.createdAt < :createdAt OR cb.id < :id) " +
+            "ORDER BY cb.createdAt DESC, cb.id DESC")
+    List<ContentBankEntity> findByUserIdAndNameContainingIgnoreCaseAfter(
+            @Param("userId") UUID userId,
+            @Param("name") String name,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") UUID id,
+            Limit limit);
     
     Optional<ContentBankEntity> findByUserIdAndNameAndIdNot(UUID userId, String name, UUID excludeId);
 
@@ -5,12 +5,15 @@ import ai.snippetquiz.core_service.contentbank.adapter.out.mapper.ContentBankMap
 import ai.snippetquiz.core_service.contentbank.domain.model.ContentBank;
 import ai.snippetquiz.core_service.contentbank.domain.port.ContentBankRepository;
 import ai.snippetquiz.core_service.contentbank.domain.valueobject.ContentBankId;
+import ai.snippetquiz.core_service.shared.domain.bus.query.KeysetCursor;
 import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Optional;
 
 @Component
@@ -49,6 +52,17 @@ public class JpaContentBankRepositoryAdapter implements ContentBankRepository {
                 .map(contentBankMapper::toDomain);
     }
 
+    @Override
+    public List<ContentBank> findByUserIdAndNameContainingIgnoreCaseAfter(UserId userId, String name,
+            KeysetCursor after, int limit) {
+        var contentBanks = after == null
+                ? jpaContentBankRepository.findByUserIdAndNameContainingIgnoreCaseOrderByCreatedAtDescIdDesc(
+                        userId.getValue(), name, Limit.of(limit))
+                : jpaContentBankRepository.findByUserIdAndNameContainingIgnoreCaseAfter(
+                        userId.getValue(), name, after.createdAt(), after.id(), Limit.of(limit));
+        return contentBanks.stream().map(contentBankMapper::toDomain).toList();
+    }
+
     @Override
     public Optional<ContentBank> findByUserIdAndNameAndIdNot(UserId userId, String name, ContentBankId excludeId) {
         return jpaContentBankRepository.findByUserIdAndNameAndIdNot(userId.getValue(), name, excludeId.getValue())
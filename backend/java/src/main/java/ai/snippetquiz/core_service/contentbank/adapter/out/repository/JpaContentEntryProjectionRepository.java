@@ -2,12 +2,17 @@ package ai.snippetquiz.core_service.contentbank.adapter.out.repository;
 
 import ai.snippetquiz.core_service.contentbank.adapter.out.entities.ContentEntryProjectionEntity;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -15,7 +20,19 @@ public interface JpaContentEntryProjectionRepository extends JpaRepository<Conte
 
     Page<ContentEntryProjectionEntity> findByContentBanksId(UUID contentBankId, Pageable pageable);
 
+    List<ContentEntryProjectionEntity> findByContentBanksIdOrderByCreatedAtDescIdDesc(UUID contentBankId,
+            Limit limit);
+
+    @Query("SELECT ce FROM ContentEntryProjectionEntity ce WHERE ce.contentBanksId = :contentBankId " +
+            "AND ce.createdAt <= :createdAt AND (ce.createdAt < :createdAt OR ce.id < :id) " +
+            "ORDER BY ce.createdAt DESC, ce.id DESC")
+    List<ContentEntryProjectionEntity> findByContentBanksIdAfter(
+            @Param("contentBankId") UUID contentBankId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") UUID id,
+            Limit limit);
+
     Optional<ContentEntryProjectionEntity> findByIdAndUserId(UUID id, UUID userId);
 
     long countByContentBanksId(UUID contentBankId);
-}
\ No newline at end of file
+}
@@ -5,12 +5,19 @@ import ai.snippetquiz.core_service.contentbank.domain.model.ContentEntryProjecti
 import ai.snippetquiz.core_service.contentbank.domain.port.ContentEntryProjectionRepository;
 import ai.snippetquiz.core_service.contentbank.domain.valueobject.ContentBankId;
 import ai.snippetquiz.core_service.contentbank.domain.valueobject.ContentEntryId;
+import ai.snippetquiz.core_service.contentbank.domain.valueobject.ContentEntryStatus;
+import ai.snippetquiz.core_service.shared.domain.Utils;
+import ai.snippetquiz.core_service.shared.domain.bus.query.KeysetCursor;
 import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Component
@@ -18,6 +25,7 @@ import java.util.Optional;
 public class JpaContentEntryProjectionRepositoryAdapter implements ContentEntryProjectionRepository {
     private final JpaContentEntryProjectionRepository jpaContentEntryProjectionRepository;
     private final ContentEntryProjectionMapper contentEntryProjectionMapper;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public Optional<ContentEntryProjection> findById(ContentEntryId id) {
@@ -36,8 +44,78 @@ public class JpaContentEntryProjectionRepositoryAdapter implements ContentEntryP
                 .map(contentEntryProjectionMapper::toDomain);
     }
 
+    @Override
+    public List<ContentEntryProjection> findByContentBankIdAfter(ContentBankId contentBankId, KeysetCursor after,
+            int limit) {
+        var entries = after == null
+                ? jpaContentEntryProjectionRepository.findByContentBanksIdOrderByCreatedAtDescIdDesc(
+                        contentBankId.getValue(), Limit.of(limit))
+                : jpaContentEntryProjectionRepository.findByContentBanksIdAfter(
+                        contentBankId.getValue(), after.createdAt(), after.id(), Limit.of(limit));
+        return entries.stream().map(contentEntryProjectionMapper::toDomain).toList();
+    }
+
     @Override
     public long countByContentBankId(ContentBankId contentBankId) {
         return jpaContentEntryProjectionRepository.countByContentBanksId(contentBankId.getValue());
     }
-}
\ No newline at end of file
+
+    @Override
+    public void insert(ContentEntryProjection projection) {
+        var topics = projection.getTopics() != null ? projection.getTopics() : List.<String>of();
+        // the row references content_entries, so an entry deleted before its creation is handled is skipped
+        jdbcTemplate.update("""
+                INSERT INTO content_entries__projection (id, content_type, content, source_url, page_title,
+                    created_at, questions_generated, topics, user_id, content_banks_id, status)
+                SELECT ce.id, ?, ?, ?, ?, ?, ?, CAST(? AS jsonb), ?, ?, ?
+                FROM content_entries ce
+                WHERE ce.id = ?
+                ON CONFLICT (id) DO NOTHING
+                """,
+                projection.getContentType().name(),
+                projection.getContent(),
+                projection.getSourceUrl(),
+                projection.getPageTitle(),
+                projection.getCreatedAt(),
+                Boolean.TRUE.equals(projection.getQuestionsGenerated()),
+                Utils.toJson(topics),
+                projection.getUserId().getValue(),
+                projection.getContentBankId().getValue(),
+                projection.getStatus().name(),
+                projection.getId().getValue());
+    }
+
+    @Override
+    public void update(ContentEntryId id, String content, String pageTitle, LocalDateTime createdAt) {
+        jdbcTemplate.update(
+                "UPDATE content_entries__projection SET content = ?, page_title = ?, created_at = ? WHERE id = ?",
+                content, pageTitle, createdAt, id.getValue());
+    }
+
+    @Override
+    public void addTopics(ContentEntryId id, List<String> topics, ContentEntryStatus status,
+            LocalDateTime createdAt) {
+        jdbcTemplate.update("""
+                UPDATE content_entries__projection p SET
+                    topics = COALESCE(p.topics, '[]'::jsonb) || (
+                        SELECT COALESCE(jsonb_agg(topic), '[]'::jsonb)
+                        FROM jsonb_array_elements_text(CAST(? AS jsonb)) AS topic
+                        WHERE NOT jsonb_exists(COALESCE(p.topics, '[]'::jsonb), topic)),
+                    status = ?,
+                    created_at = ?
+                WHERE p.id = ?
+                """,
+                Utils.toJson(topics != null ? topics : List.of()), status.name(), createdAt, id.getValue());
+    }
+
+    @Override
+    public void markQuestionsGenerated(ContentEntryId id) {
+        jdbcTemplate.update("UPDATE content_entries__projection SET questions_generated = TRUE WHERE id = ?",
+                id.getValue());
+    }
+
+    @Override
+    public void deleteById(ContentEntryId id) {
+        jdbcTemplate.update("DELETE FROM content_entries__projection WHERE id = ?", id.getValue());
+    }
+}
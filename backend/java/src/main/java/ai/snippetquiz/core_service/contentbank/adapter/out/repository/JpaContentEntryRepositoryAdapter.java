@@ -8,7 +8,8 @@ import ai.snippetquiz.core_service.contentbank.domain.valueobject.ContentBankId;
 import ai.snippetquiz.core_service.contentbank.domain.valueobject.ContentEntryId;
 import ai.snippetquiz.core_service.shared.domain.ContentType;
 import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
-
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -23,6 +24,9 @@ public class JpaContentEntryRepositoryAdapter implements ContentEntryRepository
     private final JpaContentEntryRepository jpaContentEntryRepository;
     private final ContentEntryMapper contentEntryMapper;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     private ContentEntryEntity toEntity(ContentEntry contentEntry) {
         return contentEntryMapper.toEntity(contentEntry);
     }
@@ -39,6 +43,11 @@ public class JpaContentEntryRepositoryAdapter implements ContentEntryRepository
         jpaContentEntryRepository.saveAll(contentEntries.stream().map(this::toEntity).toList());
     }
 
+    @Override
+    public void insertAll(List<ContentEntry> contentEntries) {
+        contentEntries.stream().map(this::toEntity).forEach(entityManager::persist);
+    }
+
     @Override
     public Optional<ContentEntry> findById(ContentEntryId id) {
         return jpaContentEntryRepository.findById(id.getValue()).map(contentEntryMapper::toDomain);
@@ -23,6 +23,15 @@ public class JpaContentEntryTopicRepositoryAdapter implements ContentEntryTopicR
         return contentEntryTopicMapper.toDomain(jpaContentEntryTopicRepository.save(entity));
     }
 
+    @Override
+    public List<ContentEntryTopic> saveAll(List<ContentEntryTopic> contentEntryTopics) {
+        var entities = contentEntryTopics.stream().map(contentEntryTopicMapper::toEntity).toList();
+        return jpaContentEntryTopicRepository.saveAll(entities)
+                .stream()
+                .map(contentEntryTopicMapper::toDomain)
+                .toList();
+    }
+
     @Override
     public List<ContentEntryTopic> findByContentEntryId(ContentEntryId contentEntryId) {
         return jpaContentEntryTopicRepository.findByContentEntryId(contentEntryId.getValue())
@@ -0,0 +1,22 @@
+package ai.snippetquiz.core_service.contentbank.application.contentbank.findall;
+
+import org.springframework.stereotype.Service;
+
+import ai.snippetquiz.core_service.contentbank.application.ContentBankItemResponse;
+import ai.snippetquiz.core_service.contentbank.application.service.ContentBankService;
+import ai.snippetquiz.core_service.shared.domain.bus.query.QueryHandler;
+import ai.snippetquiz.core_service.shared.domain.bus.query.SliceResponse;
+import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Service
+public class FindAllContentBankAfterQueryHandler implements QueryHandler<FindAllContentBankAfterQuery, SliceResponse<ContentBankItemResponse>> {
+    private final ContentBankService contentBankService;
+
+    @Override
+    public SliceResponse<ContentBankItemResponse> handle(FindAllContentBankAfterQuery query) {
+        return contentBankService.findAllAfter(
+                new UserId(query.getUserId()), query.getName(), query.getAfter(), query.getSize());
+    }
+}
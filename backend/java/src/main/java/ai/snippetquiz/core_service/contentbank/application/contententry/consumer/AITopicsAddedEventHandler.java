@@ -20,6 +20,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 
@@ -57,9 +58,13 @@ public class AITopicsAddedEventHandler implements IntegrationEventSubscriber {
             var topicsCreated = 0;
             var userId = new UserId(event.getUserId());
             List<Topic> topics = new ArrayList<>();
+            var newAssociations = new ArrayList<ContentEntryTopic>();
+            var seenTopicNames = new HashSet<String>();
+
+            var existingAssociations = contentEntryTopicRepository.findByContentEntryId(contentEntry.getId());
 
             for (var topicName : generatedTopics) {
-                if (topicName == null || topicName.trim().isEmpty()) {
+                if (topicName == null || topicName.trim().isEmpty() || !seenTopicNames.add(topicName.trim())) {
                     continue;
                 }
 
@@ -67,15 +72,11 @@ public class AITopicsAddedEventHandler implements IntegrationEventSubscriber {
                     var topic = topicRepository.findByUserIdAndTopic(userId, topicName)
                             .orElseGet(() -> topicRepository.save(new Topic(userId, topicName.trim())));
 
-                    var existingAssociations = contentEntryTopicRepository
-                            .findByContentEntryId(contentEntry.getId());
-
                     var associationExists = existingAssociations.stream()
                             .anyMatch(cet -> cet.getTopicId().equals(topic.getId()));
 
                     if (!associationExists) {
-                        var contentEntryTopic = new ContentEntryTopic(contentEntry.getId(), topic.getId());
-                        contentEntryTopicRepository.save(contentEntryTopic);
+                        newAssociations.add(new ContentEntryTopic(contentEntry.getId(), topic.getId()));
                         topicsCreated++;
                         topics.add(topic);
                     }
@@ -84,9 +85,12 @@ public class AITopicsAddedEventHandler implements IntegrationEventSubscriber {
                     log.error("Error creating topic \"{}\": ", topicName, ex);
                 }
             }
+            // linked in one batch instead of an insert and a lookup per topic
+            contentEntryTopicRepository.saveAll(newAssociations);
 
             contentEntry.updatedTopics(topics);
             contentEntryRepository.save(contentEntry);
+            eventBus.publish(contentEntry.aggregateType(), contentEntry.drainDomainEvents());
             log.info("Successfully created and linked {} topics to content entry {}",
                     topicsCreated, contentId);
 
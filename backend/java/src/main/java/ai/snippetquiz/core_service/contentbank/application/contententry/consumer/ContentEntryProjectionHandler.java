@@ -0,0 +1,72 @@
+package ai.snippetquiz.core_service.contentbank.application.contententry.consumer;
+
+import ai.snippetquiz.core_service.contentbank.domain.events.ContentEntryCreatedDomainEvent;
+import ai.snippetquiz.core_service.contentbank.domain.events.ContentEntryDeletedDomainEvent;
+import ai.snippetquiz.core_service.contentbank.domain.events.ContentEntryQuestionCreatedDomainEvent;
+import ai.snippetquiz.core_service.contentbank.domain.events.ContentEntryTopicAddedDomainEvent;
+import ai.snippetquiz.core_service.contentbank.domain.events.ContentEntryUpdatedDomainEvent;
+import ai.snippetquiz.core_service.contentbank.domain.model.ContentEntry;
+import ai.snippetquiz.core_service.contentbank.domain.model.ContentEntryProjection;
+import ai.snippetquiz.core_service.contentbank.domain.port.ContentEntryProjectionRepository;
+import ai.snippetquiz.core_service.contentbank.domain.valueobject.ContentBankId;
+import ai.snippetquiz.core_service.contentbank.domain.valueobject.ContentEntryId;
+import ai.snippetquiz.core_service.contentbank.domain.valueobject.ContentEntryStatus;
+import ai.snippetquiz.core_service.shared.domain.ContentType;
+import ai.snippetquiz.core_service.shared.domain.bus.event.AggregateEventSubscriber;
+import ai.snippetquiz.core_service.shared.domain.bus.event.AggregateEventSubscriberFor;
+import ai.snippetquiz.core_service.shared.domain.bus.event.DomainEvent;
+import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Content entries are stored as rows rather than in the event store, so this projection follows the
+ * published events and cannot be rebuilt by replaying them.
+ */
+@AggregateEventSubscriberFor(ContentEntry.class)
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ContentEntryProjectionHandler implements AggregateEventSubscriber {
+    private final ContentEntryProjectionRepository contentEntryProjectionRepository;
+
+    @Override
+    public void on(DomainEvent event) {
+        log.info("Received ContentEntryProjectionHandler: {}, eventId {}", event.getAggregateId(),
+                event.getEventId());
+
+        var contentEntryId = new ContentEntryId(event.getAggregateId());
+        switch (event) {
+            case ContentEntryCreatedDomainEvent created -> contentEntryProjectionRepository.insert(
+                    new ContentEntryProjection(
+                            contentEntryId,
+                            new UserId(event.getUserId()),
+                            ContentType.valueOf(created.getContentType()),
+                            ContentEntryProjection.preview(created.getContent()),
+                            created.getSourceUrl(),
+                            created.getPageTitle(),
+                            created.getCreatedAt(),
+                            false,
+                            List.of(),
+                            ContentBankId.map(created.getContentBankId()),
+                            created.getStatus()));
+            case ContentEntryUpdatedDomainEvent updated -> contentEntryProjectionRepository.update(
+                    contentEntryId,
+                    ContentEntryProjection.preview(updated.getContent()),
+                    updated.getPageTitle(),
+                    updated.getCreatedAt());
+            case ContentEntryTopicAddedDomainEvent topicAdded -> contentEntryProjectionRepository.addTopics(
+                    contentEntryId,
+                    topicAdded.getTopics(),
+                    ContentEntryStatus.valueOf(topicAdded.getStatus()),
+                    topicAdded.getUpdatedAt());
+            case ContentEntryQuestionCreatedDomainEvent questionCreated ->
+                    contentEntryProjectionRepository.markQuestionsGenerated(contentEntryId);
+            case ContentEntryDeletedDomainEvent deleted -> contentEntryProjectionRepository.deleteById(contentEntryId);
+            default -> log.debug("Ignored event: {}", event);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package ai.snippetquiz.core_service.contentbank.application.contententry.findall;
+
+import ai.snippetquiz.core_service.shared.domain.bus.query.KeysetCursor;
+import ai.snippetquiz.core_service.shared.domain.bus.query.Query;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@AllArgsConstructor
+@Getter
+public class FindAllContentEntriesAfterQuery implements Query {
+    private final UUID userId;
+    private final UUID bankId;
+    private final KeysetCursor after;
+    private final int size;
+}
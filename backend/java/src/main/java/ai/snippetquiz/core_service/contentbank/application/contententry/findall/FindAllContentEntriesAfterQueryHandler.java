@@ -0,0 +1,21 @@
+package ai.snippetquiz.core_service.contentbank.application.contententry.findall;
+
+import ai.snippetquiz.core_service.contentbank.application.ContentEntryDTOResponse;
+import ai.snippetquiz.core_service.contentbank.application.service.ContentEntryService;
+import ai.snippetquiz.core_service.contentbank.domain.valueobject.ContentBankId;
+import ai.snippetquiz.core_service.shared.domain.bus.query.QueryHandler;
+import ai.snippetquiz.core_service.shared.domain.bus.query.SliceResponse;
+import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@RequiredArgsConstructor
+@Service
+public class FindAllContentEntriesAfterQueryHandler implements QueryHandler<FindAllContentEntriesAfterQuery, SliceResponse<ContentEntryDTOResponse>> {
+    private final ContentEntryService contentEntryService;
+
+    @Override
+    public SliceResponse<ContentEntryDTOResponse> handle(FindAllContentEntriesAfterQuery query) {
+        return contentEntryService.findAllAfter(new UserId(query.getUserId()), new ContentBankId(query.getBankId()), query.getAfter(), query.getSize());
+    }
+}
@@ -3,7 +3,9 @@ package ai.snippetquiz.core_service.contentbank.application.service;
 import ai.snippetquiz.core_service.contentbank.application.ContentBankItemResponse;
 import ai.snippetquiz.core_service.contentbank.application.ContentBankResponse;
 import ai.snippetquiz.core_service.contentbank.domain.valueobject.ContentBankId;
+import ai.snippetquiz.core_service.shared.domain.bus.query.KeysetCursor;
 import ai.snippetquiz.core_service.shared.domain.bus.query.PagedModelResponse;
+import ai.snippetquiz.core_service.shared.domain.bus.query.SliceResponse;
 import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
 
 import org.springframework.data.domain.Pageable;
@@ -13,6 +15,8 @@ public interface ContentBankService {
     
     PagedModelResponse<ContentBankItemResponse> findAll(UserId userId, String name, Pageable pageable);
 
+    SliceResponse<ContentBankItemResponse> findAllAfter(UserId userId, String name, KeysetCursor after, int size);
+
     ContentBankResponse findOne(UserId userId, ContentBankId id);
     
     void remove(UserId userId, ContentBankId id);
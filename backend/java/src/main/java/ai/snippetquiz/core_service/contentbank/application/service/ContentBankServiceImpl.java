@@ -8,7 +8,9 @@ import ai.snippetquiz.core_service.contentbank.domain.port.ContentBankRepository
 import ai.snippetquiz.core_service.contentbank.domain.port.ContentEntryRepository;
 import ai.snippetquiz.core_service.contentbank.domain.valueobject.ContentBankId;
 import ai.snippetquiz.core_service.shared.domain.bus.event.EventBus;
+import ai.snippetquiz.core_service.shared.domain.bus.query.KeysetCursor;
 import ai.snippetquiz.core_service.shared.domain.bus.query.PagedModelResponse;
+import ai.snippetquiz.core_service.shared.domain.bus.query.SliceResponse;
 import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
 import ai.snippetquiz.core_service.shared.exception.ConflictException;
 import ai.snippetquiz.core_service.shared.exception.NotFoundException;
@@ -63,20 +65,36 @@ public class ContentBankServiceImpl implements ContentBankService {
         var contentBanksPage = contentBankRepository.findByUserIdAndNameContainingIgnoreCase(
                 userId, name, pageable);
 
-        var contentBankItems = contentBanksPage.map(bank -> {
-            long entryCount = contentEntryRepository.countByContentBankId(bank.getId());
-            return new ContentBankItemResponse(
-                    bank.getId().getValue(),
-                    bank.getName(),
-                    bank.getUserId().toString(),
-                    bank.getCreatedAt(),
-                    bank.getUpdatedAt(),
-                    (int) entryCount);
-        });
+        var contentBankItems = contentBanksPage.map(this::toItemResponse);
 
         return new PagedModelResponse<>(contentBankItems);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public SliceResponse<ContentBankItemResponse> findAllAfter(UserId userId, String name, KeysetCursor after,
+            int size) {
+        var contentBanks = contentBankRepository.findByUserIdAndNameContainingIgnoreCaseAfter(
+                userId, name, after, size + 1);
+
+        return SliceResponse.of(
+                contentBanks,
+                size,
+                bank -> new KeysetCursor(bank.getCreatedAt(), bank.getId().getValue()),
+                this::toItemResponse);
+    }
+
+    private ContentBankItemResponse toItemResponse(ContentBank bank) {
+        long entryCount = contentEntryRepository.countByContentBankId(bank.getId());
+        return new ContentBankItemResponse(
+                bank.getId().getValue(),
+                bank.getName(),
+                bank.getUserId().toString(),
+                bank.getCreatedAt(),
+                bank.getUpdatedAt(),
+                (int) entryCount);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public ContentBankResponse findOne(UserId userId, ContentBankId id) {
@@ -135,7 +153,12 @@ public class ContentBankServiceImpl implements ContentBankService {
         }
 
         newBank.updatedContentEntries(newContentEntries);
-        contentEntryRepository.saveAll(newContentEntries);
+        contentEntryRepository.insertAll(newContentEntries);
+        if (!newContentEntries.isEmpty()) {
+            eventBus.publish(newContentEntries.getFirst().aggregateType(), newContentEntries.stream()
+                    .flatMap(entry -> entry.drainDomainEvents().stream())
+                    .toList());
+        }
         eventBus.publish(newBank.aggregateType(), newBank.drainDomainEvents());
     }
 }
@@ -3,7 +3,9 @@ package ai.snippetquiz.core_service.contentbank.application.service;
 import ai.snippetquiz.core_service.contentbank.application.ContentEntryDTOResponse;
 import ai.snippetquiz.core_service.contentbank.domain.valueobject.ContentBankId;
 import ai.snippetquiz.core_service.contentbank.domain.valueobject.ContentEntryId;
+import ai.snippetquiz.core_service.shared.domain.bus.query.KeysetCursor;
 import ai.snippetquiz.core_service.shared.domain.bus.query.PagedModelResponse;
+import ai.snippetquiz.core_service.shared.domain.bus.query.SliceResponse;
 import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
 
 import org.springframework.data.domain.Pageable;
@@ -25,6 +27,8 @@ public interface ContentEntryService {
 
     PagedModelResponse<ContentEntryDTOResponse> findAll(UserId userId, ContentBankId bankId, String name, Pageable pageable);
 
+    SliceResponse<ContentEntryDTOResponse> findAllAfter(UserId userId, ContentBankId bankId, KeysetCursor after, int size);
+
     void clone(UserId userId, ContentEntryId entryId, ContentBankId cloneTargetBankId);
 
     void remove(UserId userId, ContentEntryId entryId);
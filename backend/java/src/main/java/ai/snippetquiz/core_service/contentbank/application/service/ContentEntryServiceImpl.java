@@ -2,9 +2,11 @@ package ai.snippetquiz.core_service.contentbank.application.service;
 
 import ai.snippetquiz.core_service.contentbank.application.ContentEntryDTOResponse;
 import ai.snippetquiz.core_service.contentbank.domain.model.ContentEntry;
+import ai.snippetquiz.core_service.contentbank.domain.model.ContentEntryProjection;
 import ai.snippetquiz.core_service.contentbank.domain.model.ContentEntryTopic;
 import ai.snippetquiz.core_service.contentbank.domain.model.YoutubeChannel;
 import ai.snippetquiz.core_service.contentbank.domain.port.ContentBankRepository;
+import ai.snippetquiz.core_service.contentbank.domain.port.ContentEntryProjectionRepository;
 import ai.snippetquiz.core_service.contentbank.domain.port.ContentEntryRepository;
 import ai.snippetquiz.core_service.contentbank.domain.port.ContentEntryTopicRepository;
 import ai.snippetquiz.core_service.contentbank.domain.port.YoutubeChannelRepository;
@@ -12,7 +14,9 @@ import ai.snippetquiz.core_service.contentbank.domain.valueobject.ContentBankId;
 import ai.snippetquiz.core_service.contentbank.domain.valueobject.ContentEntryId;
 import ai.snippetquiz.core_service.shared.domain.ContentType;
 import ai.snippetquiz.core_service.shared.domain.bus.event.EventBus;
+import ai.snippetquiz.core_service.shared.domain.bus.query.KeysetCursor;
 import ai.snippetquiz.core_service.shared.domain.bus.query.PagedModelResponse;
+import ai.snippetquiz.core_service.shared.domain.bus.query.SliceResponse;
 import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
 import ai.snippetquiz.core_service.shared.exception.NotFoundException;
 import ai.snippetquiz.core_service.topic.domain.Topic;
@@ -25,6 +29,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
@@ -35,6 +40,7 @@ import java.util.stream.Collectors;
 public class ContentEntryServiceImpl implements ContentEntryService {
 
         private final ContentEntryRepository contentEntryRepository;
+        private final ContentEntryProjectionRepository contentEntryProjectionRepository;
         private final ContentBankRepository contentBankRepository;
         private final ContentEntryTopicRepository contentEntryTopicRepository;
         private final YoutubeChannelRepository youtubeChannelRepository;
@@ -90,6 +96,7 @@ public class ContentEntryServiceImpl implements ContentEntryService {
                                 // Update existing entry
                                 existingEntry.update(processedContent, pageTitle);
                                 contentEntryRepository.save(existingEntry);
+                                eventBus.publish(existingEntry.aggregateType(), existingEntry.drainDomainEvents());
                                 return;
                         }
                 }
@@ -120,6 +127,12 @@ public class ContentEntryServiceImpl implements ContentEntryService {
         @Override
         @Transactional(readOnly = true)
         public ContentEntryDTOResponse findById(UserId userId, ContentEntryId entryId) {
+                var projection = contentEntryProjectionRepository.findByIdAndUserId(entryId, userId);
+                if (projection.isPresent()) {
+                        return toDTOResponse(projection.get());
+                }
+
+                // the projection is written once the entry's events are consumed, so a fresh entry may not be in it yet
                 var contentEntry = contentEntryRepository.findByIdAndUserId(entryId, userId)
                                 .orElseThrow(() -> new NotFoundException(
                                                 "Content entry not found or access denied " + entryId.toString()));
@@ -133,7 +146,7 @@ public class ContentEntryServiceImpl implements ContentEntryService {
                 return new ContentEntryDTOResponse(
                                 contentEntry.getId().toString(),
                                 contentEntry.getContentType().getValue(),
-                                truncateContent(contentEntry.getContent(), 200),
+                                ContentEntryProjection.preview(contentEntry.getContent()),
                                 contentEntry.getStatus().name(),
                                 contentEntry.getSourceUrl(),
                                 contentEntry.getPageTitle(),
@@ -150,29 +163,43 @@ public class ContentEntryServiceImpl implements ContentEntryService {
                                 .orElseThrow(() -> new NotFoundException(
                                                 "Content bank not found or does not belong to user"));
 
-                var entriesPage = contentEntryRepository.findByContentBankId(bankId, pageable);
-
-                var contentEntryDTOPage = entriesPage.map(entry -> {
-                        var contentEntryTopicList = contentEntryTopicRepository.findByContentEntryId(entry.getId());
-                        var topicIds = contentEntryTopicList.stream()
-                                        .map(ContentEntryTopic::getTopicId)
-                                        .toList();
-                        var topics = topicRepository.findAllByIdInAndUserId(topicIds, userId);
-                        return new ContentEntryDTOResponse(
-                                        entry.getId().toString(),
-                                        entry.getContentType().getValue(),
-                                        truncateContent(entry.getContent(), 200),
-                                        entry.getStatus().name(),
-                                        entry.getSourceUrl(),
-                                        entry.getPageTitle(),
-                                        entry.getCreatedAt(),
-                                        entry.getQuestionsGenerated(),
-                                        topics.stream().map(Topic::getTopic).toList());
-                });
+                var entriesPage = contentEntryProjectionRepository.findByContentBankId(bankId, pageable);
+
+                var contentEntryDTOPage = entriesPage.map(this::toDTOResponse);
 
                 return new PagedModelResponse<>(contentEntryDTOPage);
         }
 
+        @Override
+        @Transactional(readOnly = true)
+        public SliceResponse<ContentEntryDTOResponse> findAllAfter(UserId userId, ContentBankId bankId, KeysetCursor after,
+                        int size) {
+                contentBankRepository.findByIdAndUserId(bankId, userId)
+                                .orElseThrow(() -> new NotFoundException(
+                                                "Content bank not found or does not belong to user"));
+
+                var entries = contentEntryProjectionRepository.findByContentBankIdAfter(bankId, after, size + 1);
+
+                return SliceResponse.of(
+                                entries,
+                                size,
+                                entry -> new KeysetCursor(entry.getCreatedAt(), entry.getId().getValue()),
+                                this::toDTOResponse);
+        }
+
+        private ContentEntryDTOResponse toDTOResponse(ContentEntryProjection entry) {
+                return new ContentEntryDTOResponse(
+                                entry.getId().toString(),
+                                entry.getContentType().getValue(),
+                                entry.getContent(),
+                                entry.getStatus().name(),
+                                entry.getSourceUrl(),
+                                entry.getPageTitle(),
+                                entry.getCreatedAt(),
+                                entry.getQuestionsGenerated(),
+                                Objects.requireNonNullElse(entry.getTopics(), List.of()));
+        }
+
         @Override
         public void clone(UserId userId, ContentEntryId entryId, ContentBankId cloneTargetBankId) {
                 var sourceEntry = contentEntryRepository.findByIdAndUserId(entryId, userId)
@@ -189,13 +216,15 @@ public class ContentEntryServiceImpl implements ContentEntryService {
 
                 var sourceTopics = contentEntryTopicRepository.findByContentEntryId(entryId);
                 var topicIds = new ArrayList<TopicId>();
+                var clonedTopics = new ArrayList<ContentEntryTopic>();
                 for (ContentEntryTopic sourceTopic : sourceTopics) {
                         var clonedTopic = new ContentEntryTopic();
                         clonedTopic.setContentEntryId(clonedEntry.getId());
                         clonedTopic.setTopicId(sourceTopic.getTopicId());
                         topicIds.add(sourceTopic.getTopicId());
-                        contentEntryTopicRepository.save(clonedTopic);
+                        clonedTopics.add(clonedTopic);
                 }
+                contentEntryTopicRepository.saveAll(clonedTopics);
 
                 var topics = topicRepository.findAllByIdInAndUserId(topicIds, userId);
                 clonedEntry.updatedTopics(topics);
@@ -220,11 +249,4 @@ public class ContentEntryServiceImpl implements ContentEntryService {
                 contentEntryRepository.delete(contentEntry);
                 eventBus.publish(contentEntry.aggregateType(), contentEntry.drainDomainEvents());
         }
-
-        private String truncateContent(String content, int maxLength) {
-                if (Objects.isNull(content) || content.length() <= maxLength) {
-                        return content;
-                }
-                return content.substring(0, maxLength) + "...";
-        }
 }
@@ -138,7 +138,8 @@ public class ContentEntryCreatedDomainEvent extends DomainEvent {
                 (Integer) body.get("word_count"),
                 (Integer) body.get("video_duration"),
                 (String) body.get("youtube_video_id"),
-                (Long) body.get("youtube_channel_id"),
+                // numbers read back from JSON are Integers whenever they fit
+                body.get("youtube_channel_id") instanceof Number channelId ? channelId.longValue() : null,
                 (Boolean) body.get("duplicated"));
     }
 }
\ No newline at end of file
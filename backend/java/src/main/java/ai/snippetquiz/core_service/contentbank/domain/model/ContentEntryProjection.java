@@ -2,6 +2,7 @@ package ai.snippetquiz.core_service.contentbank.domain.model;
 
 import ai.snippetquiz.core_service.contentbank.domain.valueobject.ContentBankId;
 import ai.snippetquiz.core_service.contentbank.domain.valueobject.ContentEntryId;
+import ai.snippetquiz.core_service.contentbank.domain.valueobject.ContentEntryStatus;
 import ai.snippetquiz.core_service.shared.domain.ContentType;
 import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
 import lombok.AllArgsConstructor;
@@ -9,11 +10,15 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
 
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class ContentEntryProjection {
+    private static final int CONTENT_PREVIEW_LENGTH = 200;
+
     private ContentEntryId id;
     private UserId userId;
     private ContentType contentType;
@@ -22,6 +27,14 @@ public class ContentEntryProjection {
     private String pageTitle;
     private LocalDateTime createdAt;
     private Boolean questionsGenerated;
-    private String topics;
+    private List<String> topics;
     private ContentBankId contentBankId;
-}
\ No newline at end of file
+    private ContentEntryStatus status;
+
+    public static String preview(String content) {
+        if (Objects.isNull(content) || content.length() <= CONTENT_PREVIEW_LENGTH) {
+            return content;
+        }
+        return content.substring(0, CONTENT_PREVIEW_LENGTH) + "...";
+    }
+}
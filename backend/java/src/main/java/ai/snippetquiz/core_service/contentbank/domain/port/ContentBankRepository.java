@@ -2,11 +2,13 @@ package ai.snippetquiz.core_service.contentbank.domain.port;
 
 import ai.snippetquiz.core_service.contentbank.domain.model.ContentBank;
 import ai.snippetquiz.core_service.contentbank.domain.valueobject.ContentBankId;
+import ai.snippetquiz.core_service.shared.domain.bus.query.KeysetCursor;
 import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface ContentBankRepository {
@@ -25,6 +27,15 @@ public interface ContentBankRepository {
             String name,
             Pageable pageable);
 
+    /**
+     * Newest first, starting right after the given cursor, or from the newest bank when it is null.
+     */
+    List<ContentBank> findByUserIdAndNameContainingIgnoreCaseAfter(
+            UserId userId,
+            String name,
+            KeysetCursor after,
+            int limit);
+
     Optional<ContentBank> findByUserIdAndNameAndIdNot(UserId userId, String name, ContentBankId excludeId);
 
     Optional<ContentBank> findByIdAndUserIdWithContentEntries(ContentBankId id, UserId userId);
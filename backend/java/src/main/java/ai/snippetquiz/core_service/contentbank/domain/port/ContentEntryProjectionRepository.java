@@ -3,11 +3,15 @@ package ai.snippetquiz.core_service.contentbank.domain.port;
 import ai.snippetquiz.core_service.contentbank.domain.model.ContentEntryProjection;
 import ai.snippetquiz.core_service.contentbank.domain.valueobject.ContentBankId;
 import ai.snippetquiz.core_service.contentbank.domain.valueobject.ContentEntryId;
+import ai.snippetquiz.core_service.contentbank.domain.valueobject.ContentEntryStatus;
+import ai.snippetquiz.core_service.shared.domain.bus.query.KeysetCursor;
 import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface ContentEntryProjectionRepository {
@@ -18,5 +22,27 @@ public interface ContentEntryProjectionRepository {
 
     Page<ContentEntryProjection> findByContentBankId(ContentBankId contentBankId, Pageable pageable);
 
+    /**
+     * Newest first, starting right after the given cursor, or from the newest entry when it is null.
+     */
+    List<ContentEntryProjection> findByContentBankIdAfter(ContentBankId contentBankId, KeysetCursor after,
+            int limit);
+
     long countByContentBankId(ContentBankId contentBankId);
-}
\ No newline at end of file
+
+    /**
+     * Skipped when the row already exists, or when the entry is gone by the time its creation is handled.
+     */
+    void insert(ContentEntryProjection contentEntryProjection);
+
+    void update(ContentEntryId id, String content, String pageTitle, LocalDateTime createdAt);
+
+    /**
+     * Appends the topics not listed yet, keeping the ones already there.
+     */
+    void addTopics(ContentEntryId id, List<String> topics, ContentEntryStatus status, LocalDateTime createdAt);
+
+    void markQuestionsGenerated(ContentEntryId id);
+
+    void deleteById(ContentEntryId id);
+}
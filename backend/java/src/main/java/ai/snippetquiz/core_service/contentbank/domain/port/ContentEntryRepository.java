@@ -17,6 +17,12 @@ public interface ContentEntryRepository {
 
     void saveAll(List<ContentEntry> contentEntries);
 
+    /**
+     * Persists entries known to be new without the per-entry lookup {@link #saveAll} does for assigned ids,
+     * so that their inserts can be batched.
+     */
+    void insertAll(List<ContentEntry> contentEntries);
+
     Optional<ContentEntry> findById(ContentEntryId id);
 
     void delete(ContentEntry contentEntry);
@@ -9,6 +9,8 @@ import ai.snippetquiz.core_service.topic.domain.valueobject.TopicId;
 public interface ContentEntryTopicRepository {
     ContentEntryTopic save(ContentEntryTopic contentEntryTopic);
 
+    List<ContentEntryTopic> saveAll(List<ContentEntryTopic> contentEntryTopics);
+
     List<ContentEntryTopic> findByContentEntryId(ContentEntryId contentEntryId);
 
     List<ContentEntryTopic> findByTopicId(TopicId topicId);
@@ -8,6 +8,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -25,7 +26,8 @@ import java.util.UUID;
 @AllArgsConstructor
 public class QuestionEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "questions_id_seq")
+    @SequenceGenerator(name = "questions_id_seq", sequenceName = "questions_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "question", nullable = false, columnDefinition = "TEXT")
@@ -2,8 +2,11 @@ package ai.snippetquiz.core_service.question.adapter.out.repository;
 
 import ai.snippetquiz.core_service.question.adapter.out.entities.QuestionEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -12,4 +15,8 @@ public interface JpaQuestionRepository extends JpaRepository<QuestionEntity, Lon
     List<QuestionEntity> findByContentEntryId(UUID contentEntryId);
 
     List<QuestionEntity> findByContentEntryIdIn(List<UUID> contentEntryIds);
+
+    @Query("SELECT q.contentEntryId, COUNT(q) FROM QuestionEntity q " +
+            "WHERE q.contentEntryId IN :contentEntryIds GROUP BY q.contentEntryId")
+    List<Object[]> countByContentEntryIdIn(@Param("contentEntryIds") Collection<UUID> contentEntryIds);
 }
\ No newline at end of file
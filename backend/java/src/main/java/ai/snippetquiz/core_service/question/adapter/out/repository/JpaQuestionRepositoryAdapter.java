@@ -4,11 +4,20 @@ import ai.snippetquiz.core_service.contentbank.domain.valueobject.ContentEntryId
 import ai.snippetquiz.core_service.question.adapter.out.entities.QuestionEntity;
 import ai.snippetquiz.core_service.question.adapter.out.mapper.QuestionMapper;
 import ai.snippetquiz.core_service.question.domain.Question;
+import ai.snippetquiz.core_service.question.domain.QuestionOption;
 import ai.snippetquiz.core_service.question.domain.port.QuestionRepository;
+import ai.snippetquiz.core_service.question.domain.valueobject.QuestionId;
+import ai.snippetquiz.core_service.question.domain.valueobject.QuestionOptionId;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Component
@@ -16,6 +25,20 @@ import java.util.stream.Collectors;
 public class JpaQuestionRepositoryAdapter implements QuestionRepository {
     private final JpaQuestionRepository jpaQuestionRepository;
     private final QuestionMapper questionMapper;
+    private final JdbcTemplate jdbcTemplate;
+
+    // Same block size as the allocationSize of the entities and the increment of their sequences
+    private static final int ID_BLOCK_SIZE = 50;
+
+    private static final String INSERT_OPTIONS = """
+            INSERT INTO question_options (id, question_id, option_text, option_explanation, is_correct)
+            SELECT o.id, o.question_id, o.option_text, o.option_explanation, o.is_correct
+            FROM unnest(?::bigint[], ?::bigint[], ?::text[], ?::text[], ?::boolean[])
+                AS o(id, question_id, option_text, option_explanation, is_correct)
+            """;
+
+    private record Position(UUID contentEntryId, Integer chunkIndex, Integer questionIndexInChunk) {
+    }
 
     @Override
     public Question save(Question question) {
@@ -24,6 +47,108 @@ public class JpaQuestionRepositoryAdapter implements QuestionRepository {
         return questionMapper.toDomain(savedEntity);
     }
 
+    @Override
+    public List<Question> insertAll(List<Question> questions) {
+        if (questions.isEmpty()) {
+            return List.of();
+        }
+
+        var sql = new StringBuilder("INSERT INTO questions " +
+                "(id, question, type, content_entry_id, chunk_index, question_index_in_chunk) VALUES ");
+        var args = new ArrayList<Object>(questions.size() * 6);
+        var byPosition = new HashMap<Position, Question>();
+        var ids = reserveIds("questions_id_seq", questions.size()).iterator();
+        for (var question : questions) {
+            if (!byPosition.isEmpty()) {
+                sql.append(", ");
+            }
+            sql.append("(?, ?, ?, ?, ?, ?)");
+            var position = new Position(
+                    question.getContentEntryId().getValue(),
+                    question.getChunkIndex().getValue(),
+                    question.getQuestionIndexInChunk().getValue());
+            args.add(ids.next());
+            args.add(question.getQuestion());
+            args.add(question.getType());
+            args.add(position.contentEntryId());
+            args.add(position.chunkIndex());
+            args.add(position.questionIndexInChunk());
+            byPosition.put(position, question);
+        }
+        // a redelivered chunk collides on the position of its questions and is left as stored
+        sql.append(" ON CONFLICT (content_entry_id, chunk_index, question_index_in_chunk) DO NOTHING")
+                .append(" RETURNING id, content_entry_id, chunk_index, question_index_in_chunk, created_at");
+
+        var inserted = jdbcTemplate.query(sql.toString(), (rs, rowNum) -> {
+            var question = byPosition.get(new Position(
+                    rs.getObject("content_entry_id", UUID.class),
+                    rs.getInt("chunk_index"),
+                    rs.getInt("question_index_in_chunk")));
+            question.setId(new QuestionId(rs.getLong("id")));
+            question.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
+            return question;
+        }, args.toArray());
+
+        insertOptions(inserted);
+        return inserted;
+    }
+
+    /**
+     * Inserts the options from unnested arrays. Their ids are reserved up front, so each option knows its id
+     * without relying on the order of returned rows.
+     */
+    private void insertOptions(List<Question> questions) {
+        var options = new ArrayList<QuestionOption>();
+        var questionIds = new ArrayList<Long>();
+        for (var question : questions) {
+            for (var option : question.getQuestionOptions()) {
+                options.add(option);
+                questionIds.add(question.getId().getValue());
+            }
+        }
+        if (options.isEmpty()) {
+            return;
+        }
+
+        var ids = reserveIds("question_options_id_seq", options.size());
+        jdbcTemplate.update(connection -> {
+            var statement = connection.prepareStatement(INSERT_OPTIONS);
+            statement.setArray(1, connection.createArrayOf("bigint", ids.toArray()));
+            statement.setArray(2, connection.createArrayOf("bigint", questionIds.toArray()));
+            statement.setArray(3, connection.createArrayOf("text",
+                    options.stream().map(QuestionOption::getOptionText).toArray()));
+            statement.setArray(4, connection.createArrayOf("text",
+                    options.stream().map(QuestionOption::getOptionExplanation).toArray()));
+            statement.setArray(5, connection.createArrayOf("boolean",
+                    options.stream().map(option -> Boolean.TRUE.equals(option.getIsCorrect())).toArray()));
+            return statement;
+        });
+        for (int i = 0; i < options.size(); i++) {
+            options.get(i).setId(new QuestionOptionId(ids.get(i)));
+        }
+    }
+
+    /**
+     * Reserves ids for {@code count} rows a block at a time. The sequence steps by {@link #ID_BLOCK_SIZE} and
+     * each value reserves the block ending at it, the same blocks Hibernate's pooled optimizer hands out, so
+     * one nextval serves a whole block instead of one row.
+     */
+    private List<Long> reserveIds(String sequence, int count) {
+        var ids = new ArrayList<Long>(count);
+        while (ids.size() < count) {
+            var blocks = (count - ids.size() + ID_BLOCK_SIZE - 1) / ID_BLOCK_SIZE;
+            var lastIds = jdbcTemplate.queryForList(
+                    "SELECT nextval(?::regclass) FROM generate_series(1, ?)", Long.class, sequence, blocks);
+            for (var last : lastIds) {
+                // the first value of a fresh sequence is 1, which leaves no ids below it
+                for (var id = Math.max(1, last - ID_BLOCK_SIZE + 1); id <= last && ids.size() < count; id++) {
+                    ids.add(id);
+                }
+            }
+        }
+        return ids;
+    }
+
     @Override
     public List<Question> findByContentEntryId(ContentEntryId contentEntryId) {
         return jpaQuestionRepository.findByContentEntryId(contentEntryId.getValue())
@@ -39,4 +164,14 @@ public class JpaQuestionRepositoryAdapter implements QuestionRepository {
                 .map(questionMapper::toDomain)
                 .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+
+    @Override
+    public Map<ContentEntryId, Long> countByContentEntryIdIn(Collection<ContentEntryId> contentEntryIds) {
+        if (contentEntryIds.isEmpty()) {
+            return Map.of();
+        }
+        return jpaQuestionRepository.countByContentEntryIdIn(contentEntryIds.stream().map(ContentEntryId::getValue).toList())
+                .stream()
+                .collect(Collectors.toMap(row -> new ContentEntryId((UUID) row[0]), row -> (Long) row[1]));
+    }
+}
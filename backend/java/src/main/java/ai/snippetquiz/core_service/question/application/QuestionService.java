@@ -1,9 +1,18 @@
 package ai.snippetquiz.core_service.question.application;
 
 import ai.snippetquiz.core_service.question.application.dto.CreateQuestionRequest;
+import ai.snippetquiz.core_service.question.domain.Question;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface QuestionService {
-    void createQuestion(CreateQuestionRequest request, UUID userId);
+    Question createQuestion(CreateQuestionRequest request, UUID userId);
+
+    /**
+     * Writes the questions of a chunk and their options in one transaction. Questions already stored at the
+     * same position, as on a redelivered chunk, are skipped and returned as stored, so every returned question
+     * carries its id.
+     */
+    List<Question> createQuestions(List<CreateQuestionRequest> requests);
 }
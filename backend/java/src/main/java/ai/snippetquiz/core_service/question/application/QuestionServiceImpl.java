@@ -16,7 +16,11 @@ import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
@@ -26,21 +30,18 @@ public class QuestionServiceImpl implements QuestionService {
     private final QuestionRepository questionRepository;
     private final QuestionOptionRepository questionOptionRepository;
 
+    private record Position(
+            ContentEntryId contentEntryId,
+            QuestionContentEntryChunkId chunkIndex,
+            QuestionContentEntryQuestionChunkId questionIndexInChunk) {
+    }
+
     @Override
     @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void createQuestion(CreateQuestionRequest request, UUID userId) {
-        var contentEntryId = request.contentEntryId();
-        var questionText = request.question();
+    public Question createQuestion(CreateQuestionRequest request, UUID userId) {
         var options = request.options();
-        var chunkIndex = request.currentChunkIndex();
-        var questionIndexInChunk = request.questionIndexInChunk();
 
-        var question = new Question();
-        question.setQuestion(questionText);
-        question.setType("single_choice");
-        question.setChunkIndex(new QuestionContentEntryChunkId(chunkIndex));
-        question.setQuestionIndexInChunk(new QuestionContentEntryQuestionChunkId(questionIndexInChunk));
-        question.setContentEntryId(ContentEntryId.map(contentEntryId));
+        var question = toQuestion(request);
 
         var savedQuestion = questionRepository.save(question);
         var quizQuestionOptions = new ArrayList<QuestionOption>();
@@ -54,6 +55,58 @@ public class QuestionServiceImpl implements QuestionService {
 
             quizQuestionOptions.add(option);
         }
-        questionOptionRepository.saveAll(quizQuestionOptions);
+        savedQuestion.setQuestionOptions(questionOptionRepository.saveAll(quizQuestionOptions));
+        return savedQuestion;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<Question> createQuestions(List<CreateQuestionRequest> requests) {
+        var questions = new ArrayList<Question>(requests.size());
+        for (var request : requests) {
+            var question = toQuestion(request);
+            question.setQuestionOptions(request.options().stream()
+                    .map(optionRequest -> {
+                        var option = new QuestionOption();
+                        option.setOptionText(optionRequest.optionText());
+                        option.setOptionExplanation(optionRequest.optionExplanation());
+                        option.setIsCorrect(optionRequest.isCorrect());
+                        return option;
+                    })
+                    .toList());
+            questions.add(question);
+        }
+
+        var inserted = questionRepository.insertAll(questions);
+        if (inserted.size() == questions.size()) {
+            return inserted;
+        }
+
+        // the skipped questions are returned as stored, so a redelivered chunk still yields every question
+        log.info("Skipped {} questions already stored", questions.size() - inserted.size());
+        var stored = questionRepository.findByContentEntryIdIn(questions.stream()
+                        .map(Question::getContentEntryId)
+                        .distinct()
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(QuestionServiceImpl::positionOf, Function.identity()));
+        return questions.stream()
+                .map(question -> question.getId() != null ? question : stored.get(positionOf(question)))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private static Position positionOf(Question question) {
+        return new Position(question.getContentEntryId(), question.getChunkIndex(), question.getQuestionIndexInChunk());
+    }
+
+    private Question toQuestion(CreateQuestionRequest request) {
+        var question = new Question();
+        question.setQuestion(request.question());
+        question.setType("single_choice");
+        question.setChunkIndex(new QuestionContentEntryChunkId(request.currentChunkIndex()));
+        question.setQuestionIndexInChunk(new QuestionContentEntryQuestionChunkId(request.questionIndexInChunk()));
+        question.setContentEntryId(ContentEntryId.map(request.contentEntryId()));
+        return question;
     }
 }
@@ -3,10 +3,24 @@ package ai.snippetquiz.core_service.question.domain.port;
 import ai.snippetquiz.core_service.contentbank.domain.valueobject.ContentEntryId;
 import ai.snippetquiz.core_service.question.domain.Question;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface QuestionRepository  {
     Question save(Question question);
+
+    /**
+     * Writes the questions and their options with multi-row inserts, skipping the questions whose position
+     * in their content entry is already stored. Returns the inserted questions with their generated ids.
+     */
+    List<Question> insertAll(List<Question> questions);
+
     List<Question> findByContentEntryId(ContentEntryId contentEntryId);
     List<Question> findByContentEntryIdIn(List<ContentEntryId> contentEntryIds);
+
+    /**
+     * Number of stored questions per content entry; entries without questions are left out.
+     */
+    Map<ContentEntryId, Long> countByContentEntryIdIn(Collection<ContentEntryId> contentEntryIds);
 }
@@ -0,0 +1,74 @@
+package ai.snippetquiz.core_service.quiz.adapter.in;
+
+import ai.snippetquiz.core_service.quiz.application.service.QuizService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * Moves quizzes whose question generation stopped making progress to READY_WITH_ERROR, so that reads can
+ * take the projected status as it is. Each batch holds an advisory lock in its own transaction, which keeps
+ * the sweep on a single instance at a time, while each quiz of the batch is expired in a transaction of its own.
+ */
+@Slf4j
+@Component
+public class StaleQuizSweeper {
+    private final QuizService quizService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final long timeoutMinutes;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    public StaleQuizSweeper(
+            QuizService quizService,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            @Value("${quiz.stale-sweeper.timeout-minutes:30}") long timeoutMinutes,
+            @Value("${quiz.stale-sweeper.batch-size:100}") int batchSize,
+            @Value("${quiz.stale-sweeper.max-batches-per-run:10}") int maxBatchesPerRun) {
+        this.quizService = quizService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.timeoutMinutes = timeoutMinutes;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    @Scheduled(fixedDelayString = "${quiz.stale-sweeper.interval-ms:60000}")
+    public void sweep() {
+        try {
+            var updatedBefore = LocalDateTime.now().minusMinutes(timeoutMinutes);
+            long swept = 0;
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                Integer quizzes = transactionTemplate.execute(status -> sweepBatch(updatedBefore));
+                if (quizzes == null || quizzes == 0) {
+                    break;
+                }
+                swept += quizzes;
+                if (quizzes < batchSize) {
+                    break;
+                }
+            }
+            if (swept > 0) {
+                log.info("Swept {} quizzes in progress since before {}", swept, updatedBefore);
+            }
+        } catch (RuntimeException e) {
+            log.error("Stale quiz sweep failed, the batch will be retried", e);
+        }
+    }
+
+    private int sweepBatch(LocalDateTime updatedBefore) {
+        Boolean locked = jdbcTemplate.queryForObject(
+                "SELECT pg_try_advisory_xact_lock(hashtext('stale_quiz_sweeper'))", Boolean.class);
+        if (!Boolean.TRUE.equals(locked)) {
+            return 0;
+        }
+        return quizService.expireStaleQuizzes(updatedBefore, batchSize);
+    }
+}
@@ -4,12 +4,12 @@ import ai.snippetquiz.core_service.quiz.adapter.in.web.request.CreateQuizRequest
 import ai.snippetquiz.core_service.quiz.application.response.CheckQuizInProgressResponse;
 import ai.snippetquiz.core_service.quiz.application.response.CreateQuizResponse;
 import ai.snippetquiz.core_service.quiz.application.response.FindOneQuizResponse;
-import ai.snippetquiz.core_service.quiz.application.response.QuizResponse;
 import ai.snippetquiz.core_service.quiz.application.response.QuizResponseItemDto;
 import ai.snippetquiz.core_service.quiz.application.response.QuizSummaryResponseDto;
 import ai.snippetquiz.core_service.quiz.application.response.UpdateQuizResponse;
 import ai.snippetquiz.core_service.quiz.application.create.CreateQuizCommand;
 import ai.snippetquiz.core_service.quiz.application.find.FindOneQuizQuery;
+import ai.snippetquiz.core_service.quiz.application.findall.FindAllQuizzesAfterQuery;
 import ai.snippetquiz.core_service.quiz.application.findall.FindAllQuizzesQuery;
 import ai.snippetquiz.core_service.quiz.application.findresponses.FindQuizResponsesQuery;
 import ai.snippetquiz.core_service.quiz.application.findsummary.FindQuizSummaryQuery;
@@ -20,8 +20,10 @@ import ai.snippetquiz.core_service.quiz.domain.valueobject.QuizId;
 import ai.snippetquiz.core_service.quiz.domain.valueobject.QuizQuestionOptionId;
 import ai.snippetquiz.core_service.shared.domain.DomainError;
 import ai.snippetquiz.core_service.shared.domain.bus.command.CommandBus;
+import ai.snippetquiz.core_service.shared.domain.bus.query.KeysetCursor;
 import ai.snippetquiz.core_service.shared.domain.bus.query.PagedModelResponse;
 import ai.snippetquiz.core_service.shared.domain.bus.query.QueryBus;
+import ai.snippetquiz.core_service.shared.domain.bus.query.Response;
 import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
 import ai.snippetquiz.core_service.shared.spring.ApiController;
 import ai.snippetquiz.core_service.shared.util.Constants;
@@ -38,6 +40,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
@@ -78,9 +81,17 @@ public class QuizController extends ApiController {
     }
 
     @GetMapping
-    public PagedModelResponse<QuizResponse> findAll(
+    public Response findAll(
             @RequestHeader(Constants.USER_ID_HEADER) String userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "true") boolean count,
             @PageableDefault(size = Constants.DEFAULT_LIMIT) @SortDefault(sort = "createdAt", direction = Direction.DESC) Pageable pageable) {
+        if (cursor != null || !count) {
+            return ask(new FindAllQuizzesAfterQuery(
+                    UUID.fromString(userId),
+                    cursor != null ? KeysetCursor.decode(cursor) : null,
+                    pageable.getPageSize()));
+        }
         return ask(new FindAllQuizzesQuery(UUID.fromString(userId), pageable));
     }
 
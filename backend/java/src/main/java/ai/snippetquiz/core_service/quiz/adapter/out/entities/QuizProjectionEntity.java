@@ -50,6 +50,12 @@ public class QuizProjectionEntity {
     @Column(name = "questions_completed", nullable = false)
     private Integer questionsCompleted = 0;
 
+    @Column(name = "correct_count")
+    private Integer correctCount = 0;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
     @Column(name = "question_updated_at")
     private LocalDateTime questionUpdatedAt;
 
@@ -0,0 +1,153 @@
+package ai.snippetquiz.core_service.quiz.adapter.out.repository;
+
+import ai.snippetquiz.core_service.quiz.domain.model.QuizPlayProjection;
+import ai.snippetquiz.core_service.quiz.domain.model.QuizQuestion;
+import ai.snippetquiz.core_service.quiz.domain.model.QuizStatus;
+import ai.snippetquiz.core_service.quiz.domain.port.repository.QuizPlayProjectionRepository;
+import ai.snippetquiz.core_service.quiz.domain.valueobject.QuizId;
+import ai.snippetquiz.core_service.shared.adapter.out.repository.ProjectionTableRouting;
+import ai.snippetquiz.core_service.shared.domain.Utils;
+import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
+import com.fasterxml.jackson.core.type.TypeReference;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class JdbcQuizPlayProjectionRepositoryAdapter implements QuizPlayProjectionRepository {
+    private static final String TABLE = "quiz_play__projection";
+    private static final Set<String> JSON_COLUMNS = Set.of("topics", "questions", "current_question");
+
+    // questions are left out, only the one being asked is read
+    private static final RowMapper<QuizPlayProjection> ROW_MAPPER = (rs, rowNum) -> {
+        var createdAt = rs.getTimestamp("created_at");
+        var questionUpdatedAt = rs.getTimestamp("question_updated_at");
+        var status = rs.getString("status");
+        var topics = rs.getString("topics");
+        var currentQuestion = rs.getString("current_question");
+        return QuizPlayProjection.builder()
+                .id(new QuizId(rs.getObject("id", UUID.class)))
+                .userId(new UserId(rs.getObject("user_id", UUID.class)))
+                .version(rs.getInt("version"))
+                .bankName(rs.getString("bank_name"))
+                .status(status != null ? QuizStatus.valueOf(status) : null)
+                .createdAt(createdAt != null ? createdAt.toLocalDateTime() : null)
+                .questionUpdatedAt(questionUpdatedAt != null ? questionUpdatedAt.toLocalDateTime() : null)
+                .contentEntriesCount(rs.getInt("content_entries_count"))
+                .topics(topics != null ? Utils.fromJson(topics, new TypeReference<Set<String>>() {
+                }) : null)
+                .questionsCount(rs.getInt("questions_count"))
+                .answeredCount(rs.getInt("answered_count"))
+                .correctCount(rs.getInt("correct_count"))
+                .allQuestionsMarked(rs.getBoolean("all_questions_marked"))
+                .currentQuestion(currentQuestion != null ? Utils.fromJson(currentQuestion, QuizQuestion.class) : null)
+                .build();
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<QuizPlayProjection> findByIdAndUserId(QuizId quizId, UserId userId) {
+        return jdbcTemplate.query("""
+                SELECT id, user_id, version, bank_name, created_at, status, question_updated_at,
+                       content_entries_count, topics::text AS topics, questions_count, answered_count,
+                       correct_count, all_questions_marked, current_question::text AS current_question
+                FROM quiz_play__projection
+                WHERE id = ? AND user_id = ?
+                """, ROW_MAPPER, quizId.getValue(), userId.getValue()).stream().findFirst();
+    }
+
+    @Override
+    public void upsert(QuizPlayProjection quizPlay) {
+        write(columns(quizPlay), Map.of());
+    }
+
+    @Override
+    public void appendQuestions(QuizPlayProjection quizPlay, List<QuizQuestion> questions) {
+        var columns = columns(quizPlay);
+        columns.put("questions", Utils.toJson(questions));
+        columns.put("questions_count", questions.size());
+        // a row inserted here has no answers yet, so its first question is the one being asked
+        columns.put("current_question", questions.isEmpty() ? null : Utils.toJson(questions.getFirst()));
+
+        write(columns, Map.of(
+                "questions", "p.questions || EXCLUDED.questions",
+                "questions_count", "p.questions_count + EXCLUDED.questions_count",
+                "current_question", "(p.questions || EXCLUDED.questions) -> p.answered_count"));
+    }
+
+    @Override
+    public void answerMarked(QuizId quizId, UserId userId, int version, boolean correct, boolean allQuestionsMarked) {
+        jdbcTemplate.update("UPDATE " + ProjectionTableRouting.resolve(TABLE) + " AS p SET " +
+                        "version = ?, " +
+                        "answered_count = p.answered_count + 1, " +
+                        "correct_count = p.correct_count + ?, " +
+                        "all_questions_marked = ?, " +
+                        "current_question = p.questions -> (p.answered_count + 1) " +
+                        "WHERE p.id = ? AND p.user_id = ? AND p.version < ?",
+                version, correct ? 1 : 0, allQuestionsMarked, quizId.getValue(), userId.getValue(), version);
+    }
+
+    @Override
+    public void deleteById(QuizId quizId) {
+        jdbcTemplate.update("DELETE FROM " + ProjectionTableRouting.resolve(TABLE) + " WHERE id = ?",
+                quizId.getValue());
+    }
+
+    /**
+     * Only the fields that are set take part in the statement; on insert the others keep their column
+     * defaults and on conflict they keep their stored values.
+     */
+    private LinkedHashMap<String, Object> columns(QuizPlayProjection quizPlay) {
+        var columns = new LinkedHashMap<String, Object>();
+        columns.put("id", quizPlay.getId().getValue());
+        columns.put("user_id", quizPlay.getUserId().getValue());
+        columns.put("version", quizPlay.getVersion());
+        if (quizPlay.getBankName() != null) {
+            columns.put("bank_name", quizPlay.getBankName());
+        }
+        if (quizPlay.getStatus() != null) {
+            columns.put("status", quizPlay.getStatus().name());
+        }
+        if (quizPlay.getCreatedAt() != null) {
+            columns.put("created_at", quizPlay.getCreatedAt());
+        }
+        if (quizPlay.getQuestionUpdatedAt() != null) {
+            columns.put("question_updated_at", quizPlay.getQuestionUpdatedAt());
+        }
+        if (quizPlay.getContentEntriesCount() != null) {
+            columns.put("content_entries_count", quizPlay.getContentEntriesCount());
+        }
+        if (quizPlay.getTopics() != null) {
+            columns.put("topics", Utils.toJson(quizPlay.getTopics()));
+        }
+        return columns;
+    }
+
+    private void write(LinkedHashMap<String, Object> columns, Map<String, String> updates) {
+        var placeholders = new StringJoiner(", ");
+        var assignments = new StringJoiner(", ");
+        for (var column : columns.keySet()) {
+            placeholders.add(JSON_COLUMNS.contains(column) ? "CAST(? AS jsonb)" : "?");
+            if (!column.equals("id")) {
+                assignments.add(column + " = " + updates.getOrDefault(column, "EXCLUDED." + column));
+            }
+        }
+
+        var sql = "INSERT INTO " + ProjectionTableRouting.resolve(TABLE) + " AS p (" +
+                String.join(", ", columns.keySet()) + ") VALUES (" + placeholders + ") " +
+                "ON CONFLICT (id) DO UPDATE SET " + assignments +
+                " WHERE p.version < EXCLUDED.version";
+        jdbcTemplate.update(sql, columns.values().toArray());
+    }
+}
@@ -0,0 +1,106 @@
+package ai.snippetquiz.core_service.quiz.adapter.out.repository;
+
+import ai.snippetquiz.core_service.quiz.domain.model.QuizQuestion;
+import ai.snippetquiz.core_service.quiz.domain.model.QuizQuestionResponse;
+import ai.snippetquiz.core_service.quiz.domain.model.QuizResponseProjection;
+import ai.snippetquiz.core_service.quiz.domain.port.repository.QuizResponsesProjectionRepository;
+import ai.snippetquiz.core_service.quiz.domain.valueobject.QuizId;
+import ai.snippetquiz.core_service.quiz.domain.valueobject.QuizQuestionId;
+import ai.snippetquiz.core_service.shared.adapter.out.repository.ProjectionTableRouting;
+import ai.snippetquiz.core_service.shared.domain.Utils;
+import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class JdbcQuizResponsesProjectionRepositoryAdapter implements QuizResponsesProjectionRepository {
+    private static final String TABLE = "quiz_responses__projection";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<QuizResponseProjection> findAnsweredAfter(QuizId quizId, UserId userId, int afterPosition,
+            int limit) {
+        return jdbcTemplate.query("""
+                SELECT question_id, position, question, source_url, is_correct, answer, correct_answer, explanation
+                FROM quiz_responses__projection
+                WHERE quiz_id = ? AND user_id = ? AND position > ? AND is_correct IS NOT NULL
+                ORDER BY position
+                LIMIT ?
+                """,
+                (rs, rowNum) -> QuizResponseProjection.builder()
+                        .quizQuestionId(new QuizQuestionId(rs.getObject("question_id", UUID.class)))
+                        .position(rs.getInt("position"))
+                        .question(rs.getString("question"))
+                        .sourceUrl(rs.getString("source_url"))
+                        .isCorrect(rs.getBoolean("is_correct"))
+                        .answer(rs.getString("answer"))
+                        .correctAnswer(rs.getString("correct_answer"))
+                        .explanation(rs.getString("explanation"))
+                        .build(),
+                quizId.getValue(), userId.getValue(), afterPosition, limit);
+    }
+
+    @Override
+    public void addQuestions(QuizId quizId, UserId userId, List<QuizQuestion> questions) {
+        if (questions.isEmpty()) {
+            return;
+        }
+
+        var table = ProjectionTableRouting.resolve(TABLE);
+        // events of a quiz are handled one at a time, so the questions stored so far give the next position
+        var position = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM " + table + " WHERE quiz_id = ?", Integer.class, quizId.getValue());
+
+        var params = new ArrayList<Object[]>();
+        for (var question : questions) {
+            var options = new LinkedHashMap<String, Map<String, String>>();
+            for (var option : question.getQuizQuestionOptions()) {
+                var texts = new HashMap<String, String>();
+                texts.put("text", option.getOptionText());
+                texts.put("explanation", option.getOptionExplanation());
+                options.put(option.getId().toString(), texts);
+            }
+            params.add(new Object[]{
+                    quizId.getValue(),
+                    question.getId().getValue(),
+                    userId.getValue(),
+                    position++,
+                    question.getQuestion(),
+                    question.getContentEntrySourceUrl(),
+                    Utils.toJson(options)});
+        }
+
+        jdbcTemplate.batchUpdate("INSERT INTO " + table +
+                " (quiz_id, question_id, user_id, position, question, source_url, options) " +
+                "VALUES (?, ?, ?, ?, ?, ?, CAST(? AS jsonb)) ON CONFLICT DO NOTHING", params);
+    }
+
+    @Override
+    public void answerMarked(QuizId quizId, QuizQuestionResponse response) {
+        var optionId = response.getQuizQuestionOption().toString();
+        jdbcTemplate.update("UPDATE " + ProjectionTableRouting.resolve(TABLE) + " SET " +
+                        "is_correct = ?, " +
+                        "answer = options -> ? ->> 'text', " +
+                        "explanation = options -> ? ->> 'explanation', " +
+                        "correct_answer = ? " +
+                        "WHERE quiz_id = ? AND question_id = ? AND is_correct IS NULL",
+                Boolean.TRUE.equals(response.getIsCorrect()), optionId, optionId, response.getCorrectAnswer(),
+                quizId.getValue(), response.getQuizQuestion().getValue());
+    }
+
+    @Override
+    public void deleteByQuizId(QuizId quizId) {
+        jdbcTemplate.update("DELETE FROM " + ProjectionTableRouting.resolve(TABLE) + " WHERE quiz_id = ?",
+                quizId.getValue());
+    }
+}
@@ -1,28 +1,47 @@
 package ai.snippetquiz.core_service.quiz.adapter.out.repository;
 
 import ai.snippetquiz.core_service.quiz.adapter.out.mapper.QuizProjectionMapper;
-import ai.snippetquiz.core_service.quiz.adapter.out.entities.QuizProjectionEntity;
 import ai.snippetquiz.core_service.quiz.domain.model.QuizProjection;
 import ai.snippetquiz.core_service.quiz.domain.model.QuizStatus;
 import ai.snippetquiz.core_service.quiz.domain.port.repository.QuizProjectionRepository;
 import ai.snippetquiz.core_service.quiz.domain.valueobject.QuizId;
+import ai.snippetquiz.core_service.shared.adapter.out.repository.ProjectionTableRouting;
+import ai.snippetquiz.core_service.shared.domain.Utils;
+import ai.snippetquiz.core_service.shared.domain.bus.query.KeysetCursor;
 import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
 import java.util.stream.Collectors;
 
 @Component
 @Slf4j
 @RequiredArgsConstructor
 public class JpaQuizProjectionProjectionRepositoryAdapter implements QuizProjectionRepository {
+    private static final String TABLE = "quiz__projection";
+    private static final Set<String> JSON_COLUMNS = Set.of("topics", "questions", "responses");
+    private static final String APPENDED_QUESTIONS = """
+            COALESCE(p.questions, '[]'::jsonb) || (
+                SELECT COALESCE(jsonb_agg(question), '[]'::jsonb)
+                FROM jsonb_array_elements_text(EXCLUDED.questions) AS question
+                WHERE NOT jsonb_exists(COALESCE(p.questions, '[]'::jsonb), question))""";
+
     private final JpaQuizProjectionRepository jpaQuizProjectionRepository;
     private final QuizProjectionMapper quizMapper;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public List<QuizProjection> findAllByUserIdAndStatus(UserId userId, QuizStatus status) {
@@ -32,12 +51,40 @@ public class JpaQuizProjectionProjectionRepositoryAdapter implements QuizProject
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public Optional<QuizProjection> findFirstByUserIdAndStatus(UserId userId, QuizStatus status) {
+        return jpaQuizProjectionRepository.findFirstByUserIdAndStatus(userId.getValue(), status)
+                .map(quizMapper::toDomain);
+    }
+
+    @Override
+    public List<QuizProjection> findByStatusAndQuestionUpdatedAtBefore(QuizStatus status,
+            LocalDateTime updatedBefore, int limit) {
+        return jpaQuizProjectionRepository.findByStatusAndQuestionUpdatedAtBeforeOrderByQuestionUpdatedAt(
+                        status, updatedBefore, Limit.of(limit))
+                .stream()
+                .map(quizMapper::toDomain)
+                .toList();
+    }
+
     @Override
     public Page<QuizProjection> findByUserIdOrderByCreatedAtDesc(UserId userId, Pageable pageable) {
         return jpaQuizProjectionRepository.findByUserIdOrderByCreatedAtDesc(userId.getValue(), pageable)
                 .map(quizMapper::toDomain);
     }
 
+    @Override
+    public List<QuizProjection> findByUserIdAfter(UserId userId, KeysetCursor after, int limit) {
+        var quizzes = after == null
+                ? jpaQuizProjectionRepository.findByUserIdOrderByCreatedAtDescIdDesc(
+                        userId.getValue(), Limit.of(limit))
+                : jpaQuizProjectionRepository.findByUserIdAfter(
+                        userId.getValue(), after.createdAt(), after.id(), Limit.of(limit));
+        return quizzes.stream()
+                .map(quizMapper::toDomain)
+                .toList();
+    }
+
     @Override
     public void deleteById(QuizId quizId) {
         jpaQuizProjectionRepository.deleteById(quizId.getValue());
@@ -50,51 +97,117 @@ public class JpaQuizProjectionProjectionRepositoryAdapter implements QuizProject
 
     @Override
     public void upsert(QuizProjection quizProjection) {
-        UUID id = quizProjection.getId().getValue();
-        QuizProjectionEntity entity = jpaQuizProjectionRepository.findById(id)
-                .orElseGet(() -> {
-                    var e = new QuizProjectionEntity();
-                    e.setId(id);
-                    return e;
-                });
+        write(columns(quizProjection), Map.of(), null);
+    }
 
+    @Override
+    public void appendQuestions(QuizProjection quizProjection) {
+        var columns = columns(quizProjection);
+        var questions = quizProjection.getQuestions() != null ? quizProjection.getQuestions() : Set.<String>of();
+        columns.put("questions", Utils.toJson(questions));
+        columns.put("questions_count", questions.size());
+
+        write(columns, Map.of(
+                "questions", APPENDED_QUESTIONS,
+                "questions_count", "jsonb_array_length(" + APPENDED_QUESTIONS + ")"), null);
+    }
+
+    @Override
+    public void appendResponse(QuizId quizId, UserId userId, String questionId, boolean correct,
+            LocalDateTime completedAt) {
+        var columns = new LinkedHashMap<String, Object>();
+        columns.put("id", quizId.getValue());
+        columns.put("user_id", userId.getValue());
+        columns.put("responses", Utils.toJson(List.of(questionId)));
+        columns.put("questions_completed", 1);
+        columns.put("correct_count", correct ? 1 : 0);
+        if (completedAt != null) {
+            columns.put("completed_at", completedAt);
+        }
+
+        write(columns, Map.of(
+                        "user_id", "p.user_id",
+                        "responses", "COALESCE(p.responses, '[]'::jsonb) || EXCLUDED.responses",
+                        "questions_completed", "jsonb_array_length(COALESCE(p.responses, '[]'::jsonb)) + 1",
+                        "correct_count", "p.correct_count + EXCLUDED.correct_count",
+                        "completed_at", "COALESCE(p.completed_at, EXCLUDED.completed_at)"),
+                "NOT jsonb_exists(COALESCE(p.responses, '[]'::jsonb), EXCLUDED.responses ->> 0)");
+    }
+
+    /**
+     * Only the fields that are set take part in the statement; on insert the others keep their column
+     * defaults and on conflict they keep their stored values.
+     */
+    private LinkedHashMap<String, Object> columns(QuizProjection quizProjection) {
+        var columns = new LinkedHashMap<String, Object>();
+        columns.put("id", quizProjection.getId().getValue());
         if (quizProjection.getUserId() != null) {
-            entity.setUserId(quizProjection.getUserId().getValue());
+            columns.put("user_id", quizProjection.getUserId().getValue());
         }
         if (quizProjection.getContentBankId() != null) {
-            entity.setContentBankId(quizProjection.getContentBankId().getValue());
+            columns.put("content_bank_id", quizProjection.getContentBankId().getValue());
         }
         if (quizProjection.getBankName() != null) {
-            entity.setBankName(quizProjection.getBankName());
+            columns.put("bank_name", quizProjection.getBankName());
         }
         if (quizProjection.getStatus() != null) {
-            entity.setStatus(quizProjection.getStatus());
+            columns.put("status", quizProjection.getStatus().name());
         }
         if (quizProjection.getCreatedAt() != null) {
-            entity.setCreatedAt(quizProjection.getCreatedAt());
+            columns.put("created_at", quizProjection.getCreatedAt());
         }
         if (quizProjection.getContentEntriesCount() != null) {
-            entity.setContentEntriesCount(quizProjection.getContentEntriesCount());
+            columns.put("content_entries_count", quizProjection.getContentEntriesCount());
         }
         if (quizProjection.getQuestionsCount() != null) {
-            entity.setQuestionsCount(quizProjection.getQuestionsCount());
+            columns.put("questions_count", quizProjection.getQuestionsCount());
         }
         if (quizProjection.getQuestionsCompleted() != null) {
-            entity.setQuestionsCompleted(quizProjection.getQuestionsCompleted());
+            columns.put("questions_completed", quizProjection.getQuestionsCompleted());
+        }
+        if (quizProjection.getCorrectCount() != null) {
+            columns.put("correct_count", quizProjection.getCorrectCount());
+        }
+        if (quizProjection.getCompletedAt() != null) {
+            columns.put("completed_at", quizProjection.getCompletedAt());
         }
         if (quizProjection.getQuestionUpdatedAt() != null) {
-            entity.setQuestionUpdatedAt(quizProjection.getQuestionUpdatedAt());
+            columns.put("question_updated_at", quizProjection.getQuestionUpdatedAt());
         }
         if (quizProjection.getTopics() != null) {
-            entity.setTopics(quizProjection.getTopics());
+            columns.put("topics", Utils.toJson(quizProjection.getTopics()));
         }
         if (quizProjection.getQuestions() != null) {
-            entity.setQuestions(quizProjection.getQuestions());
+            columns.put("questions", Utils.toJson(quizProjection.getQuestions()));
         }
         if (quizProjection.getResponses() != null) {
-            entity.setResponses(quizProjection.getResponses());
+            columns.put("responses", Utils.toJson(quizProjection.getResponses()));
+        }
+        return columns;
+    }
+
+    private void write(LinkedHashMap<String, Object> columns, Map<String, String> updates, String condition) {
+        // created_at has no column default, rows first seen through a later event are stamped on insert
+        // and keep their stored value on conflict
+        if (!columns.containsKey("created_at")) {
+            columns.put("created_at", LocalDateTime.now());
+            updates = new HashMap<>(updates);
+            updates.put("created_at", "p.created_at");
+        }
+
+        var placeholders = new StringJoiner(", ");
+        var assignments = new StringJoiner(", ");
+        for (var column : columns.keySet()) {
+            placeholders.add(JSON_COLUMNS.contains(column) ? "CAST(? AS jsonb)" : "?");
+            if (!column.equals("id")) {
+                assignments.add(column + " = " + updates.getOrDefault(column, "EXCLUDED." + column));
+            }
         }
 
-        jpaQuizProjectionRepository.save(entity);
+        var sql = "INSERT INTO " + ProjectionTableRouting.resolve(TABLE) + " AS p (" +
+                String.join(", ", columns.keySet()) + ") VALUES (" + placeholders + ") " +
+                "ON CONFLICT (id) DO UPDATE SET " + assignments +
+                (condition != null ? " WHERE " + condition : "");
+        jdbcTemplate.update(sql, columns.values().toArray());
     }
-}
\ No newline at end of file
+}
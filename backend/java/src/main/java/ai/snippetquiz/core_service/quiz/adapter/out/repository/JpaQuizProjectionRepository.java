@@ -2,17 +2,39 @@ package ai.snippetquiz.core_service.quiz.adapter.out.repository;
 
 import ai.snippetquiz.core_service.quiz.adapter.out.entities.QuizProjectionEntity;
 import ai.snippetquiz.core_service.quiz.domain.model.QuizStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface JpaQuizProjectionRepository extends JpaRepository<QuizProjectionEntity, UUID> {
     List<QuizProjectionEntity> findAllByUserIdAndStatus(UUID userId, QuizStatus status);
+
+    Optional<QuizProjectionEntity> findFirstByUserIdAndStatus(UUID userId, QuizStatus status);
+
+    List<QuizProjectionEntity> findByStatusAndQuestionUpdatedAtBeforeOrderByQuestionUpdatedAt(
+            QuizStatus status, LocalDateTime updatedBefore, Limit limit);
     
     Page<QuizProjectionEntity> findByUserIdOrderByCreatedAtDesc(UUID userId, Pageable pageable);
+
+    List<QuizProjectionEntity> findByUserIdOrderByCreatedAtDescIdDesc(UUID userId, Limit limit);
+
+    // the created_at bound on its own lets the (user_id, created_at, id) index seek to the cursor
+    @Query("SELECT q FROM QuizProjectionEntity q WHERE q.userId = :userId " +
+            "AND q.createdAt <= :createdAt AND (q.createdAt < :createdAt OR q.id < :id) " +
+            "ORDER BY q.createdAt DESC, q.id DESC")
+    List<QuizProjectionEntity> findByUserIdAfter(
+            @Param("userId") UUID userId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") UUID id,
+            Limit limit);
 }
\ No newline at end of file
@@ -1,19 +1,21 @@
 package ai.snippetquiz.core_service.quiz.application.consumer;
 
+import ai.snippetquiz.core_service.contentbank.domain.model.ContentEntry;
 import ai.snippetquiz.core_service.contentbank.domain.port.ContentEntryRepository;
 import ai.snippetquiz.core_service.contentbank.domain.valueobject.ContentEntryId;
 import ai.snippetquiz.core_service.question.application.QuestionService;
 import ai.snippetquiz.core_service.question.application.dto.CreateQuestionRequest;
 import ai.snippetquiz.core_service.question.application.dto.QuestionOptionRequest;
+import ai.snippetquiz.core_service.question.domain.Question;
 import ai.snippetquiz.core_service.quiz.application.service.QuizService;
 import ai.snippetquiz.core_service.quiz.domain.events.AIQuestionGeneratedEvent;
 import ai.snippetquiz.core_service.quiz.domain.events.QuizProgressEphemeralEvent;
 import ai.snippetquiz.core_service.quiz.domain.model.Quiz;
 import ai.snippetquiz.core_service.quiz.domain.model.QuizStatus;
 import ai.snippetquiz.core_service.quiz.domain.valueobject.QuizId;
+import ai.snippetquiz.core_service.shared.domain.bus.event.BatchIntegrationEventSubscriber;
 import ai.snippetquiz.core_service.shared.domain.bus.event.EventBus;
 import ai.snippetquiz.core_service.shared.domain.bus.event.IntegrationEvent;
-import ai.snippetquiz.core_service.shared.domain.bus.event.IntegrationEventSubscriber;
 import ai.snippetquiz.core_service.shared.domain.bus.event.IntegrationEventSubscriberFor;
 import ai.snippetquiz.core_service.shared.domain.service.EventSourcingHandler;
 import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
@@ -22,14 +24,17 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 @IntegrationEventSubscriberFor({ AIQuestionGeneratedEvent.class })
-public class AIQuestionGeneratedHandler implements IntegrationEventSubscriber {
+public class AIQuestionGeneratedHandler implements BatchIntegrationEventSubscriber {
 
     private final EventSourcingHandler<Quiz, QuizId> quizEventSourcingHandler;
     private final QuizService quizService;
@@ -37,17 +42,30 @@ public class AIQuestionGeneratedHandler implements IntegrationEventSubscriber {
     private final QuestionService questionService;
     private final EventBus eventBus;
 
+    /**
+     * Handles the generated chunks of one quiz delivered together: the quiz is loaded and its questions merged
+     * and saved once for the batch. Chunks after the one completing the quiz are ignored, as they would be
+     * one by one, and a chunk that fails is skipped without taking the rest of the batch with it.
+     */
     @Override
-    public void on(IntegrationEvent event) {
-        if (!(event instanceof AIQuestionGeneratedEvent e)) {
-            log.warn("Received unexpected integration event type: {}", event.getClass().getName());
+    public void onBatch(List<IntegrationEvent> events) {
+        var chunks = new ArrayList<AIQuestionGeneratedEvent>(events.size());
+        for (var event : events) {
+            if (event instanceof AIQuestionGeneratedEvent e) {
+                chunks.add(e);
+            } else {
+                log.warn("Received unexpected integration event type: {}", event.getClass().getName());
+            }
+        }
+        if (chunks.isEmpty()) {
             return;
         }
-        log.info("Received AiQuestionGeneratedHandler: {}", e.getAggregateId());
+        var first = chunks.getFirst();
+        log.info("Received AiQuestionGeneratedHandler: {}, chunks {}", first.getAggregateId(), chunks.size());
 
         try {
-            UUID userUuid = event.getUserId();
-            UUID quizUuid = event.getAggregateId();
+            UUID userUuid = first.getUserId();
+            UUID quizUuid = first.getAggregateId();
             var userId = new UserId(userUuid);
             var quizId = new QuizId(quizUuid);
 
@@ -60,74 +78,99 @@ public class AIQuestionGeneratedHandler implements IntegrationEventSubscriber {
                 return;
             }
 
-            if (e.getTotalChunks() != null && e.getTotalChunks() != 0 && e.getContentEntry() != null) {
-                var contentEntryId = e.getContentEntry().getId();
-                var contentEntry = contentEntryRepository
-                        .findByIdAndUserId(ContentEntryId.map(contentEntryId), userId)
-                        .orElseThrow(() -> new NotFoundException("Content entry not found or access denied"));
-
-                var questions = e.getContentEntry().getQuestions();
-                for (int questionIndexInChunk = 0; questionIndexInChunk < questions.size(); questionIndexInChunk++) {
-                    var question = questions.get(questionIndexInChunk);
-
-                    var options = question.getOptions().stream()
-                            .map(option -> new QuestionOptionRequest(
-                                    option.getOptionText(),
-                                    option.getOptionExplanation(),
-                                    option.getIsCorrect()))
-                            .toList();
-
-                    var questionRequest = new CreateQuestionRequest(
-                            contentEntryId,
-                            question.getQuestion(),
-                            questionIndexInChunk,
-                            e.getCurrentChunkIndex(),
-                            options);
-
-                    questionService.createQuestion(questionRequest, userUuid);
+            var contentEntries = new LinkedHashMap<String, ContentEntry>();
+            var createdQuestions = new ArrayList<Question>();
+            var progressEvents = new ArrayList<QuizProgressEphemeralEvent>(chunks.size());
+            var status = QuizStatus.IN_PROGRESS;
+            for (var e : chunks) {
+                if (QuizStatus.READY.equals(status)) {
+                    log.warn("Quiz {} is not in progress", quizUuid);
+                    break;
                 }
 
-                if (Boolean.FALSE.equals(contentEntry.getQuestionsGenerated()) && questions.size() > 0) {
-                    contentEntry.questionsGenerated();
+                if (e.getTotalChunks() != null && e.getTotalChunks() != 0 && e.getContentEntry() != null) {
+                    try {
+                        addQuestions(e, userId, contentEntries, createdQuestions);
+                    } catch (Exception ex) {
+                        log.error("Skipped chunk {} of content entry {} for quiz {}", e.getCurrentChunkIndex(),
+                                e.getContentEntry().getId(), quizUuid, ex);
+                        continue;
+                    }
+
+                    log.info("Quiz - {} Content entry {} updated. Progress: {}/{}",
+                            quizUuid, e.getContentEntry().getId(), e.getCurrentChunkIndex() + 1, e.getTotalChunks());
                 }
 
-                contentEntryRepository.save(contentEntry);
-                eventBus.publish(contentEntry.aggregateType(), contentEntry.drainDomainEvents());
+                if ((e.getCurrentChunkIndex() != null && e.getTotalChunks() != null
+                        && (e.getCurrentChunkIndex() + 1 == e.getTotalChunks()))
+                        || e.getContentEntry() == null) {
+                    log.info("All content entries processed. Creating quiz for bankId: {}", e.getBankId());
+                    status = QuizStatus.READY;
+                }
 
-                log.info("Quiz - {} Content entry {} updated. Progress: {}/{}",
-                        quizUuid, contentEntryId, e.getCurrentChunkIndex() + 1, e.getTotalChunks());
+                progressEvents.add(new QuizProgressEphemeralEvent(
+                        quizUuid,
+                        userUuid,
+                        e.getBankId(),
+                        e.getTotalContentEntries(),
+                        e.getTotalContentEntriesSkipped(),
+                        e.getCurrentContentEntryIndex(),
+                        e.getQuestionsGeneratedSoFar(),
+                        e.getContentEntry(),
+                        e.getTotalChunks(),
+                        e.getCurrentChunkIndex()));
             }
 
-            QuizStatus status;
-            if ((e.getCurrentChunkIndex() != null && e.getTotalChunks() != null
-                    && (e.getCurrentChunkIndex() + 1 == e.getTotalChunks()))
-                    || e.getContentEntry() == null) {
-                log.info("All content entries processed. Creating quiz for bankId: {}", e.getBankId());
-                status = QuizStatus.READY;
-            } else {
-                status = QuizStatus.IN_PROGRESS;
+            for (var contentEntry : contentEntries.values()) {
+                contentEntryRepository.save(contentEntry);
+                eventBus.publish(contentEntry.aggregateType(), contentEntry.drainDomainEvents());
             }
 
-            quizService.processNewQuizQuestions(quiz, status);
+            quizService.processNewQuizQuestions(quiz, status, contentEntries.values(), createdQuestions);
 
-            var quizProgressEphemeralEvent = new QuizProgressEphemeralEvent(
-                    quizUuid,
-                    userUuid,
-                    e.getBankId(),
-                    e.getTotalContentEntries(),
-                    e.getTotalContentEntriesSkipped(),
-                    e.getCurrentContentEntryIndex(),
-                    e.getQuestionsGeneratedSoFar(),
-                    e.getContentEntry(),
-                    e.getTotalChunks(),
-                    e.getCurrentChunkIndex());
-
-            eventBus.publish(QuizProgressEphemeralEvent.eventName(), List.of(quizProgressEphemeralEvent));
+            eventBus.publish(QuizProgressEphemeralEvent.eventName(), progressEvents);
 
             log.info("Quiz created successfully Quiz ID: {}", quizUuid);
         } catch (Exception ex) {
-            log.error("Failed to handle integration event for quiz: {}", event.getAggregateId(), ex);
+            log.error("Failed to handle integration events for quiz: {}", first.getAggregateId(), ex);
             throw ex;
         }
     }
-}
\ No newline at end of file
+
+    private void addQuestions(AIQuestionGeneratedEvent e, UserId userId, Map<String, ContentEntry> contentEntries,
+            List<Question> createdQuestions) {
+        var contentEntryId = e.getContentEntry().getId();
+        var contentEntry = contentEntries.get(contentEntryId);
+        if (contentEntry == null) {
+            contentEntry = contentEntryRepository
+                    .findByIdAndUserId(ContentEntryId.map(contentEntryId), userId)
+                    .orElseThrow(() -> new NotFoundException("Content entry not found or access denied"));
+            contentEntries.put(contentEntryId, contentEntry);
+        }
+
+        var questions = e.getContentEntry().getQuestions();
+        var questionRequests = new ArrayList<CreateQuestionRequest>(questions.size());
+        for (int questionIndexInChunk = 0; questionIndexInChunk < questions.size(); questionIndexInChunk++) {
+            var question = questions.get(questionIndexInChunk);
+
+            var options = question.getOptions().stream()
+                    .map(option -> new QuestionOptionRequest(
+                            option.getOptionText(),
+                            option.getOptionExplanation(),
+                            option.getIsCorrect()))
+                    .toList();
+
+            questionRequests.add(new CreateQuestionRequest(
+                    contentEntryId,
+                    question.getQuestion(),
+                    questionIndexInChunk,
+                    e.getCurrentChunkIndex(),
+                    options));
+        }
+        createdQuestions.addAll(questionService.createQuestions(questionRequests));
+
+        if (Boolean.FALSE.equals(contentEntry.getQuestionsGenerated()) && questions.size() > 0) {
+            contentEntry.questionsGenerated();
+        }
+    }
+}
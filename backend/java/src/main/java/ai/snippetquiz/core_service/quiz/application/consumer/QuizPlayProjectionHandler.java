@@ -0,0 +1,65 @@
+package ai.snippetquiz.core_service.quiz.application.consumer;
+
+import ai.snippetquiz.core_service.quiz.domain.events.QuizAnswerMarkedDomainEvent;
+import ai.snippetquiz.core_service.quiz.domain.events.QuizCreatedDomainEvent;
+import ai.snippetquiz.core_service.quiz.domain.events.QuizDeletedDomainEvent;
+import ai.snippetquiz.core_service.quiz.domain.events.QuizQuestionsAddedDomainEvent;
+import ai.snippetquiz.core_service.quiz.domain.events.QuizStatusUpdatedDomainEvent;
+import ai.snippetquiz.core_service.quiz.domain.model.Quiz;
+import ai.snippetquiz.core_service.quiz.domain.model.QuizPlayProjection;
+import ai.snippetquiz.core_service.quiz.domain.port.repository.QuizPlayProjectionRepository;
+import ai.snippetquiz.core_service.quiz.domain.valueobject.QuizId;
+import ai.snippetquiz.core_service.shared.domain.bus.event.AggregateEventSubscriberFor;
+import ai.snippetquiz.core_service.shared.domain.bus.event.DomainEvent;
+import ai.snippetquiz.core_service.shared.domain.bus.event.ProjectionSubscriber;
+import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@AggregateEventSubscriberFor(Quiz.class)
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class QuizPlayProjectionHandler implements ProjectionSubscriber {
+    private final QuizPlayProjectionRepository quizPlayProjectionRepository;
+
+    @Override
+    public String projectionTable() {
+        return "quiz_play__projection";
+    }
+
+    @Override
+    public void on(DomainEvent event) {
+        log.info("Received QuizPlayProjectionHandler: {}, eventId {}", event.getAggregateId(), event.getEventId());
+
+        var quizId = new QuizId(event.getAggregateId());
+        var userId = new UserId(event.getUserId());
+        var quizPlayBuilder = QuizPlayProjection.builder().id(quizId).userId(userId).version(event.getVersion());
+        switch (event) {
+            case QuizDeletedDomainEvent deleted -> quizPlayProjectionRepository.deleteById(quizId);
+            case QuizCreatedDomainEvent created -> quizPlayProjectionRepository.upsert(quizPlayBuilder
+                    .bankName(created.getBankName())
+                    .status(created.getStatus())
+                    .createdAt(created.getCreatedAt())
+                    .build());
+            case QuizStatusUpdatedDomainEvent statusUpdated -> quizPlayProjectionRepository.upsert(quizPlayBuilder
+                    .status(statusUpdated.getStatus())
+                    .build());
+            case QuizQuestionsAddedDomainEvent questionsAdded -> quizPlayProjectionRepository.appendQuestions(
+                    quizPlayBuilder.topics(questionsAdded.getQuizTopics())
+                            .status(questionsAdded.getStatus())
+                            .questionUpdatedAt(questionsAdded.getUpdatedAt())
+                            .contentEntriesCount(questionsAdded.getContentEntriesCount().getValue())
+                            .build(),
+                    questionsAdded.getQuizQuestions());
+            case QuizAnswerMarkedDomainEvent answerMarked -> quizPlayProjectionRepository.answerMarked(
+                    quizId,
+                    userId,
+                    answerMarked.getVersion(),
+                    Boolean.TRUE.equals(answerMarked.getQuizQuestionResponse().getIsCorrect()),
+                    answerMarked.isAllQuestionsMarked());
+            default -> log.warn("Unhandled event: {}", event);
+        }
+    }
+}
@@ -10,69 +10,65 @@ import ai.snippetquiz.core_service.quiz.domain.model.Quiz;
 import ai.snippetquiz.core_service.quiz.domain.model.QuizProjection;
 import ai.snippetquiz.core_service.quiz.domain.port.repository.QuizProjectionRepository;
 import ai.snippetquiz.core_service.quiz.domain.valueobject.QuizId;
-import ai.snippetquiz.core_service.shared.domain.bus.event.AggregateEventSubscriber;
+import ai.snippetquiz.core_service.shared.domain.Utils;
 import ai.snippetquiz.core_service.shared.domain.bus.event.AggregateEventSubscriberFor;
 import ai.snippetquiz.core_service.shared.domain.bus.event.DomainEvent;
+import ai.snippetquiz.core_service.shared.domain.bus.event.ProjectionSubscriber;
 import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.HashSet;
+import java.util.stream.Collectors;
 
 @AggregateEventSubscriberFor(Quiz.class)
 @Service
 @Slf4j
 @RequiredArgsConstructor
-public class QuizProjectionHandler implements AggregateEventSubscriber {
+public class QuizProjectionHandler implements ProjectionSubscriber {
     private final QuizProjectionRepository quizProjectionRepository;
 
+    @Override
+    public String projectionTable() {
+        return "quiz__projection";
+    }
+
     @Override
     public void on(DomainEvent event) {
         log.info("Received QuizProjectionHandler: {}, eventId {}", event.getAggregateId(), event.getEventId());
 
         var quizId = new QuizId(event.getAggregateId());
         var userId = new UserId(event.getUserId());
-        if (event instanceof QuizDeletedDomainEvent) {
-            quizProjectionRepository.deleteById(quizId);
-            return;
-        }
         var quizProjectionBuilder = QuizProjection.builder().id(quizId).userId(userId);
         switch (event) {
-            case QuizCreatedDomainEvent created -> quizProjectionBuilder
+            case QuizDeletedDomainEvent deleted -> quizProjectionRepository.deleteById(quizId);
+            case QuizCreatedDomainEvent created -> quizProjectionRepository.upsert(quizProjectionBuilder
                     .contentBankId(ContentBankId.map(created.getContentBankId()))
                     .bankName(created.getBankName())
                     .status(created.getStatus())
                     .createdAt(created.getCreatedAt())
                     .questions(new HashSet<>())
                     .responses(new HashSet<>())
-                    .build();
-            case QuizStatusUpdatedDomainEvent statusUpdated -> quizProjectionBuilder.status(statusUpdated.getStatus());
-            case QuizQuestionsAddedDomainEvent questionsAdded -> {
-                var currentProjection = quizProjectionRepository.findById(quizId);
-                var questions = currentProjection != null ? currentProjection.getQuestions() : new HashSet<String>();
-                questions.addAll(questionsAdded.getQuizQuestions()
-                                .stream()
-                                .map(question -> question.getId().toString()).toList()
-                        );
-
-                quizProjectionBuilder.topics(questionsAdded.getQuizTopics())
-                        .status(questionsAdded.getStatus())
-                        .questionUpdatedAt(questionsAdded.getUpdatedAt())
-                        .contentEntriesCount(questionsAdded.getContentEntriesCount().getValue())
-                        .questions(questions)
-                        .questionsCount(questions.size());
-            }
-            case QuizAnswerMarkedDomainEvent answerMarked -> {
-                var currentProjection = quizProjectionRepository.findById(quizId);
-                var responses = currentProjection != null ? currentProjection.getResponses() : new HashSet<String>();
-                responses.add(answerMarked.getQuizQuestionResponse().getQuizQuestion().toString());
-
-                quizProjectionBuilder.responses(responses)
-                        .questionsCompleted(responses.size());
-            }
+                    .build());
+            case QuizStatusUpdatedDomainEvent statusUpdated -> quizProjectionRepository.upsert(quizProjectionBuilder
+                    .status(statusUpdated.getStatus())
+                    .build());
+            case QuizQuestionsAddedDomainEvent questionsAdded -> quizProjectionRepository.appendQuestions(
+                    quizProjectionBuilder.topics(questionsAdded.getQuizTopics())
+                            .status(questionsAdded.getStatus())
+                            .questionUpdatedAt(questionsAdded.getUpdatedAt())
+                            .contentEntriesCount(questionsAdded.getContentEntriesCount().getValue())
+                            .questions(questionsAdded.getQuizQuestions()
+                                    .stream()
+                                    .map(question -> question.getId().toString())
+                                    .collect(Collectors.toSet()))
+                            .build());
+            case QuizAnswerMarkedDomainEvent answerMarked -> quizProjectionRepository.appendResponse(quizId, userId,
+                    answerMarked.getQuizQuestionResponse().getQuizQuestion().toString(),
+                    Boolean.TRUE.equals(answerMarked.getQuizQuestionResponse().getIsCorrect()),
+                    answerMarked.isAllQuestionsMarked() ? Utils.stringToDate(answerMarked.getOccurredOn()) : null);
             default -> log.warn("Unhandled event: {}", event);
         }
-        quizProjectionRepository.upsert(quizProjectionBuilder.build());
     }
 }
\ No newline at end of file
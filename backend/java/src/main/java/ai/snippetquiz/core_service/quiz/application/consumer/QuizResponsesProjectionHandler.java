@@ -0,0 +1,44 @@
+package ai.snippetquiz.core_service.quiz.application.consumer;
+
+import ai.snippetquiz.core_service.quiz.domain.events.QuizAnswerMarkedDomainEvent;
+import ai.snippetquiz.core_service.quiz.domain.events.QuizDeletedDomainEvent;
+import ai.snippetquiz.core_service.quiz.domain.events.QuizQuestionsAddedDomainEvent;
+import ai.snippetquiz.core_service.quiz.domain.model.Quiz;
+import ai.snippetquiz.core_service.quiz.domain.port.repository.QuizResponsesProjectionRepository;
+import ai.snippetquiz.core_service.quiz.domain.valueobject.QuizId;
+import ai.snippetquiz.core_service.shared.domain.bus.event.AggregateEventSubscriberFor;
+import ai.snippetquiz.core_service.shared.domain.bus.event.DomainEvent;
+import ai.snippetquiz.core_service.shared.domain.bus.event.ProjectionSubscriber;
+import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@AggregateEventSubscriberFor(Quiz.class)
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class QuizResponsesProjectionHandler implements ProjectionSubscriber {
+    private final QuizResponsesProjectionRepository quizResponsesProjectionRepository;
+
+    @Override
+    public String projectionTable() {
+        return "quiz_responses__projection";
+    }
+
+    @Override
+    public void on(DomainEvent event) {
+        log.info("Received QuizResponsesProjectionHandler: {}, eventId {}", event.getAggregateId(), event.getEventId());
+
+        var quizId = new QuizId(event.getAggregateId());
+        switch (event) {
+            case QuizDeletedDomainEvent deleted -> quizResponsesProjectionRepository.deleteByQuizId(quizId);
+            case QuizQuestionsAddedDomainEvent questionsAdded -> quizResponsesProjectionRepository.addQuestions(
+                    quizId, new UserId(event.getUserId()), questionsAdded.getQuizQuestions());
+            case QuizAnswerMarkedDomainEvent answerMarked -> quizResponsesProjectionRepository.answerMarked(
+                    quizId, answerMarked.getQuizQuestionResponse());
+            // creation and status changes leave the answers as they are
+            default -> log.debug("Ignored event: {}", event);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package ai.snippetquiz.core_service.quiz.application.findall;
+
+import ai.snippetquiz.core_service.shared.domain.bus.query.KeysetCursor;
+import ai.snippetquiz.core_service.shared.domain.bus.query.Query;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import java.util.UUID;
+
+@AllArgsConstructor
+@Getter
+public class FindAllQuizzesAfterQuery implements Query {
+    private final UUID userId;
+    private final KeysetCursor after;
+    private final int size;
+}
@@ -0,0 +1,20 @@
+package ai.snippetquiz.core_service.quiz.application.findall;
+
+import org.springframework.stereotype.Service;
+import ai.snippetquiz.core_service.quiz.application.response.QuizResponse;
+import ai.snippetquiz.core_service.quiz.application.service.QuizService;
+import ai.snippetquiz.core_service.shared.domain.bus.query.QueryHandler;
+import ai.snippetquiz.core_service.shared.domain.bus.query.SliceResponse;
+import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Service
+public class FindAllQuizzesAfterQueryHandler implements QueryHandler<FindAllQuizzesAfterQuery, SliceResponse<QuizResponse>> {
+    private final QuizService quizService;
+
+    @Override
+    public SliceResponse<QuizResponse> handle(FindAllQuizzesAfterQuery query) {
+        return quizService.findAllAfter(new UserId(query.getUserId()), query.getAfter(), query.getSize());
+    }
+}
@@ -11,5 +11,7 @@ public record QuizResponse(
     Integer questionsCompleted,
     String status,
     Integer contentEntriesCount,
-    List<String> topics
+    List<String> topics,
+    Integer correctCount,
+    LocalDateTime completedAt
 ) {}
\ No newline at end of file
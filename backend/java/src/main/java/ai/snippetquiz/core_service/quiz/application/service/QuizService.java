@@ -1,6 +1,8 @@
 package ai.snippetquiz.core_service.quiz.application.service;
 
+import ai.snippetquiz.core_service.contentbank.domain.model.ContentEntry;
 import ai.snippetquiz.core_service.contentbank.domain.valueobject.ContentBankId;
+import ai.snippetquiz.core_service.question.domain.Question;
 import ai.snippetquiz.core_service.quiz.application.response.CheckQuizInProgressResponse;
 import ai.snippetquiz.core_service.quiz.application.response.FindOneQuizResponse;
 import ai.snippetquiz.core_service.quiz.application.response.QuizResponse;
@@ -14,11 +16,19 @@ import ai.snippetquiz.core_service.quiz.domain.valueobject.QuizQuestionOptionId;
 import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
 
 import org.springframework.data.domain.Pageable;
+import ai.snippetquiz.core_service.shared.domain.bus.query.KeysetCursor;
 import ai.snippetquiz.core_service.shared.domain.bus.query.PagedModelResponse;
+import ai.snippetquiz.core_service.shared.domain.bus.query.SliceResponse;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 public interface QuizService {
     PagedModelResponse<QuizResponse> findAll(UserId userId, Pageable pageable);
 
+    SliceResponse<QuizResponse> findAllAfter(UserId userId, KeysetCursor after, int size);
+
     FindOneQuizResponse findOne(UserId userId, QuizId quizId);
 
     PagedModelResponse<QuizResponseItemDto> findQuizResponses(UserId userId, QuizId quizId, Pageable pageable);
@@ -27,12 +37,25 @@ public interface QuizService {
 
     CheckQuizInProgressResponse checkQuizInProgress(UserId userId);
 
+    /**
+     * Moves up to limit quizzes whose questions stopped arriving before the given time to READY_WITH_ERROR and
+     * returns how many were looked at.
+     */
+    int expireStaleQuizzes(LocalDateTime updatedBefore, int limit);
+
     void delete(UserId userId, QuizId quizId);
 
     void createQuiz(UserId userId, ContentBankId contentBankId, QuizId quizId);
 
     void processNewQuizQuestions(Quiz quiz, QuizStatus status);
 
+    /**
+     * Adds only the given newly generated questions to the quiz instead of diffing every question of the bank.
+     * The content entries are the ones the questions belong to.
+     */
+    void processNewQuizQuestions(Quiz quiz, QuizStatus status, Collection<ContentEntry> contentEntries,
+            List<Question> questions);
+
     UpdateQuizResponse updateQuiz(UserId userId, QuizId quizId, QuizQuestionOptionId optionSelectedId);
 
 }
\ No newline at end of file
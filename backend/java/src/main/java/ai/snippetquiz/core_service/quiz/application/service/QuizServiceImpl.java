@@ -8,6 +8,7 @@ import ai.snippetquiz.core_service.contentbank.domain.port.ContentEntryTopicRepo
 import ai.snippetquiz.core_service.contentbank.domain.valueobject.ContentBankId;
 import ai.snippetquiz.core_service.contentbank.domain.valueobject.ContentEntryId;
 import ai.snippetquiz.core_service.instruction.domain.port.QuizGenerationInstructionRepository;
+import ai.snippetquiz.core_service.question.domain.Question;
 import ai.snippetquiz.core_service.question.domain.port.QuestionRepository;
 import ai.snippetquiz.core_service.quiz.application.response.CheckQuizInProgressResponse;
 import ai.snippetquiz.core_service.quiz.application.response.FindOneQuizResponse;
@@ -20,15 +21,22 @@ import ai.snippetquiz.core_service.quiz.application.response.QuizResponseItemDto
 import ai.snippetquiz.core_service.quiz.application.response.QuizSummaryResponseDto;
 import ai.snippetquiz.core_service.quiz.application.response.UpdateQuizResponse;
 import ai.snippetquiz.core_service.quiz.domain.model.Quiz;
+import ai.snippetquiz.core_service.quiz.domain.model.QuizPlayProjection;
+import ai.snippetquiz.core_service.quiz.domain.model.QuizProjection;
 import ai.snippetquiz.core_service.quiz.domain.model.QuizQuestion;
 import ai.snippetquiz.core_service.quiz.domain.model.QuizQuestionOption;
 import ai.snippetquiz.core_service.quiz.domain.model.QuizQuestionResponse;
 import ai.snippetquiz.core_service.quiz.domain.model.QuizStatus;
+import ai.snippetquiz.core_service.quiz.domain.port.repository.QuizPlayProjectionRepository;
 import ai.snippetquiz.core_service.quiz.domain.port.repository.QuizProjectionRepository;
+import ai.snippetquiz.core_service.quiz.domain.port.repository.QuizResponsesProjectionRepository;
 import ai.snippetquiz.core_service.quiz.domain.valueobject.QuizId;
 import ai.snippetquiz.core_service.quiz.domain.valueobject.QuizQuestionOptionId;
 import ai.snippetquiz.core_service.shared.domain.ContentType;
+import ai.snippetquiz.core_service.shared.domain.bus.query.KeysetCursor;
 import ai.snippetquiz.core_service.shared.domain.bus.query.PagedModelResponse;
+import ai.snippetquiz.core_service.shared.domain.bus.query.SliceResponse;
+import ai.snippetquiz.core_service.shared.domain.exception.ConcurrencyException;
 import ai.snippetquiz.core_service.shared.domain.service.EventSourcingHandler;
 import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
 import ai.snippetquiz.core_service.shared.exception.ConflictException;
@@ -37,12 +45,17 @@ import ai.snippetquiz.core_service.topic.domain.Topic;
 import ai.snippetquiz.core_service.topic.domain.port.TopicRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -68,36 +81,49 @@ public class QuizServiceImpl implements QuizService {
         private final TopicRepository topicRepository;
         private final EventSourcingHandler<Quiz, QuizId> quizEventSourcingHandler;
         private final QuizProjectionRepository quizProjectionRepository;
-
-        private String getFinalStatus(QuizStatus quizStatus, LocalDateTime questionUpdatedAt) {
-                String finalStatus = quizStatus.getValue();
-                if (QuizStatus.IN_PROGRESS.getValue().equals(finalStatus) && questionUpdatedAt != null) {
-                        var thirtyMinutesAgo = LocalDateTime.now().minusMinutes(30);
-                        if (questionUpdatedAt.isBefore(thirtyMinutesAgo)) {
-                                finalStatus = QuizStatus.READY_WITH_ERROR.getValue();
-                        }
-                }
-                return finalStatus;
-        }
+        private final QuizPlayProjectionRepository quizPlayProjectionRepository;
+        private final QuizResponsesProjectionRepository quizResponsesProjectionRepository;
 
         @Transactional(readOnly = true)
         public PagedModelResponse<QuizResponse> findAll(UserId userId, Pageable pageable) {
                 var quizPage = quizProjectionRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable);
-                var quizResponses = quizPage.map(quiz -> new QuizResponse(
+                var quizResponses = quizPage.map(this::toQuizResponse);
+                return new PagedModelResponse<>(quizResponses);
+        }
+
+        @Transactional(readOnly = true)
+        public SliceResponse<QuizResponse> findAllAfter(UserId userId, KeysetCursor after, int size) {
+                var quizzes = quizProjectionRepository.findByUserIdAfter(userId, after, size + 1);
+                return SliceResponse.of(
+                                quizzes,
+                                size,
+                                quiz -> new KeysetCursor(quiz.getCreatedAt(), quiz.getId().getValue()),
+                                this::toQuizResponse);
+        }
+
+        private QuizResponse toQuizResponse(QuizProjection quiz) {
+                return new QuizResponse(
                                 quiz.getId().toString(),
                                 quiz.getBankName(),
                                 quiz.getCreatedAt(),
                                 quiz.getQuestionsCount(),
                                 quiz.getQuestionsCompleted(),
-                                getFinalStatus(quiz.getStatus(), quiz.getQuestionUpdatedAt()),
+                                quiz.getStatus().getValue(),
                                 quiz.getContentEntriesCount(),
                                 Objects.nonNull(quiz.getTopics()) ? new ArrayList<>(quiz.getTopics())
-                                                : new ArrayList<>()));
-                return new PagedModelResponse<>(quizResponses);
+                                                : new ArrayList<>(),
+                                quiz.getCorrectCount(),
+                                quiz.getCompletedAt());
         }
 
         @Transactional(readOnly = true)
         public FindOneQuizResponse findOne(UserId userId, QuizId quizId) {
+                var quizPlay = quizPlayProjectionRepository.findByIdAndUserId(quizId, userId);
+                if (quizPlay.isPresent()) {
+                        return toFindOneQuizResponse(quizPlay.get());
+                }
+
+                // The play projection is filled asynchronously, a quiz created a moment ago is replayed instead
                 var quiz = quizEventSourcingHandler.getById(userId, quizId)
                                 .orElseThrow(() -> new NotFoundException("Quiz not found " + quizId.toString()));
 
@@ -112,7 +138,7 @@ public class QuizServiceImpl implements QuizService {
                                         quiz.getCreatedAt(),
                                         totalQuestions,
                                         totalQuestionCompleted,
-                                        getFinalStatus(quiz.getStatus(), quiz.getQuestionUpdatedAt()),
+                                        quiz.getStatus().getValue(),
                                         quiz.getContentEntriesCount().getValue(),
                                         topics,
                                         null);
@@ -120,17 +146,7 @@ public class QuizServiceImpl implements QuizService {
 
                 QuizQuestionDTOResponse currentQuestionDto = null;
                 if (totalQuestionCompleted < totalQuestions) {
-                        var currentQuestion = quiz.getQuizQuestions().get(totalQuestionCompleted);
-                        var options = currentQuestion.getQuizQuestionOptions().stream()
-                                        .map(option -> new QuizQuestionOptionDTOResponse(
-                                                        option.getId().toString(),
-                                                        option.getOptionText()))
-                                        .toList();
-
-                        currentQuestionDto = new QuizQuestionDTOResponse(
-                                        currentQuestion.getId().toString(),
-                                        currentQuestion.getQuestion(),
-                                        options);
+                        currentQuestionDto = toQuestionDto(quiz.getQuizQuestions().get(totalQuestionCompleted));
                 }
 
                 return new FindOneQuizResponse(
@@ -139,15 +155,69 @@ public class QuizServiceImpl implements QuizService {
                                 quiz.getCreatedAt(),
                                 totalQuestions,
                                 totalQuestionCompleted,
-                                getFinalStatus(quiz.getStatus(), quiz.getQuestionUpdatedAt()),
+                                quiz.getStatus().getValue(),
                                 quiz.getContentEntriesCount().getValue(),
                                 topics,
                                 currentQuestionDto);
         }
 
+        private FindOneQuizResponse toFindOneQuizResponse(QuizPlayProjection quizPlay) {
+                var currentQuestion = quizPlay.getCurrentQuestion();
+                return new FindOneQuizResponse(
+                                quizPlay.getId().toString(),
+                                quizPlay.getBankName(),
+                                quizPlay.getCreatedAt(),
+                                quizPlay.getQuestionsCount(),
+                                quizPlay.getAnsweredCount(),
+                                quizPlay.getStatus().getValue(),
+                                quizPlay.getContentEntriesCount(),
+                                quizPlay.getTopics(),
+                                !quizPlay.isCompleted() && currentQuestion != null ? toQuestionDto(currentQuestion)
+                                                : null);
+        }
+
+        private QuizQuestionDTOResponse toQuestionDto(QuizQuestion quizQuestion) {
+                var options = quizQuestion.getQuizQuestionOptions().stream()
+                                .map(option -> new QuizQuestionOptionDTOResponse(
+                                                option.getId().toString(),
+                                                option.getOptionText()))
+                                .toList();
+
+                return new QuizQuestionDTOResponse(
+                                quizQuestion.getId().toString(),
+                                quizQuestion.getQuestion(),
+                                options);
+        }
+
         @Transactional(readOnly = true)
         public PagedModelResponse<QuizResponseItemDto> findQuizResponses(UserId userId, QuizId quizId,
                         Pageable pageable) {
+                var quizPlay = quizPlayProjectionRepository.findByIdAndUserId(quizId, userId);
+                if (quizPlay.isEmpty()) {
+                        return findQuizResponsesFromAggregate(userId, quizId, pageable);
+                }
+
+                // Answers follow the play order, so the answered rows hold the positions 0..answered-1 and a
+                // page starts right after the position before its offset
+                var responses = quizResponsesProjectionRepository.findAnsweredAfter(
+                                quizId, userId, (int) pageable.getOffset() - 1, pageable.getPageSize())
+                                .stream()
+                                .map(response -> new QuizResponseItemDto(
+                                                response.getIsCorrect(),
+                                                response.getQuestion(),
+                                                response.getAnswer(),
+                                                response.getCorrectAnswer(),
+                                                response.getExplanation(),
+                                                response.getSourceUrl()))
+                                .toList();
+
+                return new PagedModelResponse<>(
+                                new PageImpl<>(responses, pageable,
+                                                Objects.requireNonNullElse(quizPlay.get().getAnsweredCount(), 0)));
+        }
+
+        private PagedModelResponse<QuizResponseItemDto> findQuizResponsesFromAggregate(UserId userId, QuizId quizId,
+                        Pageable pageable) {
                 var quiz = quizEventSourcingHandler.getById(userId, quizId)
                                 .orElseThrow(() -> new NotFoundException(
                                                 "Quiz not found or you do not have permission to access it"));
@@ -185,7 +255,22 @@ public class QuizServiceImpl implements QuizService {
 
         @Transactional(readOnly = true)
         public QuizSummaryResponseDto findQuizSummary(QuizId quizId, UserId userId) {
-                var quiz = quizEventSourcingHandler.getById(userId, quizId)
+                var quizProjection = quizProjectionRepository.findById(quizId);
+                if (quizProjection != null) {
+                        if (!userId.equals(quizProjection.getUserId())) {
+                                throw new NotFoundException("Quiz not found " + quizId);
+                        }
+                        // Rows projected before the score columns existed have no count until they are rebuilt
+                        if (quizProjection.getCorrectCount() != null) {
+                                return new QuizSummaryResponseDto(
+                                                quizProjection.getTopics(),
+                                                quizProjection.getQuestionsCount(),
+                                                quizProjection.getCorrectCount().longValue());
+                        }
+                }
+
+                // The projection is filled asynchronously, a quiz created a moment ago is replayed instead
+                var quiz = quizEventSourcingHandler.getById(userId, quizId, Quiz.SUMMARY_VIEW)
                                 .orElseThrow(() -> new NotFoundException("Quiz not found " + quizId));
 
                 Set<String> topics = quiz.getQuizTopics();
@@ -243,39 +328,56 @@ public class QuizServiceImpl implements QuizService {
         @Override
         @Transactional(readOnly = true)
         public CheckQuizInProgressResponse checkQuizInProgress(UserId userId) {
-                var inProgressQuizzes = quizProjectionRepository.findAllByUserIdAndStatus(userId,
-                                QuizStatus.IN_PROGRESS);
-
-                if (inProgressQuizzes.isEmpty()) {
-                        return new CheckQuizInProgressResponse(false, null);
-                }
-
-                QuizInProgressDetails inProgressQuiz = null;
-
-                for (var quizProjection : inProgressQuizzes) {
-                        var finalStatus = getFinalStatus(quizProjection.getStatus(),
-                                        quizProjection.getQuestionUpdatedAt());
-
-                        if (QuizStatus.PREPARE.equals(quizProjection.getStatus())
-                                        || QuizStatus.IN_PROGRESS.getValue().equals(finalStatus)) {
-                                inProgressQuiz = new QuizInProgressDetails(
+                // Quizzes stuck in progress are moved to READY_WITH_ERROR by StaleQuizSweeper
+                return quizProjectionRepository.findFirstByUserIdAndStatus(userId, QuizStatus.IN_PROGRESS)
+                                .map(quizProjection -> new CheckQuizInProgressResponse(true, new QuizInProgressDetails(
                                                 quizProjection.getId().toString(),
                                                 quizProjection.getContentBankId() != null
                                                                 ? quizProjection.getContentBankId().toString()
                                                                 : null,
-                                                quizProjection.getBankName());
+                                                quizProjection.getBankName())))
+                                .orElseGet(() -> new CheckQuizInProgressResponse(false, null));
+        }
+
+        /**
+         * Runs outside the class transaction: each quiz is saved in its own transaction, so a quiz that was
+         * answered concurrently is skipped without undoing the ones already expired.
+         */
+        @Override
+        @Transactional(propagation = Propagation.NOT_SUPPORTED)
+        public int expireStaleQuizzes(LocalDateTime updatedBefore, int limit) {
+                var staleQuizzes = quizProjectionRepository.findByStatusAndQuestionUpdatedAtBefore(
+                                QuizStatus.IN_PROGRESS, updatedBefore, limit);
+
+                for (var quizProjection : staleQuizzes) {
+                        var quiz = quizEventSourcingHandler.getById(quizProjection.getUserId(), quizProjection.getId());
+                        if (quiz.isEmpty()) {
+                                continue;
                         }
 
-                        if (QuizStatus.READY_WITH_ERROR.getValue().equals(finalStatus)) {
-                                var quiz = quizEventSourcingHandler.getById(userId, quizProjection.getId())
-                                                .orElseThrow(() -> new NotFoundException(
-                                                                "Quiz not found " + quizProjection.getId()));
-                                quiz.updateStatus(QuizStatus.READY_WITH_ERROR);
-                                quizEventSourcingHandler.save(quiz);
+                        // The projection may lag behind questions added in the meantime
+                        var stale = QuizStatus.IN_PROGRESS.equals(quiz.get().getStatus())
+                                        && quiz.get().getQuestionUpdatedAt() != null
+                                        && quiz.get().getQuestionUpdatedAt().isBefore(updatedBefore);
+                        if (stale) {
+                                quiz.get().updateStatus(QuizStatus.READY_WITH_ERROR);
+                                try {
+                                        quizEventSourcingHandler.save(quiz.get());
+                                } catch (ConcurrencyException e) {
+                                        log.info("Skipped expiring quiz {} written concurrently", quizProjection.getId());
+                                        continue;
+                                }
                         }
-                }
 
-                return new CheckQuizInProgressResponse(Objects.nonNull(inProgressQuiz), inProgressQuiz);
+                        // Written through so that the next batch and the in-progress check no longer see it
+                        quizProjectionRepository.upsert(QuizProjection.builder()
+                                        .id(quizProjection.getId())
+                                        .userId(quizProjection.getUserId())
+                                        .status(quiz.get().getStatus())
+                                        .questionUpdatedAt(quiz.get().getQuestionUpdatedAt())
+                                        .build());
+                }
+                return staleQuizzes.size();
         }
 
         @Override
@@ -299,7 +401,7 @@ public class QuizServiceImpl implements QuizService {
                                 .orElseThrow(() -> new NotFoundException(
                                                 "Content bank not found or you do not have permission to access it"));
 
-                quizEventSourcingHandler.getById(userId, quizId)
+                quizEventSourcingHandler.getById(userId, quizId, Quiz.IDENTITY_VIEW)
                                 .ifPresent(quiz -> {
                                         throw new ConflictException("Quiz already exists");
                                 });
@@ -370,28 +472,7 @@ public class QuizServiceImpl implements QuizService {
                                 continue;
                         }
 
-                        var quizQuestion = new QuizQuestion();
-                        quizQuestion.setChunkIndex(chunkIndex);
-                        quizQuestion.setQuestionIndexInChunk(questionIndexInChunk);
-                        quizQuestion.setQuestion(question.getQuestion());
-                        quizQuestion.setType(question.getType());
-                        quizQuestion.setContentEntryType(
-                                        contentEntry != null ? contentEntry.getContentType()
-                                                        : ContentType.SELECTED_TEXT);
-                        quizQuestion.setContentEntrySourceUrl(
-                                        contentEntry != null ? contentEntry.getSourceUrl() : null);
-                        quizQuestion.setContentEntryId(contentEntryId);
-
-                        for (var option : question.getQuestionOptions()) {
-                                var quizOption = new QuizQuestionOption();
-                                quizOption.setOptionText(option.getOptionText());
-                                quizOption.setOptionExplanation(option.getOptionExplanation());
-                                quizOption.setIsCorrect(option.getIsCorrect());
-
-                                quizQuestion.getQuizQuestionOptions().add(quizOption);
-                        }
-
-                        quizQuestions.add(quizQuestion);
+                        quizQuestions.add(toQuizQuestion(question, contentEntry));
                 }
 
                 Set<String> quizTopics = topicRepository
@@ -406,6 +487,121 @@ public class QuizServiceImpl implements QuizService {
                 quizEventSourcingHandler.save(quiz);
         }
 
+        @Override
+        @Transactional
+        public void processNewQuizQuestions(Quiz quiz, QuizStatus status, Collection<ContentEntry> contentEntries,
+                        List<Question> questions) {
+                Map<ContentEntryId, ContentEntry> contentEntryMap = contentEntries.stream()
+                                .collect(toMap(
+                                                ContentEntry::getId,
+                                                Function.identity(),
+                                                (existing, replacement) -> existing));
+                Map<ContentEntryId, Long> questionsOnQuiz = quiz.getQuizQuestions().stream()
+                                .map(QuizQuestion::getContentEntryId)
+                                .filter(Objects::nonNull)
+                                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+
+                // a chunk delivered again must not add its questions twice
+                var candidates = new ArrayList<Question>(questions.size());
+                for (var question : questions) {
+                        if (!quiz.hasQuestionAt(question.getContentEntryId(), question.getChunkIndex(),
+                                        question.getQuestionIndexInChunk())) {
+                                candidates.add(question);
+                        }
+                }
+
+                // Questions are committed before the quiz is saved, so a save that failed leaves stored questions
+                // the quiz never received; the entries this batch touches pick them up again
+                var expected = new HashMap<>(questionsOnQuiz);
+                candidates.forEach(question -> expected.merge(question.getContentEntryId(), 1L, Long::sum));
+                var behind = questionRepository.countByContentEntryIdIn(contentEntryMap.keySet()).entrySet().stream()
+                                .filter(stored -> stored.getValue() > expected.getOrDefault(stored.getKey(), 0L))
+                                .map(Map.Entry::getKey)
+                                .toList();
+                if (!behind.isEmpty()) {
+                        log.warn("Quiz {} is missing stored questions of content entries {}", quiz.getId(), behind);
+                        candidates.removeIf(question -> behind.contains(question.getContentEntryId()));
+                        questionRepository.findByContentEntryIdIn(behind).stream()
+                                        .filter(question -> !quiz.hasQuestionAt(question.getContentEntryId(),
+                                                        question.getChunkIndex(), question.getQuestionIndexInChunk()))
+                                        .forEach(candidates::add);
+                }
+
+                List<QuizQuestion> quizQuestions = new ArrayList<>(candidates.size());
+                for (var question : candidates) {
+                        quizQuestions.add(toQuizQuestion(question, contentEntryMap.get(question.getContentEntryId())));
+                }
+
+                // an entry's topics are merged once, when its first questions reach the quiz
+                var newEntries = contentEntryMap.keySet().stream()
+                                .filter(contentEntryId -> !questionsOnQuiz.containsKey(contentEntryId))
+                                .toList();
+                var contentEntriesCount = contentEntryRepository.countByContentBankId(quiz.getContentBankId());
+                quiz.addQuestions(status, (int) contentEntriesCount, mergeTopics(quiz, newEntries), quizQuestions);
+
+                quizEventSourcingHandler.save(quiz);
+        }
+
+        /**
+         * Quiz topics are the union of the topics of its entries, so only the entries that are new to the quiz
+         * are looked up; the current set is kept when they bring no new topic.
+         */
+        private Set<String> mergeTopics(Quiz quiz, Collection<ContentEntryId> contentEntryIds) {
+                Set<String> quizTopics = quiz.getQuizTopics() != null ? quiz.getQuizTopics() : Set.of();
+                if (contentEntryIds.isEmpty()) {
+                        return quizTopics;
+                }
+
+                var topicIds = contentEntryTopicRepository.findByContentEntryIdIn(new ArrayList<>(contentEntryIds))
+                                .stream()
+                                .map(ContentEntryTopic::getTopicId)
+                                .toList();
+                if (topicIds.isEmpty()) {
+                        return quizTopics;
+                }
+
+                var entryTopics = topicRepository.findByUserIdAndIdIn(quiz.getUserId(), topicIds)
+                                .stream()
+                                .map(Topic::getTopic)
+                                .collect(toSet());
+                if (quizTopics.containsAll(entryTopics)) {
+                        return quizTopics;
+                }
+
+                var merged = new HashSet<>(quizTopics);
+                merged.addAll(entryTopics);
+                return merged;
+        }
+
+        private QuizQuestion toQuizQuestion(Question question, ContentEntry contentEntry) {
+                var quizQuestion = new QuizQuestion();
+                quizQuestion.setChunkIndex(question.getChunkIndex());
+                quizQuestion.setQuestionIndexInChunk(question.getQuestionIndexInChunk());
+                quizQuestion.setQuestion(question.getQuestion());
+                quizQuestion.setType(question.getType());
+                quizQuestion.setContentEntryType(
+                                contentEntry != null ? contentEntry.getContentType()
+                                                : ContentType.SELECTED_TEXT);
+                quizQuestion.setContentEntrySourceUrl(
+                                contentEntry != null ? contentEntry.getSourceUrl() : null);
+                quizQuestion.setContentEntryId(question.getContentEntryId());
+
+                for (var option : question.getQuestionOptions()) {
+                        var quizOption = new QuizQuestionOption();
+                        quizOption.setOptionText(option.getOptionText());
+                        quizOption.setOptionExplanation(option.getOptionExplanation());
+                        quizOption.setIsCorrect(option.getIsCorrect());
+
+                        quizQuestion.getQuizQuestionOptions().add(quizOption);
+                }
+                return quizQuestion;
+        }
+
+        /**
+         * Answers are recorded through the aggregate, which has to be loaded for the write anyway and is
+         * usually served from the aggregate cache. The response only needs what the aggregate holds after the
+         * answer, so it is built from it rather than from the play projection, which catches up asynchronously.
+         */
         @Override
         public UpdateQuizResponse updateQuiz(UserId userId, QuizId quizId, QuizQuestionOptionId optionSelectedId) {
                 var quiz = quizEventSourcingHandler.getById(userId, quizId)
@@ -459,15 +655,7 @@ public class QuizServiceImpl implements QuizService {
                                         null);
                 }
 
-                // Create a new QuizQuestionResponse
-                var response = new QuizQuestionResponse();
-                response.setQuizQuestion(currentQuestion.getId());
-                response.setQuizQuestionOption(selectedOption.getId());
-                response.setIsCorrect(selectedOption.getIsCorrect());
-                response.setCorrectAnswer(correctOption.getOptionText());
-                response.setResponseTime("0");
-
-                quiz.answerMarked(response);
+                quiz.answerMarked(toQuestionResponse(currentQuestion, selectedOption, correctOption));
 
                 quizEventSourcingHandler.save(quiz);
 
@@ -477,4 +665,15 @@ public class QuizServiceImpl implements QuizService {
                                 quiz.getIsAllQuestionsMarked(),
                                 correctOption.getId().toString());
         }
+
+        private QuizQuestionResponse toQuestionResponse(QuizQuestion question, QuizQuestionOption selectedOption,
+                        QuizQuestionOption correctOption) {
+                var response = new QuizQuestionResponse();
+                response.setQuizQuestion(question.getId());
+                response.setQuizQuestionOption(selectedOption.getId());
+                response.setIsCorrect(selectedOption.getIsCorrect());
+                response.setCorrectAnswer(correctOption.getOptionText());
+                response.setResponseTime("0");
+                return response;
+        }
 }
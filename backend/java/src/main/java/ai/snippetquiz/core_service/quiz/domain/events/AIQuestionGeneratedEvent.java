@@ -3,6 +3,9 @@ package ai.snippetquiz.core_service.quiz.domain.events;
 import ai.snippetquiz.core_service.shared.domain.bus.event.IntegrationEvent;
 import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
 import ai.snippetquiz.core_service.shared.domain.Utils;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -10,6 +13,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.UUID;
@@ -18,6 +22,8 @@ import java.util.UUID;
 @EqualsAndHashCode(callSuper = true)
 @NoArgsConstructor
 public class AIQuestionGeneratedEvent extends IntegrationEvent {
+    private static final ObjectReader CONTENT_ENTRY_READER = Utils.getMapper().readerFor(ContentEntryDto.class);
+
     private Integer totalContentEntries;
     private Integer totalContentEntriesSkipped;
     private Integer currentContentEntryIndex;
@@ -108,4 +114,62 @@ public class AIQuestionGeneratedEvent extends IntegrationEvent {
                 (Integer) body.get("current_chunk_index"),
                 UUID.fromString((String) body.get("bank_id")));
     }
-}
\ No newline at end of file
+
+    // Each message carries a chunk of generated questions, read straight into the DTOs without a map in between
+    @Override
+    public AIQuestionGeneratedEvent readAttributes(
+            JsonParser parser,
+            UUID aggregateId,
+            UUID userId,
+            UUID eventId,
+            String occurredOn,
+            Integer version) throws IOException {
+        UUID attributesAggregateId = null;
+        UUID attributesUserId = null;
+        Integer totalContentEntries = null;
+        Integer totalContentEntriesSkipped = null;
+        Integer currentContentEntryIndex = null;
+        Integer questionsGeneratedSoFar = null;
+        ContentEntryDto contentEntry = null;
+        Integer totalChunks = null;
+        Integer currentChunkIndex = null;
+        UUID bankId = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            var value = parser.nextToken();
+            switch (field) {
+                case "aggregate_id" -> attributesAggregateId = UUID.fromString(parser.getText());
+                case "user_id" -> attributesUserId = UUID.fromString(parser.getText());
+                case "total_content_entries" -> totalContentEntries = intValue(parser, value);
+                case "total_content_entries_skipped" -> totalContentEntriesSkipped = intValue(parser, value);
+                case "current_content_entry_index" -> currentContentEntryIndex = intValue(parser, value);
+                case "questions_generated_so_far" -> questionsGeneratedSoFar = intValue(parser, value);
+                case "content_entry" -> contentEntry = CONTENT_ENTRY_READER.readValue(parser);
+                case "total_chunks" -> totalChunks = intValue(parser, value);
+                case "current_chunk_index" -> currentChunkIndex = intValue(parser, value);
+                case "bank_id" -> bankId = UUID.fromString(parser.getText());
+                default -> parser.skipChildren();
+            }
+        }
+
+        return new AIQuestionGeneratedEvent(
+                aggregateId != null ? aggregateId : attributesAggregateId,
+                new UserId(userId != null ? userId : attributesUserId),
+                eventId,
+                occurredOn,
+                version,
+                totalContentEntries,
+                totalContentEntriesSkipped,
+                currentContentEntryIndex,
+                questionsGeneratedSoFar,
+                contentEntry,
+                totalChunks,
+                currentChunkIndex,
+                bankId);
+    }
+
+    private static Integer intValue(JsonParser parser, JsonToken value) throws IOException {
+        return value == JsonToken.VALUE_NULL ? null : parser.getIntValue();
+    }
+}
@@ -6,11 +6,16 @@ import ai.snippetquiz.core_service.quiz.domain.valueobject.ContentEntryCount;
 import ai.snippetquiz.core_service.shared.domain.Utils;
 import ai.snippetquiz.core_service.shared.domain.bus.event.DomainEvent;
 import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectReader;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
@@ -21,6 +26,14 @@ import java.util.UUID;
 @EqualsAndHashCode(callSuper = true)
 @NoArgsConstructor
 public class QuizQuestionsAddedDomainEvent extends DomainEvent {
+    private static final ObjectReader TOPICS_READER = Utils.getMapper()
+            .readerFor(new TypeReference<Set<String>>() {
+            });
+    private static final ObjectReader COUNT_READER = Utils.getMapper().readerFor(ContentEntryCount.class);
+    private static final ObjectReader QUESTIONS_READER = Utils.getMapper()
+            .readerFor(new TypeReference<List<QuizQuestion>>() {
+            });
+
     private Set<String> quizTopics;
     private QuizStatus status;
     private LocalDateTime updatedAt;
@@ -99,4 +112,59 @@ public class QuizQuestionsAddedDomainEvent extends DomainEvent {
                 Utils.getMapper().convertValue(body.get("quiz_questions"), new TypeReference<List<QuizQuestion>>() {
                 }));
     }
+
+    // The question lists are the bulk of the quiz stream, so they are written and read without a map in between
+
+    @Override
+    public void writeAttributes(JsonGenerator generator) throws IOException {
+        generator.writeObjectField("quiz_topics", quizTopics);
+        generator.writeObjectField("status", status);
+        generator.writeStringField("updated_at", Utils.dateToString(updatedAt));
+        generator.writeObjectField("content_entries_count", contentEntriesCount);
+        generator.writeObjectField("quiz_questions", quizQuestions);
+    }
+
+    @Override
+    public QuizQuestionsAddedDomainEvent readAttributes(
+            JsonParser parser,
+            UUID aggregateId,
+            UUID userId,
+            UUID eventId,
+            String occurredOn,
+            Integer version) throws IOException {
+        UUID attributesAggregateId = null;
+        UUID attributesUserId = null;
+        Set<String> quizTopics = null;
+        QuizStatus status = null;
+        LocalDateTime updatedAt = null;
+        ContentEntryCount contentEntriesCount = null;
+        List<QuizQuestion> quizQuestions = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "aggregate_id" -> attributesAggregateId = UUID.fromString(parser.getText());
+                case "user_id" -> attributesUserId = UUID.fromString(parser.getText());
+                case "quiz_topics" -> quizTopics = TOPICS_READER.readValue(parser);
+                case "status" -> status = QuizStatus.valueOf(parser.getText());
+                case "updated_at" -> updatedAt = Utils.stringToDate(parser.getText());
+                case "content_entries_count" -> contentEntriesCount = COUNT_READER.readValue(parser);
+                case "quiz_questions" -> quizQuestions = QUESTIONS_READER.readValue(parser);
+                default -> parser.skipChildren();
+            }
+        }
+
+        return new QuizQuestionsAddedDomainEvent(
+                aggregateId != null ? aggregateId : attributesAggregateId,
+                new UserId(userId != null ? userId : attributesUserId),
+                eventId,
+                occurredOn,
+                version,
+                quizTopics,
+                status,
+                updatedAt,
+                contentEntriesCount,
+                quizQuestions);
+    }
 }
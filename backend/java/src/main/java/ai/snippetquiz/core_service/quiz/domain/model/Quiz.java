@@ -2,6 +2,8 @@ package ai.snippetquiz.core_service.quiz.domain.model;
 
 import ai.snippetquiz.core_service.contentbank.domain.valueobject.ContentBankId;
 import ai.snippetquiz.core_service.contentbank.domain.valueobject.ContentEntryId;
+import ai.snippetquiz.core_service.question.domain.valueobject.QuestionContentEntryChunkId;
+import ai.snippetquiz.core_service.question.domain.valueobject.QuestionContentEntryQuestionChunkId;
 import ai.snippetquiz.core_service.quiz.domain.events.QuizAnswerMarkedDomainEvent;
 import ai.snippetquiz.core_service.quiz.domain.events.QuizCreatedDomainEvent;
 import ai.snippetquiz.core_service.quiz.domain.events.QuizDeletedDomainEvent;
@@ -9,8 +11,13 @@ import ai.snippetquiz.core_service.quiz.domain.events.QuizQuestionsAddedDomainEv
 import ai.snippetquiz.core_service.quiz.domain.events.QuizStatusUpdatedDomainEvent;
 import ai.snippetquiz.core_service.quiz.domain.valueobject.ContentEntryCount;
 import ai.snippetquiz.core_service.quiz.domain.valueobject.QuizId;
+import ai.snippetquiz.core_service.shared.domain.Utils;
 import ai.snippetquiz.core_service.shared.domain.entity.AggregateRoot;
+import ai.snippetquiz.core_service.shared.domain.entity.ReplayView;
+import ai.snippetquiz.core_service.shared.domain.entity.Snapshottable;
 import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
+import com.fasterxml.jackson.core.type.TypeReference;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -18,6 +25,8 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -28,7 +37,19 @@ import static java.util.Arrays.asList;
 @EqualsAndHashCode(callSuper = true)
 @NoArgsConstructor
 @Slf4j
-public class Quiz extends AggregateRoot<QuizId> {
+public class Quiz extends AggregateRoot<QuizId> implements Snapshottable {
+    public static final String AGGREGATE_TYPE = "quiz.aggregate";
+    // Enough to check the quiz exists and to record a status change or deletion
+    public static final ReplayView IDENTITY_VIEW = ReplayView.of("identity",
+            QuizCreatedDomainEvent.class,
+            QuizDeletedDomainEvent.class);
+    // Topics, question count and answers; status updates are not needed
+    public static final ReplayView SUMMARY_VIEW = ReplayView.of("summary",
+            QuizCreatedDomainEvent.class,
+            QuizQuestionsAddedDomainEvent.class,
+            QuizAnswerMarkedDomainEvent.class,
+            QuizDeletedDomainEvent.class);
+
     private UserId userId;
     private ContentBankId contentBankId;
     private String bankName;
@@ -41,9 +62,19 @@ public class Quiz extends AggregateRoot<QuizId> {
     private List<QuizQuestion> quizQuestions;
     private List<QuizQuestionResponse>  quizQuestionResponses;
     private List<ContentEntryId> newContentEntries;
+    // Positions of the questions already added, indexed on first use to skip chunks delivered again
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private Set<QuestionPosition> questionPositions;
+
+    private record QuestionPosition(
+            ContentEntryId contentEntryId,
+            QuestionContentEntryChunkId chunkIndex,
+            QuestionContentEntryQuestionChunkId questionIndexInChunk) {
+    }
 
     public String aggregateType() {
-        return "quiz.aggregate";
+        return AGGREGATE_TYPE;
     }
 
     public Quiz(
@@ -119,6 +150,25 @@ public class Quiz extends AggregateRoot<QuizId> {
         this.contentEntriesCount = event.getContentEntriesCount();
         this.quizQuestions.addAll(event.getQuizQuestions());
         this.questionUpdatedAt = event.getUpdatedAt();
+        if (questionPositions != null) {
+            event.getQuizQuestions().forEach(question -> questionPositions.add(positionOf(question)));
+        }
+    }
+
+    public boolean hasQuestionAt(
+            ContentEntryId contentEntryId,
+            QuestionContentEntryChunkId chunkIndex,
+            QuestionContentEntryQuestionChunkId questionIndexInChunk) {
+        if (questionPositions == null) {
+            questionPositions = new HashSet<>();
+            quizQuestions.forEach(question -> questionPositions.add(positionOf(question)));
+        }
+        return questionPositions.contains(new QuestionPosition(contentEntryId, chunkIndex, questionIndexInChunk));
+    }
+
+    private static QuestionPosition positionOf(QuizQuestion question) {
+        return new QuestionPosition(
+                question.getContentEntryId(), question.getChunkIndex(), question.getQuestionIndexInChunk());
     }
 
     public void answerMarked(QuizQuestionResponse quizQuestionResponse) {
@@ -138,4 +188,78 @@ public class Quiz extends AggregateRoot<QuizId> {
         this.quizQuestionResponses.add(event.getQuizQuestionResponse());
         this.isAllQuestionsMarked = event.isAllQuestionsMarked();
     }
-}
\ No newline at end of file
+
+    /**
+     * Detached copy with the same state and version and no uncommitted changes. Questions and responses are
+     * never changed once applied, so only the lists events append to are copied.
+     */
+    public Quiz copy() {
+        var copy = new Quiz();
+        copy.setId(getId());
+        copy.setVersion(getVersion());
+        copy.userId = userId;
+        copy.contentBankId = contentBankId;
+        copy.bankName = bankName;
+        copy.status = status;
+        copy.createdAt = createdAt;
+        copy.contentEntriesCount = contentEntriesCount;
+        copy.quizTopics = quizTopics;
+        copy.isAllQuestionsMarked = isAllQuestionsMarked;
+        copy.questionUpdatedAt = questionUpdatedAt;
+        copy.quizQuestions = quizQuestions != null ? new ArrayList<>(quizQuestions) : null;
+        copy.quizQuestionResponses = quizQuestionResponses != null ? new ArrayList<>(quizQuestionResponses) : null;
+        copy.newContentEntries = newContentEntries;
+        return copy;
+    }
+
+    @Override
+    public int snapshotSchemaVersion() {
+        return 1;
+    }
+
+    @Override
+    public HashMap<String, Object> toSnapshot() {
+        var snapshot = new HashMap<String, Object>();
+        snapshot.put("id", getId().getValue().toString());
+        snapshot.put("user_id", userId.toString());
+        snapshot.put("content_bank_id", contentBankId.toString());
+        snapshot.put("bank_name", bankName);
+        snapshot.put("status", status.name());
+        snapshot.put("created_at", Utils.dateToString(createdAt));
+        snapshot.put("content_entries_count", Utils.toMap(contentEntriesCount));
+        snapshot.put("quiz_topics", quizTopics);
+        snapshot.put("is_all_questions_marked", isAllQuestionsMarked);
+        snapshot.put("question_updated_at", questionUpdatedAt != null ? Utils.dateToString(questionUpdatedAt) : null);
+        snapshot.put("quiz_questions", quizQuestions.stream().map(Utils::toMap).toList());
+        snapshot.put("quiz_question_responses", quizQuestionResponses.stream().map(Utils::toMap).toList());
+        snapshot.put("new_content_entries", newContentEntries.stream().map(ContentEntryId::toString).toList());
+        return snapshot;
+    }
+
+    @Override
+    public void restoreSnapshot(HashMap<String, Object> snapshot) {
+        setId(QuizId.map((String) snapshot.get("id")));
+        this.userId = UserId.map((String) snapshot.get("user_id"));
+        this.contentBankId = ContentBankId.map((String) snapshot.get("content_bank_id"));
+        this.bankName = (String) snapshot.get("bank_name");
+        this.status = QuizStatus.valueOf((String) snapshot.get("status"));
+        this.createdAt = Utils.stringToDate((String) snapshot.get("created_at"));
+        this.contentEntriesCount = Utils.getMapper().convertValue(snapshot.get("content_entries_count"),
+                ContentEntryCount.class);
+        this.quizTopics = Utils.getMapper().convertValue(snapshot.get("quiz_topics"), new TypeReference<Set<String>>() {
+        });
+        this.isAllQuestionsMarked = (Boolean) snapshot.get("is_all_questions_marked");
+        var questionUpdatedAt = (String) snapshot.get("question_updated_at");
+        this.questionUpdatedAt = questionUpdatedAt != null ? Utils.stringToDate(questionUpdatedAt) : null;
+        this.quizQuestions = Utils.getMapper().convertValue(snapshot.get("quiz_questions"),
+                new TypeReference<ArrayList<QuizQuestion>>() {
+                });
+        this.questionPositions = null;
+        this.quizQuestionResponses = Utils.getMapper().convertValue(snapshot.get("quiz_question_responses"),
+                new TypeReference<ArrayList<QuizQuestionResponse>>() {
+                });
+        this.newContentEntries = Utils.getMapper().convertValue(snapshot.get("new_content_entries"),
+                new TypeReference<List<String>>() {
+                }).stream().map(ContentEntryId::map).toList();
+    }
+}
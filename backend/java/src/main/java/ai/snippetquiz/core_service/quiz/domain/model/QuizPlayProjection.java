@@ -0,0 +1,42 @@
+package ai.snippetquiz.core_service.quiz.domain.model;
+
+import ai.snippetquiz.core_service.quiz.domain.valueobject.QuizId;
+import ai.snippetquiz.core_service.shared.domain.entity.BaseEntity;
+import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * State of a quiz as the play loop needs it: the question being asked with its options and how far the
+ * user has got. The version is the one of the last quiz event applied to it.
+ */
+@EqualsAndHashCode(callSuper = true)
+@Data
+@NoArgsConstructor
+@SuperBuilder
+public class QuizPlayProjection extends BaseEntity<QuizId> {
+    private UserId userId;
+    private Integer version;
+    private String bankName;
+    private QuizStatus status;
+    private LocalDateTime createdAt;
+    private LocalDateTime questionUpdatedAt;
+    private Integer contentEntriesCount;
+    private Set<String> topics;
+    private Integer questionsCount;
+    private Integer answeredCount;
+    private Integer correctCount;
+    private Boolean allQuestionsMarked;
+    private QuizQuestion currentQuestion;
+
+    // Counts left unset, as on a row built from a single event, count as zero
+    public boolean isCompleted() {
+        return Objects.requireNonNullElse(answeredCount, 0) >= Objects.requireNonNullElse(questionsCount, 0);
+    }
+}
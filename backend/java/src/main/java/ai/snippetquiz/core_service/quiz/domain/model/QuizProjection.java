@@ -26,6 +26,8 @@ public class QuizProjection extends BaseEntity<QuizId> {
     private Integer contentEntriesCount;
     private Integer questionsCount;
     private Integer questionsCompleted;
+    private Integer correctCount;
+    private LocalDateTime completedAt;
     private LocalDateTime questionUpdatedAt;
     private Set<String> topics;
     private Set<String> questions;
@@ -0,0 +1,25 @@
+package ai.snippetquiz.core_service.quiz.domain.model;
+
+import ai.snippetquiz.core_service.quiz.domain.valueobject.QuizQuestionId;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * An answered question of a quiz with the texts the responses page shows.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuizResponseProjection {
+    private QuizQuestionId quizQuestionId;
+    private Integer position;
+    private String question;
+    private String sourceUrl;
+    private Boolean isCorrect;
+    private String answer;
+    private String correctAnswer;
+    private String explanation;
+}
@@ -0,0 +1,31 @@
+package ai.snippetquiz.core_service.quiz.domain.port.repository;
+
+import ai.snippetquiz.core_service.quiz.domain.model.QuizPlayProjection;
+import ai.snippetquiz.core_service.quiz.domain.model.QuizQuestion;
+import ai.snippetquiz.core_service.quiz.domain.valueobject.QuizId;
+import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Every write carries the version of the event it applies and is skipped when the stored row is already at
+ * that version or past it, so redelivered events are ignored.
+ */
+public interface QuizPlayProjectionRepository {
+    Optional<QuizPlayProjection> findByIdAndUserId(QuizId quizId, UserId userId);
+
+    void upsert(QuizPlayProjection quizPlay);
+
+    /**
+     * Upserts like {@link #upsert} and appends the questions to the ones to be asked.
+     */
+    void appendQuestions(QuizPlayProjection quizPlay, List<QuizQuestion> questions);
+
+    /**
+     * Moves the quiz to its next question after an answer.
+     */
+    void answerMarked(QuizId quizId, UserId userId, int version, boolean correct, boolean allQuestionsMarked);
+
+    void deleteById(QuizId quizId);
+}
@@ -3,20 +3,48 @@ package ai.snippetquiz.core_service.quiz.domain.port.repository;
 import ai.snippetquiz.core_service.quiz.domain.model.QuizProjection;
 import ai.snippetquiz.core_service.quiz.domain.model.QuizStatus;
 import ai.snippetquiz.core_service.quiz.domain.valueobject.QuizId;
+import ai.snippetquiz.core_service.shared.domain.bus.query.KeysetCursor;
 import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface QuizProjectionRepository {
     List<QuizProjection> findAllByUserIdAndStatus(UserId userId, QuizStatus status);
+
+    Optional<QuizProjection> findFirstByUserIdAndStatus(UserId userId, QuizStatus status);
+
+    /**
+     * Oldest first, so that repeated calls work through a backlog of stale quizzes.
+     */
+    List<QuizProjection> findByStatusAndQuestionUpdatedAtBefore(QuizStatus status, LocalDateTime updatedBefore,
+            int limit);
     
     Page<QuizProjection> findByUserIdOrderByCreatedAtDesc(UserId userId, Pageable pageable);
 
+    /**
+     * Newest first, starting right after the given cursor, or from the newest quiz when it is null.
+     */
+    List<QuizProjection> findByUserIdAfter(UserId userId, KeysetCursor after, int limit);
+
     void deleteById(QuizId quizId);
 
     QuizProjection findById(QuizId quizId);
 
     void upsert(QuizProjection quizProjection);
+
+    /**
+     * Upserts like {@link #upsert} but appends the given questions to the stored ones instead of replacing
+     * them, skipping ids already present, and recounts them.
+     */
+    void appendQuestions(QuizProjection quizProjection);
+
+    /**
+     * Appends the answered question once and counts it; a non-null completedAt marks the quiz as completed.
+     */
+    void appendResponse(QuizId quizId, UserId userId, String questionId, boolean correct,
+            LocalDateTime completedAt);
 }
\ No newline at end of file
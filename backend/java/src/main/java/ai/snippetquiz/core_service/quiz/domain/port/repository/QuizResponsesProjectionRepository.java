@@ -0,0 +1,28 @@
+package ai.snippetquiz.core_service.quiz.domain.port.repository;
+
+import ai.snippetquiz.core_service.quiz.domain.model.QuizQuestion;
+import ai.snippetquiz.core_service.quiz.domain.model.QuizQuestionResponse;
+import ai.snippetquiz.core_service.quiz.domain.model.QuizResponseProjection;
+import ai.snippetquiz.core_service.quiz.domain.valueobject.QuizId;
+import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
+
+import java.util.List;
+
+public interface QuizResponsesProjectionRepository {
+    /**
+     * Answered questions in play order, starting after the given position.
+     */
+    List<QuizResponseProjection> findAnsweredAfter(QuizId quizId, UserId userId, int afterPosition, int limit);
+
+    /**
+     * Stores the questions after the ones already added; questions stored before are left as they are.
+     */
+    void addQuestions(QuizId quizId, UserId userId, List<QuizQuestion> questions);
+
+    /**
+     * Fills in the answer of a question, unless it has been answered already.
+     */
+    void answerMarked(QuizId quizId, QuizQuestionResponse response);
+
+    void deleteByQuizId(QuizId quizId);
+}
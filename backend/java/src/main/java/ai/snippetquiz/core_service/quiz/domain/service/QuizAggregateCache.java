@@ -0,0 +1,20 @@
+package ai.snippetquiz.core_service.quiz.domain.service;
+
+import ai.snippetquiz.core_service.quiz.domain.model.Quiz;
+import ai.snippetquiz.core_service.shared.domain.service.AggregateCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+public class QuizAggregateCache extends AggregateCache<Quiz> {
+
+    public QuizAggregateCache(
+            @Value("${event-store.aggregate-cache.maximum-size:10000}") long maximumSize,
+            @Value("${event-store.aggregate-cache.ttl-seconds:300}") long ttlSeconds,
+            MeterRegistry meterRegistry) {
+        super("quiz.aggregate", maximumSize, Duration.ofSeconds(ttlSeconds), Quiz::copy, meterRegistry);
+    }
+}
@@ -2,42 +2,135 @@ package ai.snippetquiz.core_service.quiz.domain.service;
 
 import ai.snippetquiz.core_service.quiz.domain.model.Quiz;
 import ai.snippetquiz.core_service.quiz.domain.valueobject.QuizId;
-import ai.snippetquiz.core_service.shared.domain.bus.event.DomainEvent;
+import ai.snippetquiz.core_service.shared.domain.entity.ReplayView;
+import ai.snippetquiz.core_service.shared.domain.service.AggregateSnapshotStore;
 import ai.snippetquiz.core_service.shared.domain.service.EventSourcingHandler;
 import ai.snippetquiz.core_service.shared.domain.service.EventStore;
 import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Optional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class QuizEventSourcingHandler implements EventSourcingHandler<Quiz, QuizId> {
     private final EventStore eventStore;
+    private final AggregateSnapshotStore snapshotStore;
+    private final QuizAggregateCache aggregateCache;
 
     @Override
     @Transactional
     public void save(Quiz aggregate) {
         String aggregateType = aggregate.aggregateType();
-        eventStore.saveEvents(aggregate.getUserId(), aggregate.getId().getValue(), aggregateType, aggregate.pullUncommittedChanges(), aggregate.getVersion());
+        var changes = aggregate.pullUncommittedChanges();
+        var previousVersion = aggregate.getVersion();
+
+        eventStore.saveEvents(aggregate.getUserId(), aggregate.getId().getValue(), aggregateType, changes, previousVersion);
+        aggregate.setVersion(previousVersion + changes.size());
         aggregate.markChangesAsCommitted();
+
+        snapshotStore.saveIfDue(aggregate.getUserId(), aggregate.getId().getValue(), aggregateType, aggregate, previousVersion);
+        aggregateCache.put(aggregate.getUserId(), aggregate.getId().getValue(), aggregate);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Quiz> getById(UserId userId, QuizId aggregateId) {
-        var eventStream = eventStore.getEvents(userId, aggregateId.getValue());
+        // A cached aggregate is as good as a snapshot: only the events appended since it was cached are replayed
+        var cached = aggregateCache.find(userId, aggregateId.getValue());
+        if (cached.isPresent()) {
+            var cachedVersion = cached.get().getVersion();
+            var aggregate = catchUp(userId, aggregateId, cached.get());
+            if (aggregate.isPresent()) {
+                if (aggregate.get().getVersion() > cachedVersion) {
+                    aggregateCache.put(userId, aggregateId.getValue(), aggregate.get());
+                }
+                return aggregate;
+            }
+            aggregateCache.invalidate(aggregateId.getValue());
+        }
+
+        var aggregate = replay(userId, aggregateId);
+        aggregate.ifPresent(quiz -> aggregateCache.put(userId, aggregateId.getValue(), quiz));
+        return aggregate;
+    }
+
+    private Optional<Quiz> replay(UserId userId, QuizId aggregateId) {
+        var snapshotSchemaVersion = new Quiz().snapshotSchemaVersion();
+        var snapshot = snapshotStore.findLatest(userId, aggregateId.getValue(), snapshotSchemaVersion);
+        if (snapshot.isPresent()) {
+            var aggregate = restore(userId, aggregateId, snapshot.get().getState(), snapshot.get().getVersion());
+            if (aggregate.isPresent()) {
+                return aggregate;
+            }
+        }
 
-        if (eventStream == null || eventStream.isEmpty()) {
+        // Events are applied as they are read, so the stream is never held in memory as a whole
+        var aggregate = new Quiz();
+        try (var eventStream = eventStore.streamEvents(userId, aggregateId.getValue())) {
+            eventStream.forEachOrdered(aggregate::replayEvent);
+        }
+
+        if (aggregate.getVersion() < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(aggregate);
+    }
+
+    /**
+     * Replays only the events of the view, skipping snapshots since they hold the full state. The version
+     * comes from the stream head so that events recorded on the partial aggregate append correctly.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Quiz> getById(UserId userId, QuizId aggregateId, ReplayView view) {
+        var version = eventStore.currentVersion(userId, aggregateId.getValue());
+        if (version < 0) {
             return Optional.empty();
         }
 
         var aggregate = new Quiz();
-        aggregate.replayEvents(eventStream);
-        var latestVersion = eventStream.stream().map(DomainEvent::getVersion).max(Comparator.naturalOrder());
-        aggregate.setVersion(latestVersion.get());
+        try (var eventStream = eventStore.streamEvents(userId, aggregateId.getValue(), view.eventNames())) {
+            eventStream.forEachOrdered(aggregate::replayEvent);
+        }
+        aggregate.setVersion(version);
+        aggregate.markAsPartial();
+
+        return Optional.of(aggregate);
+    }
+
+    private Optional<Quiz> restore(UserId userId, QuizId aggregateId, HashMap<String, Object> state, int version) {
+        var aggregate = new Quiz();
+        try {
+            aggregate.restoreSnapshot(state);
+        } catch (RuntimeException e) {
+            log.warn("Unable to restore state of quiz {}, replaying all events", aggregateId, e);
+            return Optional.empty();
+        }
+        aggregate.setVersion(version);
+        return catchUp(userId, aggregateId, aggregate);
+    }
+
+    private Optional<Quiz> catchUp(UserId userId, QuizId aggregateId, Quiz aggregate) {
+        var version = aggregate.getVersion();
+        try (var eventStream = eventStore.streamEvents(userId, aggregateId.getValue(), version)) {
+            var events = eventStream.iterator();
+            while (events.hasNext()) {
+                var event = events.next();
+                // The tail must continue right after the restored state, otherwise the state is stale
+                if (event.getVersion() != aggregate.getVersion() + 1) {
+                    log.warn("State of quiz {} at version {} does not match the event stream, replaying all events",
+                            aggregateId, version);
+                    return Optional.empty();
+                }
+                aggregate.replayEvent(event);
+            }
+        }
 
         return Optional.of(aggregate);
     }
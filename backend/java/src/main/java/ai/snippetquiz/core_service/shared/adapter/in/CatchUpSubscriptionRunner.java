@@ -0,0 +1,111 @@
+package ai.snippetquiz.core_service.shared.adapter.in;
+
+import ai.snippetquiz.core_service.shared.domain.bus.event.CatchUpSubscriber;
+import ai.snippetquiz.core_service.shared.domain.bus.event.DomainEvent;
+import ai.snippetquiz.core_service.shared.domain.entity.PositionedEvent;
+import ai.snippetquiz.core_service.shared.domain.port.repository.EventSubscriptionCheckpointRepository;
+import ai.snippetquiz.core_service.shared.domain.service.EventStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Feeds {@link CatchUpSubscriber}s from the event store by global position. Every page is read, handed to
+ * the subscriber and checkpointed in one transaction; the checkpoint row lock keeps a subscription on a
+ * single instance at a time. Resetting a subscription replays it from the start of history.
+ */
+@Slf4j
+@Component
+public class CatchUpSubscriptionRunner {
+    private final ObjectProvider<CatchUpSubscriber> subscribers;
+    private final EventStore eventStore;
+    private final EventSubscriptionCheckpointRepository checkpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int pageSize;
+    private final int maxPagesPerPoll;
+
+    public CatchUpSubscriptionRunner(
+            ObjectProvider<CatchUpSubscriber> subscribers,
+            EventStore eventStore,
+            EventSubscriptionCheckpointRepository checkpointRepository,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${event-store.subscriptions.page-size:1000}") int pageSize,
+            @Value("${event-store.subscriptions.max-pages-per-poll:20}") int maxPagesPerPoll) {
+        this.subscribers = subscribers;
+        this.eventStore = eventStore;
+        this.checkpointRepository = checkpointRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.pageSize = pageSize;
+        this.maxPagesPerPoll = maxPagesPerPoll;
+    }
+
+    @Scheduled(fixedDelayString = "${event-store.subscriptions.poll-interval-ms:500}")
+    public void poll() {
+        subscribers.orderedStream().forEach(subscriber -> {
+            try {
+                catchUp(subscriber);
+            } catch (RuntimeException e) {
+                log.error("Catch-up subscription {} failed, the page will be retried",
+                        subscriber.subscriptionName(), e);
+            }
+        });
+    }
+
+    /**
+     * Hands pages to the subscriber until it reaches the head of the store or the page budget of one poll
+     * is spent, so a subscription bootstrapping from the start does not hold back the others.
+     */
+    public long catchUp(CatchUpSubscriber subscriber) {
+        long handled = 0;
+        for (int page = 0; page < maxPagesPerPoll; page++) {
+            Integer events = transactionTemplate.execute(status -> handleNextPage(subscriber));
+            if (events == null || events == 0) {
+                break;
+            }
+            handled += events;
+            if (events < pageSize) {
+                break;
+            }
+        }
+        return handled;
+    }
+
+    public void reset(String subscription) {
+        transactionTemplate.executeWithoutResult(status -> checkpointRepository.reset(subscription));
+        log.info("Catch-up subscription {} will replay from the start of the event store", subscription);
+    }
+
+    private int handleNextPage(CatchUpSubscriber subscriber) {
+        var name = subscriber.subscriptionName();
+        var checkpoint = checkpointRepository.lock(name);
+        if (checkpoint.isEmpty()) {
+            return 0;
+        }
+
+        var page = eventStore.readAll(checkpoint.get(), subscriber.aggregateTypes(), pageSize);
+        if (page.isEmpty()) {
+            return 0;
+        }
+
+        List<DomainEvent> events = page.stream().map(PositionedEvent::event).toList();
+        subscriber.on(events);
+        checkpointRepository.save(name, page.getLast().position());
+
+        Counter.builder("event.subscription.events")
+                .description("Events handed to catch-up subscriptions")
+                .tag("subscription", name)
+                .register(meterRegistry)
+                .increment(page.size());
+        return page.size();
+    }
+}
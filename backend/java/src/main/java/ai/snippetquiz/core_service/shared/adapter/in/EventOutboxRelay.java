@@ -0,0 +1,186 @@
+package ai.snippetquiz.core_service.shared.adapter.in;
+
+import ai.snippetquiz.core_service.shared.domain.entity.OutboxMessage;
+import ai.snippetquiz.core_service.shared.domain.port.repository.EventOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+public class EventOutboxRelay {
+    private final EventOutboxRepository eventOutboxRepository;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration sendTimeout;
+    private final Duration baseBackoff;
+    private final Duration maxBackoff;
+
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+    private final Timer batchTimer;
+    private final AtomicLong pendingMessages = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    public EventOutboxRelay(
+            EventOutboxRepository eventOutboxRepository,
+            KafkaTemplate<String, String> kafkaTemplate,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${event-store.outbox.batch-size:500}") int batchSize,
+            @Value("${event-store.outbox.send-timeout-ms:10000}") long sendTimeoutMs,
+            @Value("${event-store.outbox.base-backoff-ms:1000}") long baseBackoffMs,
+            @Value("${event-store.outbox.max-backoff-ms:300000}") long maxBackoffMs) {
+        this.eventOutboxRepository = eventOutboxRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.sendTimeout = Duration.ofMillis(sendTimeoutMs);
+        this.baseBackoff = Duration.ofMillis(baseBackoffMs);
+        this.maxBackoff = Duration.ofMillis(maxBackoffMs);
+
+        this.publishedCounter = Counter.builder("event.outbox.published")
+                .description("Outbox messages delivered to Kafka")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("event.outbox.failed")
+                .description("Outbox messages scheduled for retry")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("event.outbox.batch")
+                .description("Time to relay one outbox batch")
+                .register(meterRegistry);
+        Gauge.builder("event.outbox.pending", pendingMessages, AtomicLong::get)
+                .description("Messages waiting in the outbox")
+                .register(meterRegistry);
+        Gauge.builder("event.outbox.lag", lagMillis, lag -> lag.get() / 1000.0)
+                .description("Age of the oldest message waiting in the outbox")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${event-store.outbox.poll-interval-ms:200}")
+    public void relay() {
+        try {
+            int relayed;
+            do {
+                var sample = Timer.start();
+                relayed = relayBatch();
+                sample.stop(batchTimer);
+            } while (relayed >= batchSize);
+        } catch (Exception e) {
+            log.error("Failed to relay outbox messages", e);
+        } finally {
+            updateLagMetrics();
+        }
+    }
+
+    /**
+     * Claims a batch in a short transaction, sends it without holding a transaction or the relay lock, and
+     * settles the outcome in a second short transaction.
+     */
+    int relayBatch() {
+        var batch = transactionTemplate.execute(status -> claimNextBatch());
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+
+        var sends = new ArrayList<CompletableFuture<SendResult<String, String>>>(batch.size());
+        var unsentAggregates = new HashSet<UUID>();
+        for (var message : batch) {
+            // A message that could not be handed to the producer holds back the later ones of its aggregate
+            if (unsentAggregates.contains(message.getAggregateId())) {
+                sends.add(null);
+                continue;
+            }
+            try {
+                sends.add(kafkaTemplate.send(message.getTopic(), message.getAggregateId().toString(),
+                        message.getPayload()));
+            } catch (RuntimeException e) {
+                log.warn("Failed to send outbox message {} for aggregate {}", message.getEventId(),
+                        message.getAggregateId(), e);
+                unsentAggregates.add(message.getAggregateId());
+                sends.add(null);
+            }
+        }
+        kafkaTemplate.flush();
+
+        var delivered = new ArrayList<Long>();
+        var retry = new ArrayList<Long>();
+        var deadline = System.nanoTime() + sendTimeout.toNanos();
+        for (int i = 0; i < batch.size(); i++) {
+            var message = batch.get(i);
+            var send = sends.get(i);
+            if (send == null) {
+                retry.add(message.getId());
+                continue;
+            }
+            // Every acknowledged message is delivered; only the ones that failed are sent again
+            try {
+                send.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                delivered.add(message.getId());
+            } catch (ExecutionException | TimeoutException e) {
+                log.warn("Failed to relay outbox message {} for aggregate {} (attempt {})",
+                        message.getEventId(), message.getAggregateId(), message.getAttempts() + 1, e);
+                retry.add(message.getId());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                retry.add(message.getId());
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            eventOutboxRepository.deleteAllById(delivered);
+            eventOutboxRepository.scheduleRetry(retry, baseBackoff, maxBackoff);
+        });
+        publishedCounter.increment(delivered.size());
+        failedCounter.increment(retry.size());
+
+        return batch.size();
+    }
+
+    /**
+     * Leases the next batch so that no other relay takes it, or any later message of its aggregates, while it
+     * is being sent. A relay that dies mid-batch leaves the lease to expire and the batch is sent again.
+     */
+    private List<OutboxMessage> claimNextBatch() {
+        // A single relay claims at a time, which keeps per-aggregate order across instances
+        if (!eventOutboxRepository.tryAcquireRelayLock()) {
+            return List.of();
+        }
+
+        var batch = eventOutboxRepository.findNextBatch(batchSize);
+        eventOutboxRepository.claim(batch.stream().map(OutboxMessage::getId).toList(), sendTimeout.multipliedBy(2));
+        return batch;
+    }
+
+    private void updateLagMetrics() {
+        try {
+            pendingMessages.set(eventOutboxRepository.count());
+            lagMillis.set(eventOutboxRepository.findOldestCreatedAt()
+                    .map(oldest -> Math.max(0, Duration.between(oldest, LocalDateTime.now()).toMillis()))
+                    .orElse(0L));
+        } catch (Exception e) {
+            log.warn("Failed to update outbox lag metrics", e);
+        }
+    }
+}
@@ -2,6 +2,8 @@ package ai.snippetquiz.core_service.shared.adapter.in;
 
 import ai.snippetquiz.core_service.shared.domain.bus.event.AggregateEventSubscriber;
 import ai.snippetquiz.core_service.shared.domain.bus.event.AggregateRootSubscribersInformation;
+import ai.snippetquiz.core_service.shared.domain.bus.event.BaseEvent;
+import ai.snippetquiz.core_service.shared.domain.bus.event.BatchIntegrationEventSubscriber;
 import ai.snippetquiz.core_service.shared.domain.bus.event.DomainEvent;
 import ai.snippetquiz.core_service.shared.domain.bus.event.EventJsonDeserializer;
 import ai.snippetquiz.core_service.shared.domain.bus.event.IntegrationEvent;
@@ -9,28 +11,51 @@ import ai.snippetquiz.core_service.shared.domain.bus.event.IntegrationEventSubsc
 import ai.snippetquiz.core_service.shared.domain.bus.event.IntegrationEventSubscribersInformation;
 import ai.snippetquiz.core_service.shared.domain.Utils;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
-import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.context.SmartLifecycle;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executors;
 
 @Component
 @Slf4j
 public class KafkaEventsConsumer implements SmartLifecycle {
 
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(500);
+
+    /**
+     * SEQUENTIAL handles the records of a poll on the polling thread, one aggregate after another. KEY_ORDERED
+     * hands them to virtual threads, keeping the records of one key (the aggregate id) in order.
+     */
+    public enum ConcurrencyMode {
+        SEQUENTIAL,
+        KEY_ORDERED
+    }
+
     private final AggregateRootSubscribersInformation subscribersInformation;
     private final EventJsonDeserializer deserializer;
     private final IntegrationEventSubscribersInformation integrationSubscribersInformation;
     private final ConsumerFactory<String, String> consumerFactory;
-    private KafkaConsumer<String, String> consumer;
+    private final ConcurrencyMode concurrencyMode;
+    private final int maxInFlight;
+    private final Duration drainTimeout;
+    private Consumer<String, String> consumer;
+    private PartitionOffsetTracker offsets;
+    private KeyOrderedDispatcher dispatcher;
     private Thread thread;
     private volatile boolean running = false;
 
@@ -39,20 +64,44 @@ public class KafkaEventsConsumer implements SmartLifecycle {
             EventJsonDeserializer deserializer,
             ConsumerFactory<String, String> consumerFactory,
             IntegrationEventSubscribersInformation integrationSubscribersInformation
+    ) {
+        this(subscribersInformation, deserializer, consumerFactory, integrationSubscribersInformation,
+                ConcurrencyMode.SEQUENTIAL, 1000, 30000);
+    }
+
+    @Autowired
+    public KafkaEventsConsumer(
+            AggregateRootSubscribersInformation subscribersInformation,
+            EventJsonDeserializer deserializer,
+            ConsumerFactory<String, String> consumerFactory,
+            IntegrationEventSubscribersInformation integrationSubscribersInformation,
+            @Value("${events.consumer.concurrency:SEQUENTIAL}") ConcurrencyMode concurrencyMode,
+            @Value("${events.consumer.max-in-flight:1000}") int maxInFlight,
+            @Value("${events.consumer.drain-timeout-ms:30000}") long drainTimeoutMs
     ) {
         this.subscribersInformation = subscribersInformation;
         this.deserializer = deserializer;
         this.consumerFactory = consumerFactory;
         this.integrationSubscribersInformation = integrationSubscribersInformation;
+        this.concurrencyMode = concurrencyMode;
+        this.maxInFlight = maxInFlight;
+        this.drainTimeout = Duration.ofMillis(drainTimeoutMs);
     }
 
     @Override
     public void start() {
-        consumer = (KafkaConsumer<String, String>) consumerFactory.createConsumer();
+        consumer = consumerFactory.createConsumer();
+        if (concurrencyMode == ConcurrencyMode.KEY_ORDERED) {
+            offsets = new PartitionOffsetTracker();
+            dispatcher = new KeyOrderedDispatcher(Executors.newVirtualThreadPerTaskExecutor());
+        }
 
         Set<String> topics = resolveTopicsFromSubscribers();
         if (topics.isEmpty()) {
             log.warn("No topics resolved from subscribers; Kafka consumer will not subscribe.");
+        } else if (concurrencyMode == ConcurrencyMode.KEY_ORDERED) {
+            consumer.subscribe(new ArrayList<>(topics), new DrainOnRevoke());
+            log.info("Kafka consumer subscribed to topics: {}, records dispatched by key", topics);
         } else {
             consumer.subscribe(new ArrayList<>(topics));
             log.info("Kafka consumer subscribed to topics: {}", topics);
@@ -60,22 +109,122 @@ public class KafkaEventsConsumer implements SmartLifecycle {
 
         running = true;
 
-        thread = new Thread(() -> {
+        thread = new Thread(concurrencyMode == ConcurrencyMode.KEY_ORDERED
+                ? this::pollKeyOrdered
+                : this::pollSequential, "manual-kafka-events-consumer-thread");
+        thread.start();
+    }
+
+    private void pollSequential() {
+        try {
+            while (running) {
+                ConsumerRecords<String, String> records = consumer.poll(POLL_TIMEOUT);
+                for (List<Delivery> batch : groupByAggregate(records)) {
+                    processBatch(batch);
+                }
+                consumer.commitSync();
+            }
+        } catch (Exception e) {
+            log.error("Error in Kafka polling loop", e);
+        } finally {
+            consumer.close();
+        }
+    }
+
+    /**
+     * The polling thread stays the only one touching the consumer: it dispatches records, commits what
+     * workers have completed and pauses fetching while too many records are in flight.
+     */
+    private void pollKeyOrdered() {
+        try {
+            while (running) {
+                ConsumerRecords<String, String> records = consumer.poll(POLL_TIMEOUT);
+                for (List<Delivery> batch : groupByAggregate(records)) {
+                    dispatch(batch);
+                }
+                applyBackpressure();
+                commitCompleted();
+            }
+        } catch (Exception e) {
+            log.error("Error in Kafka polling loop", e);
+        } finally {
             try {
-                while (running) {
-                    ConsumerRecords<String, String> records = consumer.poll(Duration.ofMillis(500));
-                    for (ConsumerRecord<String, String> record : records) {
-                        processMessage(record);
-                    }
-                    consumer.commitSync();
+                if (!offsets.awaitIdle(drainTimeout)) {
+                    log.warn("Kafka consumer stopped with {} records still in flight", offsets.inFlight());
                 }
+                commitCompleted();
+                dispatcher.shutdown(drainTimeout);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
             } catch (Exception e) {
-                log.error("Error in Kafka polling loop", e);
+                log.error("Failed to commit completed records on shutdown", e);
             } finally {
                 consumer.close();
             }
-        }, "manual-kafka-events-consumer-thread");
-        thread.start();
+        }
+    }
+
+    private void dispatch(List<Delivery> batch) {
+        for (var delivery : batch) {
+            offsets.track(partitionOf(delivery.record()), delivery.record().offset());
+        }
+        dispatcher.submit(batch.getFirst().key(), () -> {
+            try {
+                processBatch(batch);
+            } finally {
+                for (var delivery : batch) {
+                    offsets.complete(partitionOf(delivery.record()), delivery.record().offset());
+                }
+            }
+        });
+    }
+
+    private static TopicPartition partitionOf(ConsumerRecord<String, String> record) {
+        return new TopicPartition(record.topic(), record.partition());
+    }
+
+    private void applyBackpressure() {
+        var inFlight = offsets.inFlight();
+        if (inFlight >= maxInFlight) {
+            consumer.pause(consumer.assignment());
+        } else if (inFlight <= maxInFlight / 2 && !consumer.paused().isEmpty()) {
+            consumer.resume(consumer.paused());
+        }
+    }
+
+    private void commitCompleted() {
+        var completed = offsets.drainCommittable();
+        if (!completed.isEmpty()) {
+            consumer.commitSync(completed);
+        }
+    }
+
+    private class DrainOnRevoke implements ConsumerRebalanceListener {
+        @Override
+        public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+            try {
+                if (!offsets.awaitCompletion(partitions, drainTimeout)) {
+                    log.warn("Partitions {} revoked with records still in flight, they will be delivered again",
+                            partitions);
+                }
+                commitCompleted();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.error("Failed to commit completed records of revoked partitions {}", partitions, e);
+            } finally {
+                offsets.forget(partitions);
+            }
+        }
+
+        @Override
+        public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+        }
+
+        @Override
+        public void onPartitionsLost(Collection<TopicPartition> partitions) {
+            offsets.forget(partitions);
+        }
     }
 
     @Override
@@ -96,51 +245,115 @@ public class KafkaEventsConsumer implements SmartLifecycle {
         return running;
     }
 
-    private void processMessage(ConsumerRecord<String, String> record) {
-        String topic = record.topic();
-        String payload = record.value();
+    /**
+     * A record of the poll with its decoded event, or a null event when it could not be read. The key orders
+     * the record: the aggregate id of the event, else the record key, else its partition.
+     */
+    private record Delivery(ConsumerRecord<String, String> record, BaseEvent event, String key) {
+    }
 
+    /**
+     * Groups the records of one poll by topic and aggregate, keeping their order, so that batch subscribers
+     * receive every event of an aggregate in the poll at once.
+     */
+    private Collection<List<Delivery>> groupByAggregate(ConsumerRecords<String, String> records) {
+        var batches = new LinkedHashMap<String, List<Delivery>>();
+        for (ConsumerRecord<String, String> record : records) {
+            var delivery = decode(record);
+            batches.computeIfAbsent(record.topic() + "/" + delivery.key(), key -> new ArrayList<>()).add(delivery);
+        }
+        return batches.values();
+    }
+
+    private Delivery decode(ConsumerRecord<String, String> record) {
+        BaseEvent event = null;
         try {
-            var event = deserializer.deserialize(payload);
+            event = deserializer.deserialize(record.value());
+        } catch (Exception e) {
+            log.error("Failed to deserialize event from topic {}", record.topic(), e);
+        }
 
-            if (event instanceof DomainEvent domainEvent) {
-                List<AggregateEventSubscriber> subscribers = subscribersInformation.search(topic);
+        String key;
+        if (event != null && event.getAggregateId() != null) {
+            key = event.getAggregateId().toString();
+        } else if (record.key() != null) {
+            key = record.key();
+        } else {
+            key = partitionOf(record).toString();
+        }
+        return new Delivery(record, event, key);
+    }
 
-                if (subscribers.isEmpty()) {
-                    log.info("No aggregate subscribers found for topic {}", topic);
-                    return;
-                }
+    private void processBatch(List<Delivery> batch) {
+        String topic = batch.getFirst().record().topic();
+        var integrationEvents = new LinkedHashMap<String, List<IntegrationEvent>>();
 
-                for (AggregateEventSubscriber subscriber : subscribers) {
-                    try {
-                        subscriber.on(domainEvent);
-                    } catch (Exception ex) {
-                        log.error("Error dispatching domain event to subscriber {} for topic {}",
-                                subscriber.getClass().getName(), topic, ex);
-                    }
+        for (var delivery : batch) {
+            var event = delivery.event();
+            if (event == null) {
+                continue;
+            }
+            try {
+                if (event instanceof DomainEvent domainEvent) {
+                    processDomainEvent(topic, domainEvent);
+                } else if (event instanceof IntegrationEvent integrationEvent) {
+                    integrationEvents.computeIfAbsent(Utils.getEventName(integrationEvent.getClass()),
+                            eventName -> new ArrayList<>()).add(integrationEvent);
+                } else {
+                    log.warn("Unknown event type received: {}", event.getClass().getName());
                 }
-            } else if (event instanceof IntegrationEvent integrationEvent) {
-                String eventName = Utils.getEventName(integrationEvent.getClass());
-                List<IntegrationEventSubscriber> subscribers = integrationSubscribersInformation.search(eventName);
+            } catch (Exception e) {
+                log.error("Failed to process event from topic {}", topic, e);
+            }
+        }
 
-                if (subscribers.isEmpty()) {
-                    log.info("No integration subscribers found for event {}", eventName);
-                    return;
-                }
+        integrationEvents.forEach(this::processIntegrationEvents);
+    }
+
+    private void processDomainEvent(String topic, DomainEvent domainEvent) {
+        List<AggregateEventSubscriber> subscribers = subscribersInformation.search(topic);
 
-                for (IntegrationEventSubscriber subscriber : subscribers) {
-                    try {
-                        subscriber.on(integrationEvent);
-                    } catch (Exception ex) {
-                        log.error("Error dispatching integration event to subscriber {} for event {}",
-                                subscriber.getClass().getName(), eventName, ex);
-                    }
+        if (subscribers.isEmpty()) {
+            log.info("No aggregate subscribers found for topic {}", topic);
+            return;
+        }
+
+        for (AggregateEventSubscriber subscriber : subscribers) {
+            try {
+                subscriber.on(domainEvent);
+            } catch (Exception ex) {
+                log.error("Error dispatching domain event to subscriber {} for topic {}",
+                        subscriber.getClass().getName(), topic, ex);
+            }
+        }
+    }
+
+    private void processIntegrationEvents(String eventName, List<IntegrationEvent> integrationEvents) {
+        List<IntegrationEventSubscriber> subscribers = integrationSubscribersInformation.search(eventName);
+
+        if (subscribers.isEmpty()) {
+            log.info("No integration subscribers found for event {}", eventName);
+            return;
+        }
+
+        for (IntegrationEventSubscriber subscriber : subscribers) {
+            if (subscriber instanceof BatchIntegrationEventSubscriber batchSubscriber) {
+                try {
+                    batchSubscriber.onBatch(integrationEvents);
+                } catch (Exception ex) {
+                    log.error("Error dispatching {} integration events to subscriber {} for event {}",
+                            integrationEvents.size(), subscriber.getClass().getName(), eventName, ex);
+                }
+                continue;
+            }
+            for (IntegrationEvent integrationEvent : integrationEvents) {
+                try {
+                    subscriber.on(integrationEvent);
+                } catch (Exception ex) {
+                    log.error("Error dispatching integration event to subscriber {} for event {}",
+                            subscriber.getClass().getName(), eventName, ex);
                 }
-            } else {
-                log.warn("Unknown event type received: {}", event.getClass().getName());
             }
-        } catch (Exception e) {
-            log.error("Failed to deserialize or process event from topic {}", topic, e);
         }
     }
 
@@ -0,0 +1,35 @@
+package ai.snippetquiz.core_service.shared.adapter.in;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs tasks concurrently while keeping the tasks of one key in submission order: a task starts once the
+ * previous task of its key has finished. Keys without pending tasks hold no state.
+ */
+class KeyOrderedDispatcher {
+    private final ExecutorService executor;
+    private final ConcurrentHashMap<String, CompletableFuture<Void>> tails = new ConcurrentHashMap<>();
+
+    KeyOrderedDispatcher(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    CompletableFuture<Void> submit(String key, Runnable task) {
+        var next = tails.compute(key, (k, tail) -> tail == null
+                ? CompletableFuture.runAsync(task, executor)
+                : tail.exceptionally(e -> null).thenRunAsync(task, executor));
+        next.whenComplete((result, e) -> tails.remove(key, next));
+        return next;
+    }
+
+    void shutdown(Duration timeout) throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
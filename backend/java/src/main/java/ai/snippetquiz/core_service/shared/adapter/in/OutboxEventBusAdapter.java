@@ -0,0 +1,24 @@
+package ai.snippetquiz.core_service.shared.adapter.in;
+
+import ai.snippetquiz.core_service.shared.domain.bus.event.BaseEvent;
+import ai.snippetquiz.core_service.shared.domain.bus.event.DomainEvent;
+import ai.snippetquiz.core_service.shared.domain.bus.event.EventBus;
+import ai.snippetquiz.core_service.shared.domain.port.repository.EventOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service("outboxEventBus")
+@RequiredArgsConstructor
+public class OutboxEventBusAdapter implements EventBus {
+    private final EventOutboxRepository eventOutboxRepository;
+
+    @Override
+    public void publish(String aggregateType, List<? extends BaseEvent> events) {
+        var domainEvents = events.stream()
+                .map(DomainEvent.class::cast)
+                .toList();
+        eventOutboxRepository.enqueue(aggregateType, domainEvents);
+    }
+}
@@ -0,0 +1,91 @@
+package ai.snippetquiz.core_service.shared.adapter.in;
+
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Follows the records of each partition that are handed to workers, so that a partition is only committed
+ * up to the highest offset below which every record has completed. A record that finishes ahead of an
+ * older one stays pending until the older one is done.
+ */
+class PartitionOffsetTracker {
+    private final Map<TopicPartition, TreeMap<Long, Boolean>> pending = new HashMap<>();
+    private final Map<TopicPartition, Long> committable = new HashMap<>();
+    private int inFlight;
+
+    synchronized void track(TopicPartition partition, long offset) {
+        pending.computeIfAbsent(partition, p -> new TreeMap<>()).put(offset, false);
+        inFlight++;
+    }
+
+    synchronized void complete(TopicPartition partition, long offset) {
+        var offsets = pending.get(partition);
+        if (offsets == null || !Boolean.FALSE.equals(offsets.get(offset))) {
+            // the partition was revoked while the record was being handled
+            return;
+        }
+        offsets.put(offset, true);
+        inFlight--;
+        while (!offsets.isEmpty() && offsets.firstEntry().getValue()) {
+            committable.put(partition, offsets.pollFirstEntry().getKey() + 1);
+        }
+        notifyAll();
+    }
+
+    /**
+     * Returns the offsets that became committable since the previous call.
+     */
+    synchronized Map<TopicPartition, OffsetAndMetadata> drainCommittable() {
+        var offsets = new HashMap<TopicPartition, OffsetAndMetadata>();
+        committable.forEach((partition, offset) -> offsets.put(partition, new OffsetAndMetadata(offset)));
+        committable.clear();
+        return offsets;
+    }
+
+    synchronized int inFlight() {
+        return inFlight;
+    }
+
+    synchronized boolean awaitCompletion(Collection<TopicPartition> partitions, Duration timeout)
+            throws InterruptedException {
+        var deadline = System.nanoTime() + timeout.toNanos();
+        while (partitions.stream().anyMatch(this::hasPending)) {
+            var remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+        return true;
+    }
+
+    synchronized boolean awaitIdle(Duration timeout) throws InterruptedException {
+        return awaitCompletion(Map.copyOf(pending).keySet(), timeout);
+    }
+
+    /**
+     * Drops the partitions from tracking; completions of their records still running are ignored.
+     */
+    synchronized void forget(Collection<TopicPartition> partitions) {
+        for (var partition : partitions) {
+            var offsets = pending.remove(partition);
+            if (offsets != null) {
+                inFlight -= (int) offsets.values().stream().filter(done -> !done).count();
+            }
+            committable.remove(partition);
+        }
+        notifyAll();
+    }
+
+    private boolean hasPending(TopicPartition partition) {
+        var offsets = pending.get(partition);
+        return offsets != null && !offsets.isEmpty();
+    }
+}
@@ -0,0 +1,336 @@
+package ai.snippetquiz.core_service.shared.adapter.in;
+
+import ai.snippetquiz.core_service.shared.adapter.out.repository.ProjectionTableRouting;
+import ai.snippetquiz.core_service.shared.domain.bus.event.AggregateEventSubscriber;
+import ai.snippetquiz.core_service.shared.domain.bus.event.AggregateRootSubscribersInformation;
+import ai.snippetquiz.core_service.shared.domain.bus.event.DomainEvent;
+import ai.snippetquiz.core_service.shared.domain.bus.event.ProjectionSubscriber;
+import ai.snippetquiz.core_service.shared.domain.entity.ProjectionRebuild;
+import ai.snippetquiz.core_service.shared.domain.entity.ProjectionRebuildCheckpoint;
+import ai.snippetquiz.core_service.shared.domain.port.repository.ProjectionRebuildRepository;
+import ai.snippetquiz.core_service.shared.domain.service.EventStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+
+/**
+ * Rebuilds projection tables straight from the event store instead of replaying Kafka.
+ * <p>
+ * The events of every aggregate type a projection subscribes to are split by aggregate id across a pool of
+ * workers. Each worker feeds its slice to the {@link ProjectionSubscriber}s in batches while their statements
+ * are routed to a shadow copy of the table, and commits a checkpoint with every batch, so an interrupted
+ * rebuild resumes where it stopped. Once all slices are done, writers to the live table are blocked, the
+ * aggregates appended to since the rebuild started are replayed into the shadow table, and the two tables
+ * are swapped. Readers are served by the live table the whole time.
+ */
+@Slf4j
+@Component
+public class ProjectionRebuilder {
+    private static final UUID FIRST_AGGREGATE_ID = new UUID(0, 0);
+    private static final Pattern IDENTIFIER = Pattern.compile("[a-z_][a-z0-9_]*");
+    private static final String SHADOW_SUFFIX = "__rebuild";
+
+    private final EventStore eventStore;
+    private final AggregateRootSubscribersInformation subscribersInformation;
+    private final ProjectionRebuildRepository rebuildRepository;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final MeterRegistry meterRegistry;
+    private final List<String> tablesOnStartup;
+    private final int workers;
+    private final int batchSize;
+    private final Duration lease;
+    private final Duration catchUpMargin;
+
+    private final String ownerId = UUID.randomUUID().toString();
+    private final Set<String> running = ConcurrentHashMap.newKeySet();
+    private final ExecutorService coordinator = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("projection-rebuild").daemon(true).factory());
+
+    public record ProjectionRebuildResult(String projection, long events, Duration elapsed) {
+        public double eventsPerSecond() {
+            return elapsed.isZero() ? events : events * 1000.0 / elapsed.toMillis();
+        }
+    }
+
+    private record Slice(String aggregateType, int partition, UUID afterAggregateId) {
+    }
+
+    public ProjectionRebuilder(
+            EventStore eventStore,
+            AggregateRootSubscribersInformation subscribersInformation,
+            ProjectionRebuildRepository rebuildRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${projections.rebuild.tables:}") List<String> tablesOnStartup,
+            @Value("${projections.rebuild.workers:4}") int workers,
+            @Value("${projections.rebuild.batch-size:500}") int batchSize,
+            @Value("${projections.rebuild.lease-seconds:60}") long leaseSeconds,
+            @Value("${projections.rebuild.catch-up-margin-seconds:300}") long catchUpMarginSeconds) {
+        this.eventStore = eventStore;
+        this.subscribersInformation = subscribersInformation;
+        this.rebuildRepository = rebuildRepository;
+        this.meterRegistry = meterRegistry;
+        this.tablesOnStartup = tablesOnStartup;
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.catchUpMargin = Duration.ofSeconds(catchUpMarginSeconds);
+
+        // Workers keep a cursor open in the read transaction and commit each batch in its own
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        tablesOnStartup.stream()
+                .filter(table -> !table.isBlank())
+                .forEach(this::submit);
+    }
+
+    @Scheduled(fixedDelayString = "${projections.rebuild.resume-check-ms:60000}")
+    public void resumeInterrupted() {
+        try {
+            rebuildRepository.findUnfinished(lease).forEach(this::submit);
+        } catch (RuntimeException e) {
+            log.error("Failed to look for interrupted projection rebuilds", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        coordinator.shutdownNow();
+    }
+
+    private void submit(String table) {
+        if (!running.add(table)) {
+            return;
+        }
+        coordinator.execute(() -> {
+            try {
+                rebuild(table);
+            } catch (RuntimeException e) {
+                log.error("Rebuild of projection {} failed, it will be resumed from its checkpoints", table, e);
+            } finally {
+                running.remove(table);
+            }
+        });
+    }
+
+    /**
+     * Rebuilds a projection table and swaps it in. Empty when another instance owns the rebuild.
+     */
+    public Optional<ProjectionRebuildResult> rebuild(String table) {
+        if (!IDENTIFIER.matcher(table).matches()) {
+            throw new IllegalArgumentException("Invalid projection table name: " + table);
+        }
+        var subscribers = subscribersOf(table);
+        if (subscribers.isEmpty()) {
+            throw new IllegalArgumentException("No projection subscriber writes to " + table);
+        }
+        var shadowTable = table + SHADOW_SUFFIX;
+        var routes = Map.of(table, shadowTable);
+
+        var claimed = writeTransaction.execute(status -> {
+            var rebuild = rebuildRepository.claim(table, ownerId, workers, lease);
+            rebuild.filter(started -> !started.isResumed())
+                    .ifPresent(started -> rebuildRepository.prepareShadowTable(table, shadowTable));
+            return rebuild;
+        });
+        if (claimed == null || claimed.isEmpty()) {
+            log.info("Rebuild of projection {} is owned by another instance", table);
+            return Optional.empty();
+        }
+        var rebuild = claimed.get();
+        log.info("{} rebuild of projection {} with {} partitions",
+                rebuild.isResumed() ? "Resuming" : "Starting", table, rebuild.getPartitions());
+
+        var start = System.nanoTime();
+        var events = replaySlices(rebuild, subscribers, routes);
+        events += swap(rebuild, subscribers, routes, shadowTable);
+        var elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        var result = new ProjectionRebuildResult(table, events, elapsed);
+        log.info("Rebuilt projection {}: {} events in {} ms ({} events/s)",
+                table, events, elapsed.toMillis(), String.format("%.0f", result.eventsPerSecond()));
+        return Optional.of(result);
+    }
+
+    private Map<String, List<AggregateEventSubscriber>> subscribersOf(String table) {
+        var subscribers = new LinkedHashMap<String, List<AggregateEventSubscriber>>();
+        subscribersInformation.getSubscribers().forEach((aggregateType, aggregateSubscribers) -> {
+            var projectionSubscribers = aggregateSubscribers.stream()
+                    .filter(subscriber -> subscriber instanceof ProjectionSubscriber projection
+                            && projection.projectionTable().equals(table))
+                    .toList();
+            if (!projectionSubscribers.isEmpty()) {
+                subscribers.put(aggregateType, projectionSubscribers);
+            }
+        });
+        return subscribers;
+    }
+
+    private long replaySlices(ProjectionRebuild rebuild, Map<String, List<AggregateEventSubscriber>> subscribers,
+            Map<String, String> routes) {
+        var checkpoints = new HashMap<String, ProjectionRebuildCheckpoint>();
+        for (var checkpoint : rebuildRepository.findCheckpoints(rebuild.getProjection())) {
+            checkpoints.put(checkpoint.getAggregateType() + "#" + checkpoint.getPartition(), checkpoint);
+        }
+
+        var slices = new ArrayList<Slice>();
+        for (var aggregateType : subscribers.keySet()) {
+            for (int partition = 0; partition < rebuild.getPartitions(); partition++) {
+                var checkpoint = checkpoints.get(aggregateType + "#" + partition);
+                if (checkpoint != null && checkpoint.isDone()) {
+                    continue;
+                }
+                var after = checkpoint != null && checkpoint.getLastAggregateId() != null
+                        ? checkpoint.getLastAggregateId()
+                        : FIRST_AGGREGATE_ID;
+                slices.add(new Slice(aggregateType, partition, after));
+            }
+        }
+
+        var eventsCounter = Counter.builder("projection.rebuild.events")
+                .description("Events replayed into rebuilt projections")
+                .tag("projection", rebuild.getProjection())
+                .register(meterRegistry);
+        try (var pool = Executors.newFixedThreadPool(Math.max(1, Math.min(workers, slices.size())),
+                Thread.ofPlatform().name("projection-rebuild-worker-", 0).factory())) {
+            var futures = new ArrayList<Future<Long>>();
+            for (var slice : slices) {
+                futures.add(pool.submit(() -> replaySlice(rebuild, slice,
+                        subscribers.get(slice.aggregateType()), routes, eventsCounter)));
+            }
+
+            long events = 0;
+            for (var future : futures) {
+                try {
+                    events += future.get();
+                } catch (ExecutionException e) {
+                    pool.shutdownNow();
+                    throw new IllegalStateException("Rebuild of projection " + rebuild.getProjection() + " failed",
+                            e.getCause());
+                } catch (InterruptedException e) {
+                    pool.shutdownNow();
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Rebuild of projection " + rebuild.getProjection() +
+                            " was interrupted", e);
+                }
+            }
+            return events;
+        }
+    }
+
+    private long replaySlice(ProjectionRebuild rebuild, Slice slice, List<AggregateEventSubscriber> subscribers,
+            Map<String, String> routes, Counter eventsCounter) {
+        var start = System.nanoTime();
+        Long replayed = readTransaction.execute(status -> {
+            long events = 0;
+            var batch = new ArrayList<DomainEvent>(batchSize);
+            try (var stream = eventStore.streamEventsOf(slice.aggregateType(), slice.partition(),
+                    rebuild.getPartitions(), slice.afterAggregateId())) {
+                var iterator = stream.iterator();
+                while (iterator.hasNext()) {
+                    var event = iterator.next();
+                    // Batches end between aggregates, so a checkpoint never splits the events of one
+                    if (batch.size() >= batchSize
+                            && !event.getAggregateId().equals(batch.getLast().getAggregateId())) {
+                        events += writeBatch(rebuild, slice, subscribers, routes, batch, eventsCounter);
+                        batch.clear();
+                    }
+                    batch.add(event);
+                }
+            }
+            if (!batch.isEmpty()) {
+                events += writeBatch(rebuild, slice, subscribers, routes, batch, eventsCounter);
+            }
+            return events;
+        });
+
+        writeTransaction.executeWithoutResult(status -> rebuildRepository.completePartition(
+                rebuild.getProjection(), slice.aggregateType(), slice.partition()));
+
+        var events = replayed != null ? replayed : 0L;
+        var elapsed = Duration.ofNanos(System.nanoTime() - start);
+        log.info("Projection {} partition {}/{} of {}: {} events in {} ms",
+                rebuild.getProjection(), slice.partition(), rebuild.getPartitions(), slice.aggregateType(),
+                events, elapsed.toMillis());
+        return events;
+    }
+
+    private int writeBatch(ProjectionRebuild rebuild, Slice slice, List<AggregateEventSubscriber> subscribers,
+            Map<String, String> routes, List<DomainEvent> batch, Counter eventsCounter) {
+        writeTransaction.executeWithoutResult(status -> {
+            ProjectionTableRouting.route(routes, () -> apply(subscribers, batch));
+            rebuildRepository.checkpoint(rebuild.getProjection(), ownerId, slice.aggregateType(), slice.partition(),
+                    batch.getLast().getAggregateId(), batch.size());
+        });
+        eventsCounter.increment(batch.size());
+        return batch.size();
+    }
+
+    private long swap(ProjectionRebuild rebuild, Map<String, List<AggregateEventSubscriber>> subscribers,
+            Map<String, String> routes, String shadowTable) {
+        var table = rebuild.getProjection();
+        // Streams appended to in the meantime are replayed whole; the margin covers appends that were
+        // still uncommitted when the rebuild started
+        var since = rebuild.getStartedAt().minus(catchUpMargin);
+
+        Long caughtUp = writeTransaction.execute(status -> {
+            rebuildRepository.lockForSwap(table);
+            long events = 0;
+            for (var entry : subscribers.entrySet()) {
+                try (var stream = eventStore.streamEventsUpdatedSince(entry.getKey(), since)) {
+                    var iterator = stream.iterator();
+                    while (iterator.hasNext()) {
+                        var event = iterator.next();
+                        ProjectionTableRouting.route(routes, () -> apply(entry.getValue(), List.of(event)));
+                        events++;
+                    }
+                }
+            }
+            rebuildRepository.swap(table, shadowTable);
+            rebuildRepository.complete(table);
+            return events;
+        });
+
+        return caughtUp != null ? caughtUp : 0L;
+    }
+
+    private void apply(List<AggregateEventSubscriber> subscribers, List<DomainEvent> events) {
+        for (var event : events) {
+            for (var subscriber : subscribers) {
+                subscriber.on(event);
+            }
+        }
+    }
+}
@@ -14,13 +14,13 @@ import java.util.List;
 @Slf4j
 @Primary
 public class SmartEventBusRouter implements EventBus {
-    private final EventBus kafkaBus;
+    private final EventBus outboxBus;
     private final EventBus redisBus;
 
     public SmartEventBusRouter(
-            @Qualifier("kafkaEventBus") EventBus kafkaBus,
+            @Qualifier("outboxEventBus") EventBus outboxBus,
             @Qualifier("redisEventBus") EventBus redisBus) {
-        this.kafkaBus = kafkaBus;
+        this.outboxBus = outboxBus;
         this.redisBus = redisBus;
     }
 
@@ -37,10 +37,14 @@ public class SmartEventBusRouter implements EventBus {
 
     private void publish(final boolean isEphemeral, final String aggregateType,
             List<? extends BaseEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
         if (isEphemeral) {
             redisBus.publish(aggregateType, events);
         } else {
-            kafkaBus.publish(aggregateType, events);
+            // Durable events go through the outbox and reach Kafka once the surrounding transaction commits
+            outboxBus.publish(aggregateType, events);
         }
     }
 }
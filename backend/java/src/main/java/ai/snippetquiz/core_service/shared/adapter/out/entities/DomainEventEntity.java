@@ -36,6 +36,12 @@ public class DomainEventEntity {
     @Column(columnDefinition = "jsonb")
     private String payload;
 
+    private String payloadEncoding;
+
+    @JdbcTypeCode(SqlTypes.VARBINARY)
+    @Column(columnDefinition = "bytea")
+    private byte[] payloadBytes;
+
     @Column(name="version", nullable = true)
     private Integer version;
 
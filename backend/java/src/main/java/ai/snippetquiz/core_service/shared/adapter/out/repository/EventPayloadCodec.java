@@ -0,0 +1,13 @@
+package ai.snippetquiz.core_service.shared.adapter.out.repository;
+
+/**
+ * Binary encoding of the JSON payload of a stored event. The encoding name is written next to every row,
+ * so rows written with different codecs can be read back side by side.
+ */
+public interface EventPayloadCodec {
+    String encoding();
+
+    byte[] encode(String payload);
+
+    String decode(byte[] payload);
+}
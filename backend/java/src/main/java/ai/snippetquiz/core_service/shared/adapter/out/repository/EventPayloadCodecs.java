@@ -0,0 +1,65 @@
+package ai.snippetquiz.core_service.shared.adapter.out.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * Chooses how event payloads are written and decodes rows of any known encoding. The plain "json"
+ * encoding keeps the payload in the jsonb column; binary codecs write payload_bytes instead.
+ */
+@Component
+public class EventPayloadCodecs {
+    public static final String JSON = "json";
+
+    private final Map<String, EventPayloadCodec> codecs;
+    private final String writeEncoding;
+
+    public record EncodedPayload(String encoding, String json, byte[] bytes) {
+    }
+
+    public EventPayloadCodecs(
+            List<EventPayloadCodec> codecs,
+            @Value("${event-store.payload.encoding:json}") String writeEncoding) {
+        this.codecs = codecs.stream().collect(toMap(EventPayloadCodec::encoding, Function.identity()));
+        if (!JSON.equals(writeEncoding) && !this.codecs.containsKey(writeEncoding)) {
+            throw new IllegalArgumentException("Unknown event payload encoding: " + writeEncoding);
+        }
+        this.writeEncoding = writeEncoding;
+    }
+
+    public String writeEncoding() {
+        return writeEncoding;
+    }
+
+    public EncodedPayload encode(String payload) {
+        return encode(payload, writeEncoding);
+    }
+
+    public EncodedPayload encode(String payload, String encoding) {
+        if (JSON.equals(encoding)) {
+            return new EncodedPayload(JSON, payload, null);
+        }
+        return new EncodedPayload(encoding, null, codec(encoding).encode(payload));
+    }
+
+    public String decode(String encoding, String json, byte[] bytes) {
+        if (encoding == null || JSON.equals(encoding)) {
+            return json;
+        }
+        return codec(encoding).decode(bytes);
+    }
+
+    private EventPayloadCodec codec(String encoding) {
+        var codec = codecs.get(encoding);
+        if (codec == null) {
+            throw new IllegalArgumentException("Unknown event payload encoding: " + encoding);
+        }
+        return codec;
+    }
+}
@@ -0,0 +1,107 @@
+package ai.snippetquiz.core_service.shared.adapter.out.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Rewrites stored payloads into the configured write encoding in small batches, walking each table by id
+ * so that a pass never rescans rows it has already handled.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "event-store.payload.reencode.enabled", havingValue = "true")
+public class EventPayloadReencoder {
+    private static final List<String> TABLES = List.of("event_store", "event_store_cold");
+    private static final UUID FIRST_ID = new UUID(0, 0);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EventPayloadCodecs payloadCodecs;
+    private final int batchSize;
+    private final Map<String, UUID> positions = new HashMap<>();
+
+    private record ReencodedRow(UUID id, Timestamp occurredOn, EventPayloadCodecs.EncodedPayload payload) {
+    }
+
+    public EventPayloadReencoder(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            EventPayloadCodecs payloadCodecs,
+            @Value("${event-store.payload.reencode.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.payloadCodecs = payloadCodecs;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${event-store.payload.reencode.interval-ms:60000}")
+    public void reencode() {
+        for (var table : TABLES) {
+            try {
+                int scanned;
+                do {
+                    scanned = transactionTemplate.execute(status -> reencodeBatch(table));
+                } while (scanned == batchSize);
+            } catch (RuntimeException e) {
+                log.error("Failed to re-encode event payloads of {}", table, e);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of rows scanned; once a table is exhausted the next pass starts over from the
+     * beginning to pick up rows written with an older encoding in the meantime.
+     */
+    int reencodeBatch(String table) {
+        var target = payloadCodecs.writeEncoding();
+        var position = positions.getOrDefault(table, FIRST_ID);
+
+        var ids = jdbcTemplate.queryForList(
+                "SELECT id FROM " + table + " WHERE id > ? ORDER BY id LIMIT ?", UUID.class, position, batchSize);
+        if (ids.size() < batchSize) {
+            positions.remove(table);
+        } else {
+            positions.put(table, ids.getLast());
+        }
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        var rows = jdbcTemplate.query(
+                "SELECT id, occurred_on, payload_encoding, payload::text AS payload, payload_bytes FROM " + table +
+                " WHERE id >= ? AND id <= ? AND payload_encoding <> ? FOR UPDATE SKIP LOCKED",
+                (rs, rowNum) -> new ReencodedRow(
+                        rs.getObject("id", UUID.class),
+                        rs.getTimestamp("occurred_on"),
+                        payloadCodecs.encode(payloadCodecs.decode(
+                                rs.getString("payload_encoding"),
+                                rs.getString("payload"),
+                                rs.getBytes("payload_bytes")), target)),
+                ids.getFirst(), ids.getLast(), target);
+
+        var params = new ArrayList<Object[]>();
+        for (var row : rows) {
+            params.add(new Object[]{
+                    row.payload().json(), row.payload().encoding(), row.payload().bytes(), row.id(), row.occurredOn()});
+        }
+        if (!params.isEmpty()) {
+            // occurred_on lets Postgres prune the update to a single partition
+            jdbcTemplate.batchUpdate("UPDATE " + table + " SET payload = CAST(? AS jsonb), payload_encoding = ?, " +
+                    "payload_bytes = ? WHERE id = ? AND occurred_on = ?", params);
+            log.info("Re-encoded {} event payloads of {} to {}", params.size(), table, target);
+        }
+        return ids.size();
+    }
+}
@@ -0,0 +1,156 @@
+package ai.snippetquiz.core_service.shared.adapter.out.repository;
+
+import ai.snippetquiz.core_service.shared.domain.bus.event.DeactivationDomainEvent;
+import ai.snippetquiz.core_service.shared.domain.bus.event.EventsInformation;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps the monthly partitions of event_store in shape: creates upcoming months ahead of time and moves
+ * past months to event_store_cold once they are older than the hot retention or only hold deleted aggregates.
+ * Reads fall back to the cold tier, so moving a partition does not change what the adapter returns.
+ */
+@Slf4j
+@Component
+public class EventStorePartitionMaintenance {
+    private static final String PARTITION_PREFIX = "event_store_";
+    private static final DateTimeFormatter PARTITION_MONTH = DateTimeFormatter.ofPattern("'y'yyyy'm'MM");
+    private static final Pattern IDENTIFIER = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Set<String> deactivationEventNames;
+    private final int premakeMonths;
+    private final int hotRetentionMonths;
+    private final String coldTablespace;
+
+    public EventStorePartitionMaintenance(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            EventsInformation eventsInformation,
+            @Value("${event-store.partitioning.premake-months:3}") int premakeMonths,
+            @Value("${event-store.partitioning.hot-retention-months:6}") int hotRetentionMonths,
+            @Value("${event-store.partitioning.cold-tablespace:}") String coldTablespace) {
+        if (!coldTablespace.isBlank() && !IDENTIFIER.matcher(coldTablespace).matches()) {
+            throw new IllegalArgumentException("Invalid cold tablespace name: " + coldTablespace);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.deactivationEventNames = eventsInformation.eventNamesOf(DeactivationDomainEvent.class);
+        this.premakeMonths = premakeMonths;
+        this.hotRetentionMonths = hotRetentionMonths;
+        this.coldTablespace = coldTablespace;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintain();
+    }
+
+    @Scheduled(cron = "${event-store.partitioning.cron:0 30 3 * * *}")
+    public void maintain() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                // Only one instance reshapes the table at a time
+                Boolean locked = jdbcTemplate.queryForObject(
+                        "SELECT pg_try_advisory_xact_lock(hashtext('event_store_partitioning'))", Boolean.class);
+                if (!Boolean.TRUE.equals(locked)) {
+                    return;
+                }
+                createUpcomingPartitions(YearMonth.now());
+                moveToColdTier(YearMonth.now());
+            });
+        } catch (RuntimeException e) {
+            log.error("Event store partition maintenance failed", e);
+        }
+    }
+
+    void createUpcomingPartitions(YearMonth currentMonth) {
+        for (int i = 0; i <= premakeMonths; i++) {
+            var month = currentMonth.plusMonths(i);
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partitionName(month) +
+                    " PARTITION OF event_store " + bounds(month));
+        }
+    }
+
+    void moveToColdTier(YearMonth currentMonth) {
+        var hotBoundary = currentMonth.minusMonths(hotRetentionMonths);
+        for (var partition : hotPartitions()) {
+            var month = partitionMonth(partition);
+            if (month.isEmpty() || !month.get().isBefore(currentMonth)) {
+                continue;
+            }
+            if (month.get().isBefore(hotBoundary) || holdsOnlyDeactivatedAggregates(partition)) {
+                moveToColdTier(partition, month.get());
+            }
+        }
+    }
+
+    private List<String> hotPartitions() {
+        return jdbcTemplate.queryForList("""
+                SELECT c.relname FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = 'event_store'::regclass
+                ORDER BY c.relname
+                """, String.class);
+    }
+
+    // A deactivation event is always the last one of its stream, so it lives in this partition or a later one
+    private boolean holdsOnlyDeactivatedAggregates(String partition) {
+        if (deactivationEventNames.isEmpty()) {
+            return false;
+        }
+
+        var placeholders = String.join(", ", Collections.nCopies(deactivationEventNames.size(), "?"));
+        Boolean onlyDeactivated = jdbcTemplate.queryForObject(
+                "SELECT NOT EXISTS (SELECT 1 FROM " + partition + " e WHERE NOT EXISTS (" +
+                "SELECT 1 FROM event_store d WHERE d.aggregate_id = e.aggregate_id " +
+                "AND d.event_name IN (" + placeholders + ")))",
+                Boolean.class, new ArrayList<>(deactivationEventNames).toArray());
+        return Boolean.TRUE.equals(onlyDeactivated);
+    }
+
+    private void moveToColdTier(String partition, YearMonth month) {
+        jdbcTemplate.execute("ALTER TABLE event_store DETACH PARTITION " + partition);
+        if (!coldTablespace.isBlank()) {
+            jdbcTemplate.execute("ALTER TABLE " + partition + " SET TABLESPACE " + coldTablespace);
+        }
+        jdbcTemplate.execute("ALTER TABLE event_store_cold ATTACH PARTITION " + partition + " " + bounds(month));
+        log.info("Moved event store partition {} to the cold tier", partition);
+    }
+
+    static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(PARTITION_MONTH);
+    }
+
+    static Optional<YearMonth> partitionMonth(String partition) {
+        if (!partition.startsWith(PARTITION_PREFIX)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(YearMonth.parse(partition.substring(PARTITION_PREFIX.length()), PARTITION_MONTH));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static String bounds(YearMonth month) {
+        return "FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')";
+    }
+}
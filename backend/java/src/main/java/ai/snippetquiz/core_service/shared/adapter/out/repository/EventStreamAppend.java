@@ -0,0 +1,14 @@
+package ai.snippetquiz.core_service.shared.adapter.out.repository;
+
+import ai.snippetquiz.core_service.shared.domain.bus.event.DomainEvent;
+import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
+
+import java.util.List;
+import java.util.UUID;
+
+record EventStreamAppend(
+        UserId userId,
+        UUID aggregateId,
+        String aggregateType,
+        List<? extends DomainEvent> domainEvents) {
+}
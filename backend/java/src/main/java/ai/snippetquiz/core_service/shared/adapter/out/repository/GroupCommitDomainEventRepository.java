@@ -0,0 +1,233 @@
+package ai.snippetquiz.core_service.shared.adapter.out.repository;
+
+import ai.snippetquiz.core_service.shared.domain.bus.event.DomainEvent;
+import ai.snippetquiz.core_service.shared.domain.entity.GlobalPosition;
+import ai.snippetquiz.core_service.shared.domain.entity.PositionedEvent;
+import ai.snippetquiz.core_service.shared.domain.exception.ConcurrencyException;
+import ai.snippetquiz.core_service.shared.domain.port.repository.DomainEventRepository;
+import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
+
+/**
+ * Collects appends from concurrent callers for a short window and writes them in one transaction.
+ * Only appends made outside a transaction are batched: an append inside one is written on the caller's
+ * connection so that it commits or rolls back with the caller's other writes and outbox rows.
+ */
+@Slf4j
+@Primary
+@Component
+@ConditionalOnProperty(name = "event-store.group-commit.enabled", havingValue = "true")
+public class GroupCommitDomainEventRepository<T extends DomainEvent> implements DomainEventRepository<T>, SmartLifecycle {
+    private final JpaDomainEventRepositoryAdapter<T> delegate;
+    private final TransactionTemplate transactionTemplate;
+    private final long maxWaitNanos;
+    private final int maxBatchEvents;
+    private final long maxJoinMillis;
+    private final BlockingQueue<PendingAppend> queue = new LinkedBlockingQueue<>();
+    private Thread thread;
+    private volatile boolean running = false;
+
+    private record PendingAppend(EventStreamAppend append, CompletableFuture<Void> result) {
+    }
+
+    public GroupCommitDomainEventRepository(
+            JpaDomainEventRepositoryAdapter<T> delegate,
+            TransactionTemplate transactionTemplate,
+            @Value("${event-store.group-commit.max-wait-micros:2000}") long maxWaitMicros,
+            @Value("${event-store.group-commit.max-batch-events:256}") int maxBatchEvents,
+            @Value("${event-store.group-commit.max-join-ms:5000}") long maxJoinMillis) {
+        this.delegate = delegate;
+        this.transactionTemplate = transactionTemplate;
+        this.maxWaitNanos = TimeUnit.MICROSECONDS.toNanos(maxWaitMicros);
+        this.maxBatchEvents = maxBatchEvents;
+        this.maxJoinMillis = maxJoinMillis;
+    }
+
+    @Override
+    public List<T> findAllByUserIdAndAggregateIdAndAggregateType(UserId userId, UUID aggregateId) {
+        return delegate.findAllByUserIdAndAggregateIdAndAggregateType(userId, aggregateId);
+    }
+
+    @Override
+    public List<T> findAllByUserIdAndAggregateIdAfterVersion(UserId userId, UUID aggregateId, int version) {
+        return delegate.findAllByUserIdAndAggregateIdAfterVersion(userId, aggregateId, version);
+    }
+
+    @Override
+    public Stream<T> streamByUserIdAndAggregateId(UserId userId, UUID aggregateId, int afterVersion) {
+        return delegate.streamByUserIdAndAggregateId(userId, aggregateId, afterVersion);
+    }
+
+    @Override
+    public Stream<T> streamByUserIdAndAggregateIdAndEventNames(UserId userId, UUID aggregateId,
+            Set<String> eventNames) {
+        return delegate.streamByUserIdAndAggregateIdAndEventNames(userId, aggregateId, eventNames);
+    }
+
+    @Override
+    public int findStreamVersion(UserId userId, UUID aggregateId) {
+        return delegate.findStreamVersion(userId, aggregateId);
+    }
+
+    @Override
+    public Stream<T> streamByAggregateType(String aggregateType) {
+        return delegate.streamByAggregateType(aggregateType);
+    }
+
+    @Override
+    public Stream<T> streamByAggregateType(String aggregateType, int partition, int partitions,
+            UUID afterAggregateId) {
+        return delegate.streamByAggregateType(aggregateType, partition, partitions, afterAggregateId);
+    }
+
+    @Override
+    public List<PositionedEvent> findAfterPosition(GlobalPosition after, Set<String> aggregateTypes, int limit) {
+        return delegate.findAfterPosition(after, aggregateTypes, limit);
+    }
+
+    @Override
+    public Stream<T> streamByAggregateTypeUpdatedSince(String aggregateType, LocalDateTime since) {
+        return delegate.streamByAggregateTypeUpdatedSince(aggregateType, since);
+    }
+
+    @Override
+    public void saveAll(UserId userId, UUID aggregateId, String aggregateType, List<? extends T> domainEvents) {
+        if (domainEvents.isEmpty()) {
+            return;
+        }
+        // A waiting caller's transaction would hold a pooled connection the writer needs, and its rollback
+        // would not undo events the writer already committed
+        if (!running || TransactionSynchronizationManager.isActualTransactionActive()) {
+            delegate.saveAll(userId, aggregateId, aggregateType, domainEvents);
+            return;
+        }
+
+        var pending = new PendingAppend(
+                new EventStreamAppend(userId, aggregateId, aggregateType, domainEvents),
+                new CompletableFuture<>());
+        queue.add(pending);
+        // Stopped while enqueuing: the writer may already have exited, so an append it never took is written here
+        if (!running && queue.remove(pending)) {
+            delegate.saveAll(userId, aggregateId, aggregateType, domainEvents);
+            return;
+        }
+
+        try {
+            pending.result().get(maxJoinMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // Not taken by the writer yet, so it is written here instead; once taken its outcome is unknown
+            if (queue.remove(pending)) {
+                delegate.saveAll(userId, aggregateId, aggregateType, domainEvents);
+                return;
+            }
+            throw new IllegalStateException("Timed out waiting for the event store batch of aggregate " + aggregateId, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for the event store batch of aggregate " + aggregateId, e);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        thread = new Thread(() -> {
+            while (running || !queue.isEmpty()) {
+                try {
+                    var batch = nextBatch();
+                    if (!batch.isEmpty()) {
+                        flush(batch);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            queue.forEach(pending -> pending.result().completeExceptionally(
+                    new IllegalStateException("Event store group commit stopped")));
+        }, "event-store-group-commit-thread");
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            if (thread != null) {
+                thread.join();
+            }
+        } catch (InterruptedException ignored) { }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private List<PendingAppend> nextBatch() throws InterruptedException {
+        var batch = new ArrayList<PendingAppend>();
+        var first = queue.poll(100, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return batch;
+        }
+
+        batch.add(first);
+        var events = first.append().domainEvents().size();
+        var deadline = System.nanoTime() + maxWaitNanos;
+        while (events < maxBatchEvents) {
+            var next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+            events += next.append().domainEvents().size();
+        }
+        return batch;
+    }
+
+    private void flush(List<PendingAppend> batch) {
+        try {
+            // Conflicting appends write nothing, so the rest of the batch commits without them
+            var appends = batch.stream().map(PendingAppend::append).toList();
+            Set<Integer> conflicted = transactionTemplate.execute(status -> delegate.appendBatch(appends));
+
+            for (int i = 0; i < batch.size(); i++) {
+                var append = batch.get(i);
+                if (conflicted != null && conflicted.contains(i)) {
+                    append.result().completeExceptionally(new ConcurrencyException(
+                            "Concurrency conflict: aggregate " + append.append().aggregateId() +
+                            " already has version " + append.append().domainEvents().getFirst().getVersion()));
+                } else {
+                    append.result().complete(null);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to write event store batch of {} appends", batch.size(), e);
+            batch.forEach(append -> append.result().completeExceptionally(e));
+        }
+    }
+}
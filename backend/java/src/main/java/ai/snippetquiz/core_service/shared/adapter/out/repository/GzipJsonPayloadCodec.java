@@ -0,0 +1,41 @@
+package ai.snippetquiz.core_service.shared.adapter.out.repository;
+
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+@Component
+public class GzipJsonPayloadCodec implements EventPayloadCodec {
+    public static final String ENCODING = "gzip";
+
+    @Override
+    public String encoding() {
+        return ENCODING;
+    }
+
+    @Override
+    public byte[] encode(String payload) {
+        var bytes = new ByteArrayOutputStream();
+        try (var gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(payload.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public String decode(byte[] payload) {
+        try (var gzip = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+            return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package ai.snippetquiz.core_service.shared.adapter.out.repository;
+
+import ai.snippetquiz.core_service.shared.domain.entity.GlobalPosition;
+import ai.snippetquiz.core_service.shared.domain.port.repository.EventSubscriptionCheckpointRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class JdbcEventSubscriptionCheckpointRepositoryAdapter implements EventSubscriptionCheckpointRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<GlobalPosition> lock(String subscription) {
+        jdbcTemplate.update(
+                "INSERT INTO event_subscription_checkpoints (subscription) VALUES (?) ON CONFLICT DO NOTHING",
+                subscription);
+        return jdbcTemplate.query("""
+                SELECT transaction_id::text AS transaction_id, position FROM event_subscription_checkpoints
+                WHERE subscription = ? FOR UPDATE SKIP LOCKED
+                """,
+                (rs, rowNum) -> new GlobalPosition(
+                        Long.parseLong(rs.getString("transaction_id")),
+                        rs.getLong("position")),
+                subscription).stream().findFirst();
+    }
+
+    @Override
+    public void save(String subscription, GlobalPosition position) {
+        jdbcTemplate.update("""
+                UPDATE event_subscription_checkpoints
+                SET transaction_id = CAST(? AS xid8), position = ?, updated_at = now()
+                WHERE subscription = ?
+                """, Long.toString(position.transactionId()), position.position(), subscription);
+    }
+
+    @Override
+    public void reset(String subscription) {
+        jdbcTemplate.update("DELETE FROM event_subscription_checkpoints WHERE subscription = ?", subscription);
+    }
+}
@@ -0,0 +1,190 @@
+package ai.snippetquiz.core_service.shared.adapter.out.repository;
+
+import ai.snippetquiz.core_service.shared.domain.entity.ProjectionRebuild;
+import ai.snippetquiz.core_service.shared.domain.entity.ProjectionRebuildCheckpoint;
+import ai.snippetquiz.core_service.shared.domain.port.repository.ProjectionRebuildRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class JdbcProjectionRebuildRepositoryAdapter implements ProjectionRebuildRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    private record ClaimedRow(int partitions, String ownerId, boolean leaseExpired, boolean completed) {
+    }
+
+    @Override
+    public Optional<ProjectionRebuild> claim(String projection, String ownerId, int partitions, Duration lease) {
+        var rows = jdbcTemplate.query("""
+                SELECT partitions, owner_id, heartbeat_at < now() - make_interval(secs => ?) AS lease_expired,
+                       completed_at IS NOT NULL AS completed
+                FROM projection_rebuilds WHERE projection = ? FOR UPDATE
+                """,
+                (rs, rowNum) -> new ClaimedRow(
+                        rs.getInt("partitions"),
+                        rs.getString("owner_id"),
+                        rs.getBoolean("lease_expired"),
+                        rs.getBoolean("completed")),
+                lease.toSeconds(), projection);
+
+        if (rows.isEmpty()) {
+            var inserted = jdbcTemplate.update("""
+                    INSERT INTO projection_rebuilds (projection, partitions, owner_id) VALUES (?, ?, ?)
+                    ON CONFLICT (projection) DO NOTHING
+                    """, projection, partitions, ownerId);
+            return inserted == 0 ? Optional.empty() : Optional.of(started(projection, partitions));
+        }
+
+        var row = rows.getFirst();
+        if (row.completed()) {
+            jdbcTemplate.update("DELETE FROM projection_rebuild_checkpoints WHERE projection = ?", projection);
+            jdbcTemplate.update("""
+                    UPDATE projection_rebuilds SET partitions = ?, owner_id = ?, started_at = now(),
+                           heartbeat_at = now(), completed_at = NULL
+                    WHERE projection = ?
+                    """, partitions, ownerId, projection);
+            return Optional.of(started(projection, partitions));
+        }
+        if (!row.leaseExpired() && !row.ownerId().equals(ownerId)) {
+            return Optional.empty();
+        }
+
+        jdbcTemplate.update("UPDATE projection_rebuilds SET owner_id = ?, heartbeat_at = now() WHERE projection = ?",
+                ownerId, projection);
+        // The partition count is kept from the interrupted run, its checkpoints depend on it
+        return Optional.of(ProjectionRebuild.builder()
+                .projection(projection)
+                .partitions(row.partitions())
+                .startedAt(startedAt(projection))
+                .resumed(true)
+                .build());
+    }
+
+    @Override
+    public List<String> findUnfinished(Duration lease) {
+        return jdbcTemplate.queryForList("""
+                SELECT projection FROM projection_rebuilds
+                WHERE completed_at IS NULL AND heartbeat_at < now() - make_interval(secs => ?)
+                """, String.class, lease.toSeconds());
+    }
+
+    @Override
+    public List<ProjectionRebuildCheckpoint> findCheckpoints(String projection) {
+        return jdbcTemplate.query("""
+                SELECT aggregate_type, partition_index, last_aggregate_id, events, done
+                FROM projection_rebuild_checkpoints WHERE projection = ?
+                """,
+                (rs, rowNum) -> ProjectionRebuildCheckpoint.builder()
+                        .aggregateType(rs.getString("aggregate_type"))
+                        .partition(rs.getInt("partition_index"))
+                        .lastAggregateId(rs.getObject("last_aggregate_id", UUID.class))
+                        .events(rs.getLong("events"))
+                        .done(rs.getBoolean("done"))
+                        .build(),
+                projection);
+    }
+
+    @Override
+    public void checkpoint(String projection, String ownerId, String aggregateType, int partition,
+            UUID lastAggregateId, long events) {
+        var renewed = jdbcTemplate.update(
+                "UPDATE projection_rebuilds SET heartbeat_at = now() WHERE projection = ? AND owner_id = ?",
+                projection, ownerId);
+        if (renewed == 0) {
+            throw new IllegalStateException("Rebuild of " + projection + " was claimed by another instance");
+        }
+
+        jdbcTemplate.update("""
+                INSERT INTO projection_rebuild_checkpoints (projection, aggregate_type, partition_index,
+                       last_aggregate_id, events)
+                VALUES (?, ?, ?, ?, ?)
+                ON CONFLICT (projection, aggregate_type, partition_index) DO UPDATE
+                SET last_aggregate_id = EXCLUDED.last_aggregate_id,
+                    events = projection_rebuild_checkpoints.events + EXCLUDED.events
+                """, projection, aggregateType, partition, lastAggregateId, events);
+    }
+
+    @Override
+    public void completePartition(String projection, String aggregateType, int partition) {
+        jdbcTemplate.update("""
+                INSERT INTO projection_rebuild_checkpoints (projection, aggregate_type, partition_index, done)
+                VALUES (?, ?, ?, TRUE)
+                ON CONFLICT (projection, aggregate_type, partition_index) DO UPDATE SET done = TRUE
+                """, projection, aggregateType, partition);
+    }
+
+    @Override
+    public void complete(String projection) {
+        jdbcTemplate.update("UPDATE projection_rebuilds SET completed_at = now() WHERE projection = ?", projection);
+    }
+
+    @Override
+    public void prepareShadowTable(String table, String shadowTable) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + shadowTable);
+        jdbcTemplate.execute("CREATE TABLE " + shadowTable + " (LIKE " + table + " INCLUDING ALL)");
+    }
+
+    @Override
+    public void lockForSwap(String table) {
+        // Readers keep going while the shadow table catches up, writers wait for the swap
+        jdbcTemplate.execute("LOCK TABLE " + table + " IN EXCLUSIVE MODE");
+    }
+
+    @Override
+    public void swap(String table, String shadowTable) {
+        var liveIndexes = indexesOf(table);
+        var shadowIndexes = indexesOf(shadowTable);
+        var retiredTable = table + "__retired";
+
+        jdbcTemplate.execute("ALTER TABLE " + table + " RENAME TO " + retiredTable);
+        jdbcTemplate.execute("ALTER TABLE " + shadowTable + " RENAME TO " + table);
+        jdbcTemplate.execute("DROP TABLE " + retiredTable);
+
+        // LIKE ... INCLUDING ALL names the copied indexes after the shadow table, migrations expect the live names
+        shadowIndexes.forEach((definition, shadowIndex) -> {
+            var liveIndex = liveIndexes.get(definition);
+            if (liveIndex != null && !liveIndex.equals(shadowIndex)) {
+                jdbcTemplate.execute("ALTER INDEX " + shadowIndex + " RENAME TO " + liveIndex);
+            }
+        });
+    }
+
+    private ProjectionRebuild started(String projection, int partitions) {
+        return ProjectionRebuild.builder()
+                .projection(projection)
+                .partitions(partitions)
+                .startedAt(startedAt(projection))
+                .resumed(false)
+                .build();
+    }
+
+    private LocalDateTime startedAt(String projection) {
+        return jdbcTemplate.queryForObject("SELECT started_at FROM projection_rebuilds WHERE projection = ?",
+                (rs, rowNum) -> rs.getTimestamp("started_at").toLocalDateTime(), projection);
+    }
+
+    // Keyed by the part of the definition after the table name, which is the same for both copies
+    private Map<String, String> indexesOf(String table) {
+        var indexes = new HashMap<String, String>();
+        jdbcTemplate.query("""
+                SELECT indexname, indexdef FROM pg_indexes
+                WHERE schemaname = current_schema() AND tablename = ?
+                """, rs -> {
+            var definition = rs.getString("indexdef");
+            var unique = definition.startsWith("CREATE UNIQUE");
+            indexes.put((unique ? "UNIQUE " : "") + definition.substring(definition.indexOf(" USING ")),
+                    rs.getString("indexname"));
+        }, table);
+        return indexes;
+    }
+}
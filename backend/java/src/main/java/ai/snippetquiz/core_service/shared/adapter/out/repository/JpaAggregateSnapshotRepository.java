@@ -0,0 +1,13 @@
+package ai.snippetquiz.core_service.shared.adapter.out.repository;
+
+import ai.snippetquiz.core_service.shared.adapter.out.entities.AggregateSnapshotEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface JpaAggregateSnapshotRepository extends JpaRepository<AggregateSnapshotEntity, UUID> {
+    Optional<AggregateSnapshotEntity> findByUserIdAndAggregateId(UUID userId, UUID aggregateId);
+}
@@ -0,0 +1,57 @@
+package ai.snippetquiz.core_service.shared.adapter.out.repository;
+
+import ai.snippetquiz.core_service.shared.adapter.out.entities.AggregateSnapshotEntity;
+import ai.snippetquiz.core_service.shared.domain.Utils;
+import ai.snippetquiz.core_service.shared.domain.entity.AggregateSnapshot;
+import ai.snippetquiz.core_service.shared.domain.port.repository.AggregateSnapshotRepository;
+import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
+import com.fasterxml.jackson.core.type.TypeReference;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class JpaAggregateSnapshotRepositoryAdapter implements AggregateSnapshotRepository {
+    private final JpaAggregateSnapshotRepository jpaAggregateSnapshotRepository;
+
+    @Override
+    public Optional<AggregateSnapshot> findByUserIdAndAggregateId(UserId userId, UUID aggregateId) {
+        return jpaAggregateSnapshotRepository.findByUserIdAndAggregateId(userId.getValue(), aggregateId)
+                .map(entity -> AggregateSnapshot.builder()
+                        .aggregateId(entity.getAggregateId())
+                        .userId(new UserId(entity.getUserId()))
+                        .aggregateType(entity.getAggregateType())
+                        .version(entity.getVersion())
+                        .schemaVersion(entity.getSchemaVersion())
+                        .state(Utils.fromJson(entity.getPayload(), new TypeReference<>() {
+                        }))
+                        .build());
+    }
+
+    @Override
+    public void save(AggregateSnapshot snapshot) {
+        var entity = jpaAggregateSnapshotRepository.findById(snapshot.getAggregateId())
+                .orElseGet(AggregateSnapshotEntity::new);
+
+        // A concurrent writer may already have stored a newer snapshot
+        if (entity.getVersion() != null
+                && entity.getSchemaVersion() == snapshot.getSchemaVersion()
+                && entity.getVersion() >= snapshot.getVersion()) {
+            return;
+        }
+
+        entity.setAggregateId(snapshot.getAggregateId());
+        entity.setUserId(snapshot.getUserId().getValue());
+        entity.setAggregateType(snapshot.getAggregateType());
+        entity.setVersion(snapshot.getVersion());
+        entity.setSchemaVersion(snapshot.getSchemaVersion());
+        entity.setPayload(Utils.toJson(snapshot.getState()));
+        entity.setCreatedAt(LocalDateTime.now());
+
+        jpaAggregateSnapshotRepository.save(entity);
+    }
+}
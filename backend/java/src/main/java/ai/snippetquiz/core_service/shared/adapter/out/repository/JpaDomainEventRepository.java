@@ -3,6 +3,8 @@ package ai.snippetquiz.core_service.shared.adapter.out.repository;
 import ai.snippetquiz.core_service.shared.adapter.out.entities.DomainEventEntity;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,4 +13,16 @@ import java.util.UUID;
 @Repository
 public interface JpaDomainEventRepository extends JpaRepository<DomainEventEntity, UUID> {
     List<DomainEventEntity> findAllByUserIdAndAggregateId(UUID userId, UUID aggregateId, Sort sort);
+
+    List<DomainEventEntity> findAllByUserIdAndAggregateIdAndVersionGreaterThan(UUID userId, UUID aggregateId,
+            Integer version, Sort sort);
+
+    @Query(value = """
+            SELECT * FROM event_store_cold
+            WHERE user_id = :userId AND aggregate_id = :aggregateId
+              AND version > :afterVersion AND version < :beforeVersion
+            ORDER BY version
+            """, nativeQuery = true)
+    List<DomainEventEntity> findColdEvents(@Param("userId") UUID userId, @Param("aggregateId") UUID aggregateId,
+            @Param("afterVersion") int afterVersion, @Param("beforeVersion") int beforeVersion);
 }
@@ -5,21 +5,56 @@ import ai.snippetquiz.core_service.shared.domain.Utils;
 import ai.snippetquiz.core_service.shared.domain.bus.event.DomainEvent;
 import ai.snippetquiz.core_service.shared.domain.bus.event.DomainEventJsonSerializer;
 import ai.snippetquiz.core_service.shared.domain.bus.event.EventJsonDeserializer;
+import ai.snippetquiz.core_service.shared.domain.entity.GlobalPosition;
+import ai.snippetquiz.core_service.shared.domain.entity.PositionedEvent;
+import ai.snippetquiz.core_service.shared.domain.exception.ConcurrencyException;
 import ai.snippetquiz.core_service.shared.domain.port.repository.DomainEventRepository;
+import ai.snippetquiz.core_service.shared.domain.port.repository.EventOutboxRepository;
 import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Component
 @RequiredArgsConstructor
 public class JpaDomainEventRepositoryAdapter<T extends DomainEvent> implements DomainEventRepository<T> {
     private final EventJsonDeserializer deserializer;
     private final JpaDomainEventRepository jpaDomainEventRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final EventOutboxRepository eventOutboxRepository;
+    private final EventPayloadCodecs payloadCodecs;
+
+    private static final String INSERT_EVENTS = "INSERT INTO event_store " +
+            "(id, user_id, aggregate_id, aggregate_type, event_name, payload, payload_encoding, payload_bytes, " +
+            "version, occurred_on) ";
+    private static final String INSERT_EVENT_VALUES =
+            "(CAST(? AS uuid), CAST(? AS uuid), CAST(? AS uuid), ?, ?, CAST(? AS jsonb), ?, CAST(? AS bytea), " +
+            "CAST(? AS int), CAST(? AS timestamptz))";
+    private static final String SELECT_STORED_EVENTS = "SELECT id, user_id, aggregate_id, event_name, " +
+            "payload_encoding, payload::text AS payload, payload_bytes, version, occurred_on FROM ";
+    private static final String SELECT_POSITIONED_EVENTS = "SELECT id, user_id, aggregate_id, event_name, " +
+            "payload_encoding, payload::text AS payload, payload_bytes, version, occurred_on, " +
+            "transaction_id::text AS transaction_id, position FROM ";
+    private static final int STREAM_FETCH_SIZE = 250;
+    private static final String ADVANCE_STREAM_HEAD = "WITH head AS (" +
+            "INSERT INTO event_streams (aggregate_id, user_id, aggregate_type, version) VALUES (?, ?, ?, ?) " +
+            "ON CONFLICT (aggregate_id) DO UPDATE SET version = EXCLUDED.version, updated_at = now() " +
+            "WHERE event_streams.version = ? RETURNING aggregate_id) ";
 
     @Override
     @SneakyThrows
@@ -28,37 +63,295 @@ public class JpaDomainEventRepositoryAdapter<T extends DomainEvent> implements D
         var domainEventEntities = jpaDomainEventRepository.findAllByUserIdAndAggregateId(userId.getValue(),
                 aggregateId, domainEventSort);
 
+        return toDomainEvents(withColdEvents(userId, aggregateId, -1, domainEventEntities));
+    }
+
+    @Override
+    public List<T> findAllByUserIdAndAggregateIdAfterVersion(UserId userId, UUID aggregateId, int version) {
+        Sort domainEventSort = Sort.by(Sort.Direction.ASC, "version");
+        var domainEventEntities = jpaDomainEventRepository.findAllByUserIdAndAggregateIdAndVersionGreaterThan(
+                userId.getValue(), aggregateId, version, domainEventSort);
+
+        return toDomainEvents(withColdEvents(userId, aggregateId, version, domainEventEntities));
+    }
+
+    /**
+     * Partitions of old months are moved to event_store_cold, so a stream that does not start right after
+     * {@code afterVersion} in the hot table continues in the cold tier.
+     */
+    private List<DomainEventEntity> withColdEvents(UserId userId, UUID aggregateId, int afterVersion,
+            List<DomainEventEntity> hotEvents) {
+        if (!hotEvents.isEmpty() && hotEvents.getFirst().getVersion() == afterVersion + 1) {
+            return hotEvents;
+        }
+
+        var beforeVersion = hotEvents.isEmpty() ? Integer.MAX_VALUE : hotEvents.getFirst().getVersion();
+        var coldEvents = jpaDomainEventRepository.findColdEvents(userId.getValue(), aggregateId, afterVersion,
+                beforeVersion);
+        if (coldEvents.isEmpty()) {
+            return hotEvents;
+        }
+
+        var domainEventEntities = new ArrayList<>(coldEvents);
+        domainEventEntities.addAll(hotEvents);
+        return domainEventEntities;
+    }
+
+    @Override
+    public Stream<T> streamByUserIdAndAggregateId(UserId userId, UUID aggregateId, int afterVersion) {
+        var filter = " WHERE user_id = ? AND aggregate_id = ? AND version > ?";
+        var firstHotVersion = firstHotVersion(userId, aggregateId, afterVersion);
+        if (firstHotVersion != null && firstHotVersion == afterVersion + 1) {
+            return stream(SELECT_STORED_EVENTS + "event_store" + filter + " ORDER BY version",
+                    userId.getValue(), aggregateId, afterVersion);
+        }
+
+        var sql = SELECT_STORED_EVENTS + "event_store_cold" + filter + " AND version < ?" +
+                " UNION ALL " + SELECT_STORED_EVENTS + "event_store" + filter +
+                " ORDER BY version";
+        return stream(sql, userId.getValue(), aggregateId, afterVersion, coldBound(firstHotVersion),
+                userId.getValue(), aggregateId, afterVersion);
+    }
+
+    @Override
+    public Stream<T> streamByUserIdAndAggregateIdAndEventNames(UserId userId, UUID aggregateId,
+            Set<String> eventNames) {
+        var filter = " WHERE user_id = ? AND aggregate_id = ? AND event_name = ANY(?)";
+        var names = eventNames.toArray(String[]::new);
+        var firstHotVersion = firstHotVersion(userId, aggregateId, -1);
+        if (firstHotVersion != null && firstHotVersion == 0) {
+            return stream(SELECT_STORED_EVENTS + "event_store" + filter + " ORDER BY version",
+                    userId.getValue(), aggregateId, names);
+        }
+
+        var sql = SELECT_STORED_EVENTS + "event_store_cold" + filter + " AND version < ?" +
+                " UNION ALL " + SELECT_STORED_EVENTS + "event_store" + filter +
+                " ORDER BY version";
+        return stream(sql, userId.getValue(), aggregateId, names, coldBound(firstHotVersion),
+                userId.getValue(), aggregateId, names);
+    }
+
+    /**
+     * Lowest version after {@code afterVersion} still in the hot table, or null when there is none. Like
+     * {@link #withColdEvents}, the cold tier is only read when the hot stream does not start right there.
+     */
+    private Integer firstHotVersion(UserId userId, UUID aggregateId, int afterVersion) {
+        return jdbcTemplate.queryForObject(
+                "SELECT min(version) FROM event_store WHERE user_id = ? AND aggregate_id = ? AND version > ?",
+                Integer.class, userId.getValue(), aggregateId, afterVersion);
+    }
+
+    private static int coldBound(Integer firstHotVersion) {
+        return firstHotVersion == null ? Integer.MAX_VALUE : firstHotVersion;
+    }
+
+    @Override
+    public int findStreamVersion(UserId userId, UUID aggregateId) {
+        var versions = jdbcTemplate.queryForList(
+                "SELECT version FROM event_streams WHERE user_id = ? AND aggregate_id = ?",
+                Integer.class, userId.getValue(), aggregateId);
+        return versions.isEmpty() ? -1 : versions.getFirst();
+    }
+
+    @Override
+    public Stream<T> streamByAggregateType(String aggregateType) {
+        var filter = " WHERE aggregate_type = ?";
+        var sql = SELECT_STORED_EVENTS + "event_store_cold" + filter +
+                " UNION ALL " + SELECT_STORED_EVENTS + "event_store" + filter +
+                " ORDER BY aggregate_id, version";
+
+        return stream(sql, aggregateType, aggregateType);
+    }
+
+    @Override
+    public Stream<T> streamByAggregateType(String aggregateType, int partition, int partitions,
+            UUID afterAggregateId) {
+        // Masking keeps the hash non-negative so every aggregate lands in exactly one slice
+        var filter = " WHERE aggregate_type = ? AND (hashtext(aggregate_id::text) & 2147483647) % ? = ?" +
+                " AND aggregate_id > ?";
+        var sql = SELECT_STORED_EVENTS + "event_store_cold" + filter +
+                " UNION ALL " + SELECT_STORED_EVENTS + "event_store" + filter +
+                " ORDER BY aggregate_id, version";
+
+        return stream(sql, aggregateType, partitions, partition, afterAggregateId,
+                aggregateType, partitions, partition, afterAggregateId);
+    }
+
+    @Override
+    public List<PositionedEvent> findAfterPosition(GlobalPosition after, Set<String> aggregateTypes, int limit) {
+        // Transactions still in flight may hold lower positions, so reading stops at the oldest of them
+        var filter = new StringBuilder(" WHERE (transaction_id, position) > (CAST(? AS xid8), ?)" +
+                " AND transaction_id < pg_snapshot_xmin(pg_current_snapshot())");
+        var branchParams = new ArrayList<Object>();
+        branchParams.add(Long.toString(after.transactionId()));
+        branchParams.add(after.position());
+        if (!aggregateTypes.isEmpty()) {
+            filter.append(" AND aggregate_type = ANY(?)");
+            branchParams.add(aggregateTypes.toArray(String[]::new));
+        }
+        filter.append(" ORDER BY transaction_id, position LIMIT ?");
+        branchParams.add(limit);
+
+        var sql = "(" + SELECT_POSITIONED_EVENTS + "event_store_cold" + filter + ") UNION ALL (" +
+                SELECT_POSITIONED_EVENTS + "event_store" + filter + ") ORDER BY transaction_id, position LIMIT ?";
+        var params = new ArrayList<>(branchParams);
+        params.addAll(branchParams);
+        params.add(limit);
+
+        return jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement(sql);
+            bind(connection, statement, params.toArray());
+            return statement;
+        }, (rs, rowNum) -> new PositionedEvent(
+                new GlobalPosition(Long.parseLong(rs.getString("transaction_id")), rs.getLong("position")),
+                toDomainEvent(toStoredEntity(rs))));
+    }
+
+    @Override
+    public Stream<T> streamByAggregateTypeUpdatedSince(String aggregateType, LocalDateTime since) {
+        var filter = " WHERE aggregate_id IN (SELECT aggregate_id FROM event_streams" +
+                " WHERE aggregate_type = ? AND updated_at >= ?)";
+        var sql = SELECT_STORED_EVENTS + "event_store_cold" + filter +
+                " UNION ALL " + SELECT_STORED_EVENTS + "event_store" + filter +
+                " ORDER BY aggregate_id, version";
+        var sinceTimestamp = Timestamp.valueOf(since);
+
+        return stream(sql, aggregateType, sinceTimestamp, aggregateType, sinceTimestamp);
+    }
+
+    /**
+     * Rows are fetched through a server-side cursor and deserialized one at a time. The Postgres driver only
+     * uses a cursor inside a transaction, and the stream must be closed to release it.
+     */
+    private Stream<T> stream(String sql, Object... params) {
+        return jdbcTemplate.queryForStream(connection -> {
+            var statement = connection.prepareStatement(sql);
+            statement.setFetchSize(STREAM_FETCH_SIZE);
+            bind(connection, statement, params);
+            return statement;
+        }, (rs, rowNum) -> toDomainEvent(toStoredEntity(rs)));
+    }
+
+    private static void bind(Connection connection, PreparedStatement statement, Object... params)
+            throws SQLException {
+        for (int i = 0; i < params.length; i++) {
+            if (params[i] instanceof String[] values) {
+                statement.setArray(i + 1, connection.createArrayOf("text", values));
+            } else {
+                statement.setObject(i + 1, params[i]);
+            }
+        }
+    }
+
+    private DomainEventEntity toStoredEntity(ResultSet rs) throws SQLException {
+        var domainEventEntity = new DomainEventEntity();
+        domainEventEntity.setEventId(rs.getObject("id", UUID.class));
+        domainEventEntity.setUserId(rs.getObject("user_id", UUID.class));
+        domainEventEntity.setAggregateId(rs.getObject("aggregate_id", UUID.class));
+        domainEventEntity.setEventName(rs.getString("event_name"));
+        domainEventEntity.setPayloadEncoding(rs.getString("payload_encoding"));
+        domainEventEntity.setPayload(rs.getString("payload"));
+        domainEventEntity.setPayloadBytes(rs.getBytes("payload_bytes"));
+        domainEventEntity.setVersion(rs.getInt("version"));
+        domainEventEntity.setOccurredOn(rs.getTimestamp("occurred_on").toLocalDateTime());
+        return domainEventEntity;
+    }
+
+    private List<T> toDomainEvents(List<DomainEventEntity> domainEventEntities) {
         return domainEventEntities.stream()
-                .map(domainEventEntity -> {
-                    try {
-                        return (T) deserializer.deserializePrimitives(
-                                domainEventEntity.getEventId().toString(),
-                                domainEventEntity.getUserId().toString(),
-                                domainEventEntity.getAggregateId().toString(),
-                                domainEventEntity.getEventName(),
-                                Utils.dateToString(domainEventEntity.getOccurredOn()),
-                                domainEventEntity.getVersion(),
-                                domainEventEntity.getPayload());
-                    } catch (Exception e) {
-                        throw new RuntimeException(e);
-                    }
-                })
+                .map(this::toDomainEvent)
                 .toList();
     }
 
+    private T toDomainEvent(DomainEventEntity domainEventEntity) {
+        try {
+            return (T) deserializer.deserializePrimitives(
+                    domainEventEntity.getEventId().toString(),
+                    domainEventEntity.getUserId().toString(),
+                    domainEventEntity.getAggregateId().toString(),
+                    domainEventEntity.getEventName(),
+                    Utils.dateToString(domainEventEntity.getOccurredOn()),
+                    domainEventEntity.getVersion(),
+                    payloadCodecs.decode(domainEventEntity.getPayloadEncoding(),
+                            domainEventEntity.getPayload(), domainEventEntity.getPayloadBytes()));
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     @Override
-    public T save(UserId userId, UUID aggregateId, String aggregateType, T domainEvent) {
-        var domainEventEntity = new DomainEventEntity();
-        domainEventEntity.setEventId(domainEvent.getEventId());
-        domainEventEntity.setUserId(userId.getValue());
-        domainEventEntity.setAggregateId(aggregateId);
-        domainEventEntity.setAggregateType(aggregateType);
-        domainEventEntity.setVersion(domainEvent.getVersion());
-        domainEventEntity.setOccurredOn(Utils.stringToDate(domainEvent.getOccurredOn()));
-        domainEventEntity.setPayload(DomainEventJsonSerializer.serializePrimitives(domainEvent));
-        domainEventEntity.setEventName(Utils.getEventName(domainEvent.getClass()));
-
-        jpaDomainEventRepository.save(domainEventEntity);
-        return domainEvent;
+    public void saveAll(UserId userId, UUID aggregateId, String aggregateType, List<? extends T> domainEvents) {
+        if (domainEvents.isEmpty()) {
+            return;
+        }
+
+        if (!append(new EventStreamAppend(userId, aggregateId, aggregateType, domainEvents))) {
+            throw new ConcurrencyException(
+                    "Concurrency conflict: aggregate " + aggregateId + " already has version " +
+                    domainEvents.getFirst().getVersion());
+        }
+        // Written in the same transaction so that only committed events are relayed to Kafka
+        eventOutboxRepository.enqueue(aggregateType, domainEvents);
+    }
+
+    /**
+     * Writes the events of several streams in one transaction. Returns the indexes of the appends whose
+     * stream head had moved; those wrote nothing, so the rest of the batch can still be committed.
+     */
+    Set<Integer> appendBatch(List<EventStreamAppend> appends) {
+        var conflicted = new HashSet<Integer>();
+        for (int i = 0; i < appends.size(); i++) {
+            var append = appends.get(i);
+            if (append(append)) {
+                eventOutboxRepository.enqueue(append.aggregateType(), append.domainEvents());
+            } else {
+                conflicted.add(i);
+            }
+        }
+        return conflicted;
+    }
+
+    /**
+     * Advances the stream head from the version before the first event and inserts the events in the same
+     * statement. The partitioned event_store cannot enforce a unique (aggregate_id, version), so the head is
+     * what serializes writers of one aggregate.
+     */
+    private boolean append(EventStreamAppend append) {
+        var domainEvents = append.domainEvents();
+        var sql = new StringBuilder(ADVANCE_STREAM_HEAD);
+        var params = new ArrayList<>();
+        params.add(append.aggregateId());
+        params.add(append.userId().getValue());
+        params.add(append.aggregateType());
+        params.add(domainEvents.getLast().getVersion());
+        params.add(domainEvents.getFirst().getVersion() - 1);
+
+        sql.append(INSERT_EVENTS).append("SELECT * FROM (VALUES ");
+        appendValues(sql, params, append);
+        sql.append(") AS appended WHERE EXISTS (SELECT 1 FROM head)");
+
+        return jdbcTemplate.update(sql.toString(), params.toArray()) > 0;
+    }
+
+    private void appendValues(StringBuilder sql, List<Object> params, EventStreamAppend append) {
+        var first = true;
+        for (var domainEvent : append.domainEvents()) {
+            if (!first) {
+                sql.append(", ");
+            }
+            first = false;
+            sql.append(INSERT_EVENT_VALUES);
+            params.add(domainEvent.getEventId());
+            params.add(append.userId().getValue());
+            params.add(append.aggregateId());
+            params.add(append.aggregateType());
+            params.add(Utils.getEventName(domainEvent.getClass()));
+            var payload = payloadCodecs.encode(DomainEventJsonSerializer.serializePrimitives(domainEvent));
+            params.add(payload.json());
+            params.add(payload.encoding());
+            params.add(payload.bytes());
+            params.add(domainEvent.getVersion());
+            params.add(Timestamp.valueOf(Utils.stringToDate(domainEvent.getOccurredOn())));
+        }
     }
 }
@@ -0,0 +1,55 @@
+package ai.snippetquiz.core_service.shared.adapter.out.repository;
+
+import ai.snippetquiz.core_service.shared.adapter.out.entities.EventOutboxEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface JpaEventOutboxRepository extends JpaRepository<EventOutboxEntity, Long> {
+
+    // Messages queued behind a message of the same aggregate that is backing off are held back to keep order
+    @Query(value = """
+            SELECT o.* FROM event_outbox o
+            WHERE o.next_attempt_at <= now()
+              AND NOT EXISTS (
+                  SELECT 1 FROM event_outbox p
+                  WHERE p.aggregate_id = o.aggregate_id
+                    AND p.id < o.id
+                    AND p.next_attempt_at > now())
+            ORDER BY o.id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<EventOutboxEntity> findNextBatch(@Param("limit") int limit);
+
+    @Query(value = "SELECT pg_try_advisory_xact_lock(hashtext('event_outbox_relay'))", nativeQuery = true)
+    boolean tryAdvisoryXactLock();
+
+    @Modifying
+    @Query(value = """
+            UPDATE event_outbox
+            SET next_attempt_at = now() + make_interval(secs => :leaseSeconds)
+            WHERE id IN (:ids)
+            """, nativeQuery = true)
+    void claim(@Param("ids") List<Long> ids, @Param("leaseSeconds") double leaseSeconds);
+
+    @Modifying
+    @Query(value = """
+            UPDATE event_outbox
+            SET attempts = attempts + 1,
+                next_attempt_at = now() + make_interval(secs => LEAST(:maxSeconds, :baseSeconds * power(2, attempts)))
+            WHERE id IN (:ids)
+            """, nativeQuery = true)
+    void scheduleRetry(@Param("ids") List<Long> ids,
+            @Param("baseSeconds") double baseSeconds,
+            @Param("maxSeconds") double maxSeconds);
+
+    @Query("SELECT MIN(o.createdAt) FROM EventOutboxEntity o")
+    Optional<LocalDateTime> findOldestCreatedAt();
+}
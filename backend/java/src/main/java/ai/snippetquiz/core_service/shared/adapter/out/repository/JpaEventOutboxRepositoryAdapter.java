@@ -0,0 +1,98 @@
+package ai.snippetquiz.core_service.shared.adapter.out.repository;
+
+import ai.snippetquiz.core_service.shared.domain.bus.event.DomainEvent;
+import ai.snippetquiz.core_service.shared.domain.bus.event.DomainEventJsonSerializer;
+import ai.snippetquiz.core_service.shared.domain.entity.OutboxMessage;
+import ai.snippetquiz.core_service.shared.domain.port.repository.EventOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class JpaEventOutboxRepositoryAdapter implements EventOutboxRepository {
+    private final JpaEventOutboxRepository jpaEventOutboxRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String INSERT_MESSAGES = "INSERT INTO event_outbox (event_id, aggregate_id, topic, payload) VALUES ";
+    private static final String INSERT_MESSAGE_VALUES = "(?, ?, ?, ?)";
+
+    @Override
+    public void enqueue(String topic, List<? extends DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        var sql = new StringBuilder(INSERT_MESSAGES);
+        var params = new ArrayList<>(events.size() * 4);
+        for (var event : events) {
+            if (!params.isEmpty()) {
+                sql.append(", ");
+            }
+            sql.append(INSERT_MESSAGE_VALUES);
+            params.add(event.getEventId());
+            params.add(event.getAggregateId());
+            params.add(topic);
+            params.add(DomainEventJsonSerializer.serialize(event));
+        }
+
+        jdbcTemplate.update(sql.toString(), params.toArray());
+    }
+
+    @Override
+    public boolean tryAcquireRelayLock() {
+        return jpaEventOutboxRepository.tryAdvisoryXactLock();
+    }
+
+    @Override
+    public List<OutboxMessage> findNextBatch(int limit) {
+        return jpaEventOutboxRepository.findNextBatch(limit).stream()
+                .map(entity -> OutboxMessage.builder()
+                        .id(entity.getId())
+                        .eventId(entity.getEventId())
+                        .aggregateId(entity.getAggregateId())
+                        .topic(entity.getTopic())
+                        .payload(entity.getPayload())
+                        .attempts(entity.getAttempts())
+                        .createdAt(entity.getCreatedAt())
+                        .build())
+                .toList();
+    }
+
+    @Override
+    public void claim(List<Long> ids, Duration lease) {
+        if (!ids.isEmpty()) {
+            jpaEventOutboxRepository.claim(ids, lease.toMillis() / 1000.0);
+        }
+    }
+
+    @Override
+    public void deleteAllById(List<Long> ids) {
+        if (!ids.isEmpty()) {
+            jpaEventOutboxRepository.deleteAllByIdInBatch(ids);
+        }
+    }
+
+    @Override
+    public void scheduleRetry(List<Long> ids, Duration baseBackoff, Duration maxBackoff) {
+        if (!ids.isEmpty()) {
+            jpaEventOutboxRepository.scheduleRetry(ids, baseBackoff.toMillis() / 1000.0, maxBackoff.toMillis() / 1000.0);
+        }
+    }
+
+    @Override
+    public long count() {
+        return jpaEventOutboxRepository.count();
+    }
+
+    @Override
+    public Optional<LocalDateTime> findOldestCreatedAt() {
+        return jpaEventOutboxRepository.findOldestCreatedAt();
+    }
+}
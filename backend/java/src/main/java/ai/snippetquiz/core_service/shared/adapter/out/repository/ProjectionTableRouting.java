@@ -0,0 +1,60 @@
+package ai.snippetquiz.core_service.shared.adapter.out.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Points the statements of projection writers at another table for the duration of a call, so the same
+ * subscribers that maintain a live projection can fill its shadow copy during a rebuild. Hibernate runs
+ * every statement through {@link #inspect}; JDBC writers resolve their table with {@link #resolve}.
+ */
+public class ProjectionTableRouting implements StatementInspector {
+    private static final ThreadLocal<Map<String, String>> ROUTES = new ThreadLocal<>();
+    private static final ThreadLocal<Map<Pattern, String>> PATTERNS = new ThreadLocal<>();
+
+    public static void route(Map<String, String> tables, Runnable action) {
+        var previousRoutes = ROUTES.get();
+        var previousPatterns = PATTERNS.get();
+        var patterns = new LinkedHashMap<Pattern, String>();
+        tables.forEach((table, target) -> patterns.put(
+                Pattern.compile("\\b" + Pattern.quote(table) + "\\b"), Matcher.quoteReplacement(target)));
+
+        ROUTES.set(Map.copyOf(tables));
+        PATTERNS.set(patterns);
+        try {
+            action.run();
+        } finally {
+            restore(ROUTES, previousRoutes);
+            restore(PATTERNS, previousPatterns);
+        }
+    }
+
+    public static String resolve(String table) {
+        var routes = ROUTES.get();
+        return routes == null ? table : routes.getOrDefault(table, table);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        var patterns = PATTERNS.get();
+        if (patterns == null) {
+            return sql;
+        }
+        for (var route : patterns.entrySet()) {
+            sql = route.getKey().matcher(sql).replaceAll(route.getValue());
+        }
+        return sql;
+    }
+
+    private static <T> void restore(ThreadLocal<T> threadLocal, T previous) {
+        if (previous == null) {
+            threadLocal.remove();
+        } else {
+            threadLocal.set(previous);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package ai.snippetquiz.core_service.shared.adapter.out.repository;
+
+import ai.snippetquiz.core_service.shared.domain.Utils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Smile with shared property names, so keys repeated across the questions and options of an event are
+ * written once and referenced afterwards.
+ */
+@Component
+public class SmilePayloadCodec implements EventPayloadCodec {
+    public static final String ENCODING = "smile";
+
+    private final ObjectMapper smileMapper = new ObjectMapper(SmileFactory.builder()
+            .enable(SmileGenerator.Feature.CHECK_SHARED_NAMES)
+            .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+            .build());
+
+    @Override
+    public String encoding() {
+        return ENCODING;
+    }
+
+    @Override
+    public byte[] encode(String payload) {
+        try {
+            return smileMapper.writeValueAsBytes(Utils.getMapper().readTree(payload));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String decode(byte[] payload) {
+        try {
+            return Utils.getMapper().writeValueAsString(smileMapper.readTree(payload));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
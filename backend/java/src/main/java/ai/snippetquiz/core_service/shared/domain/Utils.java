@@ -73,16 +73,23 @@ public class Utils {
         }
     }
 
-    public static String getEventName(Class<? extends BaseEvent> eventClass) {
-        try {
-            java.lang.reflect.Method method = eventClass.getDeclaredMethod("eventName");
-            method.setAccessible(true);
-            return (String) method.invoke(null);
-        } catch (NoSuchMethodException e) {
-            throw new IllegalArgumentException("The eventName method was not found in the domain event for " + eventClass.getName(), e);
-        } catch (Exception e) {
-            throw new RuntimeException("Error invoking eventName on " + eventClass.getName(), e);
+    private static final ClassValue<String> eventNames = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> eventClass) {
+            try {
+                java.lang.reflect.Method method = eventClass.getDeclaredMethod("eventName");
+                method.setAccessible(true);
+                return (String) method.invoke(null);
+            } catch (NoSuchMethodException e) {
+                throw new IllegalArgumentException("The eventName method was not found in the domain event for " + eventClass.getName(), e);
+            } catch (Exception e) {
+                throw new RuntimeException("Error invoking eventName on " + eventClass.getName(), e);
+            }
         }
+    };
+
+    public static String getEventName(Class<? extends BaseEvent> eventClass) {
+        return eventNames.get(eventClass);
     }
 
     public static <T> Page<T> paginateList(final Pageable pageable, List<T> list) {
@@ -1,9 +1,14 @@
 package ai.snippetquiz.core_service.shared.domain.bus.event;
 
 import ai.snippetquiz.core_service.shared.domain.Utils;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectReader;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.UUID;
@@ -11,6 +16,10 @@ import java.util.UUID;
 import static java.time.ZoneOffset.UTC;
 
 public abstract class BaseEvent {
+    private static final ObjectReader ATTRIBUTES_READER = Utils.getMapper()
+            .readerFor(new TypeReference<HashMap<String, Object>>() {
+            });
+
     @Getter
     private UUID aggregateId;
     @Getter
@@ -61,4 +70,40 @@ public abstract class BaseEvent {
             Integer version) {
         throw new UnsupportedOperationException("Not supported yet.");
     }
-}
\ No newline at end of file
+
+    /**
+     * Writes the attributes as fields of the JSON object the generator is in. Goes through
+     * {@link #toPrimitives()} unless the event writes its attributes directly.
+     */
+    public void writeAttributes(JsonGenerator generator) throws IOException {
+        for (var attribute : toPrimitives().entrySet()) {
+            generator.writeObjectField(attribute.getKey(), attribute.getValue());
+        }
+    }
+
+    /**
+     * Reads an event from the attributes object the parser is positioned at. Goes through
+     * {@link #fromPrimitives} unless the event reads its attributes directly. A null aggregate or user id is
+     * taken from the {@code aggregate_id} and {@code user_id} attributes, as the Kafka envelope carries them.
+     */
+    public BaseEvent readAttributes(
+            JsonParser parser,
+            UUID aggregateId,
+            UUID userId,
+            UUID eventId,
+            String occurredOn,
+            Integer version) throws IOException {
+        HashMap<String, Object> attributes = ATTRIBUTES_READER.readValue(parser);
+        if (attributes == null) {
+            throw new IOException("Event " + Utils.getEventName(getClass()) + " has no attributes");
+        }
+
+        return fromPrimitives(
+                aggregateId != null ? aggregateId : UUID.fromString((String) attributes.get("aggregate_id")),
+                userId != null ? userId : UUID.fromString((String) attributes.get("user_id")),
+                attributes,
+                eventId,
+                occurredOn,
+                version);
+    }
+}
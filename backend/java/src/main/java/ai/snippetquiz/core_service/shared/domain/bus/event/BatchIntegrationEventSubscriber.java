@@ -0,0 +1,16 @@
+package ai.snippetquiz.core_service.shared.domain.bus.event;
+
+import java.util.List;
+
+/**
+ * Integration subscriber that receives the events of one aggregate delivered in the same poll together, in
+ * delivery order, so that it can load and save the aggregate once for all of them.
+ */
+public interface BatchIntegrationEventSubscriber extends IntegrationEventSubscriber {
+    void onBatch(List<IntegrationEvent> events);
+
+    @Override
+    default void on(IntegrationEvent event) {
+        onBatch(List.of(event));
+    }
+}
@@ -0,0 +1,20 @@
+package ai.snippetquiz.core_service.shared.domain.bus.event;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Reads the event store in global order from its own checkpoint instead of through Kafka. Each batch is
+ * handed over in the transaction that advances the checkpoint, so the subscriber's database writes are
+ * applied exactly once; a failing batch is retried on the next poll.
+ */
+public interface CatchUpSubscriber {
+    String subscriptionName();
+
+    /**
+     * Aggregate types the subscriber reads; empty for all of them.
+     */
+    Set<String> aggregateTypes();
+
+    void on(List<DomainEvent> events);
+}
@@ -1,34 +1,48 @@
 package ai.snippetquiz.core_service.shared.domain.bus.event;
 
 import ai.snippetquiz.core_service.shared.domain.Utils;
+import com.fasterxml.jackson.core.JsonGenerator;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.HashMap;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
 
 @Slf4j
 public class DomainEventJsonSerializer {
     public static <T extends DomainEvent> String serialize(T domainEvent) {
-        HashMap<String, Object> attributes = domainEvent.toPrimitives();
-        attributes.put("aggregate_id", domainEvent.getAggregateId());
-        attributes.put("user_id", domainEvent.getUserId());
-
-        return Utils.toJson(new HashMap<String, Object>() {
-            {
-                put("data", new HashMap<String, Object>() {
-                    {
-                        put("event_id", domainEvent.getEventId());
-                        put("version", domainEvent.getVersion());
-                        put("type", Utils.getEventName(domainEvent.getClass()));
-                        put("occurred_on", domainEvent.getOccurredOn());
-                        put("attributes", attributes);
-                    }
-                });
-                put("meta", new HashMap<String, Object>());
-            }
-        });
+        var writer = new StringWriter();
+        try (JsonGenerator generator = Utils.getMapper().getFactory().createGenerator(writer)) {
+            generator.writeStartObject();
+            generator.writeObjectFieldStart("data");
+            generator.writeObjectField("event_id", domainEvent.getEventId());
+            generator.writeObjectField("version", domainEvent.getVersion());
+            generator.writeStringField("type", Utils.getEventName(domainEvent.getClass()));
+            generator.writeStringField("occurred_on", domainEvent.getOccurredOn());
+            generator.writeObjectFieldStart("attributes");
+            domainEvent.writeAttributes(generator);
+            generator.writeObjectField("aggregate_id", domainEvent.getAggregateId());
+            generator.writeObjectField("user_id", domainEvent.getUserId());
+            generator.writeEndObject();
+            generator.writeEndObject();
+            generator.writeObjectFieldStart("meta");
+            generator.writeEndObject();
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error serializing event " + domainEvent.getEventId(), e);
+        }
+        return writer.toString();
     }
 
     public static <T extends DomainEvent> String serializePrimitives(T domainEvent) {
-        return Utils.toJson(domainEvent.toPrimitives());
+        var writer = new StringWriter();
+        try (JsonGenerator generator = Utils.getMapper().getFactory().createGenerator(writer)) {
+            generator.writeStartObject();
+            domainEvent.writeAttributes(generator);
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error serializing event " + domainEvent.getEventId(), e);
+        }
+        return writer.toString();
     }
 }
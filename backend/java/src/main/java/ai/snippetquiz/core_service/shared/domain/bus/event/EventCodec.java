@@ -0,0 +1,48 @@
+package ai.snippetquiz.core_service.shared.domain.bus.event;
+
+import ai.snippetquiz.core_service.shared.domain.Utils;
+import com.fasterxml.jackson.core.JsonParser;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Decoder of one event type, resolved once at startup: the event name and a template instance whose
+ * {@link BaseEvent#readAttributes} reads the attributes straight from the parser.
+ */
+public final class EventCodec {
+    @Getter
+    private final Class<? extends BaseEvent> eventClass;
+    @Getter
+    private final String eventName;
+    private final BaseEvent template;
+
+    private EventCodec(Class<? extends BaseEvent> eventClass, String eventName, BaseEvent template) {
+        this.eventClass = eventClass;
+        this.eventName = eventName;
+        this.template = template;
+    }
+
+    public static EventCodec of(Class<? extends BaseEvent> eventClass) {
+        try {
+            return new EventCodec(eventClass, Utils.getEventName(eventClass),
+                    eventClass.getConstructor().newInstance());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Event " + eventClass.getName() + " cannot be decoded", e);
+        }
+    }
+
+    /**
+     * Decodes the attributes object the parser is positioned at.
+     */
+    public BaseEvent decode(
+            JsonParser parser,
+            UUID aggregateId,
+            UUID userId,
+            UUID eventId,
+            String occurredOn,
+            Integer version) throws IOException {
+        return template.readAttributes(parser, aggregateId, userId, eventId, occurredOn, version);
+    }
+}
@@ -1,47 +1,77 @@
 package ai.snippetquiz.core_service.shared.domain.bus.event;
 
 import ai.snippetquiz.core_service.shared.domain.Utils;
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.util.HashMap;
+import java.io.IOException;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class EventJsonDeserializer {
         private final EventsInformation information;
 
-        public <T extends BaseEvent> T deserialize(String body)
-                        throws InvocationTargetException, IllegalAccessException, NoSuchMethodException,
-                        InstantiationException {
-                HashMap<String, Object> eventData = Utils.fromJson(body, new TypeReference<>() {
-                });
-                HashMap<String, Object> data = (HashMap<String, Object>) eventData.get("data");
-                HashMap<String, Object> attributes = (HashMap<String, Object>) data.get("attributes");
-                Class<? extends BaseEvent> eventClass = information.search((String) data.get("type"));
+        public <T extends BaseEvent> T deserialize(String body) throws IOException {
+                String eventId = null;
+                String type = null;
+                String occurredOn = null;
+                Integer version = null;
+                BaseEvent event = null;
+                TokenBuffer attributes = null;
 
-                BaseEvent nullInstance = eventClass.getConstructor().newInstance();
+                try (JsonParser parser = Utils.getMapper().getFactory().createParser(body)) {
+                        expect(parser.nextToken(), JsonToken.START_OBJECT);
+                        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                                String field = parser.currentName();
+                                parser.nextToken();
+                                if (!"data".equals(field)) {
+                                        parser.skipChildren();
+                                        continue;
+                                }
+                                expect(parser.currentToken(), JsonToken.START_OBJECT);
+                                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                                        String dataField = parser.currentName();
+                                        JsonToken value = parser.nextToken();
+                                        switch (dataField) {
+                                                case "event_id" -> eventId = parser.getValueAsString();
+                                                case "type" -> type = parser.getValueAsString();
+                                                case "occurred_on" -> occurredOn = parser.getValueAsString();
+                                                case "version" -> version = value == JsonToken.VALUE_NULL
+                                                                ? null
+                                                                : parser.getIntValue();
+                                                case "attributes" -> {
+                                                        // Our envelopes put the attributes last, so they are read
+                                                        // in place; other producers' are buffered until the end
+                                                        if (type != null && eventId != null && occurredOn != null
+                                                                        && version != null) {
+                                                                event = decode(type, parser, eventId, occurredOn,
+                                                                                version);
+                                                        } else {
+                                                                attributes = new TokenBuffer(parser);
+                                                                attributes.copyCurrentStructure(parser);
+                                                        }
+                                                }
+                                                default -> parser.skipChildren();
+                                        }
+                                }
+                        }
+                }
 
-                Method fromPrimitivesMethod = eventClass.getMethod(
-                                "fromPrimitives",
-                                java.util.UUID.class,
-                                java.util.UUID.class,
-                                HashMap.class,
-                                java.util.UUID.class,
-                                String.class,
-                                Integer.class);
+                if (event == null) {
+                        if (attributes == null) {
+                                throw new IllegalArgumentException("Event " + type + " has no attributes");
+                        }
+                        try (JsonParser attributesParser = attributes.asParser(Utils.getMapper())) {
+                                attributesParser.nextToken();
+                                event = decode(type, attributesParser, eventId, occurredOn, version);
+                        }
+                }
 
-                return (T) fromPrimitivesMethod.invoke(
-                                nullInstance,
-                                java.util.UUID.fromString((String) attributes.get("aggregate_id")),
-                                java.util.UUID.fromString((String) attributes.get("user_id")),
-                                attributes,
-                                java.util.UUID.fromString((String) data.get("event_id")),
-                                (String) data.get("occurred_on"),
-                                (Integer) data.get("version"));
+                return (T) event;
         }
 
         public <T extends BaseEvent> T deserializePrimitives(
@@ -51,31 +81,31 @@ public class EventJsonDeserializer {
                         String eventName,
                         String occurredOn,
                         Integer version,
-                        String body) throws InvocationTargetException, IllegalAccessException, NoSuchMethodException,
-                        InstantiationException {
-                HashMap<String, Object> attributes = Utils.fromJson(body, new TypeReference<>() {
-                });
-                Class<? extends BaseEvent> eventClass = information.search(eventName);
-
-                BaseEvent nullInstance = eventClass.getConstructor().newInstance();
-
-                Method fromPrimitivesMethod = eventClass.getMethod(
-                                "fromPrimitives",
-                                java.util.UUID.class,
-                                java.util.UUID.class,
-                                HashMap.class,
-                                java.util.UUID.class,
-                                String.class,
-                                Integer.class);
+                        String body) throws IOException {
+                try (JsonParser parser = Utils.getMapper().getFactory().createParser(body)) {
+                        expect(parser.nextToken(), JsonToken.START_OBJECT);
+                        return (T) information.codec(eventName).decode(
+                                        parser,
+                                        UUID.fromString(aggregateId),
+                                        UUID.fromString(userId),
+                                        UUID.fromString(eventId),
+                                        occurredOn,
+                                        version);
+                }
+        }
 
-                return (T) fromPrimitivesMethod.invoke(
-                                nullInstance,
-                                java.util.UUID.fromString(aggregateId),
-                                java.util.UUID.fromString(userId),
-                                attributes,
-                                java.util.UUID.fromString(eventId),
-                                occurredOn,
+        private BaseEvent decode(String type, JsonParser parser, String eventId, String occurredOn, Integer version)
+                        throws IOException {
+                if (parser.currentToken() != JsonToken.START_OBJECT) {
+                        throw new IllegalArgumentException("Event " + type + " has no attributes");
+                }
+                return information.codec(type).decode(parser, null, null, UUID.fromString(eventId), occurredOn,
                                 version);
         }
 
+        private static void expect(JsonToken actual, JsonToken expected) throws IOException {
+                if (actual != expected) {
+                        throw new IOException("Malformed event envelope: expected " + expected + " but got " + actual);
+                }
+        }
 }
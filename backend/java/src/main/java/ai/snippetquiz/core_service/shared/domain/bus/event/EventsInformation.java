@@ -5,7 +5,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.reflections.Reflections;
 import org.springframework.stereotype.Service;
 
+import java.lang.reflect.Modifier;
 import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 
 import static java.util.stream.Collectors.toSet;
@@ -14,6 +16,7 @@ import static java.util.stream.Collectors.toSet;
 @Slf4j
 public final class EventsInformation {
     HashMap<String, Class<? extends BaseEvent>> indexedDomainEvents;
+    private final HashMap<String, EventCodec> codecs = new HashMap<>();
 
     public EventsInformation() {
         Reflections reflections = new Reflections("ai.snippetquiz.core_service");
@@ -23,6 +26,21 @@ public final class EventsInformation {
 
         domainEventClasses.addAll(integrationEventClasses);
         indexedDomainEvents = formatDomainEvents(domainEventClasses);
+        indexedDomainEvents.forEach((eventName, eventClass) -> {
+            if (!Modifier.isAbstract(eventClass.getModifiers())) {
+                codecs.put(eventName, EventCodec.of(eventClass));
+            }
+        });
+    }
+
+    public EventCodec codec(String eventName) throws IllegalArgumentException {
+        EventCodec codec = codecs.get(eventName);
+
+        if (null == codec) {
+            throw new IllegalArgumentException("No event with eventId " + eventName + " has been registered");
+        }
+
+        return codec;
     }
 
     public Class<? extends BaseEvent> search(String eventName)
@@ -36,6 +54,13 @@ public final class EventsInformation {
         return eventClass;
     }
 
+    public Set<String> eventNamesOf(Class<?> marker) {
+        return indexedDomainEvents.entrySet().stream()
+                .filter(entry -> marker.isAssignableFrom(entry.getValue()))
+                .map(Map.Entry::getKey)
+                .collect(toSet());
+    }
+
     private HashMap<String, Class<? extends BaseEvent>> formatDomainEvents(
             Set<Class<? extends BaseEvent>> domainEvents) {
         HashMap<String, Class<? extends BaseEvent>> events = new HashMap<>();
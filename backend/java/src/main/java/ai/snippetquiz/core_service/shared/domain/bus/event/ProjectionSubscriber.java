@@ -0,0 +1,9 @@
+package ai.snippetquiz.core_service.shared.domain.bus.event;
+
+/**
+ * Subscriber whose only effect is maintaining a projection table, which makes it safe to replay the event
+ * store through it into a shadow copy of that table.
+ */
+public interface ProjectionSubscriber extends AggregateEventSubscriber {
+    String projectionTable();
+}
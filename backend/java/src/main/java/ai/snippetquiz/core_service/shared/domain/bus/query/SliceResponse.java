@@ -0,0 +1,26 @@
+package ai.snippetquiz.core_service.shared.domain.bus.query;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A page of a keyset listing. It has no total, so it needs no count query. nextCursor continues the listing
+ * and is null on the last page.
+ */
+public record SliceResponse<T>(List<T> content, int size, boolean hasNext, String nextCursor) implements Response {
+
+    /**
+     * Builds the slice from rows fetched with a limit of size + 1; the extra row only tells whether there is
+     * a next page.
+     */
+    public static <E, T> SliceResponse<T> of(List<E> rows, int size, Function<E, KeysetCursor> cursor,
+            Function<E, T> mapper) {
+        var hasNext = rows.size() > size;
+        var page = hasNext ? rows.subList(0, size) : rows;
+        return new SliceResponse<>(
+                page.stream().map(mapper).toList(),
+                size,
+                hasNext,
+                hasNext ? cursor.apply(page.getLast()).encode() : null);
+    }
+}
@@ -1,8 +1,13 @@
 package ai.snippetquiz.core_service.shared.domain.entity;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -15,14 +20,30 @@ public abstract class AggregateRoot<ID> extends BaseEntity<ID> {
     @Getter
     @Setter
     private int version = -1;
+    @Getter
     private boolean active = true;
+    @Getter
+    private boolean partial = false;
     private List<DomainEvent> domainEvents = new ArrayList<>();
     private final Logger logger = Logger.getLogger(AggregateRoot.class.getName());
 
+    private static final MethodType APPLY_TYPE = MethodType.methodType(void.class, AggregateRoot.class, DomainEvent.class);
+    // apply(Event) methods of each aggregate class, resolved once instead of looked up on every event
+    private static final ClassValue<Map<Class<?>, MethodHandle>> APPLY_HANDLERS = new ClassValue<>() {
+        @Override
+        protected Map<Class<?>, MethodHandle> computeValue(Class<?> aggregateClass) {
+            return applyHandlersOf(aggregateClass);
+        }
+    };
+
     protected String aggregateType() {
         throw new UnsupportedOperationException("Not supported yet.");
     }
 
+    public void markAsPartial() {
+        this.partial = true;
+    }
+
     protected void deactivate() {
         this.active = false;
     }
@@ -33,13 +54,15 @@ public abstract class AggregateRoot<ID> extends BaseEntity<ID> {
 
     final protected void applyChange(DomainEvent event, Boolean isNewEvent) {
         ensureActive(event);
+        var handler = APPLY_HANDLERS.get(getClass()).get(event.getClass());
+        if (handler == null) {
+            throw new IllegalStateException(MessageFormat.format("The apply method was not found in {0} for {1}",
+                    getClass().getName(), event.getClass().getName()));
+        }
+
         try {
-            var method = getClass().getDeclaredMethod("apply", event.getClass());
-            method.setAccessible(true);
-            method.invoke(this, event);
-        } catch (NoSuchMethodException e) {
-            logger.log(Level.WARNING, MessageFormat.format("The apply method was not found in the aggregate for {0}", event.getClass().getName()));
-        } catch (Exception e) {
+            handler.invokeExact((AggregateRoot<?>) this, event);
+        } catch (Throwable e) {
             logger.log(Level.SEVERE, MessageFormat.format("Error applying event to aggregate {0}", event.getClass().getName()), e);
         } finally {
             if (isNewEvent) {
@@ -47,11 +70,37 @@ public abstract class AggregateRoot<ID> extends BaseEntity<ID> {
             }
         }
     }
-    
+
+    public static boolean handles(Class<? extends AggregateRoot> aggregateClass, Class<? extends DomainEvent> eventClass) {
+        return APPLY_HANDLERS.get(aggregateClass).containsKey(eventClass);
+    }
+
+    private static Map<Class<?>, MethodHandle> applyHandlersOf(Class<?> aggregateClass) {
+        var handlers = new HashMap<Class<?>, MethodHandle>();
+        try {
+            var lookup = MethodHandles.privateLookupIn(aggregateClass, MethodHandles.lookup());
+            for (var method : aggregateClass.getDeclaredMethods()) {
+                if (!method.getName().equals("apply") || method.getParameterCount() != 1
+                        || !DomainEvent.class.isAssignableFrom(method.getParameterTypes()[0])) {
+                    continue;
+                }
+                handlers.put(method.getParameterTypes()[0], lookup.unreflect(method).asType(APPLY_TYPE));
+            }
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot access the apply methods of " + aggregateClass.getName(), e);
+        }
+        return Map.copyOf(handlers);
+    }
+
     public void replayEvents(Iterable<DomainEvent> events) {
         events.forEach(event -> applyChange(event, false));
     }
 
+    public void replayEvent(DomainEvent event) {
+        applyChange(event, false);
+        this.version = event.getVersion();
+    }
+
     public List<DomainEvent> pullUncommittedChanges() {
         return this.domainEvents;
     }
@@ -0,0 +1,23 @@
+package ai.snippetquiz.core_service.shared.domain.entity;
+
+import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.HashMap;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AggregateSnapshot {
+    private UUID aggregateId;
+    private UserId userId;
+    private String aggregateType;
+    private int version;
+    private int schemaVersion;
+    private HashMap<String, Object> state;
+}
@@ -0,0 +1,21 @@
+package ai.snippetquiz.core_service.shared.domain.entity;
+
+import java.util.Comparator;
+
+/**
+ * Position of an event in the global order of the event store: the id of the transaction that appended it,
+ * then its sequence number. Readers only see transactions older than any still in flight, so no event can
+ * show up behind a position that was already passed.
+ */
+public record GlobalPosition(long transactionId, long position) implements Comparable<GlobalPosition> {
+    public static final GlobalPosition START = new GlobalPosition(0, 0);
+
+    private static final Comparator<GlobalPosition> ORDER = Comparator
+            .comparingLong(GlobalPosition::transactionId)
+            .thenComparingLong(GlobalPosition::position);
+
+    @Override
+    public int compareTo(GlobalPosition other) {
+        return ORDER.compare(this, other);
+    }
+}
@@ -0,0 +1,23 @@
+package ai.snippetquiz.core_service.shared.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxMessage {
+    private Long id;
+    private UUID eventId;
+    private UUID aggregateId;
+    private String topic;
+    private String payload;
+    private int attempts;
+    private LocalDateTime createdAt;
+}
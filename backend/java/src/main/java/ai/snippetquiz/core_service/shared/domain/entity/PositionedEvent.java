@@ -0,0 +1,6 @@
+package ai.snippetquiz.core_service.shared.domain.entity;
+
+import ai.snippetquiz.core_service.shared.domain.bus.event.DomainEvent;
+
+public record PositionedEvent(GlobalPosition position, DomainEvent event) {
+}
@@ -0,0 +1,19 @@
+package ai.snippetquiz.core_service.shared.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectionRebuild {
+    private String projection;
+    private int partitions;
+    private LocalDateTime startedAt;
+    private boolean resumed;
+}
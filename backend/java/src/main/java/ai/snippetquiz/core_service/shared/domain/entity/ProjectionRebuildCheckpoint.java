@@ -0,0 +1,20 @@
+package ai.snippetquiz.core_service.shared.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectionRebuildCheckpoint {
+    private String aggregateType;
+    private int partition;
+    private UUID lastAggregateId;
+    private long events;
+    private boolean done;
+}
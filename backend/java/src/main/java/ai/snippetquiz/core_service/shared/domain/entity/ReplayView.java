@@ -0,0 +1,23 @@
+package ai.snippetquiz.core_service.shared.domain.entity;
+
+import ai.snippetquiz.core_service.shared.domain.Utils;
+import ai.snippetquiz.core_service.shared.domain.bus.event.DomainEvent;
+
+import java.util.Arrays;
+import java.util.Set;
+
+import static java.util.stream.Collectors.toUnmodifiableSet;
+
+/**
+ * The subset of an aggregate's events that a read needs. Aggregates loaded through a view are partial:
+ * they can record new events but their state only reflects the events in the view.
+ */
+public record ReplayView(String name, Set<String> eventNames) {
+
+    @SafeVarargs
+    public static ReplayView of(String name, Class<? extends DomainEvent>... events) {
+        return new ReplayView(name, Arrays.stream(events)
+                .map(Utils::getEventName)
+                .collect(toUnmodifiableSet()));
+    }
+}
@@ -0,0 +1,18 @@
+package ai.snippetquiz.core_service.shared.domain.entity;
+
+import java.util.HashMap;
+
+/**
+ * Aggregate whose state can be stored as a snapshot and restored from it, so that loading it only replays the
+ * events appended after the snapshot.
+ */
+public interface Snapshottable {
+    HashMap<String, Object> toSnapshot();
+
+    void restoreSnapshot(HashMap<String, Object> snapshot);
+
+    /**
+     * Version of the snapshot layout; snapshots stored with another version are ignored.
+     */
+    int snapshotSchemaVersion();
+}
@@ -0,0 +1,13 @@
+package ai.snippetquiz.core_service.shared.domain.port.repository;
+
+import ai.snippetquiz.core_service.shared.domain.entity.AggregateSnapshot;
+import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface AggregateSnapshotRepository {
+    Optional<AggregateSnapshot> findByUserIdAndAggregateId(UserId userId, UUID aggregateId);
+
+    void save(AggregateSnapshot snapshot);
+}
@@ -1,13 +1,58 @@
 package ai.snippetquiz.core_service.shared.domain.port.repository;
 
 import ai.snippetquiz.core_service.shared.domain.bus.event.DomainEvent;
+import ai.snippetquiz.core_service.shared.domain.entity.GlobalPosition;
+import ai.snippetquiz.core_service.shared.domain.entity.PositionedEvent;
 import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface DomainEventRepository<T extends DomainEvent> {
     List<T> findAllByUserIdAndAggregateIdAndAggregateType(UserId userId, UUID aggregateId);
 
-    T save(UserId userId, UUID aggregateId, String aggregateType, T domainEvent);
+    List<T> findAllByUserIdAndAggregateIdAfterVersion(UserId userId, UUID aggregateId, int version);
+
+    /**
+     * Streams the events of one aggregate after the given version in version order. Must be consumed
+     * inside a transaction and closed by the caller.
+     */
+    Stream<T> streamByUserIdAndAggregateId(UserId userId, UUID aggregateId, int afterVersion);
+
+    /**
+     * Streams only the events of one aggregate whose name is in {@code eventNames}, in version order.
+     */
+    Stream<T> streamByUserIdAndAggregateIdAndEventNames(UserId userId, UUID aggregateId, Set<String> eventNames);
+
+    /**
+     * Returns the version of the last event appended to the aggregate's stream, or -1 when it has none.
+     */
+    int findStreamVersion(UserId userId, UUID aggregateId);
+
+    /**
+     * Streams every event of an aggregate type ordered by aggregate and version, for bulk replays.
+     */
+    Stream<T> streamByAggregateType(String aggregateType);
+
+    /**
+     * Streams one of {@code partitions} disjoint slices of an aggregate type, split by a hash of the aggregate
+     * id, ordered by aggregate and version and starting after {@code afterAggregateId}.
+     */
+    Stream<T> streamByAggregateType(String aggregateType, int partition, int partitions, UUID afterAggregateId);
+
+    /**
+     * Streams the whole streams of the aggregates of a type whose head moved since {@code since}.
+     */
+    Stream<T> streamByAggregateTypeUpdatedSince(String aggregateType, LocalDateTime since);
+
+    /**
+     * Returns up to {@code limit} events after a global position, in global order. Only events of
+     * transactions that completed before the oldest one still running are returned.
+     */
+    List<PositionedEvent> findAfterPosition(GlobalPosition after, Set<String> aggregateTypes, int limit);
+
+    void saveAll(UserId userId, UUID aggregateId, String aggregateType, List<? extends T> domainEvents);
 }
@@ -0,0 +1,30 @@
+package ai.snippetquiz.core_service.shared.domain.port.repository;
+
+import ai.snippetquiz.core_service.shared.domain.bus.event.DomainEvent;
+import ai.snippetquiz.core_service.shared.domain.entity.OutboxMessage;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface EventOutboxRepository {
+    void enqueue(String topic, List<? extends DomainEvent> events);
+
+    boolean tryAcquireRelayLock();
+
+    List<OutboxMessage> findNextBatch(int limit);
+
+    /**
+     * Holds messages back from other relays for {@code lease}, without counting an attempt.
+     */
+    void claim(List<Long> ids, Duration lease);
+
+    void deleteAllById(List<Long> ids);
+
+    void scheduleRetry(List<Long> ids, Duration baseBackoff, Duration maxBackoff);
+
+    long count();
+
+    Optional<LocalDateTime> findOldestCreatedAt();
+}
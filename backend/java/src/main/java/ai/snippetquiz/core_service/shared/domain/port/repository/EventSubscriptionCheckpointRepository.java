@@ -0,0 +1,17 @@
+package ai.snippetquiz.core_service.shared.domain.port.repository;
+
+import ai.snippetquiz.core_service.shared.domain.entity.GlobalPosition;
+
+import java.util.Optional;
+
+public interface EventSubscriptionCheckpointRepository {
+    /**
+     * Locks the checkpoint of a subscription for the current transaction, creating it at the start of history.
+     * Empty when another instance holds it.
+     */
+    Optional<GlobalPosition> lock(String subscription);
+
+    void save(String subscription, GlobalPosition position);
+
+    void reset(String subscription);
+}
@@ -0,0 +1,38 @@
+package ai.snippetquiz.core_service.shared.domain.port.repository;
+
+import ai.snippetquiz.core_service.shared.domain.entity.ProjectionRebuild;
+import ai.snippetquiz.core_service.shared.domain.entity.ProjectionRebuildCheckpoint;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ProjectionRebuildRepository {
+    /**
+     * Takes ownership of the rebuild of a projection: resumes an unfinished one whose owner stopped renewing
+     * its lease, or starts over when the last one completed. Empty when another owner holds the lease.
+     */
+    Optional<ProjectionRebuild> claim(String projection, String ownerId, int partitions, Duration lease);
+
+    List<String> findUnfinished(Duration lease);
+
+    List<ProjectionRebuildCheckpoint> findCheckpoints(String projection);
+
+    /**
+     * Records that the events of a partition up to {@code lastAggregateId} are written and renews the lease.
+     * Fails when the rebuild was claimed by another owner in the meantime.
+     */
+    void checkpoint(String projection, String ownerId, String aggregateType, int partition, UUID lastAggregateId,
+            long events);
+
+    void completePartition(String projection, String aggregateType, int partition);
+
+    void complete(String projection);
+
+    void prepareShadowTable(String table, String shadowTable);
+
+    void lockForSwap(String table);
+
+    void swap(String table, String shadowTable);
+}
@@ -0,0 +1,98 @@
+package ai.snippetquiz.core_service.shared.domain.service;
+
+import ai.snippetquiz.core_service.shared.domain.bus.event.DomainEvent;
+import ai.snippetquiz.core_service.shared.domain.entity.AggregateRoot;
+import lombok.extern.slf4j.Slf4j;
+import org.reflections.Reflections;
+import org.springframework.asm.ClassReader;
+import org.springframework.asm.ClassVisitor;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.SpringAsmInfo;
+import org.springframework.asm.Type;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Fails startup when an aggregate records a domain event it has no apply method for. The events an aggregate
+ * records are the domain events its own methods instantiate, read from its bytecode.
+ */
+@Slf4j
+@Service
+public class AggregateApplyHandlersVerifier {
+
+    public AggregateApplyHandlersVerifier() {
+        var reflections = new Reflections("ai.snippetquiz.core_service");
+        var missing = missingHandlers(reflections.getSubTypesOf(AggregateRoot.class),
+                reflections.getSubTypesOf(DomainEvent.class));
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Domain events without an apply method: " + String.join(", ", missing));
+        }
+    }
+
+    static List<String> missingHandlers(Set<Class<? extends AggregateRoot>> aggregateClasses,
+            Set<Class<? extends DomainEvent>> eventClasses) {
+        var eventsByInternalName = new HashMap<String, Class<? extends DomainEvent>>();
+        for (var eventClass : eventClasses) {
+            if (!Modifier.isAbstract(eventClass.getModifiers())) {
+                eventsByInternalName.put(Type.getInternalName(eventClass), eventClass);
+            }
+        }
+
+        var missing = new ArrayList<String>();
+        aggregateClasses.stream()
+                .filter(aggregateClass -> !Modifier.isAbstract(aggregateClass.getModifiers())
+                        && !aggregateClass.isAnonymousClass())
+                .sorted(Comparator.comparing(Class::getName))
+                .forEach(aggregateClass -> {
+                    for (var eventClass : recordedEvents(aggregateClass, eventsByInternalName)) {
+                        if (!AggregateRoot.handles(aggregateClass, eventsByInternalName.get(eventClass))) {
+                            missing.add(aggregateClass.getSimpleName() + ".apply("
+                                    + eventsByInternalName.get(eventClass).getSimpleName() + ")");
+                        }
+                    }
+                });
+        return missing;
+    }
+
+    /**
+     * Internal names of the domain events created in the methods of an aggregate class; aggregates create
+     * the events they record, e.g. {@code record(new ContentBankRenamedDomainEvent(...))}.
+     */
+    static Set<String> recordedEvents(Class<?> aggregateClass,
+            Map<String, Class<? extends DomainEvent>> eventsByInternalName) {
+        var recorded = new TreeSet<String>();
+        var classFile = aggregateClass.getName().substring(aggregateClass.getName().lastIndexOf('.') + 1) + ".class";
+        try (var bytecode = aggregateClass.getResourceAsStream(classFile)) {
+            if (bytecode == null) {
+                throw new IllegalStateException("Bytecode of " + aggregateClass.getName() + " not found");
+            }
+            new ClassReader(bytecode).accept(new ClassVisitor(SpringAsmInfo.ASM_VERSION) {
+                @Override
+                public MethodVisitor visitMethod(int access, String name, String descriptor, String signature,
+                        String[] exceptions) {
+                    return new MethodVisitor(SpringAsmInfo.ASM_VERSION) {
+                        @Override
+                        public void visitTypeInsn(int opcode, String type) {
+                            if (opcode == Opcodes.NEW && eventsByInternalName.containsKey(type)) {
+                                recorded.add(type);
+                            }
+                        }
+                    };
+                }
+            }, ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read the bytecode of " + aggregateClass.getName(), e);
+        }
+        return recorded;
+    }
+}
@@ -0,0 +1,93 @@
+package ai.snippetquiz.core_service.shared.domain.service;
+
+import ai.snippetquiz.core_service.shared.domain.entity.AggregateRoot;
+import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
+
+/**
+ * Bounded in-process cache of aggregates keyed by aggregate id. Entries hold a detached copy of the aggregate,
+ * and every reader gets a copy of its own, so changes recorded on a loaded aggregate never leak into the cache.
+ * The copy keeps its version so the caller can replay only the events appended since. A maximum size of 0
+ * disables the cache.
+ */
+public class AggregateCache<T extends AggregateRoot<?>> {
+
+    private record CachedAggregate<T>(UserId userId, T aggregate) {
+    }
+
+    private final Cache<UUID, CachedAggregate<T>> cache;
+    private final UnaryOperator<T> copier;
+
+    public AggregateCache(String name, long maximumSize, Duration timeToLive, UnaryOperator<T> copier,
+            MeterRegistry meterRegistry) {
+        this.copier = copier;
+        if (maximumSize <= 0) {
+            this.cache = null;
+            return;
+        }
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+    }
+
+    public Optional<T> find(UserId userId, UUID aggregateId) {
+        if (cache == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(cache.getIfPresent(aggregateId))
+                .filter(cached -> cached.userId().equals(userId))
+                .map(cached -> copier.apply(cached.aggregate()));
+    }
+
+    /**
+     * Caches the aggregate once the surrounding transaction commits, so a rolled back save never becomes
+     * visible. Partial and deleted aggregates are evicted instead: they cannot be served as a whole.
+     */
+    public void put(UserId userId, UUID aggregateId, T aggregate) {
+        if (cache == null) {
+            return;
+        }
+        if (aggregate.isPartial() || !aggregate.isActive()) {
+            invalidate(aggregateId);
+            return;
+        }
+
+        // Copied now, since the caller keeps changing its instance after the save
+        var cached = new CachedAggregate<>(userId, copier.apply(aggregate));
+        afterCommit(() -> cache.asMap().merge(aggregateId, cached,
+                (current, candidate) -> candidate.aggregate().getVersion() >= current.aggregate().getVersion()
+                        ? candidate : current));
+    }
+
+    public void invalidate(UUID aggregateId) {
+        if (cache != null) {
+            cache.invalidate(aggregateId);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,68 @@
+package ai.snippetquiz.core_service.shared.domain.service;
+
+import ai.snippetquiz.core_service.shared.domain.entity.AggregateRoot;
+import ai.snippetquiz.core_service.shared.domain.entity.AggregateSnapshot;
+import ai.snippetquiz.core_service.shared.domain.entity.Snapshottable;
+import ai.snippetquiz.core_service.shared.domain.port.repository.AggregateSnapshotRepository;
+import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Slf4j
+@Service
+public class AggregateSnapshotStore {
+    private final AggregateSnapshotRepository snapshotRepository;
+    private final int frequency;
+
+    public AggregateSnapshotStore(
+            AggregateSnapshotRepository snapshotRepository,
+            @Value("${event-store.snapshot.frequency:50}") int frequency) {
+        this.snapshotRepository = snapshotRepository;
+        this.frequency = frequency;
+    }
+
+    public Optional<AggregateSnapshot> findLatest(UserId userId, UUID aggregateId, int schemaVersion) {
+        return snapshotRepository.findByUserIdAndAggregateId(userId, aggregateId)
+                .filter(snapshot -> {
+                    if (snapshot.getSchemaVersion() != schemaVersion) {
+                        log.info("Ignoring stale snapshot for aggregate {}: schema version {} expected {}",
+                                aggregateId, snapshot.getSchemaVersion(), schemaVersion);
+                        return false;
+                    }
+                    return true;
+                });
+    }
+
+    public <A extends AggregateRoot<?> & Snapshottable> void saveIfDue(
+            UserId userId,
+            UUID aggregateId,
+            String aggregateType,
+            A aggregate,
+            int previousVersion) {
+        // A partial aggregate was replayed from a view and its state must never be snapshotted
+        if (!isDue(previousVersion, aggregate.getVersion()) || !aggregate.isActive() || aggregate.isPartial()) {
+            return;
+        }
+
+        snapshotRepository.save(AggregateSnapshot.builder()
+                .aggregateId(aggregateId)
+                .userId(userId)
+                .aggregateType(aggregateType)
+                .version(aggregate.getVersion())
+                .schemaVersion(aggregate.snapshotSchemaVersion())
+                .state(aggregate.toSnapshot())
+                .build());
+    }
+
+    boolean isDue(int previousVersion, int currentVersion) {
+        if (frequency <= 0) {
+            return false;
+        }
+        // Versions start at 0, so version + 1 is the number of events in the stream
+        return (currentVersion + 1) / frequency > (previousVersion + 1) / frequency;
+    }
+}
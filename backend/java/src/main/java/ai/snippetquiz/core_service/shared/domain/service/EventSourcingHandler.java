@@ -1,6 +1,7 @@
 package ai.snippetquiz.core_service.shared.domain.service;
 
 import ai.snippetquiz.core_service.shared.domain.entity.AggregateRoot;
+import ai.snippetquiz.core_service.shared.domain.entity.ReplayView;
 import ai.snippetquiz.core_service.shared.domain.valueobject.BaseId;
 import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
 
@@ -9,4 +10,5 @@ import java.util.Optional;
 public interface EventSourcingHandler<T extends AggregateRoot<?>, R extends BaseId<?>> {
     void save(T aggregate);
     Optional<T> getById(UserId userId, R aggregateId);
+    Optional<T> getById(UserId userId, R aggregateId, ReplayView view);
 }
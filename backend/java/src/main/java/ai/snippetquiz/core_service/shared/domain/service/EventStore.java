@@ -1,40 +1,77 @@
 package ai.snippetquiz.core_service.shared.domain.service;
 
 import ai.snippetquiz.core_service.shared.domain.bus.event.DomainEvent;
-import ai.snippetquiz.core_service.shared.domain.bus.event.EventBus;
-import ai.snippetquiz.core_service.shared.domain.exception.ConcurrencyException;
+import ai.snippetquiz.core_service.shared.domain.entity.GlobalPosition;
+import ai.snippetquiz.core_service.shared.domain.entity.PositionedEvent;
 import ai.snippetquiz.core_service.shared.domain.port.repository.DomainEventRepository;
 import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class EventStore {
     private final DomainEventRepository<DomainEvent> domainEventRepository;
-    private final EventBus eventBus;
 
     public void saveEvents(UserId userId, UUID aggregateId, String aggregateType, List<? extends DomainEvent> events, int expectedVersion){
-        var eventStream = domainEventRepository.findAllByUserIdAndAggregateIdAndAggregateType(userId, aggregateId);
-        if (expectedVersion != -1 && !eventStream.isEmpty() && eventStream.getLast().getVersion() != expectedVersion) {
-            throw new ConcurrencyException(
-                "Concurrency conflict: expected version " + expectedVersion +
-                " but found " + eventStream.getLast().getVersion()
-            );
+        if (events.isEmpty()) {
+            return;
         }
+
         var version = expectedVersion;
         for (var event: events) {
             version++;
             event.setVersion(version);
-            domainEventRepository.save(userId, aggregateId, aggregateType, event);
         }
-        eventBus.publish(aggregateType, events);
+        // Conflicts are detected by a compare-and-set on the stream head and raised as ConcurrencyException.
+        // The repository also queues the events in the outbox, which relays them to Kafka after commit.
+        domainEventRepository.saveAll(userId, aggregateId, aggregateType, events);
     }
 
     public List<DomainEvent> getEvents(UserId userId, UUID aggregateId) {
         return domainEventRepository.findAllByUserIdAndAggregateIdAndAggregateType(userId, aggregateId);
     }
+
+    public List<DomainEvent> getEvents(UserId userId, UUID aggregateId, int afterVersion) {
+        return domainEventRepository.findAllByUserIdAndAggregateIdAfterVersion(userId, aggregateId, afterVersion);
+    }
+
+    public Stream<DomainEvent> streamEvents(UserId userId, UUID aggregateId) {
+        return streamEvents(userId, aggregateId, -1);
+    }
+
+    public Stream<DomainEvent> streamEvents(UserId userId, UUID aggregateId, int afterVersion) {
+        return domainEventRepository.streamByUserIdAndAggregateId(userId, aggregateId, afterVersion);
+    }
+
+    public Stream<DomainEvent> streamEvents(UserId userId, UUID aggregateId, Set<String> eventNames) {
+        return domainEventRepository.streamByUserIdAndAggregateIdAndEventNames(userId, aggregateId, eventNames);
+    }
+
+    public int currentVersion(UserId userId, UUID aggregateId) {
+        return domainEventRepository.findStreamVersion(userId, aggregateId);
+    }
+
+    public Stream<DomainEvent> streamEventsOf(String aggregateType) {
+        return domainEventRepository.streamByAggregateType(aggregateType);
+    }
+
+    public Stream<DomainEvent> streamEventsOf(String aggregateType, int partition, int partitions,
+            UUID afterAggregateId) {
+        return domainEventRepository.streamByAggregateType(aggregateType, partition, partitions, afterAggregateId);
+    }
+
+    public List<PositionedEvent> readAll(GlobalPosition after, Set<String> aggregateTypes, int limit) {
+        return domainEventRepository.findAfterPosition(after, aggregateTypes, limit);
+    }
+
+    public Stream<DomainEvent> streamEventsUpdatedSince(String aggregateType, LocalDateTime since) {
+        return domainEventRepository.streamByAggregateTypeUpdatedSince(aggregateType, since);
+    }
 }
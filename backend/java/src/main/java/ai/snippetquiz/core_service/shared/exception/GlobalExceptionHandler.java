@@ -1,5 +1,6 @@
 package ai.snippetquiz.core_service.shared.exception;
 
+import ai.snippetquiz.core_service.shared.domain.exception.ConcurrencyException;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -78,7 +79,7 @@ public class GlobalExceptionHandler {
             return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
         }
         
-        if (ex.getClass().getSimpleName().equals("ConflictException")) {
+        if (ex.getClass().getSimpleName().equals("ConflictException") || ex instanceof ConcurrencyException) {
             log.warn("ConflictException occurred: {}", ex.getMessage());
             var errorResponse = new ErrorResponse(
                 "CONFLICT",
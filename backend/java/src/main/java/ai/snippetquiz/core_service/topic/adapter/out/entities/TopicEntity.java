@@ -5,6 +5,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
@@ -24,7 +25,8 @@ import java.util.UUID;
 @AllArgsConstructor
 public class TopicEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "topics_id_seq")
+    @SequenceGenerator(name = "topics_id_seq", sequenceName = "topics_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "user_id", nullable = false)
@@ -0,0 +1,12 @@
+CREATE TABLE IF NOT EXISTS "aggregate_snapshots" (
+    "aggregate_id" UUID PRIMARY KEY,
+    "user_id" UUID NOT NULL,
+    "aggregate_type" VARCHAR(50) NOT NULL,
+    "version" INT NOT NULL,
+    "schema_version" INT NOT NULL,
+    "payload" JSONB NOT NULL,
+    "created_at" TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now()
+);
+
+CREATE INDEX "idx_aggregate_snapshots_user_id_aggregate_id"
+ON "aggregate_snapshots" ("user_id", "aggregate_id");
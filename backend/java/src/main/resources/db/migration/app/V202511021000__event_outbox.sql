@@ -0,0 +1,17 @@
+CREATE TABLE IF NOT EXISTS "event_outbox" (
+    "id" BIGSERIAL PRIMARY KEY,
+    "event_id" UUID NOT NULL,
+    "aggregate_id" UUID NOT NULL,
+    "topic" VARCHAR(100) NOT NULL,
+    "payload" TEXT NOT NULL,
+    "attempts" INT NOT NULL DEFAULT 0,
+    "next_attempt_at" TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+    "created_at" TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now()
+);
+
+-- Per-aggregate ordering checks look for earlier messages of the same aggregate
+CREATE INDEX "idx_event_outbox_aggregate_id_id"
+ON "event_outbox" ("aggregate_id", "id");
+
+CREATE INDEX "idx_event_outbox_next_attempt_at"
+ON "event_outbox" ("next_attempt_at");
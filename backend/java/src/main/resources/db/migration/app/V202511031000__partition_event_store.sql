@@ -0,0 +1,72 @@
+-- Stream heads hold the latest version of every aggregate. A partitioned table cannot carry a
+-- unique (aggregate_id, version) constraint, so appends advance the head with a compare-and-set instead.
+CREATE TABLE IF NOT EXISTS "event_streams" (
+    "aggregate_id" UUID PRIMARY KEY,
+    "user_id" UUID NOT NULL,
+    "aggregate_type" VARCHAR(50) NOT NULL,
+    "version" INT NOT NULL,
+    "updated_at" TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now()
+);
+
+INSERT INTO "event_streams" ("aggregate_id", "user_id", "aggregate_type", "version")
+SELECT DISTINCT ON ("aggregate_id") "aggregate_id", "user_id", "aggregate_type", "version"
+FROM "event_store"
+ORDER BY "aggregate_id", "version" DESC;
+
+-- Hot tier: event_store partitioned by month of occurred_on
+CREATE TABLE "event_store_partitioned" (
+    "id" UUID NOT NULL DEFAULT gen_random_uuid(),
+    "user_id" UUID NOT NULL,
+    "aggregate_id" UUID NOT NULL,
+    "aggregate_type" VARCHAR(50) NOT NULL,
+    "event_name" TEXT NOT NULL,
+    "payload" JSONB NOT NULL,
+    "version" INT NOT NULL,
+    "occurred_on" TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+    CONSTRAINT "pk_event_store" PRIMARY KEY ("id", "occurred_on")
+) PARTITION BY RANGE ("occurred_on");
+
+-- Cold tier: old partitions are detached from event_store and attached here
+CREATE TABLE "event_store_cold" (
+    "id" UUID NOT NULL DEFAULT gen_random_uuid(),
+    "user_id" UUID NOT NULL,
+    "aggregate_id" UUID NOT NULL,
+    "aggregate_type" VARCHAR(50) NOT NULL,
+    "event_name" TEXT NOT NULL,
+    "payload" JSONB NOT NULL,
+    "version" INT NOT NULL,
+    "occurred_on" TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+    CONSTRAINT "pk_event_store_cold" PRIMARY KEY ("id", "occurred_on")
+) PARTITION BY RANGE ("occurred_on");
+
+DO $$
+DECLARE
+    month_start DATE := date_trunc('month', COALESCE((SELECT min("occurred_on") FROM "event_store"), now()))::date;
+    last_month DATE := (date_trunc('month', now()) + INTERVAL '3 months')::date;
+BEGIN
+    WHILE month_start < last_month LOOP
+        EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS %I PARTITION OF "event_store_partitioned" FOR VALUES FROM (%L) TO (%L)',
+            'event_store_y' || to_char(month_start, 'YYYY') || 'm' || to_char(month_start, 'MM'),
+            month_start,
+            (month_start + INTERVAL '1 month')::date);
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+END $$;
+
+CREATE TABLE "event_store_default" PARTITION OF "event_store_partitioned" DEFAULT;
+
+INSERT INTO "event_store_partitioned"
+    ("id", "user_id", "aggregate_id", "aggregate_type", "event_name", "payload", "version", "occurred_on")
+SELECT "id", "user_id", "aggregate_id", "aggregate_type", "event_name", "payload", "version", COALESCE("occurred_on", now())
+FROM "event_store";
+
+DROP TABLE "event_store";
+ALTER TABLE "event_store_partitioned" RENAME TO "event_store";
+
+-- A single narrow index per partition; user_id is checked as a filter on the few matching rows
+CREATE INDEX "idx_event_store_aggregate_id_version"
+ON "event_store" ("aggregate_id", "version");
+
+CREATE INDEX "idx_event_store_cold_aggregate_id_version"
+ON "event_store_cold" ("aggregate_id", "version");
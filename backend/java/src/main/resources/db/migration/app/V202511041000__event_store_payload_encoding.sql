@@ -0,0 +1,8 @@
+-- Payloads are either jsonb (payload_encoding = 'json') or a binary codec in payload_bytes
+ALTER TABLE "event_store" ALTER COLUMN "payload" DROP NOT NULL;
+ALTER TABLE "event_store" ADD COLUMN "payload_encoding" VARCHAR(20) NOT NULL DEFAULT 'json';
+ALTER TABLE "event_store" ADD COLUMN "payload_bytes" BYTEA;
+
+ALTER TABLE "event_store_cold" ALTER COLUMN "payload" DROP NOT NULL;
+ALTER TABLE "event_store_cold" ADD COLUMN "payload_encoding" VARCHAR(20) NOT NULL DEFAULT 'json';
+ALTER TABLE "event_store_cold" ADD COLUMN "payload_bytes" BYTEA;
@@ -0,0 +1,21 @@
+-- One row per projection table that was rebuilt from the event store; a rebuild without completed_at
+-- is resumed by the next instance once its owner stops renewing the heartbeat
+CREATE TABLE IF NOT EXISTS "projection_rebuilds" (
+    "projection" VARCHAR(100) PRIMARY KEY,
+    "partitions" INT NOT NULL,
+    "owner_id" VARCHAR(100) NOT NULL,
+    "started_at" TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+    "heartbeat_at" TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+    "completed_at" TIMESTAMP WITH TIME ZONE
+);
+
+-- Progress of each worker: the last aggregate whose events were fully written to the shadow table
+CREATE TABLE IF NOT EXISTS "projection_rebuild_checkpoints" (
+    "projection" VARCHAR(100) NOT NULL REFERENCES "projection_rebuilds" ("projection") ON DELETE CASCADE,
+    "aggregate_type" VARCHAR(100) NOT NULL,
+    "partition_index" INT NOT NULL,
+    "last_aggregate_id" UUID,
+    "events" BIGINT NOT NULL DEFAULT 0,
+    "done" BOOLEAN NOT NULL DEFAULT FALSE,
+    PRIMARY KEY ("projection", "aggregate_type", "partition_index")
+);
@@ -0,0 +1,49 @@
+-- Global order of the event store. Positions come from a sequence, so they are allocated before commit and
+-- may become visible out of order; readers pair them with the appending transaction id and only read up to
+-- the oldest transaction still in flight, which makes (transaction_id, position) safe to resume from.
+CREATE SEQUENCE IF NOT EXISTS "event_store_position_seq";
+
+ALTER TABLE "event_store" ADD COLUMN IF NOT EXISTS "position" BIGINT;
+ALTER TABLE "event_store" ADD COLUMN IF NOT EXISTS "transaction_id" XID8;
+ALTER TABLE "event_store_cold" ADD COLUMN IF NOT EXISTS "position" BIGINT;
+ALTER TABLE "event_store_cold" ADD COLUMN IF NOT EXISTS "transaction_id" XID8;
+
+-- Existing events are numbered in the order they were recorded; transaction id 0 sorts them before new ones
+CREATE TEMPORARY TABLE "event_store_backfill" ON COMMIT DROP AS
+SELECT "id", "occurred_on", row_number() OVER (ORDER BY "occurred_on", "aggregate_id", "version") AS "position"
+FROM (
+    SELECT "id", "occurred_on", "aggregate_id", "version" FROM "event_store_cold"
+    UNION ALL
+    SELECT "id", "occurred_on", "aggregate_id", "version" FROM "event_store"
+) AS "events";
+
+UPDATE "event_store_cold" e SET "position" = b."position", "transaction_id" = '0'
+FROM "event_store_backfill" b WHERE e."id" = b."id" AND e."occurred_on" = b."occurred_on";
+
+UPDATE "event_store" e SET "position" = b."position", "transaction_id" = '0'
+FROM "event_store_backfill" b WHERE e."id" = b."id" AND e."occurred_on" = b."occurred_on";
+
+SELECT setval('event_store_position_seq', GREATEST(count(*), 1), count(*) > 0) FROM "event_store_backfill";
+
+ALTER TABLE "event_store"
+    ALTER COLUMN "position" SET DEFAULT nextval('event_store_position_seq'),
+    ALTER COLUMN "position" SET NOT NULL,
+    ALTER COLUMN "transaction_id" SET DEFAULT pg_current_xact_id(),
+    ALTER COLUMN "transaction_id" SET NOT NULL;
+
+ALTER TABLE "event_store_cold"
+    ALTER COLUMN "position" SET NOT NULL,
+    ALTER COLUMN "transaction_id" SET NOT NULL;
+
+CREATE INDEX IF NOT EXISTS "idx_event_store_transaction_id_position"
+ON "event_store" ("transaction_id", "position");
+
+CREATE INDEX IF NOT EXISTS "idx_event_store_cold_transaction_id_position"
+ON "event_store_cold" ("transaction_id", "position");
+
+CREATE TABLE IF NOT EXISTS "event_subscription_checkpoints" (
+    "subscription" VARCHAR(100) PRIMARY KEY,
+    "transaction_id" XID8 NOT NULL DEFAULT '0',
+    "position" BIGINT NOT NULL DEFAULT 0,
+    "updated_at" TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now()
+);
@@ -0,0 +1,8 @@
+-- Hibernate allocates ids of these tables in blocks of 50 (pooled optimizer) so their inserts can be batched;
+-- the sequences step by the same amount. Column defaults stay in place for plain SQL inserts, which simply
+-- take the head of a block that Hibernate will never hand out.
+ALTER SEQUENCE IF EXISTS "questions_id_seq" INCREMENT BY 50;
+ALTER SEQUENCE IF EXISTS "question_options_id_seq" INCREMENT BY 50;
+ALTER SEQUENCE IF EXISTS "topics_id_seq" INCREMENT BY 50;
+ALTER SEQUENCE IF EXISTS "content_entry_topics_id_seq" INCREMENT BY 50;
+ALTER SEQUENCE IF EXISTS "youtube_channels_id_seq" INCREMENT BY 50;
@@ -0,0 +1,5 @@
+-- Bank listings page newest first with a (created_at, id) cursor; this index lets each page seek to the cursor
+-- instead of scanning and sorting every bank before it. Entries are paged from content_entries__projection,
+-- which has its own index
+CREATE INDEX IF NOT EXISTS "content_banks_user_id_created_at_id_idx"
+    ON "content_banks" ("user_id", "created_at" DESC, "id" DESC);
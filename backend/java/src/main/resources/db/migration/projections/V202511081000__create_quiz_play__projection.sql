@@ -0,0 +1,19 @@
+-- Read model of the quiz play loop: one row per quiz with the questions in the order they are asked, the
+-- question currently asked (questions -> answered_count) and the counts of the answers given so far
+CREATE TABLE IF NOT EXISTS quiz_play__projection (
+    id UUID PRIMARY KEY,
+    user_id UUID NOT NULL,
+    version INTEGER NOT NULL, -- version of the last quiz event applied
+    bank_name VARCHAR(255),
+    created_at TIMESTAMP WITHOUT TIME ZONE,
+    status VARCHAR(255),
+    question_updated_at TIMESTAMP(3),
+    content_entries_count INTEGER NOT NULL DEFAULT 0,
+    topics JSONB, -- list of strings stored as JSON
+    questions JSONB NOT NULL DEFAULT '[]'::jsonb, -- rendered questions with their options, in play order
+    questions_count INTEGER NOT NULL DEFAULT 0,
+    answered_count INTEGER NOT NULL DEFAULT 0,
+    correct_count INTEGER NOT NULL DEFAULT 0,
+    all_questions_marked BOOLEAN NOT NULL DEFAULT FALSE,
+    current_question JSONB
+);
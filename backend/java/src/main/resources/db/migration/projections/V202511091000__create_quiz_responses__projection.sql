@@ -0,0 +1,20 @@
+-- Answers of a quiz as the responses page lists them. A row is stored with its question when the question
+-- is added and filled in when it is answered; answers follow the play order, so the answered rows are the
+-- positions 0..answered-1 and pages are read by position
+CREATE TABLE IF NOT EXISTS quiz_responses__projection (
+    quiz_id UUID NOT NULL,
+    question_id UUID NOT NULL,
+    user_id UUID NOT NULL,
+    position INTEGER NOT NULL, -- play order of the question in the quiz
+    question TEXT NOT NULL,
+    source_url TEXT,
+    options JSONB NOT NULL, -- option text and explanation by option id
+    is_correct BOOLEAN, -- null until the question is answered
+    answer TEXT,
+    correct_answer TEXT,
+    explanation TEXT,
+    PRIMARY KEY (quiz_id, question_id)
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_quiz_responses__projection_position
+    ON quiz_responses__projection (quiz_id, position);
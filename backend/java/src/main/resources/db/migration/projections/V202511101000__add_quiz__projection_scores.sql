@@ -0,0 +1,13 @@
+-- Score counters of a quiz, kept up to date by every answer. Rows projected before this migration only get a
+-- count when they have no answers yet; the others keep a null count, which the summary replays instead,
+-- until the projection is rebuilt (projections.rebuild.tables=quiz__projection)
+ALTER TABLE quiz__projection
+    ADD COLUMN IF NOT EXISTS correct_count INTEGER,
+    ADD COLUMN IF NOT EXISTS completed_at TIMESTAMP(3);
+
+UPDATE quiz__projection
+SET correct_count = 0
+WHERE COALESCE(jsonb_array_length(responses), 0) = 0;
+
+ALTER TABLE quiz__projection
+    ALTER COLUMN correct_count SET DEFAULT 0;
@@ -0,0 +1,7 @@
+-- StaleQuizSweeper looks up quizzes in progress by how long ago their questions were last updated
+CREATE INDEX IF NOT EXISTS idx_quiz__projection_status_question_updated_at
+    ON quiz__projection (status, question_updated_at);
+
+-- The in-progress check of a user reads a single row
+CREATE INDEX IF NOT EXISTS idx_quiz__projection_user_id_status
+    ON quiz__projection (user_id, status);
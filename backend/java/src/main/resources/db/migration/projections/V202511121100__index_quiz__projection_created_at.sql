@@ -0,0 +1,3 @@
+-- GET /quiz pages the quizzes of a user newest first with a (created_at, id) cursor
+CREATE INDEX IF NOT EXISTS idx_quiz__projection_user_id_created_at_id
+    ON quiz__projection (user_id, created_at DESC, id DESC);
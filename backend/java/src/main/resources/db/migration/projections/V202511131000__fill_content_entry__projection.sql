@@ -0,0 +1,31 @@
+-- The entry listings read their rows, status included, from the projection
+ALTER TABLE content_entries__projection
+    ADD COLUMN IF NOT EXISTS status VARCHAR(50) NOT NULL DEFAULT 'PENDING';
+
+ALTER TABLE content_entries__projection
+    ALTER COLUMN page_title TYPE TEXT;
+
+CREATE INDEX IF NOT EXISTS idx_content_entries__projection_bank_id_created_at_id
+    ON content_entries__projection (content_banks_id, created_at DESC, id DESC);
+
+-- Entries created before the projection was maintained; content is truncated like the listings do
+INSERT INTO content_entries__projection (
+    id, content_type, content, source_url, page_title, created_at, questions_generated, topics, user_id,
+    content_banks_id, status)
+SELECT ce.id,
+       ce.content_type,
+       CASE WHEN length(ce.content) <= 200 THEN ce.content ELSE left(ce.content, 200) || '...' END,
+       ce.source_url,
+       ce.page_title,
+       ce.created_at,
+       ce.questions_generated,
+       COALESCE((
+           SELECT jsonb_agg(t.topic ORDER BY t.id)
+           FROM content_entry_topics cet
+           JOIN topics t ON t.id = cet.topic_id AND t.user_id = ce.user_id
+           WHERE cet.content_entry_id = ce.id), '[]'::jsonb),
+       ce.user_id,
+       ce.content_bank_id,
+       ce.status
+FROM content_entries ce
+ON CONFLICT (id) DO NOTHING;
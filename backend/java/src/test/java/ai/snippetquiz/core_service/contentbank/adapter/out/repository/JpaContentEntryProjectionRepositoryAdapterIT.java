@@ -0,0 +1,108 @@
+package ai.snippetquiz.core_service.contentbank.adapter.out.repository;
+
+import ai.snippetquiz.AbstractIntegrationTest;
+import ai.snippetquiz.core_service.contentbank.domain.model.ContentEntryProjection;
+import ai.snippetquiz.core_service.contentbank.domain.valueobject.ContentBankId;
+import ai.snippetquiz.core_service.contentbank.domain.valueobject.ContentEntryId;
+import ai.snippetquiz.core_service.contentbank.domain.valueobject.ContentEntryStatus;
+import ai.snippetquiz.core_service.shared.domain.ContentType;
+import ai.snippetquiz.core_service.shared.domain.bus.query.KeysetCursor;
+import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JpaContentEntryProjectionRepositoryAdapterIT extends AbstractIntegrationTest {
+
+    @Autowired
+    private JpaContentEntryProjectionRepositoryAdapter adapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void insertAndAddTopics_keepsTopicsUniqueAndSkipsRedeliveredCreation() {
+        var userId = new UserId(UUID.randomUUID());
+        var bankId = contentBank(userId);
+        var entryId = contentEntry(userId, bankId);
+        var createdAt = LocalDateTime.of(2025, 11, 13, 10, 0);
+
+        adapter.insert(projection(entryId, userId, bankId, "Title", createdAt));
+        adapter.addTopics(entryId, List.of("Java", "Spring"), ContentEntryStatus.ANALYZED, createdAt.plusMinutes(1));
+        adapter.addTopics(entryId, List.of("Spring", "Kafka"), ContentEntryStatus.ANALYZED, createdAt.plusMinutes(2));
+        adapter.insert(projection(entryId, userId, bankId, "Redelivered", createdAt));
+        adapter.markQuestionsGenerated(entryId);
+
+        var found = adapter.findByIdAndUserId(entryId, userId).orElseThrow();
+        assertEquals(List.of("Java", "Spring", "Kafka"), found.getTopics());
+        assertEquals(ContentEntryStatus.ANALYZED, found.getStatus());
+        assertEquals("Title", found.getPageTitle());
+        assertEquals(createdAt.plusMinutes(2), found.getCreatedAt());
+        assertTrue(found.getQuestionsGenerated());
+    }
+
+    @Test
+    void insert_skipsEntryDeletedBeforeItsCreationIsHandled() {
+        var userId = new UserId(UUID.randomUUID());
+        var bankId = contentBank(userId);
+        var entryId = new ContentEntryId(UUID.randomUUID());
+
+        adapter.insert(projection(entryId, userId, bankId, "Title", LocalDateTime.now()));
+
+        assertTrue(adapter.findById(entryId).isEmpty());
+    }
+
+    @Test
+    void findByContentBankIdAfter_pagesNewestFirst() {
+        var userId = new UserId(UUID.randomUUID());
+        var bankId = contentBank(userId);
+        var createdAt = LocalDateTime.of(2020, 1, 1, 0, 0);
+        var older = contentEntry(userId, bankId);
+        var newer = contentEntry(userId, bankId);
+        adapter.insert(projection(older, userId, bankId, "Older", createdAt));
+        adapter.insert(projection(newer, userId, bankId, "Newer", createdAt.plusDays(1)));
+
+        var first = adapter.findByContentBankIdAfter(bankId, null, 1);
+        var rest = adapter.findByContentBankIdAfter(
+                bankId, new KeysetCursor(createdAt.plusDays(1), newer.getValue()), 1);
+
+        assertEquals(List.of(newer), first.stream().map(ContentEntryProjection::getId).toList());
+        assertEquals(List.of(older), rest.stream().map(ContentEntryProjection::getId).toList());
+    }
+
+    private ContentBankId contentBank(UserId userId) {
+        return new ContentBankId(jdbcTemplate.queryForObject(
+                "INSERT INTO content_banks (user_id, name) VALUES (?, 'Bank') RETURNING id", UUID.class,
+                userId.getValue()));
+    }
+
+    private ContentEntryId contentEntry(UserId userId, ContentBankId bankId) {
+        return new ContentEntryId(jdbcTemplate.queryForObject(
+                "INSERT INTO content_entries (user_id, content_bank_id, content_type, status) " +
+                "VALUES (?, ?, 'FULL_HTML', 'PENDING') RETURNING id", UUID.class,
+                userId.getValue(), bankId.getValue()));
+    }
+
+    private ContentEntryProjection projection(ContentEntryId id, UserId userId, ContentBankId bankId,
+            String pageTitle, LocalDateTime createdAt) {
+        return new ContentEntryProjection(
+                id,
+                userId,
+                ContentType.FULL_HTML,
+                "content",
+                "https://example.com",
+                pageTitle,
+                createdAt,
+                false,
+                List.of(),
+                bankId,
+                ContentEntryStatus.PENDING);
+    }
+}
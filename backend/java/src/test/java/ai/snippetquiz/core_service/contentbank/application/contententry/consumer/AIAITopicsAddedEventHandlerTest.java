@@ -1,11 +1,12 @@
 package ai.snippetquiz.core_service.contentbank.application.contententry.consumer;
 
 import ai.snippetquiz.core_service.contentbank.domain.events.AITopicsAddedIntegrationEvent;
+import ai.snippetquiz.core_service.contentbank.domain.events.ContentEntryTopicAddedDomainEvent;
 import ai.snippetquiz.core_service.contentbank.domain.model.ContentEntry;
-import ai.snippetquiz.core_service.contentbank.domain.model.ContentEntryTopic;
 import ai.snippetquiz.core_service.contentbank.domain.port.ContentEntryRepository;
 import ai.snippetquiz.core_service.contentbank.domain.port.ContentEntryTopicRepository;
 import ai.snippetquiz.core_service.contentbank.domain.valueobject.ContentEntryId;
+import ai.snippetquiz.core_service.shared.domain.bus.event.EventBus;
 import ai.snippetquiz.core_service.shared.domain.port.repository.EventProcessedRepository;
 import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
 import ai.snippetquiz.core_service.topic.domain.Topic;
@@ -13,6 +14,7 @@ import ai.snippetquiz.core_service.topic.domain.port.TopicRepository;
 import ai.snippetquiz.core_service.topic.domain.valueobject.TopicId;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -22,8 +24,10 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -40,6 +44,8 @@ class AIAITopicsAddedEventHandlerTest {
     private ContentEntryRepository contentEntryRepository;
     @Mock
     private ContentEntryTopicRepository contentEntryTopicRepository;
+    @Mock
+    private EventBus eventBus;
 
     @InjectMocks
     private AITopicsAddedEventHandler consumer;
@@ -80,13 +86,20 @@ class AIAITopicsAddedEventHandlerTest {
             return t;
         });
 
-        when(contentEntryTopicRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(contentEntryTopicRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
 
         consumer.on(event);
 
         verify(topicRepository, times(2)).save(any());
         verify(contentEntryRepository, times(1)).save(any());
-        verify(contentEntryTopicRepository, times(2)).save(any(ContentEntryTopic.class));
+        ArgumentCaptor<List> associations = ArgumentCaptor.forClass(List.class);
+        verify(contentEntryTopicRepository, times(1)).saveAll(associations.capture());
+        assertEquals(2, associations.getValue().size());
+        verify(contentEntryTopicRepository, times(1)).findByContentEntryId(eq(entry.getId()));
+        ArgumentCaptor<List> published = ArgumentCaptor.forClass(List.class);
+        verify(eventBus).publish(eq(entry.aggregateType()), published.capture());
+        var topicAdded = (ContentEntryTopicAddedDomainEvent) published.getValue().getFirst();
+        assertEquals(topics, topicAdded.getTopics());
         verify(eventProcessedRepository).save(event);
         assertNotNull(entry.getId());
     }
@@ -0,0 +1,115 @@
+package ai.snippetquiz.core_service.contentbank.application.contententry.consumer;
+
+import ai.snippetquiz.core_service.contentbank.domain.events.ContentEntryCreatedDomainEvent;
+import ai.snippetquiz.core_service.contentbank.domain.events.ContentEntryDeletedDomainEvent;
+import ai.snippetquiz.core_service.contentbank.domain.events.ContentEntryQuestionCreatedDomainEvent;
+import ai.snippetquiz.core_service.contentbank.domain.events.ContentEntryTopicAddedDomainEvent;
+import ai.snippetquiz.core_service.contentbank.domain.events.ContentEntryUpdatedDomainEvent;
+import ai.snippetquiz.core_service.contentbank.domain.model.ContentEntryProjection;
+import ai.snippetquiz.core_service.contentbank.domain.port.ContentEntryProjectionRepository;
+import ai.snippetquiz.core_service.contentbank.domain.valueobject.ContentBankId;
+import ai.snippetquiz.core_service.contentbank.domain.valueobject.ContentEntryId;
+import ai.snippetquiz.core_service.contentbank.domain.valueobject.ContentEntryStatus;
+import ai.snippetquiz.core_service.shared.domain.ContentType;
+import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ContentEntryProjectionHandlerTest {
+
+    @Mock
+    private ContentEntryProjectionRepository repository;
+
+    @InjectMocks
+    private ContentEntryProjectionHandler handler;
+
+    @Test
+    void onContentEntryCreated_insertsTruncatedEntryWithoutTopics() {
+        var entryId = UUID.randomUUID();
+        var userId = new UserId(UUID.randomUUID());
+        var bankId = UUID.randomUUID();
+        var createdAt = LocalDateTime.now();
+
+        handler.on(new ContentEntryCreatedDomainEvent(
+                entryId,
+                userId,
+                bankId.toString(),
+                ContentType.FULL_HTML.name(),
+                ContentEntryStatus.PENDING,
+                "a".repeat(250),
+                "https://example.com",
+                "Title",
+                createdAt,
+                1,
+                null,
+                null,
+                null,
+                false));
+
+        var captor = ArgumentCaptor.forClass(ContentEntryProjection.class);
+        verify(repository).insert(captor.capture());
+        var projection = captor.getValue();
+        assertEquals(new ContentEntryId(entryId), projection.getId());
+        assertEquals(userId, projection.getUserId());
+        assertEquals(new ContentBankId(bankId), projection.getContentBankId());
+        assertEquals(ContentType.FULL_HTML, projection.getContentType());
+        assertEquals("a".repeat(200) + "...", projection.getContent());
+        assertEquals(ContentEntryStatus.PENDING, projection.getStatus());
+        assertEquals(createdAt, projection.getCreatedAt());
+        assertEquals(List.of(), projection.getTopics());
+    }
+
+    @Test
+    void onContentEntryUpdated_updatesContentAndTitle() {
+        var entryId = UUID.randomUUID();
+        var createdAt = LocalDateTime.now();
+
+        handler.on(new ContentEntryUpdatedDomainEvent(
+                entryId, new UserId(UUID.randomUUID()), "new content", "New Title", createdAt, 2));
+
+        verify(repository).update(new ContentEntryId(entryId), "new content", "New Title", createdAt);
+    }
+
+    @Test
+    void onContentEntryTopicAdded_appendsTopics() {
+        var entryId = UUID.randomUUID();
+        var updatedAt = LocalDateTime.now();
+
+        handler.on(new ContentEntryTopicAddedDomainEvent(
+                entryId, new UserId(UUID.randomUUID()), List.of("Java"), ContentEntryStatus.ANALYZED.name(),
+                updatedAt));
+
+        verify(repository).addTopics(new ContentEntryId(entryId), List.of("Java"), ContentEntryStatus.ANALYZED,
+                updatedAt);
+    }
+
+    @Test
+    void onContentEntryQuestionCreated_marksQuestionsGenerated() {
+        var entryId = UUID.randomUUID();
+
+        handler.on(new ContentEntryQuestionCreatedDomainEvent(entryId, new UserId(UUID.randomUUID())));
+
+        verify(repository).markQuestionsGenerated(new ContentEntryId(entryId));
+    }
+
+    @Test
+    void onContentEntryDeleted_deletesEntry() {
+        var entryId = UUID.randomUUID();
+
+        handler.on(new ContentEntryDeletedDomainEvent(entryId, new UserId(UUID.randomUUID())));
+
+        verify(repository).deleteById(new ContentEntryId(entryId));
+    }
+}
@@ -7,6 +7,7 @@ import ai.snippetquiz.core_service.contentbank.domain.port.ContentBankRepository
 import ai.snippetquiz.core_service.contentbank.domain.port.ContentEntryRepository;
 import ai.snippetquiz.core_service.contentbank.domain.valueobject.ContentBankId;
 import ai.snippetquiz.core_service.shared.domain.bus.event.EventBus;
+import ai.snippetquiz.core_service.shared.domain.bus.query.KeysetCursor;
 import ai.snippetquiz.core_service.shared.domain.bus.query.PagedModelResponse;
 import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
 import ai.snippetquiz.core_service.shared.exception.ConflictException;
@@ -24,6 +25,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -169,6 +171,43 @@ class ContentBankServiceImplTest {
             assertThat(item.name()).isEqualTo("My Bank");
             assertThat(item.contentEntries()).isEqualTo(3);
         }
+
+        @Test
+        void findAllAfter_shouldFetchOneExtraRowToTellWhetherThereIsANextPage() {
+            // Given
+            ContentBank bank = new ContentBank(contentBankId, userId, "My Bank");
+            ContentBank older = new ContentBank(new ContentBankId(UUID.randomUUID()), userId, "Older Bank");
+            when(contentBankRepository.findByUserIdAndNameContainingIgnoreCaseAfter(userId, null, null, 2))
+                    .thenReturn(List.of(bank, older));
+            when(contentEntryRepository.countByContentBankId(contentBankId)).thenReturn(3L);
+
+            // When
+            var response = contentBankService.findAllAfter(userId, null, null, 1);
+
+            // Then
+            assertThat(response.content()).extracting(ContentBankItemResponse::name).containsExactly("My Bank");
+            assertThat(response.hasNext()).isTrue();
+            assertThat(KeysetCursor.decode(response.nextCursor()))
+                    .isEqualTo(new KeysetCursor(bank.getCreatedAt(), contentBankId.getValue()));
+        }
+
+        @Test
+        void findAllAfter_shouldEndWithoutCursorOnLastPage() {
+            // Given
+            var after = new KeysetCursor(LocalDateTime.now(), UUID.randomUUID());
+            ContentBank bank = new ContentBank(contentBankId, userId, "My Bank");
+            when(contentBankRepository.findByUserIdAndNameContainingIgnoreCaseAfter(userId, "My", after, 11))
+                    .thenReturn(List.of(bank));
+            when(contentEntryRepository.countByContentBankId(contentBankId)).thenReturn(0L);
+
+            // When
+            var response = contentBankService.findAllAfter(userId, "My", after, 10);
+
+            // Then
+            assertThat(response.content()).hasSize(1);
+            assertThat(response.hasNext()).isFalse();
+            assertThat(response.nextCursor()).isNull();
+        }
     }
 
     @Nested
@@ -283,7 +322,7 @@ class ContentBankServiceImplTest {
 
             // Then
             verify(contentBankRepository, atLeastOnce()).save(any(ContentBank.class));
-            verify(contentEntryRepository, times(1)).saveAll(anyList());
+            verify(contentEntryRepository, times(1)).insertAll(anyList());
 
             var aggregateTypeCaptor = ArgumentCaptor.forClass(String.class);
             var eventsCaptor = ArgumentCaptor.forClass(List.class);
@@ -310,7 +349,7 @@ class ContentBankServiceImplTest {
 
             // Then
             verify(contentBankRepository, atLeastOnce()).save(any(ContentBank.class));
-            verify(contentEntryRepository, times(1)).saveAll(anyList());
+            verify(contentEntryRepository, times(1)).insertAll(anyList());
 
             var aggregateTypeCaptor = ArgumentCaptor.forClass(String.class);
             var eventsCaptor = ArgumentCaptor.forClass(List.class);
@@ -2,15 +2,19 @@ package ai.snippetquiz.core_service.contentbank.application.service;
 
 import ai.snippetquiz.core_service.contentbank.application.ContentEntryDTOResponse;
 import ai.snippetquiz.core_service.contentbank.domain.model.ContentBank;
+import ai.snippetquiz.core_service.contentbank.domain.events.ContentEntryUpdatedDomainEvent;
 import ai.snippetquiz.core_service.contentbank.domain.model.ContentEntry;
+import ai.snippetquiz.core_service.contentbank.domain.model.ContentEntryProjection;
 import ai.snippetquiz.core_service.contentbank.domain.model.ContentEntryTopic;
 import ai.snippetquiz.core_service.contentbank.domain.model.YoutubeChannel;
 import ai.snippetquiz.core_service.contentbank.domain.port.ContentBankRepository;
+import ai.snippetquiz.core_service.contentbank.domain.port.ContentEntryProjectionRepository;
 import ai.snippetquiz.core_service.contentbank.domain.port.ContentEntryRepository;
 import ai.snippetquiz.core_service.contentbank.domain.port.ContentEntryTopicRepository;
 import ai.snippetquiz.core_service.contentbank.domain.port.YoutubeChannelRepository;
 import ai.snippetquiz.core_service.contentbank.domain.valueobject.ContentBankId;
 import ai.snippetquiz.core_service.contentbank.domain.valueobject.ContentEntryId;
+import ai.snippetquiz.core_service.contentbank.domain.valueobject.ContentEntryStatus;
 import ai.snippetquiz.core_service.contentbank.domain.valueobject.YoutubeChannelId;
 import ai.snippetquiz.core_service.shared.domain.ContentType;
 import ai.snippetquiz.core_service.shared.domain.bus.event.EventBus;
@@ -33,6 +37,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -54,6 +59,9 @@ class ContentEntryServiceImplTest {
     @Mock
     private ContentEntryRepository contentEntryRepository;
 
+    @Mock
+    private ContentEntryProjectionRepository contentEntryProjectionRepository;
+
     @Mock
     private ContentBankRepository contentBankRepository;
 
@@ -148,8 +156,10 @@ class ContentEntryServiceImplTest {
             verify(contentEntryRepository, times(1)).save(existingEntry);
             assertThat(bank.getContentEntries()).isEmpty();
 
-            // Verify no events published to EventBus on update-only path
-            verify(eventBus, times(0)).publish(any(), any());
+            // Only the update is published, the topics are left to the AI service
+            ArgumentCaptor<List> events = ArgumentCaptor.forClass(List.class);
+            verify(eventBus, times(1)).publish(eq(existingEntry.aggregateType()), events.capture());
+            assertThat(events.getValue()).singleElement().isInstanceOf(ContentEntryUpdatedDomainEvent.class);
         }
 
         @Test
@@ -215,8 +225,26 @@ class ContentEntryServiceImplTest {
         }
 
         @Test
-        void findById_returnsDtoWithTopics() {
+        void findById_returnsProjectedEntry() {
             // Given
+            var projection = projection(entryId, "Title", List.of("Java", "Spring"));
+            when(contentEntryProjectionRepository.findByIdAndUserId(entryId, userId))
+                    .thenReturn(Optional.of(projection));
+
+            // When
+            ContentEntryDTOResponse response = contentEntryService.findById(userId, entryId);
+
+            // Then
+            assertThat(response.getId()).isEqualTo(entryId.toString());
+            assertThat(response.getContentType()).isEqualTo("full_html");
+            assertThat(response.getStatus()).isEqualTo("ANALYZED");
+            assertThat(response.getTopics()).containsExactly("Java", "Spring");
+            verify(contentEntryRepository, times(0)).findByIdAndUserId(any(), any());
+        }
+
+        @Test
+        void findById_returnsDtoWithTopics() {
+            // Given not projected yet
             var entry = new ContentEntry(
                     userId,
                     bankId,
@@ -275,28 +303,10 @@ class ContentEntryServiceImplTest {
             var bank = new ContentBank(bankId, userId, "Bank");
             when(contentBankRepository.findByIdAndUserId(bankId, userId)).thenReturn(Optional.of(bank));
 
-            var entry = new ContentEntry(
-                    userId,
-                    bankId,
-                    ContentType.FULL_HTML,
-                    "Some content",
-                    "https://example.com",
-                    "Title",
-                    null,
-                    null,
-                    null);
-            Page<ContentEntry> page = new PageImpl<>(List.of(entry));
+            var projection = projection(entryId, "Title", List.of("Java"));
+            Page<ContentEntryProjection> page = new PageImpl<>(List.of(projection));
             Pageable pageable = PageRequest.of(0, 10);
-            when(contentEntryRepository.findByContentBankId(bankId, pageable)).thenReturn(page);
-
-            var t1 = new ContentEntryTopic();
-            t1.setContentEntryId(entry.getId());
-            t1.setTopicId(new TopicId(1L));
-            when(contentEntryTopicRepository.findByContentEntryId(entry.getId())).thenReturn(List.of(t1));
-
-            var topicA = mock(Topic.class);
-            when(topicA.getTopic()).thenReturn("Java");
-            when(topicRepository.findAllByIdInAndUserId(anyList(), eq(userId))).thenReturn(List.of(topicA));
+            when(contentEntryProjectionRepository.findByContentBankId(bankId, pageable)).thenReturn(page);
 
             // When
             PagedModelResponse<ContentEntryDTOResponse> result = contentEntryService.findAll(userId, bankId, "",
@@ -306,12 +316,29 @@ class ContentEntryServiceImplTest {
             assertThat(result.getMetadata().totalElements()).isEqualTo(1);
             assertThat(result.getContent()).hasSize(1);
             ContentEntryDTOResponse item = result.getContent().getFirst();
-            assertThat(item.getId()).isEqualTo(entry.getId().toString());
+            assertThat(item.getId()).isEqualTo(entryId.toString());
             assertThat(item.getPageTitle()).isEqualTo("Title");
             assertThat(item.getTopics()).containsExactly("Java");
+            verify(contentEntryTopicRepository, times(0)).findByContentEntryId(any());
+            verify(topicRepository, times(0)).findAllByIdInAndUserId(anyList(), any());
         }
     }
 
+    private ContentEntryProjection projection(ContentEntryId id, String pageTitle, List<String> topics) {
+        return new ContentEntryProjection(
+                id,
+                userId,
+                ContentType.FULL_HTML,
+                "Some content",
+                "https://example.com",
+                pageTitle,
+                LocalDateTime.now(),
+                false,
+                topics,
+                bankId,
+                ContentEntryStatus.ANALYZED);
+    }
+
     @Nested
     class CloneTests {
 
@@ -394,7 +421,9 @@ class ContentEntryServiceImplTest {
             var savedClone = captor.getValue();
             assertThat(savedClone.getContentBankId()).isEqualTo(targetBank.getId());
             assertThat(targetBank.getContentEntries()).hasSize(1);
-            verify(contentEntryTopicRepository, times(2)).save(any(ContentEntryTopic.class));
+            ArgumentCaptor<List> clonedTopics = ArgumentCaptor.forClass(List.class);
+            verify(contentEntryTopicRepository, times(1)).saveAll(clonedTopics.capture());
+            assertThat(clonedTopics.getValue()).hasSize(2);
             verify(topicRepository, times(1)).findAllByIdInAndUserId(anyList(), eq(userId));
 
             // Verify domain event published via EventBus (events are drained from the
@@ -0,0 +1,92 @@
+package ai.snippetquiz.core_service.question.adapter.out.repository;
+
+import ai.snippetquiz.AbstractIntegrationTest;
+import ai.snippetquiz.core_service.contentbank.domain.valueobject.ContentEntryId;
+import ai.snippetquiz.core_service.question.domain.Question;
+import ai.snippetquiz.core_service.question.domain.QuestionOption;
+import ai.snippetquiz.core_service.question.domain.valueobject.QuestionContentEntryChunkId;
+import ai.snippetquiz.core_service.question.domain.valueobject.QuestionContentEntryQuestionChunkId;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+class JpaQuestionRepositoryAdapterIT extends AbstractIntegrationTest {
+
+    @Autowired
+    private JpaQuestionRepositoryAdapter adapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void insertAll_writesQuestionsWithOptionsAndSkipsStoredPositions() {
+        var contentEntryId = contentEntry();
+
+        var inserted = adapter.insertAll(List.of(
+                question(contentEntryId, 0, 0, "Q1"),
+                question(contentEntryId, 0, 1, "Q2")));
+
+        assertEquals(2, inserted.size());
+        assertEquals(inserted.getFirst().getId().getValue() + 1, inserted.getLast().getId().getValue(),
+                "A batch should take consecutive ids from one reserved block");
+        inserted.forEach(question -> {
+            assertNotNull(question.getId());
+            question.getQuestionOptions().forEach(option -> assertEquals(
+                    List.of(question.getId().getValue(), option.getOptionText()),
+                    jdbcTemplate.queryForObject(
+                            "SELECT question_id, option_text FROM question_options WHERE id = ?",
+                            (rs, rowNum) -> List.of(rs.getLong("question_id"), rs.getString("option_text")),
+                            option.getId().getValue()),
+                    "Each option id should belong to the row written for that option"));
+        });
+
+        var redelivered = adapter.insertAll(List.of(
+                question(contentEntryId, 0, 1, "Q2"),
+                question(contentEntryId, 1, 0, "Q3")));
+
+        assertEquals(1, redelivered.size());
+        assertEquals("Q3", redelivered.getFirst().getQuestion());
+
+        var stored = adapter.findByContentEntryId(contentEntryId);
+        assertEquals(3, stored.size());
+        assertEquals(6, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM question_options o JOIN questions q ON q.id = o.question_id " +
+                "WHERE q.content_entry_id = ?", Integer.class, contentEntryId.getValue()));
+    }
+
+    private ContentEntryId contentEntry() {
+        var userId = UUID.randomUUID();
+        var bankId = jdbcTemplate.queryForObject(
+                "INSERT INTO content_banks (user_id, name) VALUES (?, 'Bank') RETURNING id", UUID.class, userId);
+        var entryId = jdbcTemplate.queryForObject(
+                "INSERT INTO content_entries (user_id, content_bank_id, content_type, status) " +
+                "VALUES (?, ?, 'SELECTED_TEXT', 'PENDING') RETURNING id", UUID.class, userId, bankId);
+        return new ContentEntryId(entryId);
+    }
+
+    private Question question(ContentEntryId contentEntryId, int chunkIndex, int questionIndexInChunk, String text) {
+        var question = new Question();
+        question.setQuestion(text);
+        question.setType("single_choice");
+        question.setContentEntryId(contentEntryId);
+        question.setChunkIndex(new QuestionContentEntryChunkId(chunkIndex));
+        question.setQuestionIndexInChunk(new QuestionContentEntryQuestionChunkId(questionIndexInChunk));
+
+        var correct = new QuestionOption();
+        correct.setOptionText("right");
+        correct.setOptionExplanation("because");
+        correct.setIsCorrect(true);
+        var wrong = new QuestionOption();
+        wrong.setOptionText("wrong");
+        wrong.setOptionExplanation("because not");
+        wrong.setIsCorrect(false);
+        question.setQuestionOptions(List.of(correct, wrong));
+        return question;
+    }
+}
@@ -5,6 +5,7 @@ import ai.snippetquiz.core_service.contentbank.domain.valueobject.ContentBankId;
 import ai.snippetquiz.core_service.quiz.domain.model.QuizProjection;
 import ai.snippetquiz.core_service.quiz.domain.model.QuizStatus;
 import ai.snippetquiz.core_service.quiz.domain.valueobject.QuizId;
+import ai.snippetquiz.core_service.shared.domain.bus.query.KeysetCursor;
 import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,6 +13,9 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
@@ -92,6 +96,29 @@ class JpaQuizProjectionProjectionRepositoryAdapterIT extends AbstractIntegration
         assertTrue(list.stream().anyMatch(p -> p.getId().equals(id)));
     }
 
+    @Test
+    void findByStatusAndQuestionUpdatedAtBefore_returnsOldestFirst() {
+        var userId = UserId.map(UUID.randomUUID().toString());
+        var older = QuizId.map(UUID.randomUUID().toString());
+        var newer = QuizId.map(UUID.randomUUID().toString());
+        var recent = QuizId.map(UUID.randomUUID().toString());
+        adapter.upsert(QuizProjection.builder().id(newer).userId(userId).status(QuizStatus.IN_PROGRESS)
+                .questionUpdatedAt(LocalDateTime.of(1999, 2, 1, 0, 0)).build());
+        adapter.upsert(QuizProjection.builder().id(older).userId(userId).status(QuizStatus.IN_PROGRESS)
+                .questionUpdatedAt(LocalDateTime.of(1999, 1, 1, 0, 0)).build());
+        adapter.upsert(QuizProjection.builder().id(recent).userId(userId).status(QuizStatus.IN_PROGRESS)
+                .questionUpdatedAt(LocalDateTime.of(2001, 1, 1, 0, 0)).build());
+
+        var stale = adapter.findByStatusAndQuestionUpdatedAtBefore(
+                QuizStatus.IN_PROGRESS, LocalDateTime.of(2000, 1, 1, 0, 0), 100);
+
+        var ids = stale.stream().map(QuizProjection::getId).filter(id -> !id.equals(recent)).toList();
+        assertTrue(ids.indexOf(older) >= 0 && ids.indexOf(older) < ids.indexOf(newer));
+        assertFalse(stale.stream().anyMatch(p -> p.getId().equals(recent)));
+        assertTrue(adapter.findFirstByUserIdAndStatus(userId, QuizStatus.IN_PROGRESS).isPresent());
+        assertTrue(adapter.findFirstByUserIdAndStatus(userId, QuizStatus.READY).isEmpty());
+    }
+
     @Test
     void findByUserIdOrderByCreatedAtDesc_returnsPage() {
         var userId = UserId.map(UUID.randomUUID().toString());
@@ -125,6 +152,32 @@ class JpaQuizProjectionProjectionRepositoryAdapterIT extends AbstractIntegration
         assertTrue(page.getContent().size() >= 2);
     }
 
+    @Test
+    void findByUserIdAfter_pagesNewestFirstAndBreaksTiesById() {
+        var userId = UserId.map(UUID.randomUUID().toString());
+        var createdAt = LocalDateTime.of(2020, 1, 1, 0, 0);
+        var ids = new ArrayList<QuizId>();
+        for (int i = 0; i < 3; i++) {
+            var id = QuizId.map(UUID.randomUUID().toString());
+            ids.add(id);
+            // two quizzes share a created_at so that only the id orders them
+            adapter.upsert(QuizProjection.builder().id(id).userId(userId).status(QuizStatus.READY)
+                    .createdAt(i < 2 ? createdAt : createdAt.minusDays(1)).build());
+        }
+        var tied = ids.subList(0, 2).stream()
+                // Postgres orders uuids bytewise, which matches their text form but not UUID.compareTo
+                .sorted(Comparator.comparing((QuizId id) -> id.getValue().toString()).reversed())
+                .toList();
+
+        var first = adapter.findByUserIdAfter(userId, null, 2);
+        var last = first.getLast();
+        var rest = adapter.findByUserIdAfter(
+                userId, new KeysetCursor(last.getCreatedAt(), last.getId().getValue()), 2);
+
+        assertEquals(tied, first.stream().map(QuizProjection::getId).toList());
+        assertEquals(List.of(ids.get(2)), rest.stream().map(QuizProjection::getId).toList());
+    }
+
     @Test
     void deleteById_removesProjection() {
         var id = QuizId.map(UUID.randomUUID().toString());
@@ -150,4 +203,79 @@ class JpaQuizProjectionProjectionRepositoryAdapterIT extends AbstractIntegration
         var afterDelete = adapter.findById(id);
         assertNull(afterDelete);
     }
-}
\ No newline at end of file
+
+    @Test
+    void appendQuestions_addsOnlyUnseenQuestionsAndRecounts() {
+        var id = QuizId.map(UUID.randomUUID().toString());
+        var userId = UserId.map(UUID.randomUUID().toString());
+        var first = UUID.randomUUID().toString();
+        var second = UUID.randomUUID().toString();
+
+        adapter.upsert(QuizProjection.builder()
+                .id(id)
+                .userId(userId)
+                .bankName("Bank E")
+                .status(QuizStatus.PREPARE)
+                .questions(Set.of())
+                .responses(Set.of())
+                .build());
+
+        adapter.appendQuestions(QuizProjection.builder()
+                .id(id)
+                .userId(userId)
+                .status(QuizStatus.IN_PROGRESS)
+                .topics(Set.of("topic-1"))
+                .contentEntriesCount(3)
+                .questions(Set.of(first))
+                .build());
+        adapter.appendQuestions(QuizProjection.builder()
+                .id(id)
+                .userId(userId)
+                .status(QuizStatus.READY)
+                .questions(Set.of(first, second))
+                .build());
+
+        var found = adapter.findById(id);
+        assertEquals(Set.of(first, second), found.getQuestions());
+        assertEquals(2, found.getQuestionsCount());
+        assertEquals(QuizStatus.READY, found.getStatus());
+        assertEquals(Set.of("topic-1"), found.getTopics());
+        assertEquals(3, found.getContentEntriesCount());
+        assertEquals("Bank E", found.getBankName());
+        assertNotNull(found.getCreatedAt());
+    }
+
+    @Test
+    void appendResponse_ignoresRepeatedAnswers() {
+        var id = QuizId.map(UUID.randomUUID().toString());
+        var userId = UserId.map(UUID.randomUUID().toString());
+        var question = UUID.randomUUID().toString();
+
+        adapter.appendResponse(id, userId, question, true, null);
+        adapter.appendResponse(id, userId, question, true, null);
+        adapter.appendResponse(id, userId, UUID.randomUUID().toString(), false, null);
+
+        var found = adapter.findById(id);
+        assertNotNull(found);
+        assertEquals(userId, found.getUserId());
+        assertEquals(2, found.getResponses().size());
+        assertTrue(found.getResponses().contains(question));
+        assertEquals(2, found.getQuestionsCompleted());
+        assertEquals(1, found.getCorrectCount());
+        assertNull(found.getCompletedAt());
+    }
+
+    @Test
+    void appendResponse_keepsFirstCompletedAt() {
+        var id = QuizId.map(UUID.randomUUID().toString());
+        var userId = UserId.map(UUID.randomUUID().toString());
+        var completedAt = LocalDateTime.of(2025, 11, 10, 9, 30);
+
+        adapter.appendResponse(id, userId, UUID.randomUUID().toString(), true, completedAt);
+        adapter.appendResponse(id, userId, UUID.randomUUID().toString(), true, completedAt.plusMinutes(5));
+
+        var found = adapter.findById(id);
+        assertEquals(2, found.getCorrectCount());
+        assertEquals(completedAt, found.getCompletedAt());
+    }
+}
@@ -4,26 +4,32 @@ import ai.snippetquiz.core_service.contentbank.domain.model.ContentEntry;
 import ai.snippetquiz.core_service.contentbank.domain.port.ContentEntryRepository;
 import ai.snippetquiz.core_service.contentbank.domain.valueobject.ContentEntryId;
 import ai.snippetquiz.core_service.question.application.QuestionService;
-import ai.snippetquiz.core_service.question.application.dto.CreateQuestionRequest;
+import ai.snippetquiz.core_service.question.domain.Question;
 import ai.snippetquiz.core_service.quiz.application.service.QuizService;
 import ai.snippetquiz.core_service.quiz.domain.events.AIQuestionGeneratedEvent;
 import ai.snippetquiz.core_service.quiz.domain.events.QuizProgressEphemeralEvent;
 import ai.snippetquiz.core_service.quiz.domain.model.Quiz;
+import ai.snippetquiz.core_service.quiz.domain.model.QuizStatus;
 import ai.snippetquiz.core_service.quiz.domain.valueobject.QuizId;
 import ai.snippetquiz.core_service.shared.domain.bus.event.EventBus;
+import ai.snippetquiz.core_service.shared.domain.bus.event.IntegrationEvent;
 import ai.snippetquiz.core_service.shared.domain.service.EventSourcingHandler;
 import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -83,10 +89,96 @@ class AIQuestionGeneratedHandlerTest {
 
         consumer.on(event);
 
-        verify(questionService, times(1)).createQuestion(any(CreateQuestionRequest.class), eq(userId.getValue()));
+        verify(questionService, times(1)).createQuestions(anyList());
         verify(contentEntryRepository, times(1)).save(any(ContentEntry.class));
         verify(eventBus, times(1)).publish(eq(entry.aggregateType()), any());
         verify(eventBus, times(1)).publish(eq(QuizProgressEphemeralEvent.eventName()), any());
-        verify(quizService, times(1)).processNewQuizQuestions(eq(quiz), any());
+        verify(quizService, times(1)).processNewQuizQuestions(eq(quiz), any(), any(), anyList());
     }
-}
\ No newline at end of file
+
+    @Test
+    void onBatch_loadsAndSavesQuizOnceForAllChunks() {
+        UUID quizId = UUID.randomUUID();
+        UserId userId = new UserId(UUID.randomUUID());
+        UUID bankId = UUID.randomUUID();
+        String contentEntryIdStr = UUID.randomUUID().toString();
+
+        var option = new AIQuestionGeneratedEvent.QuestionOptionDto("opt", "exp", true);
+        var question = new AIQuestionGeneratedEvent.QuestionDto("Q1", "MCQ", List.of(option));
+        var contentEntryDto = new AIQuestionGeneratedEvent.ContentEntryDto(contentEntryIdStr, "Title", 10, List.of(question));
+
+        List<IntegrationEvent> chunks = new ArrayList<>();
+        for (int chunkIndex = 0; chunkIndex < 3; chunkIndex++) {
+            chunks.add(new AIQuestionGeneratedEvent(
+                    quizId, userId, UUID.randomUUID(), "2024-01-01T00:00:00", 0,
+                    1, 0, 0, chunkIndex + 1, contentEntryDto, 3, chunkIndex, bankId));
+        }
+
+        var quiz = new Quiz();
+        when(quizEventSourcingHandler.getById(eq(userId), eq(new QuizId(quizId)))).thenReturn(Optional.of(quiz));
+
+        var entry = new ContentEntry();
+        entry.setId(ContentEntryId.map(contentEntryIdStr));
+        entry.setUserId(userId);
+        when(contentEntryRepository.findByIdAndUserId(eq(ContentEntryId.map(contentEntryIdStr)), eq(userId))).thenReturn(Optional.of(entry));
+
+        consumer.onBatch(chunks);
+
+        verify(quizEventSourcingHandler, times(1)).getById(eq(userId), eq(new QuizId(quizId)));
+        verify(contentEntryRepository, times(1)).findByIdAndUserId(any(), any());
+        verify(questionService, times(3)).createQuestions(anyList());
+        verify(contentEntryRepository, times(1)).save(any(ContentEntry.class));
+        verify(quizService, times(1)).processNewQuizQuestions(eq(quiz), eq(QuizStatus.READY), any(), anyList());
+
+        ArgumentCaptor<List> progress = ArgumentCaptor.forClass(List.class);
+        verify(eventBus).publish(eq(QuizProgressEphemeralEvent.eventName()), progress.capture());
+        assertEquals(3, progress.getValue().size());
+    }
+
+    @Test
+    void onBatch_skipsFailingChunkAndSavesTheOthers() {
+        UUID quizId = UUID.randomUUID();
+        UserId userId = new UserId(UUID.randomUUID());
+        UUID bankId = UUID.randomUUID();
+        String contentEntryIdStr = UUID.randomUUID().toString();
+        String deletedEntryIdStr = UUID.randomUUID().toString();
+
+        var option = new AIQuestionGeneratedEvent.QuestionOptionDto("opt", "exp", true);
+        var question = new AIQuestionGeneratedEvent.QuestionDto("Q1", "MCQ", List.of(option));
+        var contentEntryDto = new AIQuestionGeneratedEvent.ContentEntryDto(contentEntryIdStr, "Title", 10, List.of(question));
+        var deletedEntryDto = new AIQuestionGeneratedEvent.ContentEntryDto(deletedEntryIdStr, "Gone", 10, List.of(question));
+
+        List<IntegrationEvent> chunks = new ArrayList<>();
+        for (int chunkIndex = 0; chunkIndex < 3; chunkIndex++) {
+            chunks.add(new AIQuestionGeneratedEvent(
+                    quizId, userId, UUID.randomUUID(), "2024-01-01T00:00:00", 0,
+                    1, 0, 0, chunkIndex + 1, chunkIndex == 1 ? deletedEntryDto : contentEntryDto, 3, chunkIndex,
+                    bankId));
+        }
+
+        var quiz = new Quiz();
+        when(quizEventSourcingHandler.getById(eq(userId), eq(new QuizId(quizId)))).thenReturn(Optional.of(quiz));
+
+        var entry = new ContentEntry();
+        entry.setId(ContentEntryId.map(contentEntryIdStr));
+        entry.setUserId(userId);
+        when(contentEntryRepository.findByIdAndUserId(eq(ContentEntryId.map(contentEntryIdStr)), eq(userId))).thenReturn(Optional.of(entry));
+        // the second chunk's entry was deleted while its questions were being generated
+        when(contentEntryRepository.findByIdAndUserId(eq(ContentEntryId.map(deletedEntryIdStr)), eq(userId))).thenReturn(Optional.empty());
+        var stored = new Question();
+        when(questionService.createQuestions(anyList())).thenReturn(List.of(stored));
+
+        consumer.onBatch(chunks);
+
+        verify(questionService, times(2)).createQuestions(anyList());
+        verify(contentEntryRepository, times(1)).save(any(ContentEntry.class));
+
+        ArgumentCaptor<List> questions = ArgumentCaptor.forClass(List.class);
+        verify(quizService, times(1)).processNewQuizQuestions(eq(quiz), eq(QuizStatus.READY), any(), questions.capture());
+        assertEquals(List.of(stored, stored), questions.getValue());
+
+        ArgumentCaptor<List> progress = ArgumentCaptor.forClass(List.class);
+        verify(eventBus).publish(eq(QuizProgressEphemeralEvent.eventName()), progress.capture());
+        assertEquals(2, progress.getValue().size());
+    }
+}
@@ -0,0 +1,131 @@
+package ai.snippetquiz.core_service.quiz.application.consumer;
+
+import ai.snippetquiz.core_service.quiz.domain.events.QuizAnswerMarkedDomainEvent;
+import ai.snippetquiz.core_service.quiz.domain.events.QuizCreatedDomainEvent;
+import ai.snippetquiz.core_service.quiz.domain.events.QuizQuestionsAddedDomainEvent;
+import ai.snippetquiz.core_service.quiz.domain.model.QuizPlayProjection;
+import ai.snippetquiz.core_service.quiz.domain.model.QuizQuestion;
+import ai.snippetquiz.core_service.quiz.domain.model.QuizQuestionResponse;
+import ai.snippetquiz.core_service.quiz.domain.model.QuizStatus;
+import ai.snippetquiz.core_service.quiz.domain.port.repository.QuizPlayProjectionRepository;
+import ai.snippetquiz.core_service.quiz.domain.valueobject.ContentEntryCount;
+import ai.snippetquiz.core_service.quiz.domain.valueobject.QuizId;
+import ai.snippetquiz.core_service.quiz.domain.valueobject.QuizQuestionId;
+import ai.snippetquiz.core_service.quiz.domain.valueobject.QuizQuestionOptionId;
+import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class QuizPlayProjectionHandlerTest {
+
+    @Mock
+    private QuizPlayProjectionRepository repository;
+
+    @InjectMocks
+    private QuizPlayProjectionHandler handler;
+
+    @Test
+    void onQuizCreated_upsertsRowAtEventVersion() {
+        var quizId = UUID.randomUUID();
+        var userId = new UserId(UUID.randomUUID());
+        var createdAt = LocalDateTime.now();
+
+        var event = new QuizCreatedDomainEvent(
+                quizId,
+                userId,
+                UUID.randomUUID().toString(),
+                "Sample Bank",
+                QuizStatus.PREPARE,
+                createdAt,
+                "",
+                new ArrayList<>(),
+                0
+        );
+        event.setVersion(0);
+
+        var captor = ArgumentCaptor.forClass(QuizPlayProjection.class);
+
+        handler.on(event);
+
+        verify(repository).upsert(captor.capture());
+        var quizPlay = captor.getValue();
+
+        assertEquals(new QuizId(quizId), quizPlay.getId());
+        assertEquals(userId, quizPlay.getUserId());
+        assertEquals(0, quizPlay.getVersion());
+        assertEquals("Sample Bank", quizPlay.getBankName());
+        assertEquals(QuizStatus.PREPARE, quizPlay.getStatus());
+        assertEquals(createdAt, quizPlay.getCreatedAt());
+    }
+
+    @Test
+    void onQuizQuestionsAdded_appendsQuestionsInEventOrder() {
+        var quizId = UUID.randomUUID();
+        var userId = new UserId(UUID.randomUUID());
+        var q1 = new QuizQuestion();
+        var q2 = new QuizQuestion();
+        var updatedAt = LocalDateTime.now();
+
+        var event = new QuizQuestionsAddedDomainEvent(
+                quizId,
+                userId,
+                Set.of("topic-a"),
+                QuizStatus.IN_PROGRESS,
+                updatedAt,
+                new ContentEntryCount(3),
+                List.of(q1, q2)
+        );
+        event.setVersion(4);
+
+        var captor = ArgumentCaptor.forClass(QuizPlayProjection.class);
+
+        handler.on(event);
+
+        verify(repository).appendQuestions(captor.capture(), eq(List.of(q1, q2)));
+        var quizPlay = captor.getValue();
+
+        assertEquals(4, quizPlay.getVersion());
+        assertEquals(Set.of("topic-a"), quizPlay.getTopics());
+        assertEquals(QuizStatus.IN_PROGRESS, quizPlay.getStatus());
+        assertEquals(updatedAt, quizPlay.getQuestionUpdatedAt());
+        assertEquals(3, quizPlay.getContentEntriesCount());
+    }
+
+    @Test
+    void onQuizAnswerMarked_movesToNextQuestion() {
+        var quizId = UUID.randomUUID();
+        var userId = new UserId(UUID.randomUUID());
+        var response = new QuizQuestionResponse(
+                new QuizQuestionId(UUID.randomUUID()),
+                new QuizQuestionOptionId(UUID.randomUUID()),
+                true,
+                "Correct",
+                "0"
+        );
+
+        var event = new QuizAnswerMarkedDomainEvent(quizId, userId, response, true);
+        event.setVersion(7);
+
+        handler.on(event);
+
+        verify(repository).answerMarked(new QuizId(quizId), userId, 7, true, true);
+        verify(repository, never()).upsert(any());
+    }
+}
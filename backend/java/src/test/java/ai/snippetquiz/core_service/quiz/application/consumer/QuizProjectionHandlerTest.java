@@ -14,6 +14,7 @@ import ai.snippetquiz.core_service.quiz.domain.valueobject.ContentEntryCount;
 import ai.snippetquiz.core_service.quiz.domain.valueobject.QuizId;
 import ai.snippetquiz.core_service.quiz.domain.valueobject.QuizQuestionId;
 import ai.snippetquiz.core_service.quiz.domain.valueobject.QuizQuestionOptionId;
+import ai.snippetquiz.core_service.shared.domain.Utils;
 import ai.snippetquiz.core_service.shared.domain.bus.event.DomainEvent;
 import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
 import org.junit.jupiter.api.Test;
@@ -25,7 +26,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -36,7 +36,6 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class QuizProjectionHandlerTest {
@@ -110,21 +109,11 @@ class QuizProjectionHandlerTest {
     }
 
     @Test
-    void onQuizQuestionsAdded_updatesQuestionsTopicsCountAndStatus() {
+    void onQuizQuestionsAdded_appendsNewQuestionsWithTopicsCountAndStatus() {
         var quizUuid = UUID.randomUUID();
         var quizId = new QuizId(quizUuid);
         var userId = new UserId(UUID.randomUUID());
 
-        // existing projection with one question
-        var existingQuestionId = UUID.randomUUID().toString();
-        var current = QuizProjection.builder()
-                .id(quizId)
-                .questions(new HashSet<>(Set.of(existingQuestionId)))
-                .responses(new HashSet<>())
-                .build();
-
-        when(repository.findById(quizId)).thenReturn(current);
-
         // new questions
         var q1 = new QuizQuestion(); // default constructor sets random id
         var q2 = new QuizQuestion();
@@ -148,7 +137,8 @@ class QuizProjectionHandlerTest {
 
         handler.on(event);
 
-        verify(repository).upsert(captor.capture());
+        verify(repository).appendQuestions(captor.capture());
+        verify(repository, never()).findById(any());
         var projection = captor.getValue();
 
         assertEquals(quizId, projection.getId());
@@ -157,30 +147,16 @@ class QuizProjectionHandlerTest {
         assertEquals(updatedAt, projection.getQuestionUpdatedAt());
         assertEquals(contentEntriesCount.getValue(), projection.getContentEntriesCount());
 
-        // questions set should contain existing + new ids
-        assertNotNull(projection.getQuestions());
-        assertTrue(projection.getQuestions().contains(existingQuestionId));
-        assertTrue(projection.getQuestions().contains(q1.getId().toString()));
-        assertTrue(projection.getQuestions().contains(q2.getId().toString()));
-
-        assertEquals(projection.getQuestions().size(), projection.getQuestionsCount());
+        // only the ids carried by the event, the repository appends them to the stored ones
+        assertEquals(Set.of(q1.getId().toString(), q2.getId().toString()), projection.getQuestions());
     }
 
     @Test
-    void onQuizAnswerMarked_updatesResponsesAndCompletedCount() {
+    void onQuizAnswerMarked_appendsResponse() {
         var quizUuid = UUID.randomUUID();
         var quizId = new QuizId(quizUuid);
         var userId = new UserId(UUID.randomUUID());
 
-        var existingResponseQuestionId = UUID.randomUUID().toString();
-        var current = QuizProjection.builder()
-                .id(quizId)
-                .responses(new HashSet<>(Set.of(existingResponseQuestionId)))
-                .questions(new HashSet<>())
-                .build();
-
-        when(repository.findById(quizId)).thenReturn(current);
-
         var respondedQuestionId = UUID.randomUUID();
         var response = new QuizQuestionResponse(
                 new QuizQuestionId(respondedQuestionId),
@@ -197,17 +173,32 @@ class QuizProjectionHandlerTest {
                 false
         );
 
-        var captor = ArgumentCaptor.forClass(QuizProjection.class);
-
         handler.on(event);
 
-        verify(repository).upsert(captor.capture());
-        var projection = captor.getValue();
+        verify(repository).appendResponse(quizId, userId, respondedQuestionId.toString(), true, null);
+        verify(repository, never()).findById(any());
+        verify(repository, never()).upsert(any());
+    }
 
-        assertEquals(quizId, projection.getId());
-        assertTrue(projection.getResponses().contains(existingResponseQuestionId));
-        assertTrue(projection.getResponses().contains(respondedQuestionId.toString()));
-        assertEquals(projection.getResponses().size(), projection.getQuestionsCompleted());
+    @Test
+    void onQuizAnswerMarked_whenAllQuestionsMarked_setsCompletedAtToEventTime() {
+        var quizUuid = UUID.randomUUID();
+        var userId = new UserId(UUID.randomUUID());
+        var respondedQuestionId = UUID.randomUUID();
+        var response = new QuizQuestionResponse(
+                new QuizQuestionId(respondedQuestionId),
+                new QuizQuestionOptionId(UUID.randomUUID()),
+                false,
+                "Correct",
+                "3s"
+        );
+
+        var event = new QuizAnswerMarkedDomainEvent(quizUuid, userId, response, true);
+
+        handler.on(event);
+
+        verify(repository).appendResponse(new QuizId(quizUuid), userId, respondedQuestionId.toString(), false,
+                Utils.stringToDate(event.getOccurredOn()));
     }
 
     @Test
@@ -0,0 +1,89 @@
+package ai.snippetquiz.core_service.quiz.application.consumer;
+
+import ai.snippetquiz.core_service.quiz.domain.events.QuizAnswerMarkedDomainEvent;
+import ai.snippetquiz.core_service.quiz.domain.events.QuizDeletedDomainEvent;
+import ai.snippetquiz.core_service.quiz.domain.events.QuizQuestionsAddedDomainEvent;
+import ai.snippetquiz.core_service.quiz.domain.events.QuizStatusUpdatedDomainEvent;
+import ai.snippetquiz.core_service.quiz.domain.model.QuizQuestion;
+import ai.snippetquiz.core_service.quiz.domain.model.QuizQuestionResponse;
+import ai.snippetquiz.core_service.quiz.domain.model.QuizStatus;
+import ai.snippetquiz.core_service.quiz.domain.port.repository.QuizResponsesProjectionRepository;
+import ai.snippetquiz.core_service.quiz.domain.valueobject.ContentEntryCount;
+import ai.snippetquiz.core_service.quiz.domain.valueobject.QuizId;
+import ai.snippetquiz.core_service.quiz.domain.valueobject.QuizQuestionId;
+import ai.snippetquiz.core_service.quiz.domain.valueobject.QuizQuestionOptionId;
+import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class QuizResponsesProjectionHandlerTest {
+
+    @Mock
+    private QuizResponsesProjectionRepository repository;
+
+    @InjectMocks
+    private QuizResponsesProjectionHandler handler;
+
+    @Test
+    void onQuizQuestionsAdded_storesQuestionsInEventOrder() {
+        var quizId = UUID.randomUUID();
+        var userId = new UserId(UUID.randomUUID());
+        var q1 = new QuizQuestion();
+        var q2 = new QuizQuestion();
+
+        handler.on(new QuizQuestionsAddedDomainEvent(
+                quizId,
+                userId,
+                Set.of(),
+                QuizStatus.IN_PROGRESS,
+                LocalDateTime.now(),
+                new ContentEntryCount(1),
+                List.of(q1, q2)));
+
+        verify(repository).addQuestions(new QuizId(quizId), userId, List.of(q1, q2));
+    }
+
+    @Test
+    void onQuizAnswerMarked_fillsInAnswer() {
+        var quizId = UUID.randomUUID();
+        var response = new QuizQuestionResponse(
+                new QuizQuestionId(UUID.randomUUID()),
+                new QuizQuestionOptionId(UUID.randomUUID()),
+                false,
+                "Correct",
+                "0");
+
+        handler.on(new QuizAnswerMarkedDomainEvent(quizId, new UserId(UUID.randomUUID()), response, false));
+
+        verify(repository).answerMarked(new QuizId(quizId), response);
+    }
+
+    @Test
+    void onQuizDeleted_deletesAnswers() {
+        var quizId = UUID.randomUUID();
+
+        handler.on(new QuizDeletedDomainEvent(quizId, new UserId(UUID.randomUUID())));
+
+        verify(repository).deleteByQuizId(new QuizId(quizId));
+    }
+
+    @Test
+    void onQuizStatusUpdated_leavesAnswers() {
+        handler.on(new QuizStatusUpdatedDomainEvent(
+                UUID.randomUUID(), new UserId(UUID.randomUUID()), QuizStatus.READY));
+
+        verifyNoInteractions(repository);
+    }
+}
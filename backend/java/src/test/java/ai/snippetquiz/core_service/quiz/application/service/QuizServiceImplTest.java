@@ -11,21 +11,31 @@ import ai.snippetquiz.core_service.instruction.domain.QuizGenerationInstruction;
 import ai.snippetquiz.core_service.instruction.domain.port.QuizGenerationInstructionRepository;
 import ai.snippetquiz.core_service.question.domain.Question;
 import ai.snippetquiz.core_service.question.domain.port.QuestionRepository;
+import ai.snippetquiz.core_service.question.domain.valueobject.QuestionContentEntryChunkId;
+import ai.snippetquiz.core_service.question.domain.valueobject.QuestionContentEntryQuestionChunkId;
 import ai.snippetquiz.core_service.quiz.application.response.CheckQuizInProgressResponse;
 import ai.snippetquiz.core_service.quiz.application.response.FindOneQuizResponse;
 import ai.snippetquiz.core_service.quiz.application.response.QuizResponse;
+import ai.snippetquiz.core_service.quiz.application.response.QuizResponseItemDto;
 import ai.snippetquiz.core_service.quiz.application.response.QuizSummaryResponseDto;
 import ai.snippetquiz.core_service.quiz.application.response.UpdateQuizResponse;
 import ai.snippetquiz.core_service.quiz.domain.model.Quiz;
+import ai.snippetquiz.core_service.quiz.domain.model.QuizPlayProjection;
 import ai.snippetquiz.core_service.quiz.domain.model.QuizProjection;
 import ai.snippetquiz.core_service.quiz.domain.model.QuizQuestion;
 import ai.snippetquiz.core_service.quiz.domain.model.QuizQuestionOption;
+import ai.snippetquiz.core_service.quiz.domain.model.QuizResponseProjection;
 import ai.snippetquiz.core_service.quiz.domain.model.QuizStatus;
+import ai.snippetquiz.core_service.quiz.domain.port.repository.QuizPlayProjectionRepository;
 import ai.snippetquiz.core_service.quiz.domain.port.repository.QuizProjectionRepository;
+import ai.snippetquiz.core_service.quiz.domain.port.repository.QuizResponsesProjectionRepository;
 import ai.snippetquiz.core_service.quiz.domain.valueobject.QuizId;
 import ai.snippetquiz.core_service.quiz.domain.valueobject.QuizQuestionOptionId;
+import ai.snippetquiz.core_service.quiz.domain.events.QuizAnswerMarkedDomainEvent;
 import ai.snippetquiz.core_service.quiz.domain.events.QuizCreatedDomainEvent;
+import ai.snippetquiz.core_service.shared.domain.bus.query.KeysetCursor;
 import ai.snippetquiz.core_service.shared.domain.bus.query.PagedModelResponse;
+import ai.snippetquiz.core_service.shared.domain.exception.ConcurrencyException;
 import ai.snippetquiz.core_service.shared.domain.service.EventSourcingHandler;
 import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
 import ai.snippetquiz.core_service.shared.exception.ConflictException;
@@ -49,6 +59,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -56,9 +67,12 @@ import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -88,6 +102,12 @@ class QuizServiceImplTest {
     @Mock
     private QuizProjectionRepository quizProjectionRepository;
 
+    @Mock
+    private QuizPlayProjectionRepository quizPlayProjectionRepository;
+
+    @Mock
+    private QuizResponsesProjectionRepository quizResponsesProjectionRepository;
+
     @InjectMocks
     private QuizServiceImpl quizService;
 
@@ -114,6 +134,7 @@ class QuizServiceImplTest {
             quizProjection.setCreatedAt(LocalDateTime.now());
             quizProjection.setQuestionsCount(10);
             quizProjection.setQuestionsCompleted(5);
+            quizProjection.setCorrectCount(4);
             quizProjection.setStatus(QuizStatus.IN_PROGRESS);
             quizProjection.setContentEntriesCount(2);
             quizProjection.setTopics(new HashSet<>(asList("Java", "Spring")));
@@ -131,6 +152,32 @@ class QuizServiceImplTest {
             assertThat(quizResponse.id()).isEqualTo(quizId.toString());
             assertThat(quizResponse.name()).isEqualTo("Test Bank");
             assertThat(quizResponse.topics()).contains("Java", "Spring");
+            assertThat(quizResponse.correctCount()).isEqualTo(4);
+        }
+
+        @Test
+        void findAllAfter_returnsSliceWithCursorOfLastQuiz() {
+            // Given
+            var after = new KeysetCursor(LocalDateTime.now(), UUID.randomUUID());
+            QuizProjection newer = new QuizProjection();
+            newer.setId(quizId);
+            newer.setCreatedAt(LocalDateTime.now().minusMinutes(1));
+            newer.setStatus(QuizStatus.READY);
+            QuizProjection older = new QuizProjection();
+            older.setId(new QuizId(UUID.randomUUID()));
+            older.setCreatedAt(LocalDateTime.now().minusMinutes(2));
+            older.setStatus(QuizStatus.READY);
+
+            when(quizProjectionRepository.findByUserIdAfter(userId, after, 2)).thenReturn(List.of(newer, older));
+
+            // When
+            var result = quizService.findAllAfter(userId, after, 1);
+
+            // Then
+            assertThat(result.content()).extracting(QuizResponse::id).containsExactly(quizId.toString());
+            assertThat(result.hasNext()).isTrue();
+            assertThat(KeysetCursor.decode(result.nextCursor()))
+                    .isEqualTo(new KeysetCursor(newer.getCreatedAt(), quizId.getValue()));
         }
     }
 
@@ -165,6 +212,95 @@ class QuizServiceImplTest {
             assertThat(response.getId()).isEqualTo(quizId.toString());
             assertThat(response.getName()).isEqualTo("Test Bank");
         }
+
+        @Test
+        void findOne_whenPlayProjectionExists_servesCurrentQuestionWithoutReplay() {
+            // Given
+            QuizQuestionOption option = new QuizQuestionOption();
+            option.setId(new QuizQuestionOptionId(UUID.randomUUID()));
+            option.setOptionText("A programming language");
+            QuizQuestion question = new QuizQuestion();
+            question.setQuestion("What is Java?");
+            question.getQuizQuestionOptions().add(option);
+            when(quizPlayProjectionRepository.findByIdAndUserId(quizId, userId))
+                    .thenReturn(Optional.of(quizPlay(QuizStatus.READY, 2, 1, question)));
+
+            // When
+            FindOneQuizResponse response = quizService.findOne(userId, quizId);
+
+            // Then
+            assertThat(response.getName()).isEqualTo("Test Bank");
+            assertThat(response.getTotalQuestions()).isEqualTo(2);
+            assertThat(response.getQuestionsCompleted()).isEqualTo(1);
+            assertThat(response.getQuestion().question()).isEqualTo("What is Java?");
+            assertThat(response.getQuestion().options()).hasSize(1);
+            verify(quizEventSourcingHandler, never()).getById(userId, quizId);
+        }
+
+        @Test
+        void findOne_whenPlayProjectionHasNoCounts_treatsThemAsZero() {
+            // Given
+            QuizPlayProjection quizPlay = quizPlay(QuizStatus.PREPARE, 0, 0, null);
+            quizPlay.setQuestionsCount(null);
+            quizPlay.setAnsweredCount(null);
+            when(quizPlayProjectionRepository.findByIdAndUserId(quizId, userId)).thenReturn(Optional.of(quizPlay));
+
+            // When
+            FindOneQuizResponse response = quizService.findOne(userId, quizId);
+
+            // Then
+            assertThat(response.getName()).isEqualTo("Test Bank");
+            assertThat(response.getQuestion()).isNull();
+        }
+    }
+
+    @Nested
+    class FindQuizResponsesTests {
+        @Test
+        void findQuizResponses_readsPageAfterPreviousPositionFromProjection() {
+            // Given
+            when(quizPlayProjectionRepository.findByIdAndUserId(quizId, userId))
+                    .thenReturn(Optional.of(quizPlay(QuizStatus.READY, 5, 3, null)));
+            when(quizResponsesProjectionRepository.findAnsweredAfter(quizId, userId, 1, 2)).thenReturn(List.of(
+                    QuizResponseProjection.builder()
+                            .position(2)
+                            .question("What is Java?")
+                            .isCorrect(true)
+                            .answer("A programming language")
+                            .correctAnswer("A programming language")
+                            .explanation("It is")
+                            .build()));
+
+            // When
+            PagedModelResponse<QuizResponseItemDto> result =
+                    quizService.findQuizResponses(userId, quizId, PageRequest.of(1, 2));
+
+            // Then
+            assertThat(result.getMetadata().totalElements()).isEqualTo(3);
+            assertThat(result.getContent()).hasSize(1);
+            assertThat(result.getContent().getFirst().getQuestion()).isEqualTo("What is Java?");
+            assertThat(result.getContent().getFirst().getExplanation()).isEqualTo("It is");
+            verify(quizEventSourcingHandler, never()).getById(userId, quizId);
+        }
+    }
+
+    private QuizPlayProjection quizPlay(QuizStatus status, int questionsCount, int answeredCount,
+            QuizQuestion currentQuestion) {
+        return QuizPlayProjection.builder()
+                .id(quizId)
+                .userId(userId)
+                .version(5)
+                .bankName("Test Bank")
+                .status(status)
+                .createdAt(LocalDateTime.now())
+                .contentEntriesCount(1)
+                .topics(new HashSet<>())
+                .questionsCount(questionsCount)
+                .answeredCount(answeredCount)
+                .correctCount(0)
+                .allQuestionsMarked(false)
+                .currentQuestion(currentQuestion)
+                .build();
     }
 
     @Nested
@@ -172,8 +308,8 @@ class QuizServiceImplTest {
         @Test
         void checkQuizInProgress_whenNoInProgressQuiz_returnsFalse() {
             // Given
-            when(quizProjectionRepository.findAllByUserIdAndStatus(userId, QuizStatus.IN_PROGRESS))
-                    .thenReturn(Collections.emptyList());
+            when(quizProjectionRepository.findFirstByUserIdAndStatus(userId, QuizStatus.IN_PROGRESS))
+                    .thenReturn(Optional.empty());
 
             // When
             CheckQuizInProgressResponse response = quizService.checkQuizInProgress(userId);
@@ -191,8 +327,8 @@ class QuizServiceImplTest {
             quizProjection.setStatus(QuizStatus.IN_PROGRESS);
             quizProjection.setBankName("In Progress Bank");
             quizProjection.setContentBankId(contentBankId);
-            when(quizProjectionRepository.findAllByUserIdAndStatus(userId, QuizStatus.IN_PROGRESS))
-                    .thenReturn(List.of(quizProjection));
+            when(quizProjectionRepository.findFirstByUserIdAndStatus(userId, QuizStatus.IN_PROGRESS))
+                    .thenReturn(Optional.of(quizProjection));
 
             // When
             CheckQuizInProgressResponse response = quizService.checkQuizInProgress(userId);
@@ -204,6 +340,92 @@ class QuizServiceImplTest {
         }
     }
 
+    @Nested
+    class ExpireStaleQuizzesTests {
+        @Test
+        void expireStaleQuizzes_movesStaleQuizToReadyWithError() {
+            // Given
+            var updatedBefore = LocalDateTime.now().minusMinutes(30);
+            QuizProjection quizProjection = new QuizProjection();
+            quizProjection.setId(quizId);
+            quizProjection.setUserId(userId);
+            Quiz quiz = mock(Quiz.class);
+            when(quiz.getStatus()).thenReturn(QuizStatus.IN_PROGRESS, QuizStatus.READY_WITH_ERROR);
+            when(quiz.getQuestionUpdatedAt()).thenReturn(updatedBefore.minusMinutes(1));
+            when(quizProjectionRepository.findByStatusAndQuestionUpdatedAtBefore(
+                    QuizStatus.IN_PROGRESS, updatedBefore, 100)).thenReturn(List.of(quizProjection));
+            when(quizEventSourcingHandler.getById(userId, quizId)).thenReturn(Optional.of(quiz));
+
+            // When
+            var swept = quizService.expireStaleQuizzes(updatedBefore, 100);
+
+            // Then
+            assertThat(swept).isEqualTo(1);
+            verify(quiz).updateStatus(QuizStatus.READY_WITH_ERROR);
+            verify(quizEventSourcingHandler).save(quiz);
+            ArgumentCaptor<QuizProjection> captor = ArgumentCaptor.forClass(QuizProjection.class);
+            verify(quizProjectionRepository).upsert(captor.capture());
+            assertThat(captor.getValue().getStatus()).isEqualTo(QuizStatus.READY_WITH_ERROR);
+        }
+
+        @Test
+        void expireStaleQuizzes_whenQuestionsArrivedSinceProjected_keepsStatus() {
+            // Given
+            var updatedBefore = LocalDateTime.now().minusMinutes(30);
+            QuizProjection quizProjection = new QuizProjection();
+            quizProjection.setId(quizId);
+            quizProjection.setUserId(userId);
+            Quiz quiz = mock(Quiz.class);
+            when(quiz.getStatus()).thenReturn(QuizStatus.IN_PROGRESS);
+            when(quiz.getQuestionUpdatedAt()).thenReturn(LocalDateTime.now());
+            when(quizProjectionRepository.findByStatusAndQuestionUpdatedAtBefore(
+                    QuizStatus.IN_PROGRESS, updatedBefore, 100)).thenReturn(List.of(quizProjection));
+            when(quizEventSourcingHandler.getById(userId, quizId)).thenReturn(Optional.of(quiz));
+
+            // When
+            quizService.expireStaleQuizzes(updatedBefore, 100);
+
+            // Then
+            verify(quiz, never()).updateStatus(any());
+            verify(quizEventSourcingHandler, never()).save(any());
+            ArgumentCaptor<QuizProjection> captor = ArgumentCaptor.forClass(QuizProjection.class);
+            verify(quizProjectionRepository).upsert(captor.capture());
+            assertThat(captor.getValue().getStatus()).isEqualTo(QuizStatus.IN_PROGRESS);
+            assertThat(captor.getValue().getQuestionUpdatedAt()).isAfter(updatedBefore);
+        }
+
+        @Test
+        void expireStaleQuizzes_whenQuizIsWrittenConcurrently_skipsItAndExpiresTheRest() {
+            // Given
+            var updatedBefore = LocalDateTime.now().minusMinutes(30);
+            var otherQuizId = new QuizId(UUID.randomUUID());
+            QuizProjection answered = QuizProjection.builder().id(quizId).userId(userId).build();
+            QuizProjection stale = QuizProjection.builder().id(otherQuizId).userId(userId).build();
+            Quiz answeredQuiz = mock(Quiz.class);
+            when(answeredQuiz.getStatus()).thenReturn(QuizStatus.IN_PROGRESS);
+            when(answeredQuiz.getQuestionUpdatedAt()).thenReturn(updatedBefore.minusMinutes(1));
+            Quiz staleQuiz = mock(Quiz.class);
+            when(staleQuiz.getStatus()).thenReturn(QuizStatus.IN_PROGRESS, QuizStatus.READY_WITH_ERROR);
+            when(staleQuiz.getQuestionUpdatedAt()).thenReturn(updatedBefore.minusMinutes(1));
+            when(quizProjectionRepository.findByStatusAndQuestionUpdatedAtBefore(
+                    QuizStatus.IN_PROGRESS, updatedBefore, 100)).thenReturn(List.of(answered, stale));
+            when(quizEventSourcingHandler.getById(userId, quizId)).thenReturn(Optional.of(answeredQuiz));
+            when(quizEventSourcingHandler.getById(userId, otherQuizId)).thenReturn(Optional.of(staleQuiz));
+            doThrow(new ConcurrencyException("Concurrency conflict")).when(quizEventSourcingHandler).save(answeredQuiz);
+
+            // When
+            var swept = quizService.expireStaleQuizzes(updatedBefore, 100);
+
+            // Then
+            assertThat(swept).isEqualTo(2);
+            verify(quizEventSourcingHandler).save(staleQuiz);
+            ArgumentCaptor<QuizProjection> captor = ArgumentCaptor.forClass(QuizProjection.class);
+            verify(quizProjectionRepository).upsert(captor.capture());
+            assertThat(captor.getValue().getId()).isEqualTo(otherQuizId);
+            assertThat(captor.getValue().getStatus()).isEqualTo(QuizStatus.READY_WITH_ERROR);
+        }
+    }
+
     @Nested
     class DeleteTests {
         @Test
@@ -237,8 +459,8 @@ class QuizServiceImplTest {
             var quizProjection = new QuizProjection();
             quizProjection.setId(quizId);
             quizProjection.setStatus(QuizStatus.IN_PROGRESS);
-            when(quizProjectionRepository.findAllByUserIdAndStatus(userId, QuizStatus.IN_PROGRESS))
-                    .thenReturn(List.of(quizProjection));
+            when(quizProjectionRepository.findFirstByUserIdAndStatus(userId, QuizStatus.IN_PROGRESS))
+                    .thenReturn(Optional.of(quizProjection));
 
             // When & Then
             assertThrows(ConflictException.class, () -> quizService.createQuiz(userId, contentBankId, quizId));
@@ -247,8 +469,8 @@ class QuizServiceImplTest {
         @Test
         void createQuiz_whenContentBankNotFound_throwsNotFoundException() {
             // Given
-            when(quizProjectionRepository.findAllByUserIdAndStatus(userId, QuizStatus.IN_PROGRESS))
-                    .thenReturn(Collections.emptyList());
+            when(quizProjectionRepository.findFirstByUserIdAndStatus(userId, QuizStatus.IN_PROGRESS))
+                    .thenReturn(Optional.empty());
             when(contentBankRepository.findByIdAndUserIdWithContentEntries(contentBankId, userId)).thenReturn(Optional.empty());
 
             // When & Then
@@ -258,11 +480,11 @@ class QuizServiceImplTest {
         @Test
         void createQuiz_whenQuizAlreadyExists_throwsConflictException() {
             // Given
-            when(quizProjectionRepository.findAllByUserIdAndStatus(userId, QuizStatus.IN_PROGRESS))
-                    .thenReturn(Collections.emptyList());
+            when(quizProjectionRepository.findFirstByUserIdAndStatus(userId, QuizStatus.IN_PROGRESS))
+                    .thenReturn(Optional.empty());
             ContentBank contentBank = new ContentBank(contentBankId, userId, "Test Bank");
             when(contentBankRepository.findByIdAndUserIdWithContentEntries(contentBankId, userId)).thenReturn(Optional.of(contentBank));
-            when(quizEventSourcingHandler.getById(userId, quizId)).thenReturn(Optional.of(new Quiz()));
+            when(quizEventSourcingHandler.getById(userId, quizId, Quiz.IDENTITY_VIEW)).thenReturn(Optional.of(new Quiz()));
 
             // When & Then
             assertThrows(ConflictException.class, () -> quizService.createQuiz(userId, contentBankId, quizId));
@@ -272,10 +494,10 @@ class QuizServiceImplTest {
         void createQuiz_success() {
             // Given
             ContentBank contentBank = new ContentBank(contentBankId, userId, "Test Bank");
-            when(quizProjectionRepository.findAllByUserIdAndStatus(userId, QuizStatus.IN_PROGRESS))
-                    .thenReturn(Collections.emptyList());
+            when(quizProjectionRepository.findFirstByUserIdAndStatus(userId, QuizStatus.IN_PROGRESS))
+                    .thenReturn(Optional.empty());
             when(contentBankRepository.findByIdAndUserIdWithContentEntries(contentBankId, userId)).thenReturn(Optional.of(contentBank));
-            when(quizEventSourcingHandler.getById(userId, quizId)).thenReturn(Optional.empty());
+            when(quizEventSourcingHandler.getById(userId, quizId, Quiz.IDENTITY_VIEW)).thenReturn(Optional.empty());
             when(contentBankRepository.findByIdAndUserId(contentBankId, userId)).thenReturn(Optional.of(contentBank));
             when(contentEntryRepository.findAllByContentBankId(contentBankId)).thenReturn(Collections.emptyList());
             when(quizGenerationInstructionRepository.findFirstByUserId(userId)).thenReturn(Optional.of(new QuizGenerationInstruction()));
@@ -295,10 +517,10 @@ class QuizServiceImplTest {
         @Test
         void createQuiz_withContentEntries_emitsQuizCreatedEvent() {
             ContentBank contentBank = new ContentBank(contentBankId, userId, "Test Bank");
-            when(quizProjectionRepository.findAllByUserIdAndStatus(userId, QuizStatus.IN_PROGRESS))
-                    .thenReturn(Collections.emptyList());
+            when(quizProjectionRepository.findFirstByUserIdAndStatus(userId, QuizStatus.IN_PROGRESS))
+                    .thenReturn(Optional.empty());
             when(contentBankRepository.findByIdAndUserIdWithContentEntries(contentBankId, userId)).thenReturn(Optional.of(contentBank));
-            when(quizEventSourcingHandler.getById(userId, quizId)).thenReturn(Optional.empty());
+            when(quizEventSourcingHandler.getById(userId, quizId, Quiz.IDENTITY_VIEW)).thenReturn(Optional.empty());
             when(contentBankRepository.findByIdAndUserId(contentBankId, userId)).thenReturn(Optional.of(contentBank));
 
             ContentEntry entry = new ContentEntry();
@@ -425,6 +647,41 @@ class QuizServiceImplTest {
             assertThat(response.getCompleted()).isTrue();
             verify(quizEventSourcingHandler).save(quiz);
         }
+
+        @Test
+        void updateQuiz_recordsAnswerOnAggregateAndLeavesProjectionsToHandlers() {
+            // Given
+            Quiz quiz = new Quiz(
+                    quizId,
+                    userId,
+                    contentBankId,
+                    "Test Bank",
+                    "",
+                    new ArrayList<>(),
+                    0);
+            QuizQuestion question = new QuizQuestion();
+            QuizQuestionOption correctOption = new QuizQuestionOption();
+            correctOption.setId(new QuizQuestionOptionId(UUID.randomUUID()));
+            correctOption.setOptionText("A programming language");
+            correctOption.setIsCorrect(true);
+            question.getQuizQuestionOptions().add(correctOption);
+            quiz.addQuestions(QuizStatus.READY, 2, Collections.emptySet(), List.of(question, new QuizQuestion()));
+            quiz.drainDomainEvents();
+
+            when(quizEventSourcingHandler.getById(userId, quizId)).thenReturn(Optional.of(quiz));
+
+            // When
+            UpdateQuizResponse response = quizService.updateQuiz(userId, quizId, correctOption.getId());
+
+            // Then
+            assertThat(response.getCompleted()).isFalse();
+            assertThat(response.getCorrectOptionId()).isEqualTo(correctOption.getId().toString());
+            verify(quizEventSourcingHandler).save(quiz);
+            var answerMarked = (QuizAnswerMarkedDomainEvent) quiz.pullUncommittedChanges().getFirst();
+            assertThat(answerMarked.getQuizQuestionResponse().getQuizQuestion()).isEqualTo(question.getId());
+            verifyNoInteractions(quizPlayProjectionRepository, quizResponsesProjectionRepository,
+                    quizProjectionRepository);
+        }
     }
 
     @Nested
@@ -433,7 +690,7 @@ class QuizServiceImplTest {
         @Test
         void findQuizSummary_whenQuizNotFound_throwsNotFoundException() {
             // Given
-            when(quizEventSourcingHandler.getById(userId, quizId)).thenReturn(Optional.empty());
+            when(quizEventSourcingHandler.getById(userId, quizId, Quiz.SUMMARY_VIEW)).thenReturn(Optional.empty());
 
             // When & Then
             assertThrows(NotFoundException.class, () -> quizService.findQuizSummary(quizId, userId));
@@ -451,7 +708,7 @@ class QuizServiceImplTest {
                     new ArrayList<>(),
                     0);
             // You would add questions and responses to the quiz object here
-            when(quizEventSourcingHandler.getById(userId, quizId)).thenReturn(Optional.of(quiz));
+            when(quizEventSourcingHandler.getById(userId, quizId, Quiz.SUMMARY_VIEW)).thenReturn(Optional.of(quiz));
 
             // When
             QuizSummaryResponseDto summary = quizService.findQuizSummary(quizId, userId);
@@ -461,6 +718,65 @@ class QuizServiceImplTest {
             assertThat(summary.getTotalQuestions()).isEqualTo(0);
             assertThat(summary.getTotalCorrectAnswers()).isEqualTo(0);
         }
+
+        @Test
+        void findQuizSummary_whenProjected_returnsCountersWithoutReplay() {
+            // Given
+            QuizProjection quizProjection = new QuizProjection();
+            quizProjection.setId(quizId);
+            quizProjection.setUserId(userId);
+            quizProjection.setQuestionsCount(10);
+            quizProjection.setCorrectCount(7);
+            quizProjection.setTopics(new HashSet<>(asList("Java")));
+            when(quizProjectionRepository.findById(quizId)).thenReturn(quizProjection);
+
+            // When
+            QuizSummaryResponseDto summary = quizService.findQuizSummary(quizId, userId);
+
+            // Then
+            assertThat(summary.getTotalQuestions()).isEqualTo(10);
+            assertThat(summary.getTotalCorrectAnswers()).isEqualTo(7);
+            assertThat(summary.getTopics()).containsExactly("Java");
+            verify(quizEventSourcingHandler, never()).getById(userId, quizId, Quiz.SUMMARY_VIEW);
+        }
+
+        @Test
+        void findQuizSummary_whenProjectedWithoutCount_replaysSummaryView() {
+            // Given
+            QuizProjection quizProjection = new QuizProjection();
+            quizProjection.setId(quizId);
+            quizProjection.setUserId(userId);
+            quizProjection.setQuestionsCount(10);
+            when(quizProjectionRepository.findById(quizId)).thenReturn(quizProjection);
+            Quiz quiz = new Quiz(
+                    quizId,
+                    userId,
+                    contentBankId,
+                    "Test Bank",
+                    "",
+                    new ArrayList<>(),
+                    0);
+            when(quizEventSourcingHandler.getById(userId, quizId, Quiz.SUMMARY_VIEW)).thenReturn(Optional.of(quiz));
+
+            // When
+            QuizSummaryResponseDto summary = quizService.findQuizSummary(quizId, userId);
+
+            // Then
+            assertThat(summary.getTotalQuestions()).isEqualTo(0);
+            assertThat(summary.getTotalCorrectAnswers()).isEqualTo(0);
+        }
+
+        @Test
+        void findQuizSummary_whenProjectedForAnotherUser_throwsNotFoundException() {
+            // Given
+            QuizProjection quizProjection = new QuizProjection();
+            quizProjection.setId(quizId);
+            quizProjection.setUserId(new UserId(UUID.randomUUID()));
+            when(quizProjectionRepository.findById(quizId)).thenReturn(quizProjection);
+
+            // When & Then
+            assertThrows(NotFoundException.class, () -> quizService.findQuizSummary(quizId, userId));
+        }
     }
 
     @Nested
@@ -497,5 +813,76 @@ class QuizServiceImplTest {
             assertThat(savedQuiz.getQuizQuestions()).hasSize(1);
             assertThat(savedQuiz.getStatus()).isEqualTo(QuizStatus.IN_PROGRESS);
         }
+
+        @Test
+        void processNewQuizQuestions_addsOnlyChunkQuestionsWithoutReloadingBank() {
+            // Given
+            Quiz quiz = new Quiz(
+                    quizId,
+                    userId,
+                    contentBankId,
+                    "Test Bank",
+                    "",
+                    new ArrayList<>(),
+                    0);
+            ContentEntry contentEntry = new ContentEntry();
+            contentEntry.setId(new ContentEntryId(UUID.randomUUID()));
+            Question question = new Question();
+            question.setContentEntryId(contentEntry.getId());
+            question.setChunkIndex(new QuestionContentEntryChunkId(0));
+            question.setQuestionIndexInChunk(new QuestionContentEntryQuestionChunkId(0));
+
+            when(contentEntryRepository.countByContentBankId(contentBankId)).thenReturn(1L);
+            when(contentEntryTopicRepository.findByContentEntryIdIn(any())).thenReturn(Collections.emptyList());
+
+            // When
+            quizService.processNewQuizQuestions(quiz, QuizStatus.IN_PROGRESS, List.of(contentEntry), List.of(question));
+            quizService.processNewQuizQuestions(quiz, QuizStatus.READY, List.of(contentEntry), List.of(question));
+
+            // Then
+            assertThat(quiz.getQuizQuestions()).hasSize(1);
+            assertThat(quiz.getStatus()).isEqualTo(QuizStatus.READY);
+            verify(quizEventSourcingHandler, times(2)).save(quiz);
+            verify(contentEntryRepository, never()).findAllByContentBankId(any());
+            verify(questionRepository, never()).findByContentEntryIdIn(any());
+            verify(contentEntryTopicRepository, times(1)).findByContentEntryIdIn(any());
+        }
+
+        @Test
+        void processNewQuizQuestions_addsStoredQuestionsAnEarlierSaveMissed() {
+            // Given
+            Quiz quiz = new Quiz(
+                    quizId,
+                    userId,
+                    contentBankId,
+                    "Test Bank",
+                    "",
+                    new ArrayList<>(),
+                    0);
+            ContentEntry contentEntry = new ContentEntry();
+            contentEntry.setId(new ContentEntryId(UUID.randomUUID()));
+            // chunk 0 was stored but the quiz save that followed it failed
+            Question missed = chunkQuestion(contentEntry.getId(), 0);
+            Question arriving = chunkQuestion(contentEntry.getId(), 1);
+
+            when(questionRepository.countByContentEntryIdIn(any())).thenReturn(Map.of(contentEntry.getId(), 2L));
+            when(questionRepository.findByContentEntryIdIn(List.of(contentEntry.getId())))
+                    .thenReturn(List.of(missed, arriving));
+
+            // When
+            quizService.processNewQuizQuestions(quiz, QuizStatus.IN_PROGRESS, List.of(contentEntry), List.of(arriving));
+
+            // Then
+            assertThat(quiz.getQuizQuestions()).hasSize(2);
+            verify(quizEventSourcingHandler).save(quiz);
+        }
+    }
+
+    private Question chunkQuestion(ContentEntryId contentEntryId, int chunkIndex) {
+        Question question = new Question();
+        question.setContentEntryId(contentEntryId);
+        question.setChunkIndex(new QuestionContentEntryChunkId(chunkIndex));
+        question.setQuestionIndexInChunk(new QuestionContentEntryQuestionChunkId(0));
+        return question;
     }
-}
\ No newline at end of file
+}
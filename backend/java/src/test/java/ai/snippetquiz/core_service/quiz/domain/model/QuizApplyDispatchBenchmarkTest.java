@@ -0,0 +1,73 @@
+package ai.snippetquiz.core_service.quiz.domain.model;
+
+import ai.snippetquiz.core_service.shared.domain.bus.event.DomainEvent;
+import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
+import ai.snippetquiz.core_service.testing.QuizEventStreams;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares applying a 500-event quiz stream through the precompiled dispatch table against the former
+ * per-event getDeclaredMethod + invoke path. Run with {@code -Dbenchmark=true}.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class QuizApplyDispatchBenchmarkTest {
+    private static final int STREAM_LENGTH = 500;
+    private static final int WARMUP_ROUNDS = 2_000;
+    private static final int MEASURED_ROUNDS = 5_000;
+
+    @Test
+    void apply_dispatch_cost_per_stream() {
+        var events = QuizEventStreams.quizStream(UUID.randomUUID(), new UserId(UUID.randomUUID()), STREAM_LENGTH);
+
+        var dispatchNanos = measure(() -> dispatch(events));
+        var reflectiveNanos = measure(() -> reflective(events));
+
+        assertEquals(dispatch(events).getQuizQuestionResponses().size(),
+                reflective(events).getQuizQuestionResponses().size());
+
+        log.info("events={} dispatch_table={}us reflective={}us speedup={}x",
+                STREAM_LENGTH,
+                dispatchNanos / 1_000,
+                reflectiveNanos / 1_000,
+                String.format("%.1f", (double) reflectiveNanos / dispatchNanos));
+    }
+
+    private Quiz dispatch(List<DomainEvent> events) {
+        var quiz = new Quiz();
+        quiz.replayEvents(events);
+        return quiz;
+    }
+
+    private Quiz reflective(List<DomainEvent> events) {
+        var quiz = new Quiz();
+        for (var event : events) {
+            try {
+                var method = Quiz.class.getDeclaredMethod("apply", event.getClass());
+                method.setAccessible(true);
+                method.invoke(quiz, event);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return quiz;
+    }
+
+    private long measure(Runnable runnable) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            runnable.run();
+        }
+        var start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            runnable.run();
+        }
+        return (System.nanoTime() - start) / MEASURED_ROUNDS;
+    }
+}
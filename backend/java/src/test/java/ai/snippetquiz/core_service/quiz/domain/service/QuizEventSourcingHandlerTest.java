@@ -1,32 +1,42 @@
 package ai.snippetquiz.core_service.quiz.domain.service;
 
 import ai.snippetquiz.core_service.contentbank.domain.valueobject.ContentBankId;
+import ai.snippetquiz.core_service.quiz.domain.events.QuizAnswerMarkedDomainEvent;
 import ai.snippetquiz.core_service.quiz.domain.events.QuizCreatedDomainEvent;
 import ai.snippetquiz.core_service.quiz.domain.events.QuizStatusUpdatedDomainEvent;
 import ai.snippetquiz.core_service.quiz.domain.model.Quiz;
+import ai.snippetquiz.core_service.quiz.domain.model.QuizQuestionResponse;
 import ai.snippetquiz.core_service.quiz.domain.model.QuizStatus;
 import ai.snippetquiz.core_service.quiz.domain.valueobject.QuizId;
+import ai.snippetquiz.core_service.quiz.domain.valueobject.QuizQuestionId;
+import ai.snippetquiz.core_service.quiz.domain.valueobject.QuizQuestionOptionId;
 import ai.snippetquiz.core_service.shared.domain.bus.event.DomainEvent;
-import ai.snippetquiz.core_service.shared.domain.bus.event.EventBus;
+import ai.snippetquiz.core_service.shared.domain.entity.AggregateSnapshot;
+import ai.snippetquiz.core_service.shared.domain.port.repository.AggregateSnapshotRepository;
 import ai.snippetquiz.core_service.shared.domain.port.repository.DomainEventRepository;
+import ai.snippetquiz.core_service.shared.domain.service.AggregateSnapshotStore;
 import ai.snippetquiz.core_service.shared.domain.service.EventStore;
 import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
-import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -36,15 +46,9 @@ class QuizEventSourcingHandlerTest {
     @Test
     void save_persists_uncommitted_events_and_marks_committed() {
         DomainEventRepository<DomainEvent> repo = mock(DomainEventRepository.class);
-        EventBus eventBus = mock(EventBus.class);
-        EventStore eventStore = new EventStore(repo, eventBus);
-        QuizEventSourcingHandler handler = new QuizEventSourcingHandler(eventStore);
-
-        when(repo.findAllByUserIdAndAggregateIdAndAggregateType(any(UserId.class), any(UUID.class)))
-                .thenReturn(new ArrayList<>());
-
-        when(repo.save(any(UserId.class), any(UUID.class), anyString(), any(DomainEvent.class)))
-                .thenAnswer(invocation -> invocation.getArgument(3));
+        EventStore eventStore = new EventStore(repo);
+        QuizEventSourcingHandler handler = new QuizEventSourcingHandler(eventStore,
+                new AggregateSnapshotStore(mock(AggregateSnapshotRepository.class), 50), noCache());
 
         var quizId = new QuizId(UUID.randomUUID());
         var userId = new UserId(UUID.randomUUID());
@@ -56,10 +60,13 @@ class QuizEventSourcingHandlerTest {
 
         handler.save(quiz);
 
-        ArgumentCaptor<DomainEvent> eventCaptor = ArgumentCaptor.forClass(DomainEvent.class);
-        verify(repo, times(1)).save(any(UserId.class), eq(quiz.getId().getValue()), eq(quiz.aggregateType()),
-                eventCaptor.capture());
-        assertEquals(0, eventCaptor.getValue().getVersion(), "First persisted event should have version 0");
+        ArgumentCaptor<List<DomainEvent>> eventsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(repo, times(1)).saveAll(any(UserId.class), eq(quiz.getId().getValue()), eq(quiz.aggregateType()),
+                eventsCaptor.capture());
+        assertEquals(1, eventsCaptor.getValue().size(), "All pending events should be appended in one call");
+        assertEquals(0, eventsCaptor.getValue().getFirst().getVersion(), "First persisted event should have version 0");
+        verify(repo, never()).findAllByUserIdAndAggregateIdAndAggregateType(any(UserId.class), any(UUID.class));
+        assertEquals(0, quiz.getVersion(), "Aggregate version should advance to the last appended event");
 
         assertTrue(quiz.pullUncommittedChanges().isEmpty(), "Uncommitted changes must be cleared after save");
     }
@@ -67,15 +74,15 @@ class QuizEventSourcingHandlerTest {
     @Test
     void get_by_id_returns_empty_when_no_events() {
         DomainEventRepository<DomainEvent> repo = mock(DomainEventRepository.class);
-        EventBus eventBus = mock(EventBus.class);
-        EventStore eventStore = new EventStore(repo, eventBus);
-        QuizEventSourcingHandler handler = new QuizEventSourcingHandler(eventStore);
+        EventStore eventStore = new EventStore(repo);
+        QuizEventSourcingHandler handler = new QuizEventSourcingHandler(eventStore,
+                new AggregateSnapshotStore(mock(AggregateSnapshotRepository.class), 50), noCache());
 
         var userId = new UserId(UUID.randomUUID());
         var quizId = UUID.randomUUID();
 
-        when(repo.findAllByUserIdAndAggregateIdAndAggregateType(eq(userId), eq(quizId)))
-                .thenReturn(List.of());
+        when(repo.streamByUserIdAndAggregateId(eq(userId), eq(quizId), eq(-1)))
+                .thenAnswer(invocation -> Stream.empty());
 
         var result = handler.getById(userId, new QuizId(quizId));
 
@@ -85,9 +92,9 @@ class QuizEventSourcingHandlerTest {
     @Test
     void get_by_id_replays_events_and_sets_latest_version() {
         DomainEventRepository<DomainEvent> repo = mock(DomainEventRepository.class);
-        EventBus eventBus = mock(EventBus.class);
-        EventStore eventStore = new EventStore(repo, eventBus);
-        QuizEventSourcingHandler handler = new QuizEventSourcingHandler(eventStore);
+        EventStore eventStore = new EventStore(repo);
+        QuizEventSourcingHandler handler = new QuizEventSourcingHandler(eventStore,
+                new AggregateSnapshotStore(mock(AggregateSnapshotRepository.class), 50), noCache());
 
         var userId = new UserId(UUID.randomUUID());
         var quizUuid = UUID.randomUUID();
@@ -112,8 +119,8 @@ class QuizEventSourcingHandlerTest {
                 QuizStatus.READY);
         statusUpdated.setVersion(1);
 
-        when(repo.findAllByUserIdAndAggregateIdAndAggregateType(eq(userId), eq(quizUuid)))
-                .thenReturn(List.of(created, statusUpdated));
+        when(repo.streamByUserIdAndAggregateId(eq(userId), eq(quizUuid), eq(-1)))
+                .thenAnswer(invocation -> Stream.of(created, statusUpdated));
 
         var result = handler.getById(userId, new QuizId(quizUuid));
 
@@ -127,4 +134,229 @@ class QuizEventSourcingHandlerTest {
         assertNotNull(quiz.getQuizQuestions(), "Questions list initialized on creation");
         assertNotNull(quiz.getQuizQuestionResponses(), "Responses list initialized on creation");
     }
-}
\ No newline at end of file
+
+    @Test
+    void get_by_id_restores_snapshot_and_replays_only_the_tail() {
+        DomainEventRepository<DomainEvent> repo = mock(DomainEventRepository.class);
+        AggregateSnapshotRepository snapshotRepo = mock(AggregateSnapshotRepository.class);
+        EventStore eventStore = new EventStore(repo);
+        QuizEventSourcingHandler handler = new QuizEventSourcingHandler(eventStore,
+                new AggregateSnapshotStore(snapshotRepo, 50), noCache());
+
+        var userId = new UserId(UUID.randomUUID());
+        var quizId = new QuizId(UUID.randomUUID());
+        var source = new Quiz(quizId, userId, new ContentBankId(UUID.randomUUID()), "Bank Name", "",
+                new ArrayList<>(), 0);
+        source.updateStatus(QuizStatus.READY);
+
+        when(snapshotRepo.findByUserIdAndAggregateId(eq(userId), eq(quizId.getValue())))
+                .thenReturn(Optional.of(snapshotOf(source, userId, 1)));
+
+        var answerMarked = new QuizAnswerMarkedDomainEvent(quizId.getValue(), userId, new QuizQuestionResponse(
+                new QuizQuestionId(UUID.randomUUID()),
+                new QuizQuestionOptionId(UUID.randomUUID()),
+                true,
+                "Correct",
+                "PT5S"), false);
+        answerMarked.setVersion(2);
+        when(repo.streamByUserIdAndAggregateId(eq(userId), eq(quizId.getValue()), eq(1)))
+                .thenAnswer(invocation -> Stream.of(answerMarked));
+
+        var quiz = handler.getById(userId, quizId).orElseThrow();
+
+        assertEquals(quizId, quiz.getId());
+        assertEquals("Bank Name", quiz.getBankName());
+        assertEquals(QuizStatus.READY, quiz.getStatus());
+        assertEquals(1, quiz.getQuizQuestionResponses().size(), "Tail events should be applied on top of the snapshot");
+        assertEquals(2, quiz.getVersion());
+        verify(repo, never()).streamByUserIdAndAggregateId(any(UserId.class), any(UUID.class), eq(-1));
+    }
+
+    @Test
+    void get_by_id_falls_back_to_full_replay_when_snapshot_is_stale() {
+        DomainEventRepository<DomainEvent> repo = mock(DomainEventRepository.class);
+        AggregateSnapshotRepository snapshotRepo = mock(AggregateSnapshotRepository.class);
+        EventStore eventStore = new EventStore(repo);
+        QuizEventSourcingHandler handler = new QuizEventSourcingHandler(eventStore,
+                new AggregateSnapshotStore(snapshotRepo, 50), noCache());
+
+        var userId = new UserId(UUID.randomUUID());
+        var quizId = new QuizId(UUID.randomUUID());
+        var source = new Quiz(quizId, userId, new ContentBankId(UUID.randomUUID()), "Old Name", "",
+                new ArrayList<>(), 0);
+
+        when(snapshotRepo.findByUserIdAndAggregateId(eq(userId), eq(quizId.getValue())))
+                .thenReturn(Optional.of(snapshotOf(source, userId, 0)));
+
+        var created = new QuizCreatedDomainEvent(quizId.getValue(), userId, UUID.randomUUID().toString(),
+                "Bank Name", QuizStatus.PREPARE, LocalDateTime.now(), "", new ArrayList<>(), 0);
+        created.setVersion(0);
+        var statusUpdated = new QuizStatusUpdatedDomainEvent(quizId.getValue(), userId, QuizStatus.READY);
+        statusUpdated.setVersion(3);
+
+        when(repo.streamByUserIdAndAggregateId(eq(userId), eq(quizId.getValue()), eq(0)))
+                .thenAnswer(invocation -> Stream.of(statusUpdated));
+        when(repo.streamByUserIdAndAggregateId(eq(userId), eq(quizId.getValue()), eq(-1)))
+                .thenAnswer(invocation -> Stream.of(created, statusUpdated));
+
+        var quiz = handler.getById(userId, quizId).orElseThrow();
+
+        assertEquals("Bank Name", quiz.getBankName(), "Full replay should ignore the stale snapshot");
+        assertEquals(3, quiz.getVersion());
+    }
+
+    @Test
+    void save_writes_snapshot_when_interval_is_reached() {
+        DomainEventRepository<DomainEvent> repo = mock(DomainEventRepository.class);
+        AggregateSnapshotRepository snapshotRepo = mock(AggregateSnapshotRepository.class);
+        EventStore eventStore = new EventStore(repo);
+        QuizEventSourcingHandler handler = new QuizEventSourcingHandler(eventStore,
+                new AggregateSnapshotStore(snapshotRepo, 2), noCache());
+
+        var userId = new UserId(UUID.randomUUID());
+        var quiz = new Quiz(new QuizId(UUID.randomUUID()), userId, new ContentBankId(UUID.randomUUID()),
+                "Bank Name", "", new ArrayList<>(), 0);
+
+        handler.save(quiz);
+        verify(snapshotRepo, never()).save(any(AggregateSnapshot.class));
+
+        quiz.updateStatus(QuizStatus.READY);
+        handler.save(quiz);
+
+        ArgumentCaptor<AggregateSnapshot> snapshotCaptor = ArgumentCaptor.forClass(AggregateSnapshot.class);
+        verify(snapshotRepo, times(1)).save(snapshotCaptor.capture());
+        assertEquals(1, snapshotCaptor.getValue().getVersion());
+        assertEquals(quiz.aggregateType(), snapshotCaptor.getValue().getAggregateType());
+        assertEquals("READY", snapshotCaptor.getValue().getState().get("status"));
+    }
+
+    @Test
+    void get_by_id_with_view_replays_only_its_events_and_keeps_the_stream_version() {
+        DomainEventRepository<DomainEvent> repo = mock(DomainEventRepository.class);
+        AggregateSnapshotRepository snapshotRepo = mock(AggregateSnapshotRepository.class);
+        EventStore eventStore = new EventStore(repo);
+        QuizEventSourcingHandler handler = new QuizEventSourcingHandler(eventStore,
+                new AggregateSnapshotStore(snapshotRepo, 1), noCache());
+
+        var userId = new UserId(UUID.randomUUID());
+        var quizId = new QuizId(UUID.randomUUID());
+        var created = new QuizCreatedDomainEvent(quizId.getValue(), userId, UUID.randomUUID().toString(),
+                "Bank Name", QuizStatus.PREPARE, LocalDateTime.now(), "", new ArrayList<>(), 0);
+        created.setVersion(0);
+
+        when(repo.findStreamVersion(eq(userId), eq(quizId.getValue()))).thenReturn(7);
+        when(repo.streamByUserIdAndAggregateIdAndEventNames(eq(userId), eq(quizId.getValue()),
+                eq(Quiz.IDENTITY_VIEW.eventNames())))
+                .thenAnswer(invocation -> Stream.of(created));
+
+        var quiz = handler.getById(userId, quizId, Quiz.IDENTITY_VIEW).orElseThrow();
+
+        assertEquals("Bank Name", quiz.getBankName());
+        assertEquals(7, quiz.getVersion(), "Version should come from the stream head, not the last replayed event");
+        assertTrue(quiz.isPartial());
+
+        quiz.updateStatus(QuizStatus.READY_WITH_ERROR);
+        handler.save(quiz);
+
+        ArgumentCaptor<List<DomainEvent>> eventsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(repo).saveAll(any(UserId.class), eq(quizId.getValue()), eq(quiz.aggregateType()), eventsCaptor.capture());
+        assertEquals(8, eventsCaptor.getValue().getFirst().getVersion());
+        verify(snapshotRepo, never()).save(any(AggregateSnapshot.class));
+    }
+
+    private AggregateSnapshot snapshotOf(Quiz quiz, UserId userId, int version) {
+        return AggregateSnapshot.builder()
+                .aggregateId(quiz.getId().getValue())
+                .userId(userId)
+                .aggregateType(quiz.aggregateType())
+                .version(version)
+                .schemaVersion(quiz.snapshotSchemaVersion())
+                .state(new HashMap<>(quiz.toSnapshot()))
+                .build();
+    }
+
+    @Test
+    void get_by_id_serves_saved_quiz_from_cache_and_replays_only_newer_events() {
+        DomainEventRepository<DomainEvent> repo = mock(DomainEventRepository.class);
+        EventStore eventStore = new EventStore(repo);
+        QuizEventSourcingHandler handler = new QuizEventSourcingHandler(eventStore,
+                new AggregateSnapshotStore(mock(AggregateSnapshotRepository.class), 50),
+                new QuizAggregateCache(100, 300, new SimpleMeterRegistry()));
+
+        var userId = new UserId(UUID.randomUUID());
+        var quizId = new QuizId(UUID.randomUUID());
+        var quiz = new Quiz(quizId, userId, new ContentBankId(UUID.randomUUID()), "Bank Name", "",
+                new ArrayList<>(), 0);
+        handler.save(quiz);
+
+        var statusUpdated = new QuizStatusUpdatedDomainEvent(quizId.getValue(), userId, QuizStatus.READY);
+        statusUpdated.setVersion(1);
+        when(repo.streamByUserIdAndAggregateId(eq(userId), eq(quizId.getValue()), eq(0)))
+                .thenAnswer(invocation -> Stream.of(statusUpdated));
+
+        var cached = handler.getById(userId, quizId).orElseThrow();
+
+        assertEquals("Bank Name", cached.getBankName());
+        assertEquals(QuizStatus.READY, cached.getStatus(), "Events appended since caching should be applied");
+        assertEquals(1, cached.getVersion());
+        verify(repo, never()).streamByUserIdAndAggregateId(any(UserId.class), any(UUID.class), eq(-1));
+
+        assertTrue(handler.getById(new UserId(UUID.randomUUID()), quizId).isEmpty(),
+                "Cached quizzes must not be served to other users");
+    }
+
+    @Test
+    void get_by_id_serves_each_reader_its_own_copy_of_the_cached_quiz() {
+        DomainEventRepository<DomainEvent> repo = mock(DomainEventRepository.class);
+        EventStore eventStore = new EventStore(repo);
+        QuizEventSourcingHandler handler = new QuizEventSourcingHandler(eventStore,
+                new AggregateSnapshotStore(mock(AggregateSnapshotRepository.class), 50),
+                new QuizAggregateCache(100, 300, new SimpleMeterRegistry()));
+
+        var userId = new UserId(UUID.randomUUID());
+        var quizId = new QuizId(UUID.randomUUID());
+        var quiz = new Quiz(quizId, userId, new ContentBankId(UUID.randomUUID()), "Bank Name", "",
+                new ArrayList<>(), 0);
+        handler.save(quiz);
+
+        when(repo.streamByUserIdAndAggregateId(eq(userId), eq(quizId.getValue()), eq(0)))
+                .thenAnswer(invocation -> Stream.empty());
+
+        var first = handler.getById(userId, quizId).orElseThrow();
+        first.answerMarked(new QuizQuestionResponse(
+                new QuizQuestionId(UUID.randomUUID()),
+                new QuizQuestionOptionId(UUID.randomUUID()),
+                true,
+                "Correct",
+                "PT5S"));
+
+        var second = handler.getById(userId, quizId).orElseThrow();
+
+        assertTrue(second.getQuizQuestionResponses().isEmpty(), "Unsaved changes must not leak into the cache");
+        assertTrue(second.pullUncommittedChanges().isEmpty());
+        assertEquals(0, second.getVersion());
+    }
+
+    @Test
+    void get_by_id_with_disabled_cache_always_replays() {
+        DomainEventRepository<DomainEvent> repo = mock(DomainEventRepository.class);
+        EventStore eventStore = new EventStore(repo);
+        QuizEventSourcingHandler handler = new QuizEventSourcingHandler(eventStore,
+                new AggregateSnapshotStore(mock(AggregateSnapshotRepository.class), 50), noCache());
+
+        var userId = new UserId(UUID.randomUUID());
+        var quizId = new QuizId(UUID.randomUUID());
+        var quiz = new Quiz(quizId, userId, new ContentBankId(UUID.randomUUID()), "Bank Name", "",
+                new ArrayList<>(), 0);
+        handler.save(quiz);
+
+        when(repo.streamByUserIdAndAggregateId(eq(userId), eq(quizId.getValue()), eq(-1)))
+                .thenAnswer(invocation -> Stream.empty());
+
+        assertTrue(handler.getById(userId, quizId).isEmpty());
+    }
+
+    private static QuizAggregateCache noCache() {
+        return new QuizAggregateCache(0, 300, new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,116 @@
+package ai.snippetquiz.core_service.quiz.domain.service;
+
+import ai.snippetquiz.core_service.quiz.domain.model.Quiz;
+import ai.snippetquiz.core_service.shared.domain.Utils;
+import ai.snippetquiz.core_service.shared.domain.bus.event.DomainEvent;
+import ai.snippetquiz.core_service.shared.domain.bus.event.DomainEventJsonSerializer;
+import ai.snippetquiz.core_service.shared.domain.bus.event.EventJsonDeserializer;
+import ai.snippetquiz.core_service.shared.domain.bus.event.EventsInformation;
+import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
+import ai.snippetquiz.core_service.testing.QuizEventStreams;
+import com.fasterxml.jackson.core.type.TypeReference;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares rebuilding a quiz from its full stream against restoring a snapshot and replaying
+ * the tail, including payload deserialization. Run with {@code -Dbenchmark=true}.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class QuizSnapshotReplayBenchmarkTest {
+    private static final int SNAPSHOT_FREQUENCY = 50;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 50;
+
+    private final EventJsonDeserializer deserializer = new EventJsonDeserializer(new EventsInformation());
+
+    private record StoredEvent(String eventId, String userId, String aggregateId, String eventName,
+                               String occurredOn, Integer version, String payload) {
+    }
+
+    @Test
+    void replay_cost_by_stream_length() throws Exception {
+        for (int length : List.of(100, 500, 1_000, 5_000)) {
+            var userId = new UserId(UUID.randomUUID());
+            var quizId = UUID.randomUUID();
+            var stored = QuizEventStreams.quizStream(quizId, userId, length).stream()
+                    .map(this::store)
+                    .toList();
+
+            var snapshotVersion = (length / SNAPSHOT_FREQUENCY) * SNAPSHOT_FREQUENCY - 1;
+            var snapshotPayload = Utils.toJson(replay(stored.subList(0, snapshotVersion + 1)).toSnapshot());
+            var tail = stored.subList(snapshotVersion + 1, stored.size());
+
+            var fullNanos = measure(() -> replay(stored));
+            var snapshotNanos = measure(() -> restore(snapshotPayload, tail));
+
+            assertEquals(replay(stored).getQuizQuestionResponses().size(),
+                    restore(snapshotPayload, tail).getQuizQuestionResponses().size());
+
+            log.info("events={} full_replay={}us snapshot+tail({})={}us speedup={}x",
+                    length,
+                    fullNanos / 1_000,
+                    tail.size(),
+                    snapshotNanos / 1_000,
+                    String.format("%.1f", (double) fullNanos / snapshotNanos));
+        }
+    }
+
+    private StoredEvent store(DomainEvent event) {
+        return new StoredEvent(
+                event.getEventId().toString(),
+                event.getUserId().toString(),
+                event.getAggregateId().toString(),
+                Utils.getEventName(event.getClass()),
+                event.getOccurredOn(),
+                event.getVersion(),
+                DomainEventJsonSerializer.serializePrimitives(event));
+    }
+
+    private Quiz replay(List<StoredEvent> stored) {
+        var quiz = new Quiz();
+        quiz.replayEvents(deserialize(stored));
+        return quiz;
+    }
+
+    private Quiz restore(String snapshotPayload, List<StoredEvent> tail) {
+        var quiz = new Quiz();
+        quiz.restoreSnapshot(Utils.fromJson(snapshotPayload, new TypeReference<HashMap<String, Object>>() {
+        }));
+        quiz.replayEvents(deserialize(tail));
+        return quiz;
+    }
+
+    private List<DomainEvent> deserialize(List<StoredEvent> stored) {
+        return stored.stream()
+                .map(event -> {
+                    try {
+                        return (DomainEvent) deserializer.deserializePrimitives(event.eventId(), event.userId(),
+                                event.aggregateId(), event.eventName(), event.occurredOn(), event.version(),
+                                event.payload());
+                    } catch (Exception e) {
+                        throw new RuntimeException(e);
+                    }
+                })
+                .toList();
+    }
+
+    private long measure(Runnable runnable) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            runnable.run();
+        }
+        var start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            runnable.run();
+        }
+        return (System.nanoTime() - start) / MEASURED_ROUNDS;
+    }
+}
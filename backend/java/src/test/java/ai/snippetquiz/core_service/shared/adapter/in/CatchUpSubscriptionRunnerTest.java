@@ -0,0 +1,113 @@
+package ai.snippetquiz.core_service.shared.adapter.in;
+
+import ai.snippetquiz.core_service.quiz.domain.events.QuizStatusUpdatedDomainEvent;
+import ai.snippetquiz.core_service.quiz.domain.model.QuizStatus;
+import ai.snippetquiz.core_service.shared.domain.bus.event.CatchUpSubscriber;
+import ai.snippetquiz.core_service.shared.domain.bus.event.DomainEvent;
+import ai.snippetquiz.core_service.shared.domain.entity.GlobalPosition;
+import ai.snippetquiz.core_service.shared.domain.entity.PositionedEvent;
+import ai.snippetquiz.core_service.shared.domain.port.repository.DomainEventRepository;
+import ai.snippetquiz.core_service.shared.domain.port.repository.EventSubscriptionCheckpointRepository;
+import ai.snippetquiz.core_service.shared.domain.service.EventStore;
+import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CatchUpSubscriptionRunnerTest {
+    private static final Set<String> QUIZ = Set.of("quiz.aggregate");
+
+    private DomainEventRepository<DomainEvent> repository;
+    private EventSubscriptionCheckpointRepository checkpoints;
+    private CatchUpSubscriptionRunner runner;
+    private final List<List<DomainEvent>> received = new ArrayList<>();
+
+    private final CatchUpSubscriber subscriber = new CatchUpSubscriber() {
+        @Override
+        public String subscriptionName() {
+            return "test";
+        }
+
+        @Override
+        public Set<String> aggregateTypes() {
+            return QUIZ;
+        }
+
+        @Override
+        public void on(List<DomainEvent> events) {
+            received.add(events);
+        }
+    };
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(DomainEventRepository.class);
+        checkpoints = mock(EventSubscriptionCheckpointRepository.class);
+        runner = new CatchUpSubscriptionRunner(mock(ObjectProvider.class), new EventStore(repository), checkpoints,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), new SimpleMeterRegistry(), 2, 20);
+    }
+
+    @Test
+    void hands_pages_over_in_order_and_checkpoints_each_one() {
+        var first = positioned(100, 1);
+        var second = positioned(100, 2);
+        var third = positioned(104, 7);
+        when(checkpoints.lock("test"))
+                .thenReturn(Optional.of(GlobalPosition.START))
+                .thenReturn(Optional.of(second.position()));
+        when(repository.findAfterPosition(GlobalPosition.START, QUIZ, 2)).thenReturn(List.of(first, second));
+        when(repository.findAfterPosition(second.position(), QUIZ, 2)).thenReturn(List.of(third));
+
+        var handled = runner.catchUp(subscriber);
+
+        assertEquals(3, handled);
+        assertEquals(List.of(List.of(first.event(), second.event()), List.of(third.event())), received);
+        var order = inOrder(checkpoints);
+        order.verify(checkpoints).save("test", second.position());
+        order.verify(checkpoints).save("test", third.position());
+    }
+
+    @Test
+    void skips_subscription_locked_by_another_instance() {
+        when(checkpoints.lock("test")).thenReturn(Optional.empty());
+
+        assertEquals(0, runner.catchUp(subscriber));
+
+        assertTrue(received.isEmpty());
+        verify(repository, never()).findAfterPosition(any(), any(), anyInt());
+        verify(checkpoints, never()).save(anyString(), any());
+    }
+
+    @Test
+    void positions_order_by_transaction_before_sequence() {
+        assertTrue(new GlobalPosition(5, 900).compareTo(new GlobalPosition(6, 10)) < 0);
+        assertTrue(new GlobalPosition(6, 10).compareTo(new GlobalPosition(6, 11)) < 0);
+        assertEquals(0, GlobalPosition.START.compareTo(new GlobalPosition(0, 0)));
+    }
+
+    private PositionedEvent positioned(long transactionId, long position) {
+        var event = new QuizStatusUpdatedDomainEvent(UUID.randomUUID(), new UserId(UUID.randomUUID()),
+                QuizStatus.READY);
+        return new PositionedEvent(new GlobalPosition(transactionId, position), event);
+    }
+}
@@ -0,0 +1,125 @@
+package ai.snippetquiz.core_service.shared.adapter.in;
+
+import ai.snippetquiz.core_service.shared.domain.entity.OutboxMessage;
+import ai.snippetquiz.core_service.shared.domain.port.repository.EventOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EventOutboxRelayTest {
+    private EventOutboxRepository repository;
+    private KafkaTemplate<String, String> kafkaTemplate;
+    private EventOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(EventOutboxRepository.class);
+        kafkaTemplate = mock(KafkaTemplate.class);
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        relay = new EventOutboxRelay(repository, kafkaTemplate, new TransactionTemplate(transactionManager),
+                new SimpleMeterRegistry(), 100, 1000, 1000, 60000);
+        when(repository.tryAcquireRelayLock()).thenReturn(true);
+    }
+
+    @Test
+    void relays_batch_in_order_and_deletes_delivered_messages() {
+        var aggregate = UUID.randomUUID();
+        var first = message(1L, aggregate, "first");
+        var second = message(2L, aggregate, "second");
+        when(repository.findNextBatch(anyInt())).thenReturn(List.of(first, second));
+        when(kafkaTemplate.send(anyString(), anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+        var relayed = relay.relayBatch();
+
+        assertEquals(2, relayed);
+        var order = inOrder(kafkaTemplate);
+        order.verify(kafkaTemplate).send("quiz.aggregate", aggregate.toString(), "first");
+        order.verify(kafkaTemplate).send("quiz.aggregate", aggregate.toString(), "second");
+        verify(repository).claim(List.of(1L, 2L), Duration.ofMillis(2000));
+        verify(repository).deleteAllById(List.of(1L, 2L));
+        verify(repository).scheduleRetry(eq(List.of()), any(), any());
+    }
+
+    @Test
+    void failed_message_is_retried_without_resending_delivered_ones() {
+        var failing = UUID.randomUUID();
+        var healthy = UUID.randomUUID();
+        var failed = message(1L, failing, "failed");
+        var other = message(2L, healthy, "other");
+        var blocked = message(3L, failing, "blocked");
+        when(repository.findNextBatch(anyInt())).thenReturn(List.of(failed, other, blocked));
+        when(kafkaTemplate.send(anyString(), anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+        when(kafkaTemplate.send("quiz.aggregate", failing.toString(), "failed"))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("broker unavailable")));
+
+        relay.relayBatch();
+
+        verify(repository).deleteAllById(List.of(2L, 3L));
+        verify(repository).scheduleRetry(eq(List.of(1L)), any(), any());
+    }
+
+    @Test
+    void message_not_handed_to_the_producer_holds_back_later_messages_of_its_aggregate() {
+        var failing = UUID.randomUUID();
+        var healthy = UUID.randomUUID();
+        var rejected = message(1L, failing, "rejected");
+        var other = message(2L, healthy, "other");
+        var unsent = message(3L, failing, "unsent");
+        when(repository.findNextBatch(anyInt())).thenReturn(List.of(rejected, other, unsent));
+        when(kafkaTemplate.send(anyString(), anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+        when(kafkaTemplate.send("quiz.aggregate", failing.toString(), "rejected"))
+                .thenThrow(new RuntimeException("buffer exhausted"));
+
+        relay.relayBatch();
+
+        verify(kafkaTemplate, never()).send("quiz.aggregate", failing.toString(), "unsent");
+        verify(repository).deleteAllById(List.of(2L));
+        verify(repository).scheduleRetry(eq(List.of(1L, 3L)), any(), any());
+    }
+
+    @Test
+    void skips_batch_when_another_relay_holds_the_lock() {
+        when(repository.tryAcquireRelayLock()).thenReturn(false);
+
+        assertEquals(0, relay.relayBatch());
+        verify(repository, never()).findNextBatch(anyInt());
+    }
+
+    private OutboxMessage message(Long id, UUID aggregateId, String payload) {
+        return OutboxMessage.builder()
+                .id(id)
+                .eventId(UUID.randomUUID())
+                .aggregateId(aggregateId)
+                .topic("quiz.aggregate")
+                .payload(payload)
+                .attempts(0)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
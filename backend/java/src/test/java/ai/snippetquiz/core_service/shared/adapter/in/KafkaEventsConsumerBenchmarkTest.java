@@ -0,0 +1,123 @@
+package ai.snippetquiz.core_service.shared.adapter.in;
+
+import ai.snippetquiz.core_service.quiz.domain.events.QuizStatusUpdatedDomainEvent;
+import ai.snippetquiz.core_service.quiz.domain.model.QuizStatus;
+import ai.snippetquiz.core_service.shared.domain.bus.event.AggregateEventSubscriber;
+import ai.snippetquiz.core_service.shared.domain.bus.event.AggregateRootSubscribersInformation;
+import ai.snippetquiz.core_service.shared.domain.bus.event.DomainEventJsonSerializer;
+import ai.snippetquiz.core_service.shared.domain.bus.event.EventJsonDeserializer;
+import ai.snippetquiz.core_service.shared.domain.bus.event.EventsInformation;
+import ai.snippetquiz.core_service.shared.domain.bus.event.IntegrationEventSubscribersInformation;
+import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.kafka.core.ConsumerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Throughput of the sequential polling loop against key-ordered workers on one partition, where every
+ * record costs a short handler call and one in a hundred stalls like an AI generation callback. Run with
+ * {@code -Dbenchmark=true}.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class KafkaEventsConsumerBenchmarkTest {
+    private static final String TOPIC = "quiz.aggregate";
+    private static final TopicPartition PARTITION = new TopicPartition(TOPIC, 0);
+    private static final int RECORDS = 2_000;
+    private static final int KEYS = 200;
+    private static final long HANDLER_MILLIS = 1;
+    private static final long SLOW_HANDLER_MILLIS = 100;
+
+    @Test
+    void throughput_sequential_against_key_ordered() throws Exception {
+        var records = records();
+        for (var mode : KafkaEventsConsumer.ConcurrencyMode.values()) {
+            var elapsedNanos = run(mode, records);
+            log.info("mode={} records={} keys={} elapsed={}ms throughput={} records/s",
+                    mode, RECORDS, KEYS, elapsedNanos / 1_000_000,
+                    String.format("%.0f", RECORDS / (elapsedNanos / 1e9)));
+        }
+    }
+
+    private long run(KafkaEventsConsumer.ConcurrencyMode mode, List<ConsumerRecord<String, String>> records)
+            throws InterruptedException {
+        var handled = new AtomicInteger();
+        AggregateEventSubscriber subscriber = event -> {
+            sleep(handled.incrementAndGet() % 100 == 0 ? SLOW_HANDLER_MILLIS : HANDLER_MILLIS);
+        };
+
+        var mockConsumer = new MockConsumer<String, String>(OffsetResetStrategy.EARLIEST);
+        var subscribersInformation = mock(AggregateRootSubscribersInformation.class);
+        when(subscribersInformation.getSubscribers()).thenReturn(Map.of(TOPIC, List.of(subscriber)));
+        when(subscribersInformation.search(TOPIC)).thenReturn(List.of(subscriber));
+        var integrationInformation = mock(IntegrationEventSubscribersInformation.class);
+        when(integrationInformation.getSubscribers()).thenReturn(Map.of());
+        ConsumerFactory<String, String> consumerFactory = mock(ConsumerFactory.class);
+        when(consumerFactory.createConsumer()).thenReturn(mockConsumer);
+
+        var consumer = new KafkaEventsConsumer(subscribersInformation,
+                new EventJsonDeserializer(new EventsInformation()), consumerFactory, integrationInformation,
+                mode, 1_000, 30_000);
+        mockConsumer.schedulePollTask(() -> {
+            mockConsumer.rebalance(List.of(PARTITION));
+            records.forEach(mockConsumer::addRecord);
+        });
+        mockConsumer.updateBeginningOffsets(Map.of(PARTITION, 0L));
+
+        var start = System.nanoTime();
+        consumer.start();
+        try {
+            while (true) {
+                var committed = mockConsumer.committed(Set.of(PARTITION)).get(PARTITION);
+                if (committed != null && committed.offset() == RECORDS) {
+                    break;
+                }
+                Thread.sleep(5);
+            }
+            return System.nanoTime() - start;
+        } finally {
+            consumer.stop();
+            assertTrue(handled.get() >= RECORDS);
+        }
+    }
+
+    private List<ConsumerRecord<String, String>> records() {
+        var keys = new ArrayList<UUID>();
+        for (int i = 0; i < KEYS; i++) {
+            keys.add(UUID.randomUUID());
+        }
+        var records = new ArrayList<ConsumerRecord<String, String>>();
+        for (int i = 0; i < RECORDS; i++) {
+            var aggregateId = keys.get(i % KEYS);
+            var event = new QuizStatusUpdatedDomainEvent(aggregateId, new UserId(UUID.randomUUID()),
+                    QuizStatus.IN_PROGRESS);
+            records.add(new ConsumerRecord<>(TOPIC, 0, i, aggregateId.toString(),
+                    DomainEventJsonSerializer.serialize(event)));
+        }
+        return records;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package ai.snippetquiz.core_service.shared.adapter.in;
+
+import ai.snippetquiz.core_service.contentbank.domain.events.AITopicsAddedIntegrationEvent;
+import ai.snippetquiz.core_service.quiz.domain.events.QuizStatusUpdatedDomainEvent;
+import ai.snippetquiz.core_service.quiz.domain.model.QuizStatus;
+import ai.snippetquiz.core_service.shared.domain.bus.event.AggregateEventSubscriber;
+import ai.snippetquiz.core_service.shared.domain.bus.event.AggregateRootSubscribersInformation;
+import ai.snippetquiz.core_service.shared.domain.bus.event.BatchIntegrationEventSubscriber;
+import ai.snippetquiz.core_service.shared.domain.bus.event.DomainEvent;
+import ai.snippetquiz.core_service.shared.domain.bus.event.DomainEventJsonSerializer;
+import ai.snippetquiz.core_service.shared.domain.bus.event.EventJsonDeserializer;
+import ai.snippetquiz.core_service.shared.domain.bus.event.EventsInformation;
+import ai.snippetquiz.core_service.shared.domain.bus.event.IntegrationEvent;
+import ai.snippetquiz.core_service.shared.domain.bus.event.IntegrationEventSubscriber;
+import ai.snippetquiz.core_service.shared.domain.bus.event.IntegrationEventSubscribersInformation;
+import ai.snippetquiz.core_service.shared.domain.Utils;
+import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.ConsumerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class KafkaEventsConsumerTest {
+    private static final String TOPIC = "quiz.aggregate";
+    private static final TopicPartition PARTITION = new TopicPartition(TOPIC, 0);
+
+    private final MockConsumer<String, String> mockConsumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+    private KafkaEventsConsumer consumer;
+
+    @AfterEach
+    void tearDown() {
+        if (consumer != null && consumer.isRunning()) {
+            consumer.stop();
+        }
+    }
+
+    @Test
+    void key_ordered_mode_keeps_the_order_of_each_aggregate_and_commits_every_record() throws Exception {
+        var received = new ConcurrentHashMap<UUID, List<UUID>>();
+        AggregateEventSubscriber subscriber = event -> {
+            sleepUpTo(2);
+            received.computeIfAbsent(event.getAggregateId(), id -> Collections.synchronizedList(new ArrayList<>()))
+                    .add(event.getEventId());
+        };
+
+        var produced = new ConcurrentHashMap<UUID, List<UUID>>();
+        var records = new ArrayList<ConsumerRecord<String, String>>();
+        var aggregates = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        for (int i = 0; i < 80; i++) {
+            var aggregateId = aggregates.get(i % aggregates.size());
+            DomainEvent event = new QuizStatusUpdatedDomainEvent(aggregateId, new UserId(UUID.randomUUID()),
+                    QuizStatus.IN_PROGRESS);
+            produced.computeIfAbsent(aggregateId, id -> new ArrayList<>()).add(event.getEventId());
+            records.add(new ConsumerRecord<>(TOPIC, 0, i, aggregateId.toString(),
+                    DomainEventJsonSerializer.serialize(event)));
+        }
+
+        consumer = consumer(subscriber, KafkaEventsConsumer.ConcurrencyMode.KEY_ORDERED, 16);
+        mockConsumer.schedulePollTask(() -> {
+            mockConsumer.rebalance(List.of(PARTITION));
+            records.forEach(mockConsumer::addRecord);
+        });
+        mockConsumer.updateBeginningOffsets(Map.of(PARTITION, 0L));
+        consumer.start();
+
+        assertTrue(awaitCommitted(records.size(), 10_000), "All records should be committed");
+        assertEquals(produced, received);
+    }
+
+    @Test
+    void batch_subscribers_receive_the_events_of_one_aggregate_in_a_poll_together() throws Exception {
+        var topic = Utils.getEventName(AITopicsAddedIntegrationEvent.class);
+        var partition = new TopicPartition(topic, 0);
+        var batches = Collections.synchronizedList(new ArrayList<List<UUID>>());
+        BatchIntegrationEventSubscriber subscriber = events ->
+                batches.add(events.stream().map(IntegrationEvent::getEventId).toList());
+
+        var first = UUID.randomUUID();
+        var second = UUID.randomUUID();
+        var expected = Map.of(first, new ArrayList<UUID>(), second, new ArrayList<UUID>());
+        var records = new ArrayList<ConsumerRecord<String, String>>();
+        for (int i = 0; i < 5; i++) {
+            var aggregateId = i % 2 == 0 ? first : second;
+            var eventId = UUID.randomUUID();
+            expected.get(aggregateId).add(eventId);
+            records.add(new ConsumerRecord<>(topic, 0, i, null, topicsAddedPayload(topic, aggregateId, eventId)));
+        }
+
+        consumer = consumer(Map.of(), Map.of(topic, List.of(subscriber)),
+                KafkaEventsConsumer.ConcurrencyMode.SEQUENTIAL, 16);
+        mockConsumer.schedulePollTask(() -> {
+            mockConsumer.rebalance(List.of(partition));
+            records.forEach(mockConsumer::addRecord);
+        });
+        mockConsumer.updateBeginningOffsets(Map.of(partition, 0L));
+        consumer.start();
+
+        assertTrue(awaitCommitted(partition, records.size(), 10_000), "All records should be committed");
+        assertEquals(List.of(expected.get(first), expected.get(second)), batches);
+    }
+
+    private KafkaEventsConsumer consumer(AggregateEventSubscriber subscriber,
+            KafkaEventsConsumer.ConcurrencyMode mode, int maxInFlight) {
+        return consumer(Map.of(TOPIC, List.of(subscriber)), Map.of(), mode, maxInFlight);
+    }
+
+    private KafkaEventsConsumer consumer(Map<String, List<AggregateEventSubscriber>> aggregateSubscribers,
+            Map<String, List<IntegrationEventSubscriber>> integrationSubscribers,
+            KafkaEventsConsumer.ConcurrencyMode mode, int maxInFlight) {
+        var subscribersInformation = mock(AggregateRootSubscribersInformation.class);
+        when(subscribersInformation.getSubscribers()).thenReturn(aggregateSubscribers);
+        aggregateSubscribers.forEach((topic, subscribers) ->
+                when(subscribersInformation.search(topic)).thenReturn(subscribers));
+        var integrationInformation = mock(IntegrationEventSubscribersInformation.class);
+        when(integrationInformation.getSubscribers()).thenReturn(integrationSubscribers);
+        integrationSubscribers.forEach((eventName, subscribers) ->
+                when(integrationInformation.search(eventName)).thenReturn(subscribers));
+        ConsumerFactory<String, String> consumerFactory = mock(ConsumerFactory.class);
+        when(consumerFactory.createConsumer()).thenReturn(mockConsumer);
+
+        return new KafkaEventsConsumer(subscribersInformation, new EventJsonDeserializer(new EventsInformation()),
+                consumerFactory, integrationInformation, mode, maxInFlight, 5_000);
+    }
+
+    private static String topicsAddedPayload(String eventName, UUID aggregateId, UUID eventId) {
+        var attributes = new HashMap<String, Object>();
+        attributes.put("aggregate_id", aggregateId.toString());
+        attributes.put("user_id", UUID.randomUUID().toString());
+        attributes.put("topics", List.of("java"));
+
+        var data = new HashMap<String, Object>();
+        data.put("event_id", eventId.toString());
+        data.put("version", 0);
+        data.put("type", eventName);
+        data.put("occurred_on", "2024-01-01T00:00:00");
+        data.put("attributes", attributes);
+
+        return Utils.toJson(Map.of("data", data, "meta", Map.of()));
+    }
+
+    private boolean awaitCommitted(long offset, long timeoutMillis) throws InterruptedException {
+        return awaitCommitted(PARTITION, offset, timeoutMillis);
+    }
+
+    private boolean awaitCommitted(TopicPartition partition, long offset, long timeoutMillis)
+            throws InterruptedException {
+        var deadline = System.currentTimeMillis() + timeoutMillis;
+        while (System.currentTimeMillis() < deadline) {
+            OffsetAndMetadata committed = mockConsumer.committed(Set.of(partition)).get(partition);
+            if (committed != null && committed.offset() == offset) {
+                return true;
+            }
+            Thread.sleep(20);
+        }
+        return false;
+    }
+
+    private static void sleepUpTo(int millis) {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextInt(millis + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
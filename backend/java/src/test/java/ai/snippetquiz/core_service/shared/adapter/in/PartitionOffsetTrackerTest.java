@@ -0,0 +1,66 @@
+package ai.snippetquiz.core_service.shared.adapter.in;
+
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PartitionOffsetTrackerTest {
+    private static final TopicPartition PARTITION = new TopicPartition("quiz.aggregate", 0);
+    private static final TopicPartition OTHER = new TopicPartition("quiz.aggregate", 1);
+
+    @Test
+    void commits_only_up_to_the_highest_contiguous_completed_offset() {
+        var tracker = new PartitionOffsetTracker();
+        for (long offset = 10; offset < 14; offset++) {
+            tracker.track(PARTITION, offset);
+        }
+
+        tracker.complete(PARTITION, 12);
+        tracker.complete(PARTITION, 11);
+        assertTrue(tracker.drainCommittable().isEmpty());
+
+        tracker.complete(PARTITION, 10);
+        assertEquals(Map.of(PARTITION, new OffsetAndMetadata(13)), tracker.drainCommittable());
+        assertTrue(tracker.drainCommittable().isEmpty());
+        assertEquals(1, tracker.inFlight());
+
+        tracker.complete(PARTITION, 13);
+        assertEquals(Map.of(PARTITION, new OffsetAndMetadata(14)), tracker.drainCommittable());
+        assertEquals(0, tracker.inFlight());
+    }
+
+    @Test
+    void partitions_progress_independently() {
+        var tracker = new PartitionOffsetTracker();
+        tracker.track(PARTITION, 0);
+        tracker.track(OTHER, 0);
+
+        tracker.complete(OTHER, 0);
+
+        assertEquals(Map.of(OTHER, new OffsetAndMetadata(1)), tracker.drainCommittable());
+    }
+
+    @Test
+    void forgotten_partitions_ignore_late_completions() throws InterruptedException {
+        var tracker = new PartitionOffsetTracker();
+        tracker.track(PARTITION, 0);
+        tracker.track(PARTITION, 1);
+        tracker.complete(PARTITION, 1);
+
+        assertFalse(tracker.awaitCompletion(List.of(PARTITION), Duration.ofMillis(10)));
+        tracker.forget(List.of(PARTITION));
+        tracker.complete(PARTITION, 0);
+
+        assertEquals(0, tracker.inFlight());
+        assertTrue(tracker.drainCommittable().isEmpty());
+        assertTrue(tracker.awaitIdle(Duration.ofMillis(10)));
+    }
+}
@@ -0,0 +1,62 @@
+package ai.snippetquiz.core_service.shared.adapter.in;
+
+import ai.snippetquiz.AbstractIntegrationTest;
+import ai.snippetquiz.core_service.quiz.domain.events.QuizCreatedDomainEvent;
+import ai.snippetquiz.core_service.quiz.domain.events.QuizStatusUpdatedDomainEvent;
+import ai.snippetquiz.core_service.quiz.domain.model.QuizStatus;
+import ai.snippetquiz.core_service.shared.domain.service.EventStore;
+import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProjectionRebuilderIT extends AbstractIntegrationTest {
+
+    @Autowired
+    private ProjectionRebuilder rebuilder;
+
+    @Autowired
+    private EventStore eventStore;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void rebuild_replays_the_event_store_into_a_swapped_in_table() {
+        var userId = new UserId(UUID.randomUUID());
+        var quizIds = new ArrayList<UUID>();
+        for (int i = 0; i < 12; i++) {
+            var quizId = UUID.randomUUID();
+            var created = new QuizCreatedDomainEvent(quizId, userId, UUID.randomUUID().toString(), "Bank " + i,
+                    QuizStatus.PREPARE, LocalDateTime.now(), "", new ArrayList<>(), 0);
+            var ready = new QuizStatusUpdatedDomainEvent(quizId, userId, QuizStatus.READY);
+            eventStore.saveEvents(userId, quizId, "quiz.aggregate", List.of(created, ready), -1);
+            quizIds.add(quizId);
+        }
+        jdbcTemplate.update("DELETE FROM quiz__projection WHERE user_id = ?", userId.getValue());
+
+        var result = rebuilder.rebuild("quiz__projection").orElseThrow();
+
+        assertTrue(result.events() >= 24);
+        for (var quizId : quizIds) {
+            var status = jdbcTemplate.queryForObject("SELECT status FROM quiz__projection WHERE id = ?",
+                    String.class, quizId);
+            assertEquals("READY", status);
+        }
+        var shadowTables = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM pg_tables WHERE tablename LIKE 'quiz\\_\\_projection\\_\\_%'", Integer.class);
+        assertEquals(0, shadowTables);
+        var completed = jdbcTemplate.queryForObject(
+                "SELECT completed_at IS NOT NULL FROM projection_rebuilds WHERE projection = 'quiz__projection'",
+                Boolean.class);
+        assertTrue(completed);
+    }
+}
@@ -0,0 +1,99 @@
+package ai.snippetquiz.core_service.shared.adapter.out.repository;
+
+import ai.snippetquiz.core_service.quiz.domain.events.QuizQuestionsAddedDomainEvent;
+import ai.snippetquiz.core_service.shared.domain.Utils;
+import ai.snippetquiz.core_service.shared.domain.bus.event.DomainEvent;
+import ai.snippetquiz.core_service.shared.domain.bus.event.DomainEventJsonSerializer;
+import ai.snippetquiz.core_service.shared.domain.bus.event.EventJsonDeserializer;
+import ai.snippetquiz.core_service.shared.domain.bus.event.EventsInformation;
+import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
+import ai.snippetquiz.core_service.testing.QuizEventStreams;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares stored payload size and the cost of decoding plus deserializing a quiz stream for each
+ * payload encoding. Run with {@code -Dbenchmark=true}.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class EventPayloadCodecBenchmarkTest {
+    private static final int STREAM_LENGTH = 1_000;
+    private static final int WARMUP_ROUNDS = 10;
+    private static final int MEASURED_ROUNDS = 30;
+
+    private final EventJsonDeserializer deserializer = new EventJsonDeserializer(new EventsInformation());
+    private final EventPayloadCodecs payloadCodecs = new EventPayloadCodecs(
+            List.of(new GzipJsonPayloadCodec(), new SmilePayloadCodec()), EventPayloadCodecs.JSON);
+
+    private record StoredEvent(DomainEvent event, EventPayloadCodecs.EncodedPayload payload) {
+    }
+
+    @Test
+    void payload_size_and_replay_cost_by_encoding() {
+        var events = QuizEventStreams.quizStream(UUID.randomUUID(), new UserId(UUID.randomUUID()), STREAM_LENGTH);
+
+        for (var encoding : List.of(EventPayloadCodecs.JSON, GzipJsonPayloadCodec.ENCODING, SmilePayloadCodec.ENCODING)) {
+            var stored = events.stream()
+                    .map(event -> new StoredEvent(event, payloadCodecs.encode(
+                            DomainEventJsonSerializer.serializePrimitives(event), encoding)))
+                    .toList();
+
+            var bytes = stored.stream().mapToLong(this::size).sum();
+            var questionBytes = stored.stream()
+                    .filter(event -> event.event() instanceof QuizQuestionsAddedDomainEvent)
+                    .mapToLong(this::size)
+                    .average()
+                    .orElse(0);
+            var replayNanos = measure(() -> replay(stored));
+
+            assertEquals(STREAM_LENGTH, replay(stored).size());
+            log.info("encoding={} total={}KB avg_questions_added={}B replay={}us",
+                    encoding, bytes / 1024, Math.round(questionBytes), replayNanos / 1_000);
+        }
+    }
+
+    private long size(StoredEvent stored) {
+        var payload = stored.payload();
+        return payload.bytes() != null ? payload.bytes().length : payload.json().getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private List<DomainEvent> replay(List<StoredEvent> stored) {
+        return stored.stream()
+                .map(storedEvent -> {
+                    var event = storedEvent.event();
+                    var payload = storedEvent.payload();
+                    try {
+                        return (DomainEvent) deserializer.deserializePrimitives(
+                                event.getEventId().toString(),
+                                event.getUserId().toString(),
+                                event.getAggregateId().toString(),
+                                Utils.getEventName(event.getClass()),
+                                event.getOccurredOn(),
+                                event.getVersion(),
+                                payloadCodecs.decode(payload.encoding(), payload.json(), payload.bytes()));
+                    } catch (Exception e) {
+                        throw new RuntimeException(e);
+                    }
+                })
+                .toList();
+    }
+
+    private long measure(Runnable runnable) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            runnable.run();
+        }
+        var start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            runnable.run();
+        }
+        return (System.nanoTime() - start) / MEASURED_ROUNDS;
+    }
+}
@@ -0,0 +1,52 @@
+package ai.snippetquiz.core_service.shared.adapter.out.repository;
+
+import ai.snippetquiz.core_service.shared.domain.Utils;
+import ai.snippetquiz.core_service.shared.domain.bus.event.DomainEventJsonSerializer;
+import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
+import ai.snippetquiz.core_service.testing.QuizEventStreams;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EventPayloadCodecsTest {
+    private final List<EventPayloadCodec> codecs = List.of(new GzipJsonPayloadCodec(), new SmilePayloadCodec());
+
+    @Test
+    void binary_encodings_round_trip_to_the_same_json() throws Exception {
+        var payloadCodecs = new EventPayloadCodecs(codecs, EventPayloadCodecs.JSON);
+        var events = QuizEventStreams.quizStream(UUID.randomUUID(), new UserId(UUID.randomUUID()), 20);
+
+        for (var event : events) {
+            var json = DomainEventJsonSerializer.serializePrimitives(event);
+            for (var encoding : List.of(GzipJsonPayloadCodec.ENCODING, SmilePayloadCodec.ENCODING)) {
+                var encoded = payloadCodecs.encode(json, encoding);
+                assertNull(encoded.json());
+
+                var decoded = payloadCodecs.decode(encoded.encoding(), encoded.json(), encoded.bytes());
+                assertEquals(Utils.getMapper().readTree(json), Utils.getMapper().readTree(decoded));
+            }
+        }
+    }
+
+    @Test
+    void json_encoding_keeps_the_payload_as_text() {
+        var payloadCodecs = new EventPayloadCodecs(codecs, EventPayloadCodecs.JSON);
+
+        var encoded = payloadCodecs.encode("{\"a\":1}");
+
+        assertEquals(EventPayloadCodecs.JSON, encoded.encoding());
+        assertEquals("{\"a\":1}", encoded.json());
+        assertNull(encoded.bytes());
+        assertEquals("{\"a\":1}", payloadCodecs.decode(null, "{\"a\":1}", null));
+    }
+
+    @Test
+    void unknown_write_encoding_is_rejected() {
+        assertThrows(IllegalArgumentException.class, () -> new EventPayloadCodecs(codecs, "avro"));
+    }
+}
@@ -0,0 +1,60 @@
+package ai.snippetquiz.core_service.shared.adapter.out.repository;
+
+import ai.snippetquiz.AbstractIntegrationTest;
+import ai.snippetquiz.core_service.quiz.domain.events.QuizStatusUpdatedDomainEvent;
+import ai.snippetquiz.core_service.quiz.domain.model.QuizStatus;
+import ai.snippetquiz.core_service.shared.domain.Utils;
+import ai.snippetquiz.core_service.shared.domain.bus.event.DomainEvent;
+import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EventStorePartitionMaintenanceIT extends AbstractIntegrationTest {
+
+    @Autowired
+    private EventStorePartitionMaintenance maintenance;
+
+    @Autowired
+    private JpaDomainEventRepositoryAdapter<DomainEvent> adapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void old_partitions_move_to_the_cold_tier_and_stay_readable() {
+        var oldMonth = YearMonth.now().minusMonths(12);
+        var partition = EventStorePartitionMaintenance.partitionName(oldMonth);
+        jdbcTemplate.execute("CREATE TABLE " + partition + " PARTITION OF event_store FOR VALUES FROM ('" +
+                oldMonth.atDay(1) + "') TO ('" + oldMonth.plusMonths(1).atDay(1) + "')");
+
+        var userId = new UserId(UUID.randomUUID());
+        var aggregateId = UUID.randomUUID();
+        var oldEvent = new QuizStatusUpdatedDomainEvent(aggregateId, userId, QuizStatus.IN_PROGRESS);
+        oldEvent.setVersion(0);
+        oldEvent.setOccurredOn(Utils.dateToString(oldMonth.atDay(10).atStartOfDay()));
+        var recentEvent = new QuizStatusUpdatedDomainEvent(aggregateId, userId, QuizStatus.READY);
+        recentEvent.setVersion(1);
+        adapter.saveAll(userId, aggregateId, "quiz.aggregate", List.of(oldEvent, recentEvent));
+
+        maintenance.moveToColdTier(YearMonth.now());
+
+        var coldEvents = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM event_store_cold WHERE aggregate_id = ?", Integer.class, aggregateId);
+        assertEquals(1, coldEvents);
+
+        var events = adapter.findAllByUserIdAndAggregateIdAndAggregateType(userId, aggregateId);
+        assertEquals(2, events.size());
+        assertEquals(0, events.get(0).getVersion());
+        assertEquals(1, events.get(1).getVersion());
+
+        var tail = adapter.findAllByUserIdAndAggregateIdAfterVersion(userId, aggregateId, -1);
+        assertEquals(2, tail.size());
+    }
+}
@@ -0,0 +1,111 @@
+package ai.snippetquiz.core_service.shared.adapter.out.repository;
+
+import ai.snippetquiz.core_service.quiz.domain.events.QuizStatusUpdatedDomainEvent;
+import ai.snippetquiz.core_service.quiz.domain.model.QuizStatus;
+import ai.snippetquiz.core_service.shared.domain.bus.event.DomainEvent;
+import ai.snippetquiz.core_service.shared.domain.port.repository.DomainEventRepository;
+import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Throughput of direct appends against group commit, with every transaction paying a simulated
+ * commit round trip. Run with {@code -Dbenchmark=true}.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class GroupCommitDomainEventRepositoryBenchmarkTest {
+    private static final long COMMIT_MICROS = 1_000;
+    private static final int APPENDS_PER_WRITER = 200;
+
+    @Test
+    void throughput_against_added_latency() throws Exception {
+        JpaDomainEventRepositoryAdapter<DomainEvent> delegate = mock(JpaDomainEventRepositoryAdapter.class);
+        doAnswer(invocation -> commit()).when(delegate).saveAll(any(), any(), anyString(), anyList());
+        when(delegate.appendBatch(anyList())).thenAnswer(invocation -> {
+            commit();
+            return Set.of();
+        });
+
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        for (int writers : List.of(1, 8, 32, 64)) {
+            run("direct", delegate, writers);
+            for (long windowMicros : List.of(500L, 2_000L)) {
+                var groupCommit = new GroupCommitDomainEventRepository<>(delegate,
+                        new TransactionTemplate(transactionManager), windowMicros, 256, 5_000);
+                groupCommit.start();
+                try {
+                    run("group-commit(" + windowMicros + "us)", groupCommit, writers);
+                } finally {
+                    groupCommit.stop();
+                }
+            }
+        }
+    }
+
+    private void run(String name, DomainEventRepository<DomainEvent> repository, int writers) throws Exception {
+        var latencies = new ConcurrentLinkedQueue<Long>();
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        var start = System.nanoTime();
+        try {
+            var futures = new ArrayList<CompletableFuture<Void>>();
+            for (int w = 0; w < writers; w++) {
+                futures.add(CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < APPENDS_PER_WRITER; i++) {
+                        var appendStart = System.nanoTime();
+                        append(repository);
+                        latencies.add(System.nanoTime() - appendStart);
+                    }
+                }, executor));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get();
+        } finally {
+            executor.shutdown();
+        }
+        var elapsedNanos = System.nanoTime() - start;
+
+        var sorted = latencies.stream().sorted().toList();
+        var throughput = sorted.size() * 1_000_000_000L / elapsedNanos;
+        log.info("{} writers={} throughput={} appends/s p50={}us p99={}us",
+                name,
+                writers,
+                throughput,
+                sorted.get(sorted.size() / 2) / 1_000,
+                sorted.get((int) (sorted.size() * 0.99)) / 1_000);
+    }
+
+    private void append(DomainEventRepository<DomainEvent> repository) {
+        var userId = new UserId(UUID.randomUUID());
+        var aggregateId = UUID.randomUUID();
+        var event = new QuizStatusUpdatedDomainEvent(aggregateId, userId, QuizStatus.READY);
+        event.setVersion(0);
+        repository.saveAll(userId, aggregateId, "quiz.aggregate", List.of(event));
+    }
+
+    private Object commit() throws InterruptedException {
+        Thread.sleep(COMMIT_MICROS / 1_000, (int) (COMMIT_MICROS % 1_000) * 1_000);
+        return null;
+    }
+}
@@ -0,0 +1,125 @@
+package ai.snippetquiz.core_service.shared.adapter.out.repository;
+
+import ai.snippetquiz.core_service.quiz.domain.events.QuizStatusUpdatedDomainEvent;
+import ai.snippetquiz.core_service.quiz.domain.model.QuizStatus;
+import ai.snippetquiz.core_service.shared.domain.bus.event.DomainEvent;
+import ai.snippetquiz.core_service.shared.domain.exception.ConcurrencyException;
+import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GroupCommitDomainEventRepositoryTest {
+    private JpaDomainEventRepositoryAdapter<DomainEvent> delegate;
+    private GroupCommitDomainEventRepository<DomainEvent> repository;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(JpaDomainEventRepositoryAdapter.class);
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        // A long window so that concurrent appends in the test always land in the same batch
+        repository = new GroupCommitDomainEventRepository<>(delegate, new TransactionTemplate(transactionManager),
+                200_000, 256, 5_000);
+        repository.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.stop();
+    }
+
+    @Test
+    void concurrent_appends_are_written_in_one_batch() {
+        AtomicInteger batches = new AtomicInteger();
+        when(delegate.appendBatch(anyList())).thenAnswer(invocation -> {
+            batches.incrementAndGet();
+            return Set.of();
+        });
+
+        var first = CompletableFuture.runAsync(() -> append(UUID.randomUUID()));
+        var second = CompletableFuture.runAsync(() -> append(UUID.randomUUID()));
+        CompletableFuture.allOf(first, second).join();
+
+        assertEquals(1, batches.get(), "Both appends should share one transaction");
+    }
+
+    @Test
+    void conflicting_append_fails_while_the_rest_of_the_batch_commits() {
+        var conflictingAggregate = UUID.randomUUID();
+        AtomicInteger batches = new AtomicInteger();
+        when(delegate.appendBatch(anyList())).thenAnswer(invocation -> {
+            batches.incrementAndGet();
+            List<EventStreamAppend> appends = invocation.getArgument(0);
+            for (int i = 0; i < appends.size(); i++) {
+                if (appends.get(i).aggregateId().equals(conflictingAggregate)) {
+                    return Set.of(i);
+                }
+            }
+            return Set.of();
+        });
+
+        var conflicting = CompletableFuture.runAsync(() -> append(conflictingAggregate));
+        var winner = CompletableFuture.runAsync(() -> append(UUID.randomUUID()));
+
+        winner.join();
+        var error = assertThrows(CompletionException.class, conflicting::join);
+        assertInstanceOf(ConcurrencyException.class, error.getCause());
+        assertEquals(1, batches.get(), "Conflicting appends write nothing, so the batch is not written again");
+    }
+
+    @Test
+    void append_after_stop_is_written_without_waiting_on_the_batch_writer() {
+        repository.stop();
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> append(UUID.randomUUID()));
+
+        verify(delegate).saveAll(any(), any(), eq("quiz.aggregate"), anyList());
+        verify(delegate, never()).appendBatch(anyList());
+    }
+
+    @Test
+    void append_inside_a_transaction_is_written_on_the_callers_connection() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            append(UUID.randomUUID());
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+
+        verify(delegate).saveAll(any(), any(), eq("quiz.aggregate"), anyList());
+        verify(delegate, never()).appendBatch(anyList());
+    }
+
+    private void append(UUID aggregateId) {
+        var userId = new UserId(UUID.randomUUID());
+        var event = new QuizStatusUpdatedDomainEvent(aggregateId, userId, QuizStatus.READY);
+        event.setVersion(0);
+        repository.saveAll(userId, aggregateId, "quiz.aggregate", List.of(event));
+    }
+}
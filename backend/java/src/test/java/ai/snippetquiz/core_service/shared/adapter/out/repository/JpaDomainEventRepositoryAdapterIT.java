@@ -7,6 +7,7 @@ import ai.snippetquiz.core_service.quiz.domain.valueobject.QuizQuestionId;
 import ai.snippetquiz.core_service.quiz.domain.valueobject.QuizQuestionOptionId;
 import ai.snippetquiz.core_service.shared.adapter.out.entities.DomainEventEntity;
 import ai.snippetquiz.core_service.shared.domain.bus.event.DomainEvent;
+import ai.snippetquiz.core_service.shared.domain.exception.ConcurrencyException;
 import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,6 +21,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 class JpaDomainEventRepositoryAdapterIT extends AbstractIntegrationTest {
@@ -31,24 +33,11 @@ class JpaDomainEventRepositoryAdapterIT extends AbstractIntegrationTest {
     private JpaDomainEventRepository jpaRepository;
 
     @Test
-    void saveAndFind_returnsDeserializedEvent() {
+    void saveAllAndFind_returnsDeserializedEvent() {
         var userId = new UserId(UUID.randomUUID());
         var aggregateId = UUID.randomUUID();
 
-        var response = new QuizQuestionResponse(
-                new QuizQuestionId(UUID.randomUUID()),
-                new QuizQuestionOptionId(UUID.randomUUID()),
-                true,
-                "Correct",
-                "PT5S");
-
-        var created = new QuizAnswerMarkedDomainEvent(
-                aggregateId,
-                userId,
-                response,
-                false);
-
-        adapter.save(userId, aggregateId, "quiz", created);
+        adapter.saveAll(userId, aggregateId, "quiz", List.of(answerMarked(userId, aggregateId, "Correct", 0)));
 
         List<DomainEvent> events = adapter.findAllByUserIdAndAggregateIdAndAggregateType(userId, aggregateId);
         assertFalse(events.isEmpty());
@@ -68,23 +57,8 @@ class JpaDomainEventRepositoryAdapterIT extends AbstractIntegrationTest {
         var otherUser = new UserId(UUID.randomUUID());
         var otherAggregate = UUID.randomUUID();
 
-        var respA = new QuizQuestionResponse(
-                new QuizQuestionId(UUID.randomUUID()),
-                new QuizQuestionOptionId(UUID.randomUUID()),
-                true,
-                "A",
-                "PT4S");
-        var respB = new QuizQuestionResponse(
-                new QuizQuestionId(UUID.randomUUID()),
-                new QuizQuestionOptionId(UUID.randomUUID()),
-                false,
-                "B",
-                "PT6S");
-
-        adapter.save(userId, aggregateId, "quiz", new QuizAnswerMarkedDomainEvent(
-                aggregateId, userId, respA, false));
-        adapter.save(otherUser, otherAggregate, "quiz", new QuizAnswerMarkedDomainEvent(
-                otherAggregate, otherUser, respB, true));
+        adapter.saveAll(userId, aggregateId, "quiz", List.of(answerMarked(userId, aggregateId, "A", 0)));
+        adapter.saveAll(otherUser, otherAggregate, "quiz", List.of(answerMarked(otherUser, otherAggregate, "B", 0)));
 
         List<DomainEvent> events = adapter.findAllByUserIdAndAggregateIdAndAggregateType(userId, aggregateId);
         assertEquals(1, events.size());
@@ -93,24 +67,11 @@ class JpaDomainEventRepositoryAdapterIT extends AbstractIntegrationTest {
     }
 
     @Test
-    void save_persistsAggregateTypeAndEventName() {
+    void saveAll_persistsAggregateTypeAndEventName() {
         var userId = new UserId(UUID.randomUUID());
         var aggregateId = UUID.randomUUID();
 
-        var response = new QuizQuestionResponse(
-                new QuizQuestionId(UUID.randomUUID()),
-                new QuizQuestionOptionId(UUID.randomUUID()),
-                true,
-                "Bank C",
-                "PT3S");
-
-        var created = new QuizAnswerMarkedDomainEvent(
-                aggregateId,
-                userId,
-                response,
-                true);
-
-        adapter.save(userId, aggregateId, "quiz", created);
+        adapter.saveAll(userId, aggregateId, "quiz", List.of(answerMarked(userId, aggregateId, "Bank C", 0)));
 
         Sort sort = Sort.by(Sort.Direction.ASC, "version");
         List<DomainEventEntity> stored = jpaRepository.findAllByUserIdAndAggregateId(userId.getValue(), aggregateId, sort);
@@ -120,4 +81,70 @@ class JpaDomainEventRepositoryAdapterIT extends AbstractIntegrationTest {
         assertEquals("quiz.answer.marked", entity.getEventName());
         assertNotNull(entity.getPayload());
     }
-}
\ No newline at end of file
+
+    @Test
+    void saveAll_appendsAllEventsInVersionOrder() {
+        var userId = new UserId(UUID.randomUUID());
+        var aggregateId = UUID.randomUUID();
+
+        var first = answerMarked(userId, aggregateId, "First", 0);
+        var second = answerMarked(userId, aggregateId, "Second", 1);
+
+        adapter.saveAll(userId, aggregateId, "quiz", List.of(first, second));
+
+        List<DomainEvent> events = adapter.findAllByUserIdAndAggregateIdAndAggregateType(userId, aggregateId);
+        assertEquals(2, events.size());
+        assertEquals(0, events.get(0).getVersion());
+        assertEquals(1, events.get(1).getVersion());
+        assertEquals("Second", ((QuizAnswerMarkedDomainEvent) events.get(1)).getQuizQuestionResponse().getCorrectAnswer());
+    }
+
+    @Test
+    void saveAll_withExistingVersion_throwsConcurrencyException() {
+        var userId = new UserId(UUID.randomUUID());
+        var aggregateId = UUID.randomUUID();
+
+        adapter.saveAll(userId, aggregateId, "quiz", List.of(answerMarked(userId, aggregateId, "Winner", 0)));
+
+        assertThrows(ConcurrencyException.class, () -> adapter.saveAll(userId, aggregateId, "quiz",
+                List.of(answerMarked(userId, aggregateId, "Loser", 0), answerMarked(userId, aggregateId, "Loser", 1))));
+
+        List<DomainEvent> events = adapter.findAllByUserIdAndAggregateIdAndAggregateType(userId, aggregateId);
+        assertEquals(1, events.size(), "A conflicting append must not write any of its events");
+    }
+
+    @Test
+    void streamByUserIdAndAggregateId_yieldsEventsAfterVersionInOrder() {
+        var userId = new UserId(UUID.randomUUID());
+        var aggregateId = UUID.randomUUID();
+
+        adapter.saveAll(userId, aggregateId, "quiz", List.of(
+                answerMarked(userId, aggregateId, "First", 0),
+                answerMarked(userId, aggregateId, "Second", 1),
+                answerMarked(userId, aggregateId, "Third", 2)));
+
+        List<DomainEvent> events;
+        try (var stream = adapter.streamByUserIdAndAggregateId(userId, aggregateId, 0)) {
+            events = stream.toList();
+        }
+
+        assertEquals(2, events.size());
+        assertEquals(1, events.get(0).getVersion());
+        assertEquals("Third", ((QuizAnswerMarkedDomainEvent) events.get(1)).getQuizQuestionResponse().getCorrectAnswer());
+    }
+
+    private QuizAnswerMarkedDomainEvent answerMarked(UserId userId, UUID aggregateId, String answer, int version) {
+        var event = new QuizAnswerMarkedDomainEvent(
+                aggregateId,
+                userId,
+                new QuizQuestionResponse(
+                        new QuizQuestionId(UUID.randomUUID()),
+                        new QuizQuestionOptionId(UUID.randomUUID()),
+                        true,
+                        answer,
+                        "PT2S"),
+                false);
+        event.setVersion(version);
+        return event;
+    }
+}
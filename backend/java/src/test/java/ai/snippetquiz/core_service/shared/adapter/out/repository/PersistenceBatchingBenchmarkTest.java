@@ -0,0 +1,220 @@
+package ai.snippetquiz.core_service.shared.adapter.out.repository;
+
+import ai.snippetquiz.AbstractIntegrationTest;
+import ai.snippetquiz.core_service.contentbank.domain.model.ContentEntry;
+import ai.snippetquiz.core_service.contentbank.domain.model.ContentEntryTopic;
+import ai.snippetquiz.core_service.contentbank.domain.port.ContentEntryRepository;
+import ai.snippetquiz.core_service.contentbank.domain.port.ContentEntryTopicRepository;
+import ai.snippetquiz.core_service.contentbank.domain.valueobject.ContentBankId;
+import ai.snippetquiz.core_service.contentbank.domain.valueobject.ContentEntryId;
+import ai.snippetquiz.core_service.question.application.QuestionService;
+import ai.snippetquiz.core_service.question.application.dto.CreateQuestionRequest;
+import ai.snippetquiz.core_service.question.application.dto.QuestionOptionRequest;
+import ai.snippetquiz.core_service.topic.domain.valueobject.TopicId;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Counts the statements sent to Postgres for bank duplication, topic linking and question ingestion,
+ * the row-at-a-time way against sequence-allocated ids with JDBC batching. A JDBC batch counts as one
+ * round trip. Run with {@code -Dbenchmark=true}.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class PersistenceBatchingBenchmarkTest extends AbstractIntegrationTest {
+    private static final int ENTRIES = 200;
+    private static final int TOPICS_PER_ENTRY = 5;
+    private static final int CHUNKS = 20;
+    private static final int QUESTIONS_PER_CHUNK = 5;
+    private static final AtomicLong ROUND_TRIPS = new AtomicLong();
+
+    @Autowired
+    private ContentEntryRepository contentEntryRepository;
+
+    @Autowired
+    private ContentEntryTopicRepository contentEntryTopicRepository;
+
+    @Autowired
+    private QuestionService questionService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @TestConfiguration
+    static class RoundTripCounting {
+        @Bean
+        static BeanPostProcessor roundTripCountingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? new CountingDataSource(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    @Test
+    void round_trips_per_workload() {
+        var userId = UUID.randomUUID();
+        var sourceBankId = contentBank(userId);
+        for (int i = 0; i < ENTRIES; i++) {
+            jdbcTemplate.update("INSERT INTO content_entries (user_id, content_bank_id, content_type, status, content) " +
+                    "VALUES (?, ?, 'SELECTED_TEXT', 'ANALYZED', ?)", userId, sourceBankId, "content " + i);
+        }
+        var sources = contentEntryRepository.findAllByContentBankId(new ContentBankId(sourceBankId));
+
+        var rowByRowCopies = copies(sources, contentBank(userId));
+        var rowByRowDuplication = count(() -> transactionTemplate.executeWithoutResult(status -> {
+            unbatched();
+            contentEntryRepository.saveAll(rowByRowCopies);
+        }));
+        var batchedCopies = copies(sources, contentBank(userId));
+        var batchedDuplication = count(() -> transactionTemplate.executeWithoutResult(status ->
+                contentEntryRepository.insertAll(batchedCopies)));
+        report("bank duplication", rowByRowDuplication, batchedDuplication);
+
+        var topicIds = new ArrayList<TopicId>();
+        for (int i = 0; i < TOPICS_PER_ENTRY; i++) {
+            topicIds.add(new TopicId(jdbcTemplate.queryForObject(
+                    "INSERT INTO topics (user_id, topic) VALUES (?, ?) RETURNING id", Long.class, userId, "topic " + i)));
+        }
+        var rowByRowLinking = count(() -> transactionTemplate.executeWithoutResult(status -> {
+            unbatched();
+            links(rowByRowCopies, topicIds).forEach(contentEntryTopicRepository::save);
+        }));
+        var batchedLinking = count(() -> transactionTemplate.executeWithoutResult(status ->
+                contentEntryTopicRepository.saveAll(links(batchedCopies, topicIds))));
+        report("topic linking", rowByRowLinking, batchedLinking);
+
+        var rowByRowIngestion = count(() -> {
+            for (int chunk = 0; chunk < CHUNKS; chunk++) {
+                chunk(rowByRowCopies.getFirst().getId(), chunk)
+                        .forEach(request -> questionService.createQuestion(request, userId));
+            }
+        });
+        var batchedIngestion = count(() -> {
+            for (int chunk = 0; chunk < CHUNKS; chunk++) {
+                questionService.createQuestions(chunk(batchedCopies.getFirst().getId(), chunk));
+            }
+        });
+        report("question ingestion", rowByRowIngestion, batchedIngestion);
+
+        assertTrue(batchedDuplication < rowByRowDuplication);
+        assertTrue(batchedLinking < rowByRowLinking);
+        assertTrue(batchedIngestion < rowByRowIngestion);
+    }
+
+    private UUID contentBank(UUID userId) {
+        return jdbcTemplate.queryForObject("INSERT INTO content_banks (user_id, name) VALUES (?, ?) RETURNING id",
+                UUID.class, userId, "bank " + UUID.randomUUID());
+    }
+
+    private List<ContentEntry> copies(List<ContentEntry> sources, UUID bankId) {
+        return sources.stream().map(source -> new ContentEntry(source, new ContentBankId(bankId))).toList();
+    }
+
+    private List<ContentEntryTopic> links(List<ContentEntry> entries, List<TopicId> topicIds) {
+        var links = new ArrayList<ContentEntryTopic>();
+        for (var entry : entries) {
+            for (var topicId : topicIds) {
+                links.add(new ContentEntryTopic(entry.getId(), topicId));
+            }
+        }
+        return links;
+    }
+
+    private List<CreateQuestionRequest> chunk(ContentEntryId contentEntryId, int chunkIndex) {
+        var options = List.of(
+                new QuestionOptionRequest("a", "because a", true),
+                new QuestionOptionRequest("b", "because b", false),
+                new QuestionOptionRequest("c", "because c", false),
+                new QuestionOptionRequest("d", "because d", false));
+        var requests = new ArrayList<CreateQuestionRequest>();
+        for (int i = 0; i < QUESTIONS_PER_CHUNK; i++) {
+            requests.add(new CreateQuestionRequest(contentEntryId.getValue().toString(), "Q" + i, i, chunkIndex, options));
+        }
+        return requests;
+    }
+
+    /**
+     * What every insert cost before ids came from pooled sequences: one statement per row.
+     */
+    private void unbatched() {
+        entityManager.unwrap(Session.class).setJdbcBatchSize(1);
+    }
+
+    private long count(Runnable workload) {
+        ROUND_TRIPS.set(0);
+        workload.run();
+        return ROUND_TRIPS.get();
+    }
+
+    private void report(String workload, long rowByRow, long batched) {
+        log.info("{}: row_by_row={} round trips batched={} round trips ({}x fewer)",
+                workload, rowByRow, batched, String.format("%.1f", (double) rowByRow / Math.max(batched, 1)));
+    }
+
+    private static class CountingDataSource extends DelegatingDataSource {
+        CountingDataSource(DataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return counting(super.getConnection(), Connection.class);
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return counting(super.getConnection(username, password), Connection.class);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T counting(T target, Class<T> type) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                var name = method.getName();
+                if (name.startsWith("execute") || name.equals("commit")) {
+                    ROUND_TRIPS.incrementAndGet();
+                }
+                try {
+                    var result = method.invoke(target, args);
+                    if (result instanceof Statement statement && method.getReturnType().isInterface()) {
+                        return counting(statement, (Class<Statement>) method.getReturnType());
+                    }
+                    return result;
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            });
+        }
+    }
+}
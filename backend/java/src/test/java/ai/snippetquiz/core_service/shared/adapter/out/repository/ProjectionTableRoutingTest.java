@@ -0,0 +1,27 @@
+package ai.snippetquiz.core_service.shared.adapter.out.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ProjectionTableRoutingTest {
+
+    private final ProjectionTableRouting routing = new ProjectionTableRouting();
+
+    @Test
+    void routes_statements_only_inside_the_call() {
+        var sql = "select q1_0.id from core.quiz__projection q1_0 join quiz__projection_extra e on e.id = q1_0.id";
+
+        ProjectionTableRouting.route(Map.of("quiz__projection", "quiz__projection__rebuild"), () -> {
+            assertEquals("select q1_0.id from core.quiz__projection__rebuild q1_0 "
+                    + "join quiz__projection_extra e on e.id = q1_0.id", routing.inspect(sql));
+            assertEquals("quiz__projection__rebuild", ProjectionTableRouting.resolve("quiz__projection"));
+            assertEquals("event_store", ProjectionTableRouting.resolve("event_store"));
+        });
+
+        assertEquals(sql, routing.inspect(sql));
+        assertEquals("quiz__projection", ProjectionTableRouting.resolve("quiz__projection"));
+    }
+}
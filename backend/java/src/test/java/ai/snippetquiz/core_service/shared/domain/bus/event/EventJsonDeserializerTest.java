@@ -1,12 +1,21 @@
 package ai.snippetquiz.core_service.shared.domain.bus.event;
 
+import ai.snippetquiz.core_service.quiz.domain.events.QuizQuestionsAddedDomainEvent;
+import ai.snippetquiz.core_service.quiz.domain.model.QuizQuestion;
+import ai.snippetquiz.core_service.quiz.domain.model.QuizQuestionOption;
+import ai.snippetquiz.core_service.quiz.domain.model.QuizStatus;
+import ai.snippetquiz.core_service.quiz.domain.valueobject.ContentEntryCount;
 import ai.snippetquiz.core_service.shared.domain.Utils;
+import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
 import ai.snippetquiz.core_service.testing.events.SecondTestEvent;
 import ai.snippetquiz.core_service.testing.events.IntegrationTestEvent;
 import org.junit.jupiter.api.Test;
 
 import java.io.Serializable;
+import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -111,4 +120,108 @@ class EventJsonDeserializerTest {
         // Act & Assert
         assertThrows(IllegalArgumentException.class, () -> deserializer.deserialize(json));
     }
-}
\ No newline at end of file
+
+    @Test
+    void deserialize_skips_unknown_envelope_fields_in_any_order() throws Exception {
+        var aggregateId = UUID.randomUUID();
+        var userId = UUID.randomUUID();
+        var eventId = UUID.randomUUID();
+        String json = "{\"meta\":{\"trace\":[1,2]},\"data\":{\"attributes\":{\"value_object\":\"v\"," +
+                "\"aggregate_id\":\"" + aggregateId + "\",\"user_id\":\"" + userId + "\"}," +
+                "\"extra\":{\"nested\":true},\"version\":3,\"occurred_on\":\"2024-01-01T00:00:00\"," +
+                "\"type\":\"" + SecondTestEvent.eventName() + "\",\"event_id\":\"" + eventId + "\"}}";
+
+        EventJsonDeserializer deserializer = new EventJsonDeserializer(new EventsInformation());
+
+        SecondTestEvent result = deserializer.deserialize(json);
+
+        assertEquals(aggregateId, result.getAggregateId());
+        assertEquals(userId, result.getUserId());
+        assertEquals(eventId, result.getEventId());
+        assertEquals(3, result.getVersion());
+        assertEquals("v", result.getValueObject());
+    }
+
+    @Test
+    void codec_is_resolved_once_per_event_name() {
+        EventsInformation info = new EventsInformation();
+
+        EventCodec codec = info.codec(SecondTestEvent.eventName());
+
+        assertEquals(SecondTestEvent.class, codec.getEventClass());
+        assertEquals(codec, info.codec(SecondTestEvent.eventName()));
+        assertThrows(IllegalArgumentException.class, () -> info.codec("unknown.event"));
+    }
+
+    @Test
+    void questions_added_round_trips_through_envelope_and_stored_payload() throws Exception {
+        var original = questionsAdded();
+        original.setVersion(4);
+        EventJsonDeserializer deserializer = new EventJsonDeserializer(new EventsInformation());
+
+        QuizQuestionsAddedDomainEvent fromEnvelope = deserializer.deserialize(
+                DomainEventJsonSerializer.serialize(original));
+        QuizQuestionsAddedDomainEvent fromPayload = deserializer.deserializePrimitives(
+                original.getEventId().toString(),
+                original.getUserId().toString(),
+                original.getAggregateId().toString(),
+                QuizQuestionsAddedDomainEvent.eventName(),
+                original.getOccurredOn(),
+                original.getVersion(),
+                DomainEventJsonSerializer.serializePrimitives(original));
+
+        assertSameQuestionsAdded(original, fromEnvelope);
+        assertSameQuestionsAdded(original, fromPayload);
+    }
+
+    @Test
+    void questions_added_reads_payloads_stored_from_primitives() throws Exception {
+        var original = questionsAdded();
+        original.setVersion(2);
+        EventJsonDeserializer deserializer = new EventJsonDeserializer(new EventsInformation());
+
+        QuizQuestionsAddedDomainEvent result = deserializer.deserializePrimitives(
+                original.getEventId().toString(),
+                original.getUserId().toString(),
+                original.getAggregateId().toString(),
+                QuizQuestionsAddedDomainEvent.eventName(),
+                original.getOccurredOn(),
+                original.getVersion(),
+                Utils.toJson(original.toPrimitives()));
+
+        assertSameQuestionsAdded(original, result);
+    }
+
+    private void assertSameQuestionsAdded(QuizQuestionsAddedDomainEvent expected,
+            QuizQuestionsAddedDomainEvent actual) {
+        assertEquals(expected.getAggregateId(), actual.getAggregateId());
+        assertEquals(expected.getUserId(), actual.getUserId());
+        assertEquals(expected.getEventId(), actual.getEventId());
+        assertEquals(expected.getVersion(), actual.getVersion());
+        assertEquals(expected.getQuizTopics(), actual.getQuizTopics());
+        assertEquals(expected.getStatus(), actual.getStatus());
+        assertEquals(expected.getUpdatedAt(), actual.getUpdatedAt());
+        assertEquals(expected.getContentEntriesCount(), actual.getContentEntriesCount());
+        assertEquals(expected.getQuizQuestions(), actual.getQuizQuestions());
+    }
+
+    private QuizQuestionsAddedDomainEvent questionsAdded() {
+        var option = new QuizQuestionOption();
+        option.setOptionText("A programming language");
+        option.setOptionExplanation("It compiles to bytecode");
+        option.setIsCorrect(true);
+        var question = new QuizQuestion();
+        question.setQuestion("What is Java?");
+        question.setType("multiple_choice");
+        question.getQuizQuestionOptions().add(option);
+
+        return new QuizQuestionsAddedDomainEvent(
+                UUID.randomUUID(),
+                new UserId(UUID.randomUUID()),
+                Set.of("java"),
+                QuizStatus.IN_PROGRESS,
+                LocalDateTime.of(2025, 11, 1, 10, 30),
+                new ContentEntryCount(3),
+                List.of(question));
+    }
+}
@@ -0,0 +1,24 @@
+package ai.snippetquiz.core_service.shared.domain.bus.query;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class KeysetCursorTest {
+
+    @Test
+    void decode_readsBackEncodedCursor() {
+        var cursor = new KeysetCursor(LocalDateTime.of(2025, 11, 12, 10, 30, 15, 123_000_000), UUID.randomUUID());
+
+        assertEquals(cursor, KeysetCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void decode_rejectsMalformedCursor() {
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("not-a-cursor"));
+    }
+}
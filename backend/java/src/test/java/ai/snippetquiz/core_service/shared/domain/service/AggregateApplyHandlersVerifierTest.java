@@ -0,0 +1,66 @@
+package ai.snippetquiz.core_service.shared.domain.service;
+
+import ai.snippetquiz.core_service.contentbank.domain.events.ContentBankCreatedDomainEvent;
+import ai.snippetquiz.core_service.contentbank.domain.events.ContentBankDeletedDomainEvent;
+import ai.snippetquiz.core_service.contentbank.domain.events.ContentBankEntriesUpdatedDomainEvent;
+import ai.snippetquiz.core_service.contentbank.domain.events.ContentBankRenamedDomainEvent;
+import ai.snippetquiz.core_service.contentbank.domain.events.ContentEntryCreatedDomainEvent;
+import ai.snippetquiz.core_service.contentbank.domain.model.ContentBank;
+import ai.snippetquiz.core_service.contentbank.domain.model.ContentEntry;
+import ai.snippetquiz.core_service.quiz.domain.events.QuizAnswerMarkedDomainEvent;
+import ai.snippetquiz.core_service.quiz.domain.model.Quiz;
+import ai.snippetquiz.core_service.shared.domain.bus.event.DomainEvent;
+import ai.snippetquiz.core_service.shared.domain.entity.AggregateRoot;
+import ai.snippetquiz.core_service.testing.events.FirstTestEvent;
+import org.junit.jupiter.api.Test;
+import org.reflections.Reflections;
+import org.springframework.asm.Type;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AggregateApplyHandlersVerifierTest {
+
+    @Test
+    void every_domain_event_has_an_apply_method_in_its_aggregate() {
+        var reflections = new Reflections("ai.snippetquiz.core_service");
+
+        var missing = AggregateApplyHandlersVerifier.missingHandlers(
+                reflections.getSubTypesOf(AggregateRoot.class), reflections.getSubTypesOf(DomainEvent.class));
+
+        assertTrue(missing.isEmpty(), "Missing apply methods: " + missing);
+        assertDoesNotThrow(AggregateApplyHandlersVerifier::new);
+    }
+
+    @Test
+    void handles_resolves_apply_methods_per_aggregate_class() {
+        assertTrue(AggregateRoot.handles(Quiz.class, QuizAnswerMarkedDomainEvent.class));
+        assertTrue(AggregateRoot.handles(ContentBank.class, ContentBankRenamedDomainEvent.class));
+        assertTrue(AggregateRoot.handles(ContentEntry.class, ContentEntryCreatedDomainEvent.class));
+        assertFalse(AggregateRoot.handles(ContentBank.class, ContentEntryCreatedDomainEvent.class));
+        assertFalse(AggregateRoot.handles(Quiz.class, FirstTestEvent.class));
+    }
+
+    @Test
+    void recorded_events_are_read_from_the_aggregate_bytecode() {
+        Map<String, Class<? extends DomainEvent>> events = Map.of(
+                Type.getInternalName(ContentBankCreatedDomainEvent.class), ContentBankCreatedDomainEvent.class,
+                Type.getInternalName(ContentBankRenamedDomainEvent.class), ContentBankRenamedDomainEvent.class,
+                Type.getInternalName(ContentBankDeletedDomainEvent.class), ContentBankDeletedDomainEvent.class,
+                Type.getInternalName(ContentBankEntriesUpdatedDomainEvent.class),
+                ContentBankEntriesUpdatedDomainEvent.class,
+                Type.getInternalName(ContentEntryCreatedDomainEvent.class), ContentEntryCreatedDomainEvent.class,
+                Type.getInternalName(FirstTestEvent.class), FirstTestEvent.class);
+
+        var recorded = AggregateApplyHandlersVerifier.recordedEvents(ContentBank.class, events);
+
+        assertEquals(4, recorded.size());
+        assertTrue(recorded.contains(Type.getInternalName(ContentBankRenamedDomainEvent.class)));
+        assertFalse(recorded.contains(Type.getInternalName(ContentEntryCreatedDomainEvent.class)));
+        assertFalse(recorded.contains(Type.getInternalName(FirstTestEvent.class)));
+    }
+}
@@ -0,0 +1,111 @@
+package ai.snippetquiz.core_service.testing;
+
+import ai.snippetquiz.core_service.contentbank.domain.valueobject.ContentEntryId;
+import ai.snippetquiz.core_service.question.domain.valueobject.QuestionContentEntryChunkId;
+import ai.snippetquiz.core_service.question.domain.valueobject.QuestionContentEntryQuestionChunkId;
+import ai.snippetquiz.core_service.quiz.domain.events.QuizAnswerMarkedDomainEvent;
+import ai.snippetquiz.core_service.quiz.domain.events.QuizCreatedDomainEvent;
+import ai.snippetquiz.core_service.quiz.domain.events.QuizQuestionsAddedDomainEvent;
+import ai.snippetquiz.core_service.quiz.domain.model.QuizQuestion;
+import ai.snippetquiz.core_service.quiz.domain.model.QuizQuestionOption;
+import ai.snippetquiz.core_service.quiz.domain.model.QuizQuestionResponse;
+import ai.snippetquiz.core_service.quiz.domain.model.QuizStatus;
+import ai.snippetquiz.core_service.quiz.domain.valueobject.ContentEntryCount;
+import ai.snippetquiz.core_service.quiz.domain.valueobject.QuizQuestionOptionId;
+import ai.snippetquiz.core_service.shared.domain.ContentType;
+import ai.snippetquiz.core_service.shared.domain.bus.event.DomainEvent;
+import ai.snippetquiz.core_service.shared.domain.valueobject.UserId;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Builds realistic quiz event streams for benchmarks: a creation event followed by
+ * question batches and answers, numbered from version 0.
+ */
+public final class QuizEventStreams {
+    private static final int QUESTIONS_PER_BATCH = 5;
+    private static final int OPTIONS_PER_QUESTION = 4;
+
+    private QuizEventStreams() {
+    }
+
+    public static List<DomainEvent> quizStream(UUID quizId, UserId userId, int length) {
+        var events = new ArrayList<DomainEvent>(length);
+        var contentEntryId = new ContentEntryId(UUID.randomUUID());
+
+        events.add(new QuizCreatedDomainEvent(
+                quizId,
+                userId,
+                UUID.randomUUID().toString(),
+                "Benchmark Bank",
+                QuizStatus.PREPARE,
+                LocalDateTime.now(),
+                "",
+                List.of(contentEntryId.toString()),
+                0));
+
+        var questions = new ArrayList<QuizQuestion>();
+        for (int i = 1; i < length; i++) {
+            if (i % 10 == 1) {
+                var batch = questionBatch(contentEntryId, i);
+                questions.addAll(batch);
+                events.add(new QuizQuestionsAddedDomainEvent(
+                        quizId,
+                        userId,
+                        Set.of("java", "spring", "events"),
+                        QuizStatus.IN_PROGRESS,
+                        LocalDateTime.now(),
+                        new ContentEntryCount(1),
+                        batch));
+            } else {
+                var question = questions.get(i % questions.size());
+                events.add(new QuizAnswerMarkedDomainEvent(
+                        quizId,
+                        userId,
+                        new QuizQuestionResponse(
+                                question.getId(),
+                                new QuizQuestionOptionId(UUID.randomUUID()),
+                                i % 3 != 0,
+                                "Correct answer " + i,
+                                "PT5S"),
+                        false));
+            }
+        }
+
+        for (int i = 0; i < events.size(); i++) {
+            events.get(i).setVersion(i);
+        }
+        return events;
+    }
+
+    private static List<QuizQuestion> questionBatch(ContentEntryId contentEntryId, int chunkIndex) {
+        var batch = new ArrayList<QuizQuestion>();
+        for (int q = 0; q < QUESTIONS_PER_BATCH; q++) {
+            var question = new QuizQuestion();
+            question.setChunkIndex(new QuestionContentEntryChunkId(chunkIndex));
+            question.setQuestionIndexInChunk(new QuestionContentEntryQuestionChunkId(q));
+            question.setQuestion("Which statement about event sourcing is correct? #" + chunkIndex + "-" + q);
+            question.setType("multiple_choice");
+            question.setContentEntryType(ContentType.SELECTED_TEXT);
+            question.setContentEntrySourceUrl("https://example.com/articles/" + chunkIndex);
+            question.setContentEntryId(contentEntryId);
+
+            var options = new HashSet<QuizQuestionOption>();
+            for (int o = 0; o < OPTIONS_PER_QUESTION; o++) {
+                var option = new QuizQuestionOption();
+                option.setOptionText("Option " + o + " for question " + q);
+                option.setOptionExplanation("Explanation of why option " + o + " is " + (o == 0 ? "right" : "wrong"));
+                option.setIsCorrect(o == 0);
+                options.add(option);
+            }
+            question.setQuizQuestionOptions(options);
+            batch.add(question);
+        }
+        return batch;
+    }
+}